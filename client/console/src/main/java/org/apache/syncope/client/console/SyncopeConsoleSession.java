@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.client.console;
 
+import java.io.Serializable;
 import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -26,7 +27,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.MediaType;
@@ -81,6 +85,12 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession {
 
     private final Map<Class<?>, Object> services = Collections.synchronizedMap(new HashMap<>());
 
+    /**
+     * Lists read as conditional requests, with the {@code ETag} they were returned with: kept by session, since
+     * their content depends on the authenticated user's entitlements.
+     */
+    private final Map<String, Pair<EntityTag, ArrayList<? extends Serializable>>> lists = new ConcurrentHashMap<>();
+
     private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(5, THREAD_POOL_FACTORY);
 
     private SyncopeClient client;
@@ -120,6 +130,10 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession {
         executorService.execute(command);
     }
 
+    public <T> Future<T> execute(final Callable<T> command) {
+        return executorService.submit(command);
+    }
+
     public PlatformInfo getPlatformInfo() {
         return platformInfo;
     }
@@ -186,6 +200,7 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession {
         client = null;
         auth = null;
         selfTO = null;
+        lists.clear();
     }
 
     @Override
@@ -212,6 +227,10 @@ public class SyncopeConsoleSession extends AuthenticatedWebSession {
         super.invalidateNow();
     }
 
+    public Map<String, Pair<EntityTag, ArrayList<? extends Serializable>>> getLists() {
+        return lists;
+    }
+
     public UserTO getSelfTO() {
         return selfTO;
     }
@@ -21,9 +21,15 @@ package org.apache.syncope.client.console.commons.status;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.client.console.SyncopeConsoleSession;
 import org.apache.syncope.client.console.commons.ConnIdSpecialName;
 import org.apache.syncope.client.console.commons.Constants;
 import org.apache.syncope.client.console.panels.LabelPanel;
@@ -35,6 +41,9 @@ import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.common.lib.to.ConnObjectTO;
 import org.apache.syncope.common.lib.to.RealmTO;
 import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
+import org.apache.wicket.Application;
+import org.apache.wicket.Session;
+import org.apache.wicket.ThreadContext;
 import org.apache.wicket.markup.ComponentTag;
 import org.apache.wicket.markup.html.basic.Label;
 import org.apache.wicket.markup.html.panel.Panel;
@@ -47,6 +56,8 @@ public class StatusUtils implements Serializable {
 
     private static final Logger LOG = LoggerFactory.getLogger(StatusUtils.class);
 
+    private static final long LOOKUP_TIMEOUT = TimeUnit.SECONDS.toMillis(10);
+
     private final ResourceRestClient restClient = new ResourceRestClient();
 
     public List<ConnObjectWrapper> getConnectorObjects(final AnyTO any) {
@@ -70,18 +81,44 @@ public class StatusUtils implements Serializable {
     public List<ConnObjectWrapper> getConnectorObjects(
             final AnyTO any, final Collection<String> resources) {
 
-        final List<ConnObjectWrapper> objects = new ArrayList<>();
+        // 1. query all resources in parallel
+        final Application application = Application.get();
+        final Session session = Session.get();
 
+        final Map<String, Future<ConnObjectTO>> lookups = new LinkedHashMap<>();
         for (String resourceName : resources) {
+            lookups.put(resourceName, SyncopeConsoleSession.get().execute(() -> {
+                try {
+                    ThreadContext.setApplication(application);
+                    ThreadContext.setSession(session);
+
+                    return restClient.readConnObject(resourceName, any.getType(), any.getKey());
+                } finally {
+                    ThreadContext.detach();
+                }
+            }));
+        }
+
+        // 2. collect results, giving each resource at most LOOKUP_TIMEOUT to answer
+        final long deadline = System.currentTimeMillis() + LOOKUP_TIMEOUT;
+
+        final List<ConnObjectWrapper> objects = new ArrayList<>();
+
+        lookups.forEach((resourceName, lookup) -> {
             ConnObjectTO objectTO = null;
             try {
-                objectTO = restClient.readConnObject(resourceName, any.getType(), any.getKey());
+                objectTO = lookup.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (TimeoutException e) {
+                lookup.cancel(true);
+                LOG.warn("Timeout while reading ConnObject '{}' from resource '{}'", any.getKey(), resourceName);
             } catch (Exception e) {
                 LOG.warn("ConnObject '{}' not found on resource '{}'", any.getKey(), resourceName);
             }
 
             objects.add(new ConnObjectWrapper(any, resourceName, objectTO));
-        }
+        });
 
         return objects;
     }
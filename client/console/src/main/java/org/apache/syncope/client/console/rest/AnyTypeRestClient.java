@@ -49,7 +49,7 @@ public class AnyTypeRestClient extends BaseRestClient {
         List<AnyTypeTO> types = Collections.emptyList();
 
         try {
-            types = getService(AnyTypeService.class).list();
+            types = listIfModified(AnyTypeService.class, "list", AnyTypeService::list);
             Collections.sort(types, new AnyTypeComparator());
         } catch (SyncopeClientException e) {
             LOG.error("While reading all any types", e);
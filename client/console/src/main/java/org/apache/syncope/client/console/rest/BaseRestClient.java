@@ -18,10 +18,18 @@
  */
 package org.apache.syncope.client.console.rest;
 
+import java.io.Serializable;
 import java.net.URI;
-
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import javax.ws.rs.RedirectionException;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
-
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.cxf.jaxrs.client.WebClient;
 import org.apache.syncope.client.console.SyncopeConsoleSession;
 import org.apache.syncope.client.lib.SyncopeClient;
@@ -55,6 +63,52 @@ public abstract class BaseRestClient implements RestClient {
         SyncopeConsoleSession.get().resetClient(serviceClass);
     }
 
+    /**
+     * Invokes the given list operation as conditional request, by sending the {@code ETag} received with the
+     * latest response for the same domain, service and key in the current session: when Core replies with
+     * {@code 304 Not Modified}, a copy of the cached list is returned.
+     *
+     * @param <S> service type
+     * @param <T> list item type
+     * @param serviceClass service class
+     * @param key discriminates among different list operations on the same service
+     * @param operation list operation
+     * @return list, either fresh or cached
+     */
+    @SuppressWarnings("unchecked")
+    protected static <S, T extends Serializable> List<T> listIfModified(
+            final Class<S> serviceClass, final String key, final Function<S, List<T>> operation) {
+
+        String cacheKey = SyncopeConsoleSession.get().getDomain() + '|' + serviceClass.getName() + '|' + key;
+        Map<String, Pair<EntityTag, ArrayList<? extends Serializable>>> lists = SyncopeConsoleSession.get().getLists();
+        Pair<EntityTag, ArrayList<? extends Serializable>> cached = lists.get(cacheKey);
+
+        S service = getService(serviceClass);
+        try {
+            if (cached != null) {
+                WebClient.client(service).match(cached.getLeft(), true);
+            }
+
+            List<T> result = operation.apply(service);
+
+            EntityTag etag = WebClient.client(service).getResponse().getEntityTag();
+            if (etag == null) {
+                lists.remove(cacheKey);
+            } else {
+                lists.put(cacheKey, Pair.of(etag, SerializationUtils.clone(new ArrayList<>(result))));
+            }
+
+            return result;
+        } catch (RedirectionException e) {
+            if (cached != null && e.getResponse().getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                return (List<T>) SerializationUtils.clone(cached.getRight());
+            }
+            throw e;
+        } finally {
+            resetClient(serviceClass);
+        }
+    }
+
     protected static String toOrderBy(final SortParam<String> sort) {
         OrderByClauseBuilder builder = SyncopeClient.getOrderByClauseBuilder();
 
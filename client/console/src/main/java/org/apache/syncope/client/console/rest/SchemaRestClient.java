@@ -86,13 +86,13 @@ public class SchemaRestClient extends BaseRestClient {
         List<T> schemas = new ArrayList<>();
 
         try {
-            if (kind == null || kind.length == 0) {
-                schemas.addAll(getService(SchemaService.class).
-                        <T>list(new SchemaQuery.Builder().type(schemaType).build()));
-            } else {
-                schemas.addAll(getService(SchemaService.class).
-                        <T>list(new SchemaQuery.Builder().type(schemaType).anyTypeClasses(kind).build()));
-            }
+            SchemaQuery query = kind == null || kind.length == 0
+                    ? new SchemaQuery.Builder().type(schemaType).build()
+                    : new SchemaQuery.Builder().type(schemaType).anyTypeClasses(kind).build();
+            schemas.addAll(listIfModified(
+                    SchemaService.class,
+                    schemaType.name() + ":" + (kind == null ? "" : String.join(",", kind)),
+                    service -> service.<T>list(query)));
         } catch (SyncopeClientException e) {
             LOG.error("While getting all {} schemas for {}", schemaType, kind, e);
         }
@@ -110,6 +110,9 @@ public abstract class PropagationTaskDirectoryPanel
 
         columns.add(new PropertyColumn<>(
                 new StringResourceModel("latestExecStatus", this), "latestExecStatus", "latestExecStatus"));
+
+        columns.add(new DatePropertyColumn<>(
+                new StringResourceModel("queued", this), null, "queued"));
         return columns;
     }
 
@@ -63,7 +63,7 @@ public abstract class AlertWidget<T extends Serializable> extends Panel {
 
             @Override
             protected Integer load() {
-                return AlertWidget.this.latestAlerts.getObject().size();
+                return getLatestAlertsSize();
             }
         };
 
@@ -120,6 +120,10 @@ public abstract class AlertWidget<T extends Serializable> extends Panel {
 
     protected abstract IModel<List<T>> getLatestAlerts();
 
+    protected int getLatestAlertsSize() {
+        return latestAlerts.getObject().size();
+    }
+
     protected Panel getAlertLink(final String panelid, final T alert) {
         return new AlertLink<>(panelid, alert);
     }
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Set;
 import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ForbiddenException;
+import javax.ws.rs.RedirectionException;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.Provider;
@@ -47,6 +48,11 @@ public class RestClientExceptionMapper implements ResponseExceptionMapper<Except
     @Override
     public Exception fromResponse(final Response response) {
         int statusCode = response.getStatus();
+        if (statusCode == Response.Status.NOT_MODIFIED.getStatusCode()) {
+            // 0. Not an error: conditional request for an entity which was not modified
+            return new RedirectionException(response);
+        }
+
         String message = response.getHeaderString(RESTHeaders.ERROR_INFO);
 
         Exception ex;
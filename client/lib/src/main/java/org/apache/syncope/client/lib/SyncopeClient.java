@@ -21,11 +21,14 @@ package org.apache.syncope.client.lib;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
@@ -43,10 +46,18 @@ import org.apache.syncope.common.lib.search.AnyObjectFiqlSearchConditionBuilder;
 import org.apache.syncope.common.lib.search.OrderByClauseBuilder;
 import org.apache.syncope.common.lib.search.GroupFiqlSearchConditionBuilder;
 import org.apache.syncope.common.lib.search.UserFiqlSearchConditionBuilder;
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.BatchRequest;
+import org.apache.syncope.common.lib.to.BatchResponseItem;
+import org.apache.syncope.common.lib.to.OperationTO;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.AccessTokenService;
+import org.apache.syncope.common.rest.api.service.AnyService;
+import org.apache.syncope.common.rest.api.service.BatchService;
+import org.apache.syncope.common.rest.api.service.OperationService;
 import org.apache.syncope.common.rest.api.service.UserSelfService;
 
 /**
@@ -65,6 +76,8 @@ public class SyncopeClient {
 
     private final boolean useCompression;
 
+    private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
+
     public SyncopeClient(
             final MediaType mediaType,
             final JAXRSClientFactoryBean restClientFactory,
@@ -111,6 +124,7 @@ public class SyncopeClient {
 
             restClientFactory.setUsername(null);
             restClientFactory.setPassword(null);
+            services.clear();
         } else if (handler instanceof JWTAuthenticationHandler) {
             restClientFactory.getHeaders().put(
                     HttpHeaders.AUTHORIZATION,
@@ -122,6 +136,7 @@ public class SyncopeClient {
         restClientFactory.getHeaders().remove(HttpHeaders.AUTHORIZATION);
         restClientFactory.setUsername(null);
         restClientFactory.setPassword(null);
+        services.clear();
     }
 
     /**
@@ -130,6 +145,7 @@ public class SyncopeClient {
     public void refresh() {
         String jwt = getService(AccessTokenService.class).refresh().getHeaderString(RESTHeaders.TOKEN);
         restClientFactory.getHeaders().put(HttpHeaders.AUTHORIZATION, Collections.singletonList("Bearer " + jwt));
+        services.clear();
     }
 
     /**
@@ -218,13 +234,34 @@ public class SyncopeClient {
     }
 
     /**
-     * Creates an instance of the given service class, with configured content type and authentication.
+     * Returns an instance of the given service class, with configured content type and authentication.
+     * Instances are created once and then shared among all threads: request headers and latest response are kept
+     * per thread, and reset at each invocation of this method. Headers are to be set via
+     * {@link #header(java.lang.Object, java.lang.String, java.lang.Object...)} and related methods, which return a
+     * dedicated instance instead of altering the shared one.
      *
      * @param <T> any service class
      * @param serviceClass service class reference
      * @return service instance of the given reference class
      */
     public <T> T getService(final Class<T> serviceClass) {
+        T serviceInstance = serviceClass.cast(services.computeIfAbsent(serviceClass, this::createService));
+
+        Client client = WebClient.client(serviceInstance);
+        client.reset();
+        client.type(mediaType).accept(mediaType);
+
+        return serviceInstance;
+    }
+
+    /**
+     * Creates a new instance of the given service class, with configured content type and authentication.
+     *
+     * @param <T> any service class
+     * @param serviceClass service class reference
+     * @return new service instance of the given reference class
+     */
+    protected <T> T createService(final Class<T> serviceClass) {
         synchronized (restClientFactory) {
             restClientFactory.setServiceClass(serviceClass);
             T serviceInstance = restClientFactory.create(serviceClass);
@@ -247,7 +284,7 @@ public class SyncopeClient {
     @SuppressWarnings("unchecked")
     public Pair<Map<String, Set<String>>, UserTO> self() {
         // Explicitly disable header value split because it interferes with JSON deserialization below
-        UserSelfService service = getService(UserSelfService.class);
+        UserSelfService service = createService(UserSelfService.class);
         WebClient.getConfig(WebClient.client(service)).getRequestContext().put(HEADER_SPLIT_PROPERTY, false);
 
         Response response = service.read();
@@ -271,26 +308,100 @@ public class SyncopeClient {
     }
 
     /**
-     * Sets the given header on the give service instance.
+     * Iterates over all any objects matching the given query, as streamed by the given service: unlike paging
+     * through search results, a single request is performed and matches are deserialized one at a time, as they
+     * are iterated. The underlying connection is released once all matches were iterated.
+     *
+     * @param <T> any type
+     * @param serviceClass service class reference, among UserService, GroupService and AnyObjectService
+     * @param reference any type class reference
+     * @param anyQuery query conditions: page, size and orderBy are ignored, matches are always sorted by key
+     * @return iterator over matching any objects
+     */
+    public <T extends AnyTO> Iterator<T> stream(
+            final Class<? extends AnyService<T, ?>> serviceClass,
+            final Class<T> reference,
+            final AnyQuery anyQuery) {
+
+        // a dedicated instance, as the Accept header would otherwise stick to the shared one
+        AnyService<T, ?> service = dedicated(getService(serviceClass));
+        WebClient.client(service).accept(RESTHeaders.MEDIATYPE_APPLICATION_NDJSON);
+
+        return readValues(service.stream(anyQuery), reference);
+    }
+
+    /**
+     * Executes the given batch request in a single round trip; results are deserialized one at a time, as they
+     * are iterated, in the same order as request items. The underlying connection is released once all results
+     * were iterated.
+     *
+     * @param batchRequest operations to execute
+     * @return iterator over results
+     */
+    public Iterator<BatchResponseItem> batch(final BatchRequest batchRequest) {
+        BatchService service = dedicated(getService(BatchService.class));
+        WebClient.client(service).accept(RESTHeaders.MEDIATYPE_APPLICATION_NDJSON);
+
+        return readValues(service.batch(batchRequest), BatchResponseItem.class);
+    }
+
+    private <T> Iterator<T> readValues(final Response response, final Class<T> reference) {
+        if (response.getStatusInfo().getStatusCode() != Response.Status.OK.getStatusCode()) {
+            Exception ex = exceptionMapper.fromResponse(response);
+            if (ex != null) {
+                throw (RuntimeException) ex;
+            }
+        }
+
+        try {
+            return new ObjectMapper().readerFor(reference).readValues((InputStream) response.getEntity());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Sets the given header on the given service instance, or on a dedicated one if shared.
      *
      * @param <T> any service class
      * @param service service class instance
      * @param key HTTP header key
      * @param values HTTP header values
-     * @return given service instance, with given header set
+     * @return service instance, with given header set
      */
     public <T> T header(final T service, final String key, final Object... values) {
-        WebClient.client(service).header(key, values);
+        T instance = dedicated(service);
+        WebClient.client(instance).header(key, values);
+        return instance;
+    }
+
+    /**
+     * When the given service instance is shared - e.g. it was returned by {@link #getService(java.lang.Class)} -
+     * creates a new instance of the same service class, with configured content type and authentication; otherwise
+     * returns the given instance.
+     *
+     * @param <T> any service class
+     * @param service service class instance
+     * @return service instance which can be altered without affecting other callers
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T dedicated(final T service) {
+        for (Class<?> serviceClass : service.getClass().getInterfaces()) {
+            if (services.get(serviceClass) == service) {
+                return (T) createService(serviceClass);
+            }
+        }
+
         return service;
     }
 
     /**
-     * Sets the {@code Prefer} header on the give service instance.
+     * Sets the {@code Prefer} header on the given service instance, or on a dedicated one if shared.
      *
      * @param <T> any service class
      * @param service service class instance
      * @param preference preference to be set via {@code Prefer} header
-     * @return given service instance, with {@code Prefer} header set
+     * @return service instance, with {@code Prefer} header set
      */
     public <T> T prefer(final T service, final Preference preference) {
         return header(service, RESTHeaders.PREFER, preference.toString());
@@ -310,38 +421,40 @@ public class SyncopeClient {
     }
 
     /**
-     * Sets the {@code If-Match} or {@code If-None-Match} header on the given service instance.
+     * Sets the {@code If-Match} or {@code If-None-Match} header on the given service instance, or on a dedicated
+     * one if shared.
      *
      * @param <T> any service class
      * @param service service class instance
      * @param etag ETag value
      * @param ifNot if true then {@code If-None-Match} is set, {@code If-Match} otherwise
-     * @return given service instance, with {@code If-Match} or {@code If-None-Match} set
+     * @return service instance, with {@code If-Match} or {@code If-None-Match} set
      */
     private <T> T match(final T service, final EntityTag etag, final boolean ifNot) {
-        WebClient.client(service).match(etag, ifNot);
-        return service;
+        T instance = dedicated(service);
+        WebClient.client(instance).match(etag, ifNot);
+        return instance;
     }
 
     /**
-     * Sets the {@code If-Match} header on the given service instance.
+     * Sets the {@code If-Match} header on the given service instance, or on a dedicated one if shared.
      *
      * @param <T> any service class
      * @param service service class instance
      * @param etag ETag value
-     * @return given service instance, with {@code If-Match} set
+     * @return service instance, with {@code If-Match} set
      */
     public <T> T ifMatch(final T service, final EntityTag etag) {
         return match(service, etag, false);
     }
 
     /**
-     * Sets the {@code If-None-Match} header on the given service instance.
+     * Sets the {@code If-None-Match} header on the given service instance, or on a dedicated one if shared.
      *
      * @param <T> any service class
      * @param service service class instance
      * @param etag ETag value
-     * @return given service instance, with {@code If-None-Match} set
+     * @return service instance, with {@code If-None-Match} set
      */
     public <T> T ifNoneMatch(final T service, final EntityTag etag) {
         return match(service, etag, true);
@@ -357,4 +470,21 @@ public class SyncopeClient {
     public <T> EntityTag getLatestEntityTag(final T service) {
         return WebClient.client(service).getResponse().getEntityTag();
     }
+
+    /**
+     * Fetches the operation accepted by latest service run, when invoked with {@link Preference#RESPOND_ASYNC}.
+     *
+     * @param <T> any service class
+     * @param service service class instance
+     * @return operation accepted by latest service run, or {@code null} if the request was not run asynchronously
+     */
+    public <T> OperationTO getLatestOperation(final T service) {
+        Response response = WebClient.client(service).getResponse();
+        if (response.getStatus() != Response.Status.ACCEPTED.getStatusCode() || response.getLocation() == null) {
+            return null;
+        }
+
+        String path = response.getLocation().getPath();
+        return getService(OperationService.class).read(path.substring(path.lastIndexOf('/') + 1));
+    }
 }
@@ -19,6 +19,7 @@
 package org.apache.syncope.client.lib;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.joda.JodaModule;
 import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
 import java.util.ArrayList;
@@ -29,13 +30,19 @@ import java.util.Map;
 import javax.ws.rs.core.MediaType;
 import javax.xml.bind.Marshaller;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.Bus;
+import org.apache.cxf.feature.AbstractFeature;
 import org.apache.cxf.feature.Feature;
 import org.apache.cxf.ext.logging.LoggingFeature;
+import org.apache.cxf.interceptor.InterceptorProvider;
+import org.apache.cxf.jaxrs.client.ClientConfiguration;
 import org.apache.cxf.jaxrs.client.JAXRSClientFactoryBean;
 import org.apache.cxf.jaxrs.provider.JAXBElementProvider;
 import org.apache.cxf.staxutils.DocumentDepthProperties;
+import org.apache.cxf.transports.http.configuration.HTTPClientPolicy;
 import org.apache.syncope.common.lib.policy.AbstractPolicyTO;
 import org.apache.syncope.common.rest.api.DateParamConverterProvider;
+import org.apache.syncope.common.rest.api.JacksonSmileProvider;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
@@ -44,10 +51,13 @@ import org.apache.syncope.common.rest.api.RESTHeaders;
  */
 public class SyncopeClientFactoryBean {
 
+    private static final String USE_ASYNC_CONDUIT_PROPERTY = "use.async.http.conduit";
+
     public enum ContentType {
 
         JSON(MediaType.APPLICATION_JSON_TYPE),
-        XML(MediaType.APPLICATION_XML_TYPE);
+        XML(MediaType.APPLICATION_XML_TYPE),
+        SMILE(MediaType.valueOf(RESTHeaders.MEDIATYPE_APPLICATION_SMILE));
 
         private final MediaType mediaType;
 
@@ -60,14 +70,22 @@ public class SyncopeClientFactoryBean {
         }
 
         public static ContentType fromString(final String value) {
-            return StringUtils.isNotBlank(value) && value.equalsIgnoreCase(XML.getMediaType().toString())
-                    ? XML
-                    : JSON;
+            if (StringUtils.isNotBlank(value)) {
+                if (value.equalsIgnoreCase(XML.getMediaType().toString())) {
+                    return XML;
+                }
+                if (value.equalsIgnoreCase(SMILE.getMediaType().toString())) {
+                    return SMILE;
+                }
+            }
+            return JSON;
         }
     }
 
     private JacksonJaxbJsonProvider jsonProvider;
 
+    private JacksonSmileProvider smileProvider;
+
     private JAXBElementProvider<?> jaxbProvider;
 
     private RestClientExceptionMapper exceptionMapper;
@@ -80,6 +98,10 @@ public class SyncopeClientFactoryBean {
 
     private boolean useCompression;
 
+    private HTTPClientPolicy httpClientPolicy;
+
+    private boolean useAsyncConduit;
+
     private JAXRSClientFactoryBean restClientFactoryBean;
 
     protected JacksonJaxbJsonProvider defaultJsonProvider() {
@@ -89,6 +111,13 @@ public class SyncopeClientFactoryBean {
         return new JacksonJaxbJsonProvider(objectMapper, JacksonJaxbJsonProvider.DEFAULT_ANNOTATIONS);
     }
 
+    protected JacksonSmileProvider defaultSmileProvider() {
+        ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+        objectMapper.registerModule(new JodaModule());
+        objectMapper.configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+        return new JacksonSmileProvider(objectMapper);
+    }
+
     @SuppressWarnings({ "rawtypes" })
     protected JAXBElementProvider<?> defaultJAXBProvider() {
         JAXBElementProvider<?> defaultJAXBProvider = new JAXBElementProvider();
@@ -130,12 +159,30 @@ public class SyncopeClientFactoryBean {
 
         List<Feature> features = new ArrayList<>();
         features.add(new LoggingFeature());
+        if (httpClientPolicy != null || useAsyncConduit) {
+            features.add(new AbstractFeature() {
+
+                @Override
+                public void initialize(final InterceptorProvider provider, final Bus bus) {
+                    if (provider instanceof ClientConfiguration) {
+                        ClientConfiguration config = (ClientConfiguration) provider;
+                        if (httpClientPolicy != null) {
+                            config.getHttpConduit().setClient(httpClientPolicy);
+                        }
+                        if (useAsyncConduit) {
+                            config.getRequestContext().put(USE_ASYNC_CONDUIT_PROPERTY, Boolean.TRUE);
+                        }
+                    }
+                }
+            });
+        }
         defaultRestClientFactoryBean.setFeatures(features);
 
-        List<Object> providers = new ArrayList<>(4);
+        List<Object> providers = new ArrayList<>(5);
         providers.add(new DateParamConverterProvider());
         providers.add(getJaxbProvider());
         providers.add(getJsonProvider());
+        providers.add(getSmileProvider());
         providers.add(getExceptionMapper());
         defaultRestClientFactoryBean.setProviders(providers);
 
@@ -152,6 +199,17 @@ public class SyncopeClientFactoryBean {
         this.jsonProvider = jsonProvider;
     }
 
+    public JacksonSmileProvider getSmileProvider() {
+        return smileProvider == null
+                ? defaultSmileProvider()
+                : smileProvider;
+    }
+
+    public SyncopeClientFactoryBean setSmileProvider(final JacksonSmileProvider smileProvider) {
+        this.smileProvider = smileProvider;
+        return this;
+    }
+
     public JAXBElementProvider<?> getJaxbProvider() {
         return jaxbProvider == null
                 ? defaultJAXBProvider()
@@ -223,6 +281,39 @@ public class SyncopeClientFactoryBean {
         return useCompression;
     }
 
+    public HTTPClientPolicy getHttpClientPolicy() {
+        return httpClientPolicy;
+    }
+
+    /**
+     * Sets the HTTP client policy (connection and receive timeouts, keep-alive, chunking, ...) for all requests.
+     *
+     * @param httpClientPolicy HTTP client policy
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setHttpClientPolicy(final HTTPClientPolicy httpClientPolicy) {
+        this.httpClientPolicy = httpClientPolicy;
+        return this;
+    }
+
+    public boolean isUseAsyncConduit() {
+        return useAsyncConduit;
+    }
+
+    /**
+     * Sets whether requests are to be sent via the CXF asynchronous HTTP conduit, backed by a pool of connections
+     * shared among all threads; requires {@code cxf-rt-transports-http-hc} on the classpath, pool size is
+     * configured via {@code org.apache.cxf.transport.http.async.*} bus properties.
+     * When not set, connections are kept alive by the JDK, up to {@code http.maxConnections} per destination.
+     *
+     * @param useAsyncConduit whether requests are to be sent via the CXF asynchronous HTTP conduit
+     * @return the current instance
+     */
+    public SyncopeClientFactoryBean setUseAsyncConduit(final boolean useAsyncConduit) {
+        this.useAsyncConduit = useAsyncConduit;
+        return this;
+    }
+
     public JAXRSClientFactoryBean getRestClientFactoryBean() {
         return restClientFactoryBean == null
                 ? defaultRestClientFactoryBean()
@@ -18,10 +18,28 @@
  */
 package org.apache.syncope.client.lib;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.cxf.jaxrs.client.WebClient;
+import org.apache.syncope.common.rest.api.Preference;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.ResourceService;
+import org.apache.syncope.common.rest.api.service.UserService;
 import org.junit.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,6 +81,82 @@ public class ConcurrencyTest {
         Thread.sleep(THREAD_NUMBER);
     }
 
+    @Test
+    public void sharedService() throws InterruptedException {
+        ResourceService service = client.getService(ResourceService.class);
+        assertSame(service, client.getService(ResourceService.class));
+
+        ResourceService preferring = client.prefer(service, Preference.RETURN_NO_CONTENT);
+        assertNotSame(service, preferring);
+        assertEquals(
+                Preference.RETURN_NO_CONTENT.toString(),
+                WebClient.client(preferring).getHeaders().getFirst(RESTHeaders.PREFER));
+        assertNull(WebClient.client(service).getHeaders().getFirst(RESTHeaders.PREFER));
+
+        // request headers are kept per thread
+        WebClient.client(service).accept(RESTHeaders.MEDIATYPE_APPLICATION_NDJSON);
+        AtomicReference<String> accept = new AtomicReference<>();
+        Thread other = new Thread(() -> accept.set(
+                WebClient.client(client.getService(ResourceService.class)).getHeaders().getFirst(HttpHeaders.ACCEPT)));
+        other.start();
+        other.join();
+        assertEquals(MediaType.APPLICATION_JSON, accept.get());
+
+        // ...and reset when the service is requested again
+        assertEquals(
+                MediaType.APPLICATION_JSON,
+                WebClient.client(client.getService(ResourceService.class)).getHeaders().getFirst(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    public void streamDoesNotAlterSharedService() {
+        UserService service = client.getService(UserService.class);
+        try {
+            client.stream(UserService.class, UserTO.class, new AnyQuery.Builder().build());
+            fail();
+        } catch (Exception e) {
+            // no server available
+        }
+
+        assertEquals(MediaType.APPLICATION_JSON, WebClient.client(service).getHeaders().getFirst(HttpHeaders.ACCEPT));
+        assertSame(service, client.getService(UserService.class));
+    }
+
+    private static long throughput(final int threads, final int calls, final Runnable call)
+            throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicInteger failures = new AtomicInteger();
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    for (int j = 0; j < calls; j++) {
+                        call.run();
+                    }
+                } catch (Exception e) {
+                    LOG.error("Could not obtain service", e);
+                    failures.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(2, TimeUnit.MINUTES));
+        long elapsed = System.nanoTime() - start;
+
+        assertEquals(0, failures.get());
+        return threads * calls * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsed);
+    }
+
+    @Test
+    public void multiThreadThroughput() throws InterruptedException {
+        long shared = throughput(50, 1000, () -> client.getService(UserService.class));
+        long dedicated = throughput(50, 20, () -> client.nullPriorityAsync(client.getService(UserService.class), true));
+        LOG.info("Services per second: shared {}, dedicated {}", shared, dedicated);
+
+        assertTrue(shared > dedicated);
+    }
+
     @Test
     public void multiCallTest() {
         try {
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.client.lib;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.ext.MessageBodyReader;
+import javax.ws.rs.ext.MessageBodyWriter;
+import org.apache.syncope.common.lib.to.AttrTO;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ContentTypeTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ContentTypeTest.class);
+
+    private static final int ITERATIONS = 200;
+
+    private static UserTO userTO() {
+        UserTO userTO = new UserTO();
+        userTO.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        userTO.setUsername("rossini");
+        userTO.setRealm("/even/two");
+        for (int i = 0; i < 200; i++) {
+            userTO.getPlainAttrs().add(new AttrTO.Builder().schema("schema" + i).value("value" + i).build());
+        }
+        return userTO;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static byte[] write(final Object provider, final UserTO userTO, final MediaType mediaType)
+            throws IOException {
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((MessageBodyWriter<Object>) provider).writeTo(
+                userTO, UserTO.class, UserTO.class, new Annotation[0], mediaType, new MultivaluedHashMap<>(), out);
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UserTO read(final Object provider, final byte[] payload, final MediaType mediaType)
+            throws IOException {
+
+        return (UserTO) ((MessageBodyReader<Object>) provider).readFrom(
+                (Class<Object>) (Class<?>) UserTO.class, UserTO.class, new Annotation[0],
+                mediaType, new MultivaluedHashMap<>(), new ByteArrayInputStream(payload));
+    }
+
+    private static long roundTrips(final Object provider, final UserTO userTO, final MediaType mediaType)
+            throws IOException {
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            read(provider, write(provider, userTO, mediaType), mediaType);
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void fromString() {
+        assertEquals(SyncopeClientFactoryBean.ContentType.JSON,
+                SyncopeClientFactoryBean.ContentType.fromString(MediaType.APPLICATION_JSON));
+        assertEquals(SyncopeClientFactoryBean.ContentType.XML,
+                SyncopeClientFactoryBean.ContentType.fromString(MediaType.APPLICATION_XML));
+        assertEquals(SyncopeClientFactoryBean.ContentType.SMILE,
+                SyncopeClientFactoryBean.ContentType.fromString(RESTHeaders.MEDIATYPE_APPLICATION_SMILE));
+        assertEquals(SyncopeClientFactoryBean.ContentType.JSON,
+                SyncopeClientFactoryBean.ContentType.fromString(null));
+    }
+
+    @Test
+    public void smileVsJson() throws IOException {
+        SyncopeClientFactoryBean factory = new SyncopeClientFactoryBean();
+        MediaType json = SyncopeClientFactoryBean.ContentType.JSON.getMediaType();
+        MediaType smile = SyncopeClientFactoryBean.ContentType.SMILE.getMediaType();
+
+        assertTrue(factory.getSmileProvider().isWriteable(UserTO.class, UserTO.class, new Annotation[0], smile));
+        assertTrue(!factory.getSmileProvider().isWriteable(UserTO.class, UserTO.class, new Annotation[0], json));
+        assertTrue(!factory.getJsonProvider().isWriteable(UserTO.class, UserTO.class, new Annotation[0], smile));
+
+        UserTO userTO = userTO();
+
+        byte[] jsonPayload = write(factory.getJsonProvider(), userTO, json);
+        byte[] smilePayload = write(factory.getSmileProvider(), userTO, smile);
+        assertEquals(userTO, read(factory.getSmileProvider(), smilePayload, smile));
+        assertTrue(smilePayload.length < jsonPayload.length);
+
+        // warm up, then compare
+        roundTrips(factory.getJsonProvider(), userTO, json);
+        roundTrips(factory.getSmileProvider(), userTO, smile);
+        LOG.info("Payload size: JSON {} bytes, Smile {} bytes; {} round trips: JSON {} ms, Smile {} ms",
+                jsonPayload.length, smilePayload.length, ITERATIONS,
+                roundTrips(factory.getJsonProvider(), userTO, json) / 1000000,
+                roundTrips(factory.getSmileProvider(), userTO, smile) / 1000000);
+    }
+}
@@ -18,16 +18,21 @@
  */
 package org.apache.syncope.common.lib.info;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
+import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.apache.syncope.common.lib.jaxb.XmlGenericMapAdapter;
 
 @XmlRootElement(name = "platformInfo")
 @XmlType
@@ -105,6 +110,10 @@ public class PlatformInfo extends AbstractBaseBean {
 
     private final Set<String> notificationRecipientsProviders = new HashSet<>();
 
+    @XmlJavaTypeAdapter(XmlGenericMapAdapter.class)
+    @JsonIgnore
+    private final Map<String, Long> loadingTimes = new HashMap<>();
+
     public String getVersion() {
         return version;
     }
@@ -363,4 +372,9 @@ public class PlatformInfo extends AbstractBaseBean {
     public void setVirAttrCache(final String virAttrCache) {
         this.virAttrCache = virAttrCache;
     }
+
+    @JsonProperty
+    public Map<String, Long> getLoadingTimes() {
+        return loadingTimes;
+    }
 }
@@ -108,6 +108,28 @@ public class SystemInfo extends AbstractBaseBean {
 
         private long maxMemory;
 
+        private int hashingActiveCount;
+
+        private int hashingQueueSize;
+
+        private long hashingRejected;
+
+        private int operationsActiveCount;
+
+        private int operationsQueueSize;
+
+        private long operationsRejected;
+
+        private int propagationQueueSize;
+
+        private int indexQueueSize;
+
+        private long indexLag;
+
+        private long indexed;
+
+        private long indexFailed;
+
         public double getSystemLoadAverage() {
             return systemLoadAverage;
         }
@@ -147,6 +169,94 @@ public class SystemInfo extends AbstractBaseBean {
         public void setMaxMemory(final long maxMemory) {
             this.maxMemory = maxMemory;
         }
+
+        public int getHashingActiveCount() {
+            return hashingActiveCount;
+        }
+
+        public void setHashingActiveCount(final int hashingActiveCount) {
+            this.hashingActiveCount = hashingActiveCount;
+        }
+
+        public int getHashingQueueSize() {
+            return hashingQueueSize;
+        }
+
+        public void setHashingQueueSize(final int hashingQueueSize) {
+            this.hashingQueueSize = hashingQueueSize;
+        }
+
+        public long getHashingRejected() {
+            return hashingRejected;
+        }
+
+        public void setHashingRejected(final long hashingRejected) {
+            this.hashingRejected = hashingRejected;
+        }
+
+        public int getOperationsActiveCount() {
+            return operationsActiveCount;
+        }
+
+        public void setOperationsActiveCount(final int operationsActiveCount) {
+            this.operationsActiveCount = operationsActiveCount;
+        }
+
+        public int getOperationsQueueSize() {
+            return operationsQueueSize;
+        }
+
+        public void setOperationsQueueSize(final int operationsQueueSize) {
+            this.operationsQueueSize = operationsQueueSize;
+        }
+
+        public long getOperationsRejected() {
+            return operationsRejected;
+        }
+
+        public void setOperationsRejected(final long operationsRejected) {
+            this.operationsRejected = operationsRejected;
+        }
+
+        public int getPropagationQueueSize() {
+            return propagationQueueSize;
+        }
+
+        public void setPropagationQueueSize(final int propagationQueueSize) {
+            this.propagationQueueSize = propagationQueueSize;
+        }
+
+        public int getIndexQueueSize() {
+            return indexQueueSize;
+        }
+
+        public void setIndexQueueSize(final int indexQueueSize) {
+            this.indexQueueSize = indexQueueSize;
+        }
+
+        public long getIndexLag() {
+            return indexLag;
+        }
+
+        public void setIndexLag(final long indexLag) {
+            this.indexLag = indexLag;
+        }
+
+        public long getIndexed() {
+            return indexed;
+        }
+
+        public void setIndexed(final long indexed) {
+            this.indexed = indexed;
+        }
+
+        public long getIndexFailed() {
+            return indexFailed;
+        }
+
+        public void setIndexFailed(final long indexFailed) {
+            this.indexFailed = indexFailed;
+        }
     }
 
 }
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+
+@XmlRootElement(name = "batchRequest")
+@XmlType
+public class BatchRequest extends AbstractBaseBean {
+
+    private static final long serialVersionUID = -4254374413826547271L;
+
+    private int parallelism = 1;
+
+    private boolean atomic;
+
+    private final List<BatchRequestItem> items = new ArrayList<>();
+
+    /**
+     * @return how many items can be processed concurrently; ignored when {@link #isAtomic()}
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return whether all items are to be processed sequentially within a single transaction, which is rolled back
+     * at first failure
+     */
+    public boolean isAtomic() {
+        return atomic;
+    }
+
+    public void setAtomic(final boolean atomic) {
+        this.atomic = atomic;
+    }
+
+    @XmlElementWrapper(name = "items")
+    @XmlElement(name = "item")
+    @JsonProperty("items")
+    public List<BatchRequestItem> getItems() {
+        return items;
+    }
+}
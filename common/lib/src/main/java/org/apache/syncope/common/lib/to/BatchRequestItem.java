@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import javax.xml.bind.annotation.XmlEnum;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.apache.syncope.common.lib.patch.AssociationPatch;
+import org.apache.syncope.common.lib.patch.DeassociationPatch;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+
+/**
+ * Single operation within a {@link BatchRequest}; depending on the operation, the following are required:
+ * <ul>
+ * <li>{@code CREATE}: {@link #getAnyTO()}</li>
+ * <li>{@code UPDATE}: {@link #getAnyTO()}, complete update as for PUT</li>
+ * <li>{@code DELETE}: {@link #getAnyTypeKind()} and {@link #getKey()}</li>
+ * <li>{@code ASSOCIATE}: {@link #getAnyTypeKind()} and {@link #getAssociationPatch()}</li>
+ * <li>{@code DEASSOCIATE}: {@link #getAnyTypeKind()} and {@link #getDeassociationPatch()}</li>
+ * </ul>
+ */
+@XmlRootElement(name = "batchRequestItem")
+@XmlType
+public class BatchRequestItem extends AbstractBaseBean {
+
+    private static final long serialVersionUID = 6553454366413585413L;
+
+    @XmlEnum
+    @XmlType(name = "batchOperation")
+    public enum Operation {
+
+        CREATE,
+        UPDATE,
+        DELETE,
+        ASSOCIATE,
+        DEASSOCIATE
+
+    }
+
+    public static class Builder {
+
+        private final BatchRequestItem instance = new BatchRequestItem();
+
+        public Builder create(final AnyTO anyTO) {
+            instance.setOperation(Operation.CREATE);
+            instance.setAnyTO(anyTO);
+            return this;
+        }
+
+        public Builder update(final AnyTO anyTO) {
+            instance.setOperation(Operation.UPDATE);
+            instance.setAnyTO(anyTO);
+            return this;
+        }
+
+        public Builder delete(final AnyTypeKind anyTypeKind, final String key) {
+            instance.setOperation(Operation.DELETE);
+            instance.setAnyTypeKind(anyTypeKind);
+            instance.setKey(key);
+            return this;
+        }
+
+        public Builder associate(final AnyTypeKind anyTypeKind, final AssociationPatch associationPatch) {
+            instance.setOperation(Operation.ASSOCIATE);
+            instance.setAnyTypeKind(anyTypeKind);
+            instance.setAssociationPatch(associationPatch);
+            return this;
+        }
+
+        public Builder deassociate(final AnyTypeKind anyTypeKind, final DeassociationPatch deassociationPatch) {
+            instance.setOperation(Operation.DEASSOCIATE);
+            instance.setAnyTypeKind(anyTypeKind);
+            instance.setDeassociationPatch(deassociationPatch);
+            return this;
+        }
+
+        public BatchRequestItem build() {
+            return instance;
+        }
+    }
+
+    private Operation operation;
+
+    private AnyTypeKind anyTypeKind;
+
+    private String key;
+
+    private AnyTO anyTO;
+
+    private AssociationPatch associationPatch;
+
+    private DeassociationPatch deassociationPatch;
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(final Operation operation) {
+        this.operation = operation;
+    }
+
+    public AnyTypeKind getAnyTypeKind() {
+        return anyTypeKind;
+    }
+
+    public void setAnyTypeKind(final AnyTypeKind anyTypeKind) {
+        this.anyTypeKind = anyTypeKind;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
+    public AnyTO getAnyTO() {
+        return anyTO;
+    }
+
+    public void setAnyTO(final AnyTO anyTO) {
+        this.anyTO = anyTO;
+    }
+
+    public AssociationPatch getAssociationPatch() {
+        return associationPatch;
+    }
+
+    public void setAssociationPatch(final AssociationPatch associationPatch) {
+        this.associationPatch = associationPatch;
+    }
+
+    public DeassociationPatch getDeassociationPatch() {
+        return deassociationPatch;
+    }
+
+    public void setDeassociationPatch(final DeassociationPatch deassociationPatch) {
+        this.deassociationPatch = deassociationPatch;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+
+/**
+ * Outcome of a {@link BatchRequestItem}, matched by position in the originating {@link BatchRequest}.
+ */
+@XmlRootElement(name = "batchResponseItem")
+@XmlType
+public class BatchResponseItem extends AbstractBaseBean {
+
+    private static final long serialVersionUID = -1725399316618735413L;
+
+    private int index;
+
+    private BatchRequestItem.Operation operation;
+
+    private String key;
+
+    private BulkActionResult.Status status;
+
+    private String error;
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(final int index) {
+        this.index = index;
+    }
+
+    public BatchRequestItem.Operation getOperation() {
+        return operation;
+    }
+
+    public void setOperation(final BatchRequestItem.Operation operation) {
+        this.operation = operation;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
+    public BulkActionResult.Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(final BulkActionResult.Status status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(final String error) {
+        this.error = error;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+
+@XmlRootElement(name = "connBulkheadConf")
+@XmlType
+public class ConnBulkheadConfTO extends AbstractBaseBean {
+
+    private static final long serialVersionUID = -6174983020134726641L;
+
+    private Integer maxConcurrentRequests;
+
+    private Long maxRequestWait;
+
+    private Integer failureThreshold;
+
+    private Long openInterval;
+
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    public void setMaxConcurrentRequests(final Integer maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    public Long getMaxRequestWait() {
+        return maxRequestWait;
+    }
+
+    public void setMaxRequestWait(final Long maxRequestWait) {
+        this.maxRequestWait = maxRequestWait;
+    }
+
+    public Integer getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public void setFailureThreshold(final Integer failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public Long getOpenInterval() {
+        return openInterval;
+    }
+
+    public void setOpenInterval(final Long openInterval) {
+        this.openInterval = openInterval;
+    }
+
+}
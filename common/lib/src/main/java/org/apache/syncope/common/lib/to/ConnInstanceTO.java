@@ -62,6 +62,8 @@ public class ConnInstanceTO extends AbstractBaseBean implements EntityTO {
 
     private ConnPoolConfTO poolConf;
 
+    private ConnBulkheadConfTO bulkheadConf;
+
     @Override
     public String getKey() {
         return key;
@@ -168,4 +170,12 @@ public class ConnInstanceTO extends AbstractBaseBean implements EntityTO {
         this.poolConf = poolConf;
     }
 
+    public ConnBulkheadConfTO getBulkheadConf() {
+        return bulkheadConf;
+    }
+
+    public void setBulkheadConf(final ConnBulkheadConfTO bulkheadConf) {
+        this.bulkheadConf = bulkheadConf;
+    }
+
 }
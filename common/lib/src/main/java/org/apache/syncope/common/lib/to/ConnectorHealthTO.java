@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlElementWrapper;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.apache.syncope.common.lib.types.ConnectorCircuitState;
+
+@XmlRootElement(name = "connectorHealth")
+@XmlType
+public class ConnectorHealthTO extends AbstractBaseBean {
+
+    private static final long serialVersionUID = 4937164531806428071L;
+
+    private String resource;
+
+    private ConnectorCircuitState circuitState;
+
+    private int maxConcurrent;
+
+    private int active;
+
+    private int waiting;
+
+    private long calls;
+
+    private long rejections;
+
+    private long timeouts;
+
+    private long failures;
+
+    private final List<Long> latencyBounds = new ArrayList<>();
+
+    private final List<Long> latencyCounts = new ArrayList<>();
+
+    public String getResource() {
+        return resource;
+    }
+
+    public void setResource(final String resource) {
+        this.resource = resource;
+    }
+
+    public ConnectorCircuitState getCircuitState() {
+        return circuitState;
+    }
+
+    public void setCircuitState(final ConnectorCircuitState circuitState) {
+        this.circuitState = circuitState;
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public void setMaxConcurrent(final int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public void setActive(final int active) {
+        this.active = active;
+    }
+
+    public int getWaiting() {
+        return waiting;
+    }
+
+    public void setWaiting(final int waiting) {
+        this.waiting = waiting;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public void setCalls(final long calls) {
+        this.calls = calls;
+    }
+
+    public long getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(final long rejections) {
+        this.rejections = rejections;
+    }
+
+    public long getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(final long timeouts) {
+        this.timeouts = timeouts;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(final long failures) {
+        this.failures = failures;
+    }
+
+    /**
+     * Upper bounds, in milliseconds, of the latency histogram buckets; the last bucket, with no upper bound, is not
+     * listed here.
+     *
+     * @return upper bounds of the latency histogram buckets
+     */
+    @XmlElementWrapper(name = "latencyBounds")
+    @XmlElement(name = "bound")
+    @JsonProperty("latencyBounds")
+    public List<Long> getLatencyBounds() {
+        return latencyBounds;
+    }
+
+    /**
+     * Number of requests falling in each latency histogram bucket.
+     *
+     * @return number of requests for each latency histogram bucket
+     */
+    @XmlElementWrapper(name = "latencyCounts")
+    @XmlElement(name = "count")
+    @JsonProperty("latencyCounts")
+    public List<Long> getLatencyCounts() {
+        return latencyCounts;
+    }
+}
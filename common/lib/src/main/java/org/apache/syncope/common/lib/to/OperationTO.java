@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.lib.to;
+
+import java.util.Date;
+import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlType;
+import org.apache.syncope.common.lib.types.OperationStatus;
+
+@XmlRootElement(name = "operation")
+@XmlType
+public class OperationTO extends AbstractStartEndBean implements EntityTO {
+
+    private static final long serialVersionUID = -1950206541394520377L;
+
+    private String key;
+
+    private String description;
+
+    private String owner;
+
+    private Date submitted;
+
+    private OperationStatus status;
+
+    private String error;
+
+    @Override
+    public String getKey() {
+        return key;
+    }
+
+    @Override
+    public void setKey(final String key) {
+        this.key = key;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(final String description) {
+        this.description = description;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public void setOwner(final String owner) {
+        this.owner = owner;
+    }
+
+    public Date getSubmitted() {
+        return submitted == null
+                ? null
+                : new Date(submitted.getTime());
+    }
+
+    public void setSubmitted(final Date submitted) {
+        this.submitted = submitted == null
+                ? null
+                : new Date(submitted.getTime());
+    }
+
+    public OperationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final OperationStatus status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(final String error) {
+        this.error = error;
+    }
+}
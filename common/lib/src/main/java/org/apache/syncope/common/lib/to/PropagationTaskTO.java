@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.common.lib.to;
 
+import java.util.Date;
 import javax.xml.bind.annotation.XmlRootElement;
 import javax.xml.bind.annotation.XmlType;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -45,6 +46,8 @@ public class PropagationTaskTO extends AbstractTaskTO {
 
     private String entityKey;
 
+    private Date queued;
+
     public String getConnObjectKey() {
         return connObjectKey;
     }
@@ -108,4 +111,19 @@ public class PropagationTaskTO extends AbstractTaskTO {
     public void setEntityKey(final String entityKey) {
         this.entityKey = entityKey;
     }
+
+    public Date getQueued() {
+        if (queued != null) {
+            return new Date(queued.getTime());
+        }
+        return null;
+    }
+
+    public void setQueued(final Date queued) {
+        if (queued != null) {
+            this.queued = new Date(queued.getTime());
+        } else {
+            this.queued = null;
+        }
+    }
 }
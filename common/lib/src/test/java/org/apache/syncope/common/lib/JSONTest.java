@@ -20,25 +20,32 @@ package org.apache.syncope.common.lib;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.UUID;
+import org.apache.syncope.common.lib.patch.DeassociationPatch;
 import org.apache.syncope.common.lib.patch.PasswordPatch;
 import org.apache.syncope.common.lib.patch.StringPatchItem;
 import org.apache.syncope.common.lib.patch.StringReplacePatchItem;
 import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.report.UserReportletConf;
 import org.apache.syncope.common.lib.to.AttrTO;
+import org.apache.syncope.common.lib.to.BatchRequest;
+import org.apache.syncope.common.lib.to.BatchRequestItem;
 import org.apache.syncope.common.lib.to.ConnObjectTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.ReportTO;
+import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.to.WorkflowFormPropertyTO;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.lib.types.ResourceDeassociationAction;
 import org.junit.Test;
 
 public class JSONTest {
@@ -123,4 +130,40 @@ public class JSONTest {
         });
         assertEquals(original, actual);
     }
+
+    @Test
+    public void batchRequest() throws IOException {
+        UserTO user = new UserTO();
+        user.setUsername("batch");
+        user.setRealm(SyncopeConstants.ROOT_REALM);
+
+        GroupTO group = new GroupTO();
+        group.setKey(UUID.randomUUID().toString());
+        group.setName("batch");
+        group.setRealm(SyncopeConstants.ROOT_REALM);
+
+        DeassociationPatch deassociationPatch = new DeassociationPatch();
+        deassociationPatch.setKey(UUID.randomUUID().toString());
+        deassociationPatch.setAction(ResourceDeassociationAction.UNLINK);
+        deassociationPatch.getResources().add("ws-target-resource-1");
+
+        BatchRequest original = new BatchRequest();
+        original.setParallelism(4);
+        original.getItems().add(new BatchRequestItem.Builder().create(user).build());
+        original.getItems().add(new BatchRequestItem.Builder().update(group).build());
+        original.getItems().add(new BatchRequestItem.Builder().
+                delete(AnyTypeKind.ANY_OBJECT, UUID.randomUUID().toString()).build());
+        original.getItems().add(new BatchRequestItem.Builder().
+                deassociate(AnyTypeKind.USER, deassociationPatch).build());
+
+        ObjectMapper mapper = new ObjectMapper();
+
+        StringWriter writer = new StringWriter();
+        mapper.writeValue(writer, original);
+
+        BatchRequest actual = mapper.readValue(writer.toString(), BatchRequest.class);
+        assertEquals(original, actual);
+        assertTrue(actual.getItems().get(0).getAnyTO() instanceof UserTO);
+        assertTrue(actual.getItems().get(1).getAnyTO() instanceof GroupTO);
+    }
 }
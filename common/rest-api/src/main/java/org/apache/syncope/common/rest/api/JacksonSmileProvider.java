@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.rest.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.jaxrs.json.JacksonJaxbJsonProvider;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * JAX-RS provider for {@link RESTHeaders#MEDIATYPE_APPLICATION_SMILE}: same as JSON, but in the more compact and
+ * faster to (de)serialize Smile binary format.
+ */
+@Provider
+@Consumes(RESTHeaders.MEDIATYPE_APPLICATION_SMILE)
+@Produces(RESTHeaders.MEDIATYPE_APPLICATION_SMILE)
+public class JacksonSmileProvider extends JacksonJaxbJsonProvider {
+
+    private static final MediaType SMILE = MediaType.valueOf(RESTHeaders.MEDIATYPE_APPLICATION_SMILE);
+
+    public JacksonSmileProvider() {
+        this(new ObjectMapper(new SmileFactory()));
+    }
+
+    /**
+     * @param mapper object mapper, expected to be built on {@link SmileFactory}
+     */
+    public JacksonSmileProvider(final ObjectMapper mapper) {
+        super(mapper, DEFAULT_ANNOTATIONS);
+    }
+
+    @Override
+    protected boolean hasMatchingMediaType(final MediaType mediaType) {
+        return mediaType != null
+                && SMILE.getType().equalsIgnoreCase(mediaType.getType())
+                && SMILE.getSubtype().equalsIgnoreCase(mediaType.getSubtype());
+    }
+}
@@ -57,6 +57,22 @@ public final class RESTHeaders {
      */
     public static final String MEDIATYPE_IMAGE_PNG = "image/png";
 
+    /**
+     * Mediatype for <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> binary JSON, not
+     * defined in <tt>javax.ws.rs.core.MediaType</tt>.
+     *
+     * @see javax.ws.rs.core.MediaType
+     */
+    public static final String MEDIATYPE_APPLICATION_SMILE = "application/x-jackson-smile";
+
+    /**
+     * Mediatype for <a href="http://ndjson.org/">newline-delimited JSON</a>, not defined in
+     * <tt>javax.ws.rs.core.MediaType</tt>.
+     *
+     * @see javax.ws.rs.core.MediaType
+     */
+    public static final String MEDIATYPE_APPLICATION_NDJSON = "application/x-ndjson";
+
     /**
      * Allows the client to specify a preference for the result to be returned from the server.
      * <a href="http://msdn.microsoft.com/en-us/library/hh537533.aspx">More information</a>.
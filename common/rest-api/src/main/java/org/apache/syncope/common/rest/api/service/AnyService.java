@@ -40,6 +40,7 @@ import org.apache.syncope.common.lib.to.AttrTO;
 import org.apache.syncope.common.lib.to.BulkAction;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 
 public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSService {
@@ -56,7 +57,7 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @GET
     @Path("{key}/{schemaType}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Set<AttrTO> read(@NotNull @PathParam("key") String key, @NotNull @PathParam("schemaType") SchemaType schemaType);
 
     /**
@@ -72,7 +73,7 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @GET
     @Path("{key}/{schemaType}/{schema}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     AttrTO read(
             @NotNull @PathParam("key") String key,
             @NotNull @PathParam("schemaType") SchemaType schemaType,
@@ -89,7 +90,7 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @GET
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     TO read(@NotNull @PathParam("key") String key);
 
     /**
@@ -99,9 +100,22 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      * @return paged list of any objects matching the given query
      */
     @GET
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     PagedResult<TO> search(@BeanParam AnyQuery anyQuery);
 
+    /**
+     * Streams all any objects matching the given query as newline-delimited JSON, one any object per line.
+     * Unlike {@link #search(org.apache.syncope.common.rest.api.beans.AnyQuery)}, results are not paged and are
+     * always sorted by key: page, size and orderBy in the given query are ignored.
+     *
+     * @param anyQuery query conditions
+     * @return Response object featuring the matching any objects as newline-delimited JSON entity
+     */
+    @GET
+    @Path("stream")
+    @Produces({ RESTHeaders.MEDIATYPE_APPLICATION_NDJSON })
+    Response stream(@BeanParam AnyQuery anyQuery);
+
     /**
      * Creates a new any object.
      *
@@ -110,8 +124,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      * object itself enriched with propagation status information - ProvisioningResult as Entity
      */
     @POST
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response create(@NotNull TO anyTO);
 
     /**
@@ -123,8 +137,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @PATCH
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response update(@NotNull P anyPatch);
 
     /**
@@ -137,8 +151,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @PUT
     @Path("{key}/{schemaType}/{schema}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response update(
             @NotNull @PathParam("key") String key,
             @NotNull @PathParam("schemaType") SchemaType schemaType,
@@ -153,8 +167,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @PUT
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response update(@NotNull TO anyTO);
 
     /**
@@ -166,8 +180,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @DELETE
     @Path("{key}/{schemaType}/{schema}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     void delete(
             @NotNull @PathParam("key") String key,
             @NotNull @PathParam("schemaType") SchemaType schemaType,
@@ -182,8 +196,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @DELETE
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response delete(@NotNull @PathParam("key") String key);
 
     /**
@@ -194,8 +208,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @POST
     @Path("{key}/deassociate/{action}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response deassociate(@NotNull DeassociationPatch patch);
 
     /**
@@ -206,8 +220,8 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @POST
     @Path("{key}/associate/{action}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response associate(@NotNull AssociationPatch patch);
 
     /**
@@ -218,7 +232,7 @@ public interface AnyService<TO extends AnyTO, P extends AnyPatch> extends JAXRSS
      */
     @POST
     @Path("bulk")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response bulk(@NotNull BulkAction bulkAction);
 }
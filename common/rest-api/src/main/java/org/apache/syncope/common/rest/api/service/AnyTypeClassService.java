@@ -31,6 +31,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.to.AnyTypeClassTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
  * REST operations for any type classes.
@@ -44,7 +45,7 @@ public interface AnyTypeClassService extends JAXRSService {
      * @return list of all anyTypeClasss.
      */
     @GET
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     List<AnyTypeClassTO> list();
 
     /**
@@ -55,7 +56,7 @@ public interface AnyTypeClassService extends JAXRSService {
      */
     @GET
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     AnyTypeClassTO read(@NotNull @PathParam("key") String key);
 
     /**
@@ -65,7 +66,7 @@ public interface AnyTypeClassService extends JAXRSService {
      * @return Response object featuring Location header of created anyTypeClass
      */
     @POST
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response create(@NotNull AnyTypeClassTO anyTypeClassTO);
 
     /**
@@ -75,7 +76,7 @@ public interface AnyTypeClassService extends JAXRSService {
      */
     @PUT
     @Path("{key}")
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     void update(@NotNull AnyTypeClassTO anyTypeClassTO);
 
     /**
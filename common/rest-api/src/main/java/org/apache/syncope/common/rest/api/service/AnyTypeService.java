@@ -31,6 +31,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.to.AnyTypeTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
  * REST operations for any types.
@@ -44,7 +45,7 @@ public interface AnyTypeService extends JAXRSService {
      * @return list of all anyTypes.
      */
     @GET
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     List<AnyTypeTO> list();
 
     /**
@@ -55,7 +56,7 @@ public interface AnyTypeService extends JAXRSService {
      */
     @GET
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     AnyTypeTO read(@NotNull @PathParam("key") String key);
 
     /**
@@ -65,7 +66,7 @@ public interface AnyTypeService extends JAXRSService {
      * @return Response object featuring Location header of created anyType
      */
     @POST
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response create(@NotNull AnyTypeTO anyTypeTO);
 
     /**
@@ -75,7 +76,7 @@ public interface AnyTypeService extends JAXRSService {
      */
     @PUT
     @Path("{key}")
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     void update(@NotNull AnyTypeTO anyTypeTO);
 
     /**
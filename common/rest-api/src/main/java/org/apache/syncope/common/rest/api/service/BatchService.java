@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.rest.api.service;
+
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.syncope.common.lib.to.BatchRequest;
+import org.apache.syncope.common.rest.api.RESTHeaders;
+
+/**
+ * REST operations for batch processing.
+ */
+@Path("batch")
+public interface BatchService extends JAXRSService {
+
+    /**
+     * Executes the given create, update, delete, associate and deassociate operations on users, groups and any
+     * objects, returning one BatchResponseItem per operation, in the same order, as newline-delimited JSON.
+     *
+     * @param batchRequest operations to execute
+     * @return Response object featuring BatchResponseItem as newline-delimited JSON entity
+     */
+    @POST
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
+    @Produces({ RESTHeaders.MEDIATYPE_APPLICATION_NDJSON })
+    Response batch(@NotNull BatchRequest batchRequest);
+}
@@ -30,6 +30,7 @@ import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.to.AttrTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
  * REST operations for configuration.
@@ -52,7 +53,7 @@ public interface ConfigurationService extends JAXRSService {
      * @return all configuration parameters
      */
     @GET
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     List<AttrTO> list();
 
     /**
@@ -63,7 +64,7 @@ public interface ConfigurationService extends JAXRSService {
      */
     @GET
     @Path("{schema}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     AttrTO get(@NotNull @PathParam("schema") String schema);
 
     /**
@@ -73,7 +74,7 @@ public interface ConfigurationService extends JAXRSService {
      */
     @PUT
     @Path("{schema}")
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     void set(@NotNull AttrTO value);
 
     /**
@@ -83,6 +84,6 @@ public interface ConfigurationService extends JAXRSService {
      */
     @DELETE
     @Path("{schema}")
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     void delete(@NotNull @PathParam("schema") String schema);
 }
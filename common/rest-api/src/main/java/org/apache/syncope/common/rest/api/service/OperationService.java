@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.rest.api.service;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.core.Response;
+import org.apache.syncope.common.lib.to.OperationTO;
+
+/**
+ * REST operations for tracking long-running operations, submitted with {@code Prefer: respond-async}.
+ * Submission is accepted with {@code 202 Accepted}, the {@code Location} header pointing to the operation to poll.
+ */
+@Path("operations")
+public interface OperationService extends JAXRSService {
+
+    /**
+     * Returns the operations submitted by the requesting user, not yet purged.
+     *
+     * @return operations submitted by the requesting user
+     */
+    @GET
+    List<OperationTO> list();
+
+    /**
+     * Returns the operation matching the given key.
+     *
+     * @param key operation key
+     * @return operation matching the given key
+     */
+    @GET
+    @Path("{key}")
+    OperationTO read(@NotNull @PathParam("key") String key);
+
+    /**
+     * Returns the result of the operation matching the given key, as the synchronous request would have:
+     * {@code 202 Accepted} is returned while the operation is still pending or running, the original error if
+     * the operation failed.
+     *
+     * @param key operation key
+     * @return result of the operation matching the given key
+     */
+    @GET
+    @Path("{key}/result")
+    Response result(@NotNull @PathParam("key") String key);
+
+    /**
+     * Discards the operation matching the given key, with its result; running operations are not interrupted.
+     *
+     * @param key operation key
+     */
+    @DELETE
+    @Path("{key}")
+    void delete(@NotNull @PathParam("key") String key);
+}
@@ -33,6 +33,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.policy.AbstractPolicyTO;
 import org.apache.syncope.common.lib.types.PolicyType;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
  * REST operations for policies.
@@ -49,7 +50,7 @@ public interface PolicyService extends JAXRSService {
      */
     @GET
     @Path("{key}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     <T extends AbstractPolicyTO> T read(@NotNull @PathParam("key") String key);
 
     /**
@@ -60,7 +61,7 @@ public interface PolicyService extends JAXRSService {
      * @return list of policies with matching type
      */
     @GET
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     <T extends AbstractPolicyTO> List<T> list(@NotNull @MatrixParam("type") PolicyType type);
 
     /**
@@ -70,7 +71,7 @@ public interface PolicyService extends JAXRSService {
      * @return Response object featuring Location header of created policy
      */
     @POST
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     Response create(@NotNull AbstractPolicyTO policyTO);
 
     /**
@@ -80,7 +81,7 @@ public interface PolicyService extends JAXRSService {
      */
     @PUT
     @Path("{key}")
-    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Consumes({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     void update(@NotNull AbstractPolicyTO policyTO);
 
     /**
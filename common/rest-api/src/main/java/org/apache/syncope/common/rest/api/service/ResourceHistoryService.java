@@ -28,6 +28,7 @@ import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 import org.apache.syncope.common.lib.to.ResourceHistoryConfTO;
+import org.apache.syncope.common.rest.api.RESTHeaders;
 
 /**
  * REST operations for resource configuration versioning.
@@ -43,7 +44,7 @@ public interface ResourceHistoryService extends JAXRSService {
      */
     @GET
     @Path("{resourceKey}")
-    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML })
+    @Produces({ MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML, RESTHeaders.MEDIATYPE_APPLICATION_SMILE })
     List<ResourceHistoryConfTO> list(@NotNull @PathParam("resourceKey") String resourceKey);
 
     /**
@@ -19,9 +19,12 @@
 package org.apache.syncope.core.logic;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
@@ -35,6 +38,7 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -42,8 +46,11 @@ import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.LogicActions;
@@ -53,6 +60,8 @@ import org.springframework.beans.factory.support.AbstractBeanDefinition;
 
 public abstract class AbstractAnyLogic<TO extends AnyTO, P extends AnyPatch> extends AbstractResourceAssociator<TO> {
 
+    protected static final int STREAM_CHUNK_SIZE = 100;
+
     @Autowired
     protected UserDAO userDAO;
 
@@ -263,4 +272,63 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, P extends AnyPatch> ext
             int page, int size, List<OrderByClause> orderBy,
             String realm,
             boolean details);
+
+    /**
+     * Feeds the given consumer with all any objects matching the given condition, sorted by key.
+     *
+     * @param searchCond search condition
+     * @param realm realm to start searching from
+     * @param details whether to include all details or not
+     * @param consumer receiver of matching any objects
+     */
+    public abstract void stream(SearchCond searchCond, String realm, boolean details, Consumer<TO> consumer);
+
+    /**
+     * Reads matching any objects in chunks, by key greater than the last one read: unlike paging, this does not
+     * require the database to scan all preceding rows for each chunk. The persistence context is cleared after
+     * each chunk, so that memory usage is bounded by chunk size rather than by the number of matches.
+     *
+     * @param <A> any
+     * @param searchDAO search DAO
+     * @param anyDAO DAO for the any kind being searched
+     * @param effectiveRealms realms to search
+     * @param searchCond search condition
+     * @param kind any type kind
+     * @param toTO conversion from any to transfer object
+     * @param consumer receiver of matching any objects
+     */
+    protected <A extends Any<?>> void stream(
+            final AnySearchDAO searchDAO,
+            final AnyDAO<A> anyDAO,
+            final Set<String> effectiveRealms,
+            final SearchCond searchCond,
+            final AnyTypeKind kind,
+            final Function<A, TO> toTO,
+            final Consumer<TO> consumer) {
+
+        OrderByClause orderByKey = new OrderByClause();
+        orderByKey.setField("key");
+        orderByKey.setDirection(OrderByClause.Direction.ASC);
+
+        String lastKey = null;
+        List<A> chunk;
+        do {
+            SearchCond cond = searchCond;
+            if (lastKey != null) {
+                AnyCond keyCond = new AnyCond(AttributeCond.Type.GT);
+                keyCond.setSchema("key");
+                keyCond.setExpression(lastKey);
+                cond = SearchCond.getAndCond(searchCond, SearchCond.getLeafCond(keyCond));
+            }
+
+            chunk = searchDAO.search(
+                    effectiveRealms, cond, 1, STREAM_CHUNK_SIZE, Collections.singletonList(orderByKey), kind);
+            for (A any : chunk) {
+                consumer.accept(toTO.apply(any));
+                lastKey = any.getKey();
+            }
+
+            anyDAO.clear();
+        } while (chunk.size() == STREAM_CHUNK_SIZE);
+    }
 }
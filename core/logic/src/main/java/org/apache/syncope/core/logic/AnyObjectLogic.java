@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -99,6 +100,29 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectPatch
         return Pair.of(count, result);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public void stream(
+            final SearchCond searchCond,
+            final String realm,
+            final boolean details,
+            final Consumer<AnyObjectTO> consumer) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        stream(searchDAO, anyObjectDAO,
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().
+                                get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                        realm),
+                searchCond,
+                AnyTypeKind.ANY_OBJECT,
+                anyObject -> binder.getAnyObjectTO(anyObject, details),
+                consumer);
+    }
+
     @Override
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectTO anyObjectTO, final boolean nullPriorityAsync) {
         Pair<AnyObjectTO, List<LogicActions>> before = beforeCreate(anyObjectTO);
@@ -0,0 +1,285 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.apache.syncope.common.lib.AnyOperations;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.patch.AnyPatch;
+import org.apache.syncope.common.lib.patch.AssociationPatch;
+import org.apache.syncope.common.lib.patch.DeassociationPatch;
+import org.apache.syncope.common.lib.to.AnyObjectTO;
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.common.lib.to.BatchRequestItem;
+import org.apache.syncope.common.lib.to.BatchResponseItem;
+import org.apache.syncope.common.lib.to.BulkActionResult;
+import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Executes heterogeneous operations on users, groups and any objects by delegating to the respective logic, so
+ * that each operation is subject to the same authorization checks as its single counterpart.
+ */
+@Component
+public class BatchLogic extends AbstractLogic<AbstractBaseBean> {
+
+    private static final int MAX_PARALLELISM = Runtime.getRuntime().availableProcessors() * 2;
+
+    @Autowired
+    private UserLogic userLogic;
+
+    @Autowired
+    private GroupLogic groupLogic;
+
+    @Autowired
+    private AnyObjectLogic anyObjectLogic;
+
+    private static AnyTypeKind getAnyTypeKind(final BatchRequestItem item) {
+        if (item.getAnyTO() instanceof UserTO) {
+            return AnyTypeKind.USER;
+        }
+        if (item.getAnyTO() instanceof GroupTO) {
+            return AnyTypeKind.GROUP;
+        }
+        if (item.getAnyTO() instanceof AnyObjectTO) {
+            return AnyTypeKind.ANY_OBJECT;
+        }
+        return item.getAnyTypeKind();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TO extends AnyTO, P extends AnyPatch> AbstractAnyLogic<TO, P> getAnyLogic(final AnyTypeKind kind) {
+        switch (kind) {
+            case USER:
+                return (AbstractAnyLogic<TO, P>) userLogic;
+
+            case GROUP:
+                return (AbstractAnyLogic<TO, P>) groupLogic;
+
+            case ANY_OBJECT:
+            default:
+                return (AbstractAnyLogic<TO, P>) anyObjectLogic;
+        }
+    }
+
+    private static void associate(
+            final AbstractAnyLogic<?, ?> logic, final AssociationPatch patch, final boolean nullPriorityAsync) {
+
+        switch (patch.getAction()) {
+            case LINK:
+                logic.link(patch.getKey(), patch.getResources());
+                break;
+
+            case ASSIGN:
+                logic.assign(patch.getKey(), patch.getResources(),
+                        patch.getValue() != null, patch.getValue(), nullPriorityAsync);
+                break;
+
+            case PROVISION:
+                logic.provision(patch.getKey(), patch.getResources(),
+                        patch.getValue() != null, patch.getValue(), nullPriorityAsync);
+                break;
+
+            default:
+        }
+    }
+
+    private static void deassociate(
+            final AbstractAnyLogic<?, ?> logic, final DeassociationPatch patch, final boolean nullPriorityAsync) {
+
+        switch (patch.getAction()) {
+            case UNLINK:
+                logic.unlink(patch.getKey(), patch.getResources());
+                break;
+
+            case UNASSIGN:
+                logic.unassign(patch.getKey(), patch.getResources(), nullPriorityAsync);
+                break;
+
+            case DEPROVISION:
+                logic.deprovision(patch.getKey(), patch.getResources(), nullPriorityAsync);
+                break;
+
+            default:
+        }
+    }
+
+    /**
+     * Executes the given item.
+     *
+     * @param <TO> any
+     * @param <P> any patch
+     * @param item operation to execute
+     * @param nullPriorityAsync whether asynchronous propagation towards external resources with null priority is
+     * requested
+     * @return key of the any object affected by the given item
+     */
+    @SuppressWarnings("unchecked")
+    private <TO extends AnyTO, P extends AnyPatch> String doExecute(
+            final BatchRequestItem item, final boolean nullPriorityAsync) {
+
+        AnyTypeKind kind = getAnyTypeKind(item);
+        if (item.getOperation() == null || kind == null) {
+            SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.RequiredValuesMissing);
+            sce.getElements().add(item.getOperation() == null ? "operation" : "anyTypeKind");
+            throw sce;
+        }
+
+        AbstractAnyLogic<TO, P> logic = getAnyLogic(kind);
+        switch (item.getOperation()) {
+            case CREATE:
+                return logic.create((TO) item.getAnyTO(), nullPriorityAsync).getEntity().getKey();
+
+            case UPDATE:
+                TO before = logic.read(item.getAnyTO().getKey());
+                return logic.update(
+                        AnyOperations.<TO, P>diff((TO) item.getAnyTO(), before, false),
+                        nullPriorityAsync).getEntity().getKey();
+
+            case DELETE:
+                logic.delete(item.getKey(), nullPriorityAsync);
+                return item.getKey();
+
+            case ASSOCIATE:
+                associate(logic, item.getAssociationPatch(), nullPriorityAsync);
+                return item.getAssociationPatch().getKey();
+
+            case DEASSOCIATE:
+            default:
+                deassociate(logic, item.getDeassociationPatch(), nullPriorityAsync);
+                return item.getDeassociationPatch().getKey();
+        }
+    }
+
+    private static BatchResponseItem newResult(final int index, final BatchRequestItem item) {
+        BatchResponseItem result = new BatchResponseItem();
+        result.setIndex(index);
+        result.setOperation(item.getOperation());
+        result.setKey(item.getAnyTO() == null ? item.getKey() : item.getAnyTO().getKey());
+        result.setStatus(BulkActionResult.Status.NOT_ATTEMPTED);
+        return result;
+    }
+
+    private BatchResponseItem execute(final int index, final BatchRequestItem item, final boolean nullPriorityAsync) {
+        BatchResponseItem result = newResult(index, item);
+        try {
+            result.setKey(doExecute(item, nullPriorityAsync));
+            result.setStatus(BulkActionResult.Status.SUCCESS);
+        } catch (Exception e) {
+            LOG.error("While executing batch item #{}", index, e);
+
+            result.setStatus(BulkActionResult.Status.FAILURE);
+            result.setError(e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Executes the given items concurrently, each in its own transaction(s); results are passed to the given
+     * consumer as soon as available, in the same order as items.
+     *
+     * @param items operations to execute
+     * @param parallelism how many items can be executed concurrently
+     * @param nullPriorityAsync whether asynchronous propagation towards external resources with null priority is
+     * requested
+     * @param consumer receiver of results
+     */
+    public void batch(
+            final List<BatchRequestItem> items,
+            final int parallelism,
+            final boolean nullPriorityAsync,
+            final Consumer<BatchResponseItem> consumer) {
+
+        // each item runs with the caller's authentication, as set when submitting
+        ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, MAX_PARALLELISM))));
+        try {
+            List<Future<BatchResponseItem>> futures = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                int index = i;
+                futures.add(executor.submit(() -> execute(index, items.get(index), nullPriorityAsync)));
+            }
+
+            for (Future<BatchResponseItem> future : futures) {
+                consumer.accept(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Executes the given items sequentially within a single transaction, stopping at first failure: in such case,
+     * the exception is re-thrown and the transaction rolled back, but changes already propagated to external
+     * resources are not reverted.
+     *
+     * @param items operations to execute
+     * @param nullPriorityAsync whether asynchronous propagation towards external resources with null priority is
+     * requested
+     * @param results one result per item, updated while executing
+     */
+    @Transactional(rollbackFor = { Throwable.class })
+    public void atomicBatch(
+            final List<BatchRequestItem> items,
+            final boolean nullPriorityAsync,
+            final List<BatchResponseItem> results) {
+
+        for (int i = 0; i < items.size(); i++) {
+            results.add(newResult(i, items.get(i)));
+        }
+
+        for (int i = 0; i < items.size(); i++) {
+            BatchResponseItem result = results.get(i);
+            try {
+                result.setKey(doExecute(items.get(i), nullPriorityAsync));
+                result.setStatus(BulkActionResult.Status.SUCCESS);
+            } catch (RuntimeException e) {
+                result.setStatus(BulkActionResult.Status.FAILURE);
+                result.setError(e.getMessage());
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    protected AbstractBaseBean resolveReference(final Method method, final Object... args)
+            throws UnresolvedReferenceException {
+
+        throw new UnresolvedReferenceException();
+    }
+}
@@ -32,6 +32,7 @@ import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.ConnBundleTO;
 import org.apache.syncope.common.lib.to.ConnIdObjectClassTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
+import org.apache.syncope.common.lib.to.ConnectorHealthTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
@@ -259,11 +260,22 @@ public class ConnectorLogic extends AbstractTransactionalLogic<ConnInstanceTO> {
         return connInstance;
     }
 
+    @PreAuthorize("hasRole('" + StandardEntitlement.CONNECTOR_READ + "')")
+    @Transactional(readOnly = true)
+    public ConnectorHealthTO readHealthByResource(final String resourceName) {
+        ExternalResource resource = resourceDAO.find(resourceName);
+        if (resource == null) {
+            throw new NotFoundException("Resource '" + resourceName + "'");
+        }
+        return connFactory.getHealth(resource);
+    }
+
     @PreAuthorize("hasRole('" + StandardEntitlement.CONNECTOR_RELOAD + "')")
     @Transactional(readOnly = true)
     public void reload() {
         connFactory.unload();
         connFactory.load();
+        connFactory.load(AuthContextUtils.getDomain());
     }
 
     @Override
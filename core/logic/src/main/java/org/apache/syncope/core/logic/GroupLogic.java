@@ -26,6 +26,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.ArrayUtils;
@@ -165,6 +166,20 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupPatch> {
         return Pair.of(count, result);
     }
 
+    @PreAuthorize("hasRole('" + StandardEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public void stream(
+            final SearchCond searchCond, final String realm, final boolean details, final Consumer<GroupTO> consumer) {
+
+        stream(searchDAO, groupDAO,
+                RealmUtils.getEffective(SyncopeConstants.FULL_ADMIN_REALMS, realm),
+                searchCond == null ? groupDAO.getAllMatchingCond() : searchCond,
+                AnyTypeKind.GROUP,
+                group -> binder.getGroupTO(group, details),
+                consumer);
+    }
+
     @PreAuthorize("hasRole('" + StandardEntitlement.GROUP_CREATE + "')")
     @Override
     public ProvisioningResult<GroupTO> create(final GroupTO groupTO, final boolean nullPriorityAsync) {
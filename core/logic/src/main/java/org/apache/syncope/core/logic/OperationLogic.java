@@ -0,0 +1,269 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.impl.RandomBasedGenerator;
+import java.lang.reflect.Method;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.common.lib.to.OperationTO;
+import org.apache.syncope.common.lib.types.OperationStatus;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs long-running operations on a dedicated, bounded thread pool, keeping track of their status and result
+ * until these are fetched or expire.
+ * Operations are kept in memory: they are only visible on the node where they were submitted, and lost on restart.
+ */
+@Component
+public class OperationLogic extends AbstractLogic<OperationTO> {
+
+    private static final RandomBasedGenerator UUID_GENERATOR = Generators.randomBasedGenerator();
+
+    /**
+     * Completed operations are discarded, with their results, after this interval.
+     */
+    private static final long RETENTION = TimeUnit.MINUTES.toMillis(10);
+
+    private static class Operation {
+
+        private final OperationTO operationTO;
+
+        private final String domain;
+
+        private volatile Object result;
+
+        private volatile Exception error;
+
+        private volatile boolean discarded;
+
+        Operation(final OperationTO operationTO, final String domain) {
+            this.operationTO = operationTO;
+            this.domain = domain;
+        }
+
+        OperationTO getOperationTO() {
+            synchronized (operationTO) {
+                return SerializationUtils.clone(operationTO);
+            }
+        }
+
+        boolean isCompleted() {
+            synchronized (operationTO) {
+                return operationTO.getEnd() != null;
+            }
+        }
+
+        boolean isExpired(final long now) {
+            synchronized (operationTO) {
+                return operationTO.getEnd() != null && now - operationTO.getEnd().getTime() > RETENTION;
+            }
+        }
+
+        void start() {
+            synchronized (operationTO) {
+                operationTO.setStart(new Date());
+                operationTO.setStatus(OperationStatus.RUNNING);
+            }
+        }
+
+        void end(final Object result, final Exception error) {
+            this.result = result;
+            this.error = error;
+            synchronized (operationTO) {
+                operationTO.setEnd(new Date());
+                operationTO.setStatus(error == null ? OperationStatus.SUCCESS : OperationStatus.FAILURE);
+                if (error != null) {
+                    operationTO.setError(ExceptionUtils.getRootCauseMessage(error));
+                }
+            }
+            if (discarded) {
+                discard();
+            }
+        }
+
+        void discard() {
+            discarded = true;
+            if (result instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) result).close();
+                } catch (Exception e) {
+                    LOG.error("While discarding result of operation {}", operationTO.getKey(), e);
+                }
+            }
+        }
+    }
+
+    @Resource(name = "asyncOperationExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    private final Map<String, Operation> operations = new ConcurrentHashMap<>();
+
+    private final AtomicLong rejected = new AtomicLong();
+
+    private void purge() {
+        long now = System.currentTimeMillis();
+        operations.entrySet().removeIf(entry -> {
+            boolean expired = entry.getValue().isExpired(now);
+            if (expired) {
+                entry.getValue().discard();
+            }
+            return expired;
+        });
+    }
+
+    private Operation find(final String key) {
+        Operation operation = operations.get(key);
+        if (operation == null
+                || !operation.domain.equals(AuthContextUtils.getDomain())
+                || !operation.operationTO.getOwner().equals(AuthContextUtils.getUsername())) {
+
+            throw new NotFoundException("Operation " + key);
+        }
+        return operation;
+    }
+
+    /**
+     * Submits the given operation for execution on behalf of the requesting user.
+     * If the result implements {@link AutoCloseable}, it is closed once discarded.
+     *
+     * @param description operation description
+     * @param callable operation
+     * @return submitted operation
+     * @throws TaskRejectedException if no more operations can be accepted at the moment
+     */
+    @PreAuthorize("isAuthenticated()")
+    public OperationTO submit(final String description, final Callable<?> callable) {
+        purge();
+
+        OperationTO operationTO = new OperationTO();
+        operationTO.setKey(UUID_GENERATOR.generate().toString());
+        operationTO.setDescription(description);
+        operationTO.setOwner(AuthContextUtils.getUsername());
+        operationTO.setSubmitted(new Date());
+        operationTO.setStatus(OperationStatus.PENDING);
+
+        Operation operation = new Operation(operationTO, AuthContextUtils.getDomain());
+        operations.put(operationTO.getKey(), operation);
+        try {
+            executor.execute(new DelegatingSecurityContextRunnable(() -> {
+                operation.start();
+
+                Object result = null;
+                Exception error = null;
+                try {
+                    result = callable.call();
+                } catch (Exception e) {
+                    LOG.error("While executing operation {}: {}", operationTO.getKey(), description, e);
+                    error = e;
+                }
+                operation.end(result, error);
+            }));
+        } catch (TaskRejectedException e) {
+            operations.remove(operationTO.getKey());
+            rejected.incrementAndGet();
+            throw e;
+        }
+
+        return operation.getOperationTO();
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public List<OperationTO> list() {
+        purge();
+
+        return operations.values().stream().
+                filter(operation -> operation.domain.equals(AuthContextUtils.getDomain())
+                && operation.operationTO.getOwner().equals(AuthContextUtils.getUsername())).
+                map(Operation::getOperationTO).
+                collect(Collectors.toList());
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public OperationTO read(final String key) {
+        return find(key).getOperationTO();
+    }
+
+    /**
+     * Returns the result of the given operation, or throws the error it failed with.
+     *
+     * @param key operation key
+     * @return result of the given operation
+     * @throws IllegalStateException if the given operation is not completed yet
+     */
+    @PreAuthorize("isAuthenticated()")
+    public Object result(final String key) {
+        Operation operation = find(key);
+        if (!operation.isCompleted()) {
+            throw new IllegalStateException("Operation " + key + " is not completed");
+        }
+
+        if (operation.error instanceof RuntimeException) {
+            throw (RuntimeException) operation.error;
+        }
+        if (operation.error != null) {
+            throw new IllegalStateException(operation.error);
+        }
+        return operation.result;
+    }
+
+    @PreAuthorize("isAuthenticated()")
+    public OperationTO delete(final String key) {
+        Operation operation = find(key);
+        operations.remove(key);
+        operation.discard();
+
+        return operation.getOperationTO();
+    }
+
+    /**
+     * Reports the thread pool status into the given load instant.
+     *
+     * @param instant load instant
+     */
+    public void report(final SystemInfo.LoadInstant instant) {
+        instant.setOperationsActiveCount(executor.getActiveCount());
+        instant.setOperationsQueueSize(executor.getThreadPoolExecutor().getQueue().size());
+        instant.setOperationsRejected(rejected.get());
+    }
+
+    @Override
+    protected OperationTO resolveReference(final Method method, final Object... args)
+            throws UnresolvedReferenceException {
+
+        throw new UnresolvedReferenceException();
+    }
+}
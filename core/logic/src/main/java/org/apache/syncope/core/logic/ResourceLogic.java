@@ -23,9 +23,17 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import javax.annotation.Resource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -76,13 +84,35 @@ import org.identityconnectors.framework.common.objects.ResultsHandler;
 import org.identityconnectors.framework.common.objects.SearchResult;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
 
+    /**
+     * How long a prefetched page is kept, waiting for the client to ask for it.
+     */
+    private static final long CURSOR_TTL = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * Next page of a connector search, fetched in background while the paged results cookie is still alive.
+     */
+    private static class Cursor {
+
+        private final CompletableFuture<Pair<SearchResult, List<ConnObjectTO>>> page = new CompletableFuture<>();
+
+        private final long expiry = System.currentTimeMillis() + CURSOR_TTL;
+
+        public boolean isExpired(final long now) {
+            return now > expiry;
+        }
+    }
+
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
@@ -116,6 +146,24 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
     @Autowired
     private ConnectorFactory connFactory;
 
+    @Resource(name = "connObjectCursorExecutor")
+    private ThreadPoolTaskExecutor cursorExecutor;
+
+    /**
+     * Whether the next page of connector object listings is searched in background: off by default, since the
+     * search is paid for even when the client never asks for the next page.
+     */
+    @Value("${connObjectCursor.prefetch:false}")
+    private boolean prefetch;
+
+    /**
+     * How long (in seconds) to wait for a prefetched page before searching again.
+     */
+    @Value("${connObjectCursor.timeout:30}")
+    private long cursorTimeout;
+
+    private final Map<String, Cursor> cursors = new ConcurrentHashMap<>();
+
     protected void securityChecks(final Set<String> effectiveRealms, final String realm, final String key) {
         effectiveRealms.stream().anyMatch(ownedRealm -> realm.startsWith(ownedRealm));
         boolean authorized = effectiveRealms.stream().anyMatch(ownedRealm -> realm.startsWith(ownedRealm));
@@ -163,6 +211,7 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
                 resource.getConnector().getAdminRealm().getFullPath());
         securityChecks(effectiveRealms, resource.getConnector().getAdminRealm().getFullPath(), resource.getKey());
 
+        evictCursors(resource.getKey());
         return binder.getResourceTO(resourceDAO.save(binder.update(resource, resourceTO)));
     }
 
@@ -256,6 +305,7 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
 
         ResourceTO resourceToDelete = binder.getResourceTO(resource);
 
+        evictCursors(key);
         resourceDAO.delete(key);
 
         return resourceToDelete;
@@ -390,9 +440,51 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
             options = MappingUtils.buildOperationOptions(mapItems);
         }
 
+        Connector connector = connFactory.getConnector(resource);
+        String cursorPrefix = AuthContextUtils.getDomain() + "|" + resource.getKey() + "|" + anyTypeKey + "|" + size
+                + "|" + orderBy.stream().map(clause -> clause.getField() + " " + clause.getDirection()).
+                        collect(Collectors.joining(",")) + "|";
+
+        // 1. continue the search from the prefetched page, if still available
+        Pair<SearchResult, List<ConnObjectTO>> page = null;
+        Cursor cursor = pagedResultsCookie == null ? null : cursors.remove(cursorPrefix + pagedResultsCookie);
+        if (cursor != null && !cursor.isExpired(System.currentTimeMillis())) {
+            try {
+                page = cursor.page.get(cursorTimeout, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                LOG.debug("While prefetching from resource {}, searching again", resource.getKey(), e.getCause());
+            } catch (TimeoutException e) {
+                LOG.debug("Prefetch from resource {} did not complete in {}s, searching again",
+                        resource.getKey(), cursorTimeout);
+            }
+        }
+        if (page == null) {
+            page = search(connector, objectClass, size, pagedResultsCookie, orderBy, options);
+        }
+
+        // 2. if enabled, fetch the next page meanwhile the client goes through this one
+        String nextCookie = page.getLeft() == null ? null : page.getLeft().getPagedResultsCookie();
+        if (prefetch && nextCookie != null) {
+            prefetch(cursorPrefix + nextCookie,
+                    () -> search(connector, objectClass, size, nextCookie, orderBy, options));
+        }
+
+        return page;
+    }
+
+    private Pair<SearchResult, List<ConnObjectTO>> search(
+            final Connector connector,
+            final ObjectClass objectClass,
+            final int size,
+            final String pagedResultsCookie,
+            final List<OrderByClause> orderBy,
+            final OperationOptions options) {
+
         final List<ConnObjectTO> connObjects = new ArrayList<>();
 
-        SearchResult searchResult = connFactory.getConnector(resource).search(objectClass, null, new ResultsHandler() {
+        SearchResult searchResult = connector.search(objectClass, null, new ResultsHandler() {
 
             private int count;
 
@@ -408,6 +500,31 @@ public class ResourceLogic extends AbstractTransactionalLogic<ResourceTO> {
         return ImmutablePair.of(searchResult, connObjects);
     }
 
+    private void prefetch(final String key, final Supplier<Pair<SearchResult, List<ConnObjectTO>>> search) {
+        long now = System.currentTimeMillis();
+        cursors.values().removeIf(cursor -> cursor.isExpired(now));
+
+        Cursor cursor = new Cursor();
+        cursors.put(key, cursor);
+        try {
+            cursorExecutor.execute(() -> {
+                try {
+                    cursor.page.complete(search.get());
+                } catch (Throwable t) {
+                    cursor.page.completeExceptionally(t);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            LOG.debug("Too many searches being prefetched, skipping {}", key);
+            cursors.remove(key);
+        }
+    }
+
+    private void evictCursors(final String key) {
+        String prefix = AuthContextUtils.getDomain() + "|" + key + "|";
+        cursors.keySet().removeIf(cursor -> cursor.startsWith(prefix));
+    }
+
     @PreAuthorize("hasRole('" + StandardEntitlement.CONNECTOR_READ + "')")
     @Transactional(readOnly = true)
     public void check(final ResourceTO resourceTO) {
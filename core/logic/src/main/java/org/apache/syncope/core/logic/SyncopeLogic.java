@@ -42,6 +42,7 @@ import org.apache.syncope.common.lib.to.TypeExtensionTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.spring.security.PasswordGenerator;
+import org.apache.syncope.core.logic.init.LogicInitializer;
 import org.apache.syncope.core.persistence.api.ImplementationLookup;
 import org.apache.syncope.core.persistence.api.ImplementationLookup.Type;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -96,6 +97,9 @@ public class SyncopeLogic extends AbstractLogic<AbstractBaseBean> {
 
     private static SystemInfo SYSTEM_INFO;
 
+    @Autowired
+    private LogicInitializer logicInitializer;
+
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
@@ -141,6 +145,9 @@ public class SyncopeLogic extends AbstractLogic<AbstractBaseBean> {
     @Autowired
     private GroupDataBinder groupDataBinder;
 
+    @Autowired
+    private OperationLogic operationLogic;
+
     @Resource(name = "version")
     private String version;
 
@@ -233,6 +240,8 @@ public class SyncopeLogic extends AbstractLogic<AbstractBaseBean> {
                 PLATFORM_INFO.getValidators().addAll(implLookup.getClassNames(Type.VALIDATOR));
                 PLATFORM_INFO.getNotificationRecipientsProviders().
                         addAll(implLookup.getClassNames(Type.NOTIFICATION_RECIPIENTS_PROVIDER));
+
+                PLATFORM_INFO.getLoadingTimes().putAll(logicInitializer.getLoadingTimes());
             }
 
             PLATFORM_INFO.setSelfRegAllowed(isSelfRegAllowed());
@@ -293,6 +302,7 @@ public class SyncopeLogic extends AbstractLogic<AbstractBaseBean> {
     public void addLoadInstant(final PayloadApplicationEvent<SystemInfo.LoadInstant> event) {
         synchronized (MONITOR) {
             initSystemInfo();
+            operationLogic.report(event.getPayload());
             SYSTEM_INFO.getLoad().add(event.getPayload());
         }
     }
@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -117,6 +118,21 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserPatch> {
         return Pair.of(count, result);
     }
 
+    @PreAuthorize("hasRole('" + StandardEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public void stream(
+            final SearchCond searchCond, final String realm, final boolean details, final Consumer<UserTO> consumer) {
+
+        stream(searchDAO, userDAO,
+                RealmUtils.getEffective(
+                        AuthContextUtils.getAuthorizations().get(StandardEntitlement.USER_SEARCH), realm),
+                searchCond == null ? userDAO.getAllMatchingCond() : searchCond,
+                AnyTypeKind.USER,
+                user -> binder.returnUserTO(binder.getUserTO(user, details)),
+                consumer);
+    }
+
     @PreAuthorize("isAnonymous() or hasRole('" + StandardEntitlement.ANONYMOUS + "')")
     public ProvisioningResult<UserTO> selfCreate(
             final UserTO userTO, final boolean storePassword, final boolean nullPriorityAsync) {
@@ -26,7 +26,9 @@ import org.apache.syncope.common.lib.patch.UserPatch;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.to.WorkflowFormTO;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
@@ -90,8 +92,19 @@ public class UserWorkflowLogic extends AbstractTransactionalLogic<WorkflowFormTO
 
     @PreAuthorize("hasRole('" + StandardEntitlement.WORKFLOW_FORM_LIST + "')")
     @Transactional(rollbackFor = { Throwable.class })
-    public List<WorkflowFormTO> getForms() {
-        return uwfAdapter.getForms();
+    public Pair<Integer, List<WorkflowFormTO>> getForms(
+            final String username, final int page, final int size, final List<OrderByClause> orderByClauses) {
+
+        String workflowId = null;
+        if (username != null) {
+            User user = userDAO.findByUsername(username);
+            if (user == null) {
+                throw new NotFoundException("User " + username);
+            }
+            workflowId = user.getWorkflowId();
+        }
+
+        return uwfAdapter.getForms(workflowId, page, size, orderByClauses);
     }
 
     @PreAuthorize("hasRole('" + StandardEntitlement.WORKFLOW_FORM_SUBMIT + "')")
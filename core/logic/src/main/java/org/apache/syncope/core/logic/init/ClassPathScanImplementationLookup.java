@@ -54,13 +54,11 @@ import org.apache.syncope.core.provisioning.java.pushpull.PushJobDelegate;
 import org.apache.syncope.core.spring.security.JWTSSOProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.config.BeanDefinition;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.util.ClassUtils;
 
 /**
  * Cache class names for all implementations of Syncope interfaces found in classpath, for later usage.
+ * Candidate classes are found via {@link ImplementationCandidates}.
  */
 public class ClassPathScanImplementationLookup implements ImplementationLookup {
 
@@ -108,27 +106,12 @@ public class ClassPathScanImplementationLookup implements ImplementationLookup {
         passwordRuleClasses = new HashMap<>();
         auditAppenderClasses = new HashSet<>();
 
-        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
-        scanner.addIncludeFilter(new AssignableTypeFilter(JWTSSOProvider.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(Reportlet.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(AccountRule.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(PasswordRule.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(ItemTransformer.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(SchedTaskJobDelegate.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(ReconciliationFilterBuilder.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(LogicActions.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(PropagationActions.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(PullActions.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(PushActions.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(PullCorrelationRule.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(Validator.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(NotificationRecipientsProvider.class));
-        scanner.addIncludeFilter(new AssignableTypeFilter(AuditAppender.class));
-
-        for (BeanDefinition bd : scanner.findCandidateComponents(getBasePackage())) {
+        long start = System.currentTimeMillis();
+        Set<String> candidates = scan();
+
+        for (String className : candidates) {
             try {
-                Class<?> clazz = ClassUtils.resolveClassName(
-                        bd.getBeanClassName(), ClassUtils.getDefaultClassLoader());
+                Class<?> clazz = ClassUtils.resolveClassName(className, ClassUtils.getDefaultClassLoader());
                 boolean isAbstractClazz = Modifier.isAbstract(clazz.getModifiers());
 
                 if (JWTSSOProvider.class.isAssignableFrom(clazz) && !isAbstractClazz) {
@@ -177,40 +160,40 @@ public class ClassPathScanImplementationLookup implements ImplementationLookup {
                         && !PushJobDelegate.class.isAssignableFrom(clazz)
                         && !GroupMemberProvisionTaskJobDelegate.class.isAssignableFrom(clazz)) {
 
-                    classNames.get(Type.TASKJOBDELEGATE).add(bd.getBeanClassName());
+                    classNames.get(Type.TASKJOBDELEGATE).add(className);
                 }
 
                 if (ReconciliationFilterBuilder.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.RECONCILIATION_FILTER_BUILDER).add(bd.getBeanClassName());
+                    classNames.get(Type.RECONCILIATION_FILTER_BUILDER).add(className);
                 }
 
                 if (LogicActions.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.LOGIC_ACTIONS).add(bd.getBeanClassName());
+                    classNames.get(Type.LOGIC_ACTIONS).add(className);
                 }
 
                 if (PropagationActions.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.PROPAGATION_ACTIONS).add(bd.getBeanClassName());
+                    classNames.get(Type.PROPAGATION_ACTIONS).add(className);
                 }
 
                 if (PullActions.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.PULL_ACTIONS).add(bd.getBeanClassName());
+                    classNames.get(Type.PULL_ACTIONS).add(className);
                 }
 
                 if (PushActions.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.PUSH_ACTIONS).add(bd.getBeanClassName());
+                    classNames.get(Type.PUSH_ACTIONS).add(className);
                 }
 
                 if (PullCorrelationRule.class.isAssignableFrom(clazz) && !isAbstractClazz
                         && !PlainAttrsPullCorrelationRule.class.isAssignableFrom(clazz)) {
-                    classNames.get(Type.PULL_CORRELATION_RULE).add(bd.getBeanClassName());
+                    classNames.get(Type.PULL_CORRELATION_RULE).add(className);
                 }
 
                 if (Validator.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.VALIDATOR).add(bd.getBeanClassName());
+                    classNames.get(Type.VALIDATOR).add(className);
                 }
 
                 if (NotificationRecipientsProvider.class.isAssignableFrom(clazz) && !isAbstractClazz) {
-                    classNames.get(Type.NOTIFICATION_RECIPIENTS_PROVIDER).add(bd.getBeanClassName());
+                    classNames.get(Type.NOTIFICATION_RECIPIENTS_PROVIDER).add(className);
                 }
 
                 if (AuditAppender.class.isAssignableFrom(clazz) && !isAbstractClazz) {
@@ -218,7 +201,7 @@ public class ClassPathScanImplementationLookup implements ImplementationLookup {
                     auditAppenderClasses.add(clazz);
                 }
             } catch (Throwable t) {
-                LOG.warn("Could not inspect class {}", bd.getBeanClassName(), t);
+                LOG.warn("Could not inspect class {}", className, t);
             }
         }
         classNames = Collections.unmodifiableMap(classNames);
@@ -226,7 +209,31 @@ public class ClassPathScanImplementationLookup implements ImplementationLookup {
         accountRuleClasses = Collections.unmodifiableMap(accountRuleClasses);
         passwordRuleClasses = Collections.unmodifiableMap(passwordRuleClasses);
 
-        LOG.debug("Implementation classes found: {}", classNames);
+        LOG.debug("Implementation classes found in {} ms: {}", System.currentTimeMillis() - start, classNames);
+    }
+
+    /**
+     * Finds candidate Syncope implementations, from index files or classpath scan.
+     *
+     * @return candidate class names
+     */
+    protected Set<String> scan() {
+        return ImplementationCandidates.find(getBasePackage(),
+                JWTSSOProvider.class,
+                Reportlet.class,
+                AccountRule.class,
+                PasswordRule.class,
+                ItemTransformer.class,
+                SchedTaskJobDelegate.class,
+                ReconciliationFilterBuilder.class,
+                LogicActions.class,
+                PropagationActions.class,
+                PullActions.class,
+                PushActions.class,
+                PullCorrelationRule.class,
+                Validator.class,
+                NotificationRecipientsProvider.class,
+                AuditAppender.class);
     }
 
     @Override
@@ -18,12 +18,10 @@
  */
 package org.apache.syncope.core.logic.init;
 
-import java.util.Map;
 import javax.sql.DataSource;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
 import org.apache.syncope.core.provisioning.api.EntitlementsHolder;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
-import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -31,9 +29,6 @@ import org.springframework.stereotype.Component;
 @Component
 public class EntitlementLoader implements SyncopeLoader {
 
-    @Autowired
-    private DomainsHolder domainsHolder;
-
     @Autowired
     private EntitlementAccessor entitlementAccessor;
 
@@ -45,12 +40,13 @@ public class EntitlementLoader implements SyncopeLoader {
     @Override
     public void load() {
         EntitlementsHolder.getInstance().init(StandardEntitlement.values());
+    }
 
-        for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
-            AuthContextUtils.execWithAuthContext(entry.getKey(), () -> {
-                entitlementAccessor.addEntitlementsForAnyTypes();
-                return null;
-            });
-        }
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        AuthContextUtils.execWithAuthContext(domain, () -> {
+            entitlementAccessor.addEntitlementsForAnyTypes();
+            return null;
+        });
     }
 }
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.init;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.ImplementationIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Finds the candidate implementation classes: class names listed by the {@link ImplementationIndex} files are
+ * merged with the outcome of a classpath scan, restricted to the classpath entries not providing any index file.
+ */
+public final class ImplementationCandidates {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ImplementationCandidates.class);
+
+    private static boolean isIndexed(final Resource resource, final Set<String> roots) {
+        try {
+            String url = resource.getURL().toString();
+            return roots.stream().anyMatch(url::startsWith);
+        } catch (IOException e) {
+            LOG.debug("Could not get URL for {}, scanning", resource, e);
+            return false;
+        }
+    }
+
+    /**
+     * Finds the candidate implementation classes for the given types.
+     *
+     * @param basePackage only classes within this package will be returned
+     * @param types implemented or extended types
+     * @return names of candidate implementation classes
+     */
+    public static Set<String> find(final String basePackage, final Class<?>... types) {
+        ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+        Set<String> candidates = new HashSet<>();
+        Set<String> roots;
+        try {
+            Set<String> indexed = ImplementationIndex.read(classLoader, basePackage);
+            if (indexed != null) {
+                candidates.addAll(indexed);
+            }
+            roots = ImplementationIndex.roots(classLoader);
+        } catch (IOException e) {
+            LOG.error("While reading {}, reverting to full classpath scan", ImplementationIndex.LOCATION, e);
+            candidates.clear();
+            roots = Collections.emptySet();
+        }
+        int fromIndex = candidates.size();
+
+        Set<String> indexedRoots = roots;
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new PathMatchingResourcePatternResolver(classLoader) {
+
+            @Override
+            public Resource[] getResources(final String locationPattern) throws IOException {
+                return Arrays.stream(super.getResources(locationPattern)).
+                        filter(resource -> !isIndexed(resource, indexedRoots)).
+                        toArray(Resource[]::new);
+            }
+        });
+        Arrays.stream(types).forEach(type -> scanner.addIncludeFilter(new AssignableTypeFilter(type)));
+        candidates.addAll(scanner.findCandidateComponents(basePackage).stream().
+                map(BeanDefinition::getBeanClassName).collect(Collectors.toSet()));
+
+        LOG.debug("Found {} candidates from {} indexed classpath entries, {} more by scanning the others",
+                fromIndex, indexedRoots.size(), candidates.size() - fromIndex);
+        return candidates;
+    }
+
+    private ImplementationCandidates() {
+        // private constructor for static utility class
+    }
+}
@@ -39,7 +39,6 @@ import org.apache.syncope.common.lib.types.AuditLoggerName;
 import org.apache.syncope.core.logic.audit.AuditAppender;
 import org.apache.syncope.core.logic.MemoryAppender;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
-import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.ImplementationLookup;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -52,9 +51,6 @@ import org.springframework.stereotype.Component;
 @Component
 public class LoggerLoader implements SyncopeLoader {
 
-    @Autowired
-    private DomainsHolder domainsHolder;
-
     @Autowired
     private LoggerAccessor loggerAccessor;
 
@@ -70,15 +66,20 @@ public class LoggerLoader implements SyncopeLoader {
 
     @Override
     public void load() {
-        final LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
 
         ctx.getConfiguration().getAppenders().entrySet().stream().
                 filter(entry -> (entry.getValue() instanceof MemoryAppender)).
                 forEachOrdered(entry -> {
                     memoryAppenders.put(entry.getKey(), (MemoryAppender) entry.getValue());
                 });
+    }
 
-        // Audit table and DataSource for each configured domain
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        LoggerContext ctx = (LoggerContext) LogManager.getContext(false);
+
+        // Audit table and DataSource for the given domain
         ColumnConfig[] columnConfigs = {
             ColumnConfig.newBuilder().
             setConfiguration(ctx.getConfiguration()).setName("EVENT_DATE").setEventTimestamp(true).build(),
@@ -93,13 +94,14 @@ public class LoggerLoader implements SyncopeLoader {
         };
         ColumnMapping[] columnMappings = new ColumnMapping[0];
 
-        for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
-            Appender appender = ctx.getConfiguration().getAppender("audit_for_" + entry.getKey());
+        // Log4j configuration is shared among domains, which might be loaded concurrently
+        synchronized (ctx) {
+            Appender appender = ctx.getConfiguration().getAppender("audit_for_" + domain);
             if (appender == null) {
                 appender = JdbcAppender.newBuilder().
-                        withName("audit_for_" + entry.getKey()).
+                        withName("audit_for_" + domain).
                         withIgnoreExceptions(false).
-                        setConnectionSource(new DataSourceConnectionSource(entry.getValue())).
+                        setConnectionSource(new DataSourceConnectionSource(datasource)).
                         setBufferSize(0).
                         setTableName("SYNCOPEAUDIT").
                         setColumnConfigs(columnConfigs).
@@ -109,16 +111,15 @@ public class LoggerLoader implements SyncopeLoader {
                 ctx.getConfiguration().addAppender(appender);
             }
 
-            LoggerConfig logConf = new LoggerConfig(
-                    AuditLoggerName.getAuditLoggerName(entry.getKey()), null, false);
+            LoggerConfig logConf = new LoggerConfig(AuditLoggerName.getAuditLoggerName(domain), null, false);
             logConf.addAppender(appender, Level.DEBUG, null);
             logConf.setLevel(Level.DEBUG);
-            ctx.getConfiguration().addLogger(AuditLoggerName.getAuditLoggerName(entry.getKey()), logConf);
+            ctx.getConfiguration().addLogger(AuditLoggerName.getAuditLoggerName(domain), logConf);
 
             // SYNCOPE-1144 For each custom audit appender class add related appenders to log4j logger
-            auditAppenders(entry.getKey()).forEach(auditAppender -> {
+            auditAppenders(domain).forEach(auditAppender -> {
                 auditAppender.getEvents().stream().
-                        map(event -> AuditLoggerName.getAuditEventLoggerName(entry.getKey(), event.toLoggerName())).
+                        map(event -> AuditLoggerName.getAuditEventLoggerName(domain, event.toLoggerName())).
                         forEachOrdered(domainAuditLoggerName -> {
                             LoggerConfig eventLogConf = ctx.getConfiguration().getLoggerConfig(domainAuditLoggerName);
                             if (LogManager.ROOT_LOGGER_NAME.equals(eventLogConf.getName())) {
@@ -132,13 +133,13 @@ public class LoggerLoader implements SyncopeLoader {
                         });
             });
 
-            AuthContextUtils.execWithAuthContext(entry.getKey(), () -> {
+            AuthContextUtils.execWithAuthContext(domain, () -> {
                 loggerAccessor.synchronizeLog4J(ctx);
                 return null;
             });
-        }
 
-        ctx.updateLoggers();
+            ctx.updateLoggers();
+        }
     }
 
     public Map<String, MemoryAppender> getMemoryAppenders() {
@@ -22,14 +22,23 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.sql.DataSource;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 import org.springframework.stereotype.Component;
 
@@ -41,13 +50,26 @@ public class LogicInitializer implements InitializingBean, BeanFactoryAware {
 
     private static final Logger LOG = LoggerFactory.getLogger(LogicInitializer.class);
 
+    @Autowired
+    private DomainsHolder domainsHolder;
+
     private DefaultListableBeanFactory beanFactory;
 
+    private final Map<String, Long> loadingTimes = new ConcurrentHashMap<>();
+
     @Override
     public void setBeanFactory(final BeanFactory beanFactory) {
         this.beanFactory = (DefaultListableBeanFactory) beanFactory;
     }
 
+    /**
+     * @return time (in milliseconds) spent by each loader: generic operations are reported under the loader's
+     * name, per-domain operations under {@code loader@domain}
+     */
+    public Map<String, Long> getLoadingTimes() {
+        return Collections.unmodifiableMap(loadingTimes);
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         Map<String, SyncopeLoader> loaderMap = beanFactory.getBeansOfType(SyncopeLoader.class);
@@ -57,13 +79,43 @@ public class LogicInitializer implements InitializingBean, BeanFactoryAware {
 
         ApplicationContextProvider.setBeanFactory(beanFactory);
 
+        Map<String, DataSource> domains = domainsHolder.getDomains();
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(domains.size(), Runtime.getRuntime().availableProcessors())));
+
         LOG.debug("Starting initialization...");
-        loaders.stream().map(loader -> {
-            LOG.debug("Invoking {} with priority {}", AopUtils.getTargetClass(loader).getName(), loader.getPriority());
-            return loader;
-        }).forEachOrdered(loader -> {
-            loader.load();
-        });
-        LOG.debug("Initialization completed");
+        try {
+            for (SyncopeLoader loader : loaders) {
+                String loaderName = AopUtils.getTargetClass(loader).getSimpleName();
+                LOG.debug("Invoking {} with priority {}",
+                        AopUtils.getTargetClass(loader).getName(), loader.getPriority());
+
+                long start = System.currentTimeMillis();
+                loader.load();
+                loadingTimes.put(loaderName, System.currentTimeMillis() - start);
+
+                // each domain is loaded in parallel; the next loader is invoked only when all domains are done
+                List<Future<?>> futures = new ArrayList<>();
+                domains.forEach((domain, datasource) -> futures.add(executor.submit(() -> {
+                    long domainStart = System.currentTimeMillis();
+                    AuthContextUtils.execWithAuthContext(domain, () -> {
+                        loader.load(domain, datasource);
+                        return null;
+                    });
+                    loadingTimes.put(loaderName + "@" + domain, System.currentTimeMillis() - domainStart);
+                })));
+                for (Future<?> future : futures) {
+                    try {
+                        future.get();
+                    } catch (ExecutionException e) {
+                        LOG.error("While invoking {}", loaderName, e.getCause());
+                        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                    }
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        LOG.debug("Initialization completed: {}", loadingTimes);
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Index of candidate implementation classes, generated at build time by {@link ImplementationIndexProcessor}: each
+ * module provides its own index file, listing one fully qualified class name per line.
+ */
+public final class ImplementationIndex {
+
+    public static final String LOCATION = "META-INF/syncope/implementations.idx";
+
+    /**
+     * Reads all the index files available from the given class loader.
+     *
+     * @param classLoader class loader
+     * @param basePackage only class names within this package will be returned
+     * @return candidate implementation class names, or null if no index file was found
+     * @throws IOException if any index file cannot be read
+     */
+    public static Set<String> read(final ClassLoader classLoader, final String basePackage) throws IOException {
+        Enumeration<URL> indexes = classLoader.getResources(LOCATION);
+        if (!indexes.hasMoreElements()) {
+            return null;
+        }
+
+        Set<String> classNames = new HashSet<>();
+        while (indexes.hasMoreElements()) {
+            try (InputStream in = indexes.nextElement().openStream();
+                    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+
+                reader.lines().map(String::trim).
+                        filter(line -> !line.isEmpty() && !line.startsWith("#") && line.startsWith(basePackage)).
+                        forEach(classNames::add);
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Returns the roots (directories or JAR files) of the classpath entries providing an index file, as URL prefixes:
+     * classes under these roots are all listed by the index, hence need not be scanned.
+     *
+     * @param classLoader class loader
+     * @return roots of the classpath entries providing an index file
+     * @throws IOException if index files cannot be looked up
+     */
+    public static Set<String> roots(final ClassLoader classLoader) throws IOException {
+        Set<String> roots = new HashSet<>();
+        Enumeration<URL> indexes = classLoader.getResources(LOCATION);
+        while (indexes.hasMoreElements()) {
+            String url = indexes.nextElement().toString();
+            roots.add(url.substring(0, url.length() - LOCATION.length()));
+        }
+        return roots;
+    }
+
+    private ImplementationIndex() {
+        // private constructor for static utility class
+    }
+}
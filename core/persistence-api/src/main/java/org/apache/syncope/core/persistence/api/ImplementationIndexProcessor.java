@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating, for each compiled module, the {@link ImplementationIndex} of concrete classes
+ * implementing any of the Syncope extension points, so that {@link ImplementationLookup} can avoid scanning the
+ * whole classpath at startup.
+ */
+@SupportedAnnotationTypes("*")
+public class ImplementationIndexProcessor extends AbstractProcessor {
+
+    private static final List<String> EXTENSION_POINTS = Arrays.asList(
+            "org.apache.syncope.core.spring.security.JWTSSOProvider",
+            "org.apache.syncope.core.persistence.api.dao.Reportlet",
+            "org.apache.syncope.core.persistence.api.dao.AccountRule",
+            "org.apache.syncope.core.persistence.api.dao.PasswordRule",
+            "org.apache.syncope.core.persistence.api.attrvalue.validation.Validator",
+            "org.apache.syncope.core.provisioning.api.LogicActions",
+            "org.apache.syncope.core.provisioning.api.data.ItemTransformer",
+            "org.apache.syncope.core.provisioning.api.job.SchedTaskJobDelegate",
+            "org.apache.syncope.core.provisioning.api.notification.NotificationRecipientsProvider",
+            "org.apache.syncope.core.provisioning.api.propagation.PropagationActions",
+            "org.apache.syncope.core.provisioning.api.pushpull.PullActions",
+            "org.apache.syncope.core.provisioning.api.pushpull.PushActions",
+            "org.apache.syncope.core.provisioning.api.pushpull.PullCorrelationRule",
+            "org.apache.syncope.core.provisioning.api.pushpull.ReconciliationFilterBuilder",
+            "org.apache.syncope.core.provisioning.api.SAML2IdPActions",
+            "org.apache.syncope.core.logic.audit.AuditAppender");
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            write();
+        } else {
+            List<TypeMirror> extensionPoints = EXTENSION_POINTS.stream().
+                    map(name -> processingEnv.getElementUtils().getTypeElement(name)).
+                    filter(element -> element != null).
+                    map(element -> processingEnv.getTypeUtils().erasure(element.asType())).
+                    collect(Collectors.toList());
+            if (!extensionPoints.isEmpty()) {
+                roundEnv.getRootElements().forEach(element -> inspect(element, extensionPoints));
+            }
+        }
+
+        return false;
+    }
+
+    private void inspect(final Element element, final List<TypeMirror> extensionPoints) {
+        if (element.getKind() != ElementKind.CLASS) {
+            return;
+        }
+
+        TypeElement type = (TypeElement) element;
+        if (!type.getModifiers().contains(Modifier.ABSTRACT)) {
+            Types types = processingEnv.getTypeUtils();
+            TypeMirror erasure = types.erasure(type.asType());
+            if (extensionPoints.stream().anyMatch(extensionPoint -> types.isAssignable(erasure, extensionPoint))) {
+                classNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+            }
+        }
+
+        type.getEnclosedElements().stream().
+                filter(enclosed -> enclosed.getModifiers().contains(Modifier.STATIC)).
+                forEach(enclosed -> inspect(enclosed, extensionPoints));
+    }
+
+    private void write() {
+        // when only part of the module's sources is recompiled, keep entries from the previous index
+        try {
+            FileObject previous = processingEnv.getFiler().
+                    getResource(StandardLocation.CLASS_OUTPUT, "", ImplementationIndex.LOCATION);
+            try (BufferedReader reader = new BufferedReader(previous.openReader(true))) {
+                reader.lines().map(String::trim).
+                        filter(line -> !line.isEmpty()
+                        && processingEnv.getElementUtils().getTypeElement(line.replace('$', '.')) != null).
+                        forEach(classNames::add);
+            }
+        } catch (IOException e) {
+            // no previous index available
+        }
+
+        if (classNames.isEmpty()) {
+            return;
+        }
+
+        try {
+            FileObject index = processingEnv.getFiler().
+                    createResource(StandardLocation.CLASS_OUTPUT, "", ImplementationIndex.LOCATION);
+            try (Writer writer = index.openWriter()) {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.WARNING, "Could not write " + ImplementationIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+}
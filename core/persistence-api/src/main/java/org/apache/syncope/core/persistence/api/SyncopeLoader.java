@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.persistence.api;
 
+import javax.sql.DataSource;
+
 /**
  * Marker interface for Syncope components initialization.
  */
@@ -29,7 +31,21 @@ public interface SyncopeLoader {
     Integer getPriority();
 
     /**
-     * Perform initialization operations.
+     * Perform initialization operations which are not related to any specific domain; this is invoked before
+     * {@link #load(java.lang.String, javax.sql.DataSource)} is invoked for each domain.
+     */
+    default void load() {
+        // nothing to do
+    }
+
+    /**
+     * Perform initialization operations on the given domain; this might be invoked concurrently for different
+     * domains.
+     *
+     * @param domain domain to initialize
+     * @param datasource data source for the domain
      */
-    void load();
+    default void load(final String domain, final DataSource datasource) {
+        // nothing to do
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.cache;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-domain cache of information derived from schemas, any type classes, any types, group type extensions and
+ * resource mappings, which are seldom changed but read for almost every operation on users, groups and any objects.
+ * Only keys and other immutable values shall be cached, never entities.
+ */
+public interface SchemaMetadataCache {
+
+    /**
+     * Returns the value cached for the given region and key, in the current domain, loading it if not available.
+     *
+     * @param <V> value type
+     * @param region cache region
+     * @param key key within region
+     * @param loader to compute the value if not cached
+     * @return cached value
+     */
+    <V> V get(String region, String key, Supplier<V> loader);
+
+    /**
+     * Discards all the values cached for the current domain: to be invoked whenever schemas, any type classes,
+     * any types, group type extensions, external resources, connectors, policies or realms are changed, as well as
+     * when dynamic membership conditions referring to the login state are saved.
+     */
+    void invalidate();
+
+    /**
+     * Returns the version of the current domain's configuration, increased by each {@link #invalidate()}: while
+     * unchanged, so are schemas, any type classes, any types, external resources, connectors, policies and realms.
+     * The version is stored in the domain's database, hence shared by all the nodes of a cluster.
+     *
+     * @return current domain's configuration version
+     */
+    long getVersion();
+}
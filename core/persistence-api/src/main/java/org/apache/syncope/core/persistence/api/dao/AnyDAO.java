@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.api.dao;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
@@ -39,12 +40,38 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     A find(String key);
 
+    /**
+     * Bulk version of {@link #find(java.lang.String)}, for usage when processing many any objects.
+     *
+     * @param keys any object keys
+     * @return any objects matching the provided keys, in no particular order; keys not matching are not reported
+     */
+    List<A> findByKeys(Collection<String> keys);
+
     A findByWorkflowId(String workflowId);
 
     List<A> findByPlainAttrValue(String schemaName, PlainAttrValue attrValue);
 
     A findByPlainAttrUniqueValue(String schemaName, PlainAttrValue attrUniqueValue);
 
+    /**
+     * Bulk lookup of any objects by field value, with a single query.
+     *
+     * @param field one of key, username (for users) or name (for groups and any objects)
+     * @param values field values to look for
+     * @return keys of any objects matching each of the provided values; values not matching are not reported
+     */
+    Map<String, List<String>> findKeysByField(String field, Collection<String> values);
+
+    /**
+     * Bulk lookup of any objects by string value of the given plain schema, with a single query.
+     *
+     * @param schemaName plain schema name
+     * @param values string values to look for
+     * @return keys of any objects matching each of the provided values; values not matching are not reported
+     */
+    Map<String, List<String>> findKeysByPlainAttrStringValue(String schemaName, Collection<String> values);
+
     /**
      * Find any objects by derived attribute value. This method could fail if one or more string literals contained
      * into the derived attribute value provided derive from identifier (schema name) replacement. When you are going to
@@ -78,6 +105,27 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
      */
     List<A> findAll(int page, int itemsPerPage);
 
+    /**
+     * Find keys of all any objects, sorted by key and starting after the provided key; this allows keyset
+     * pagination, whose cost does not increase with the number of pages already read.
+     *
+     * @param lastKey last key read from the previous page, or {@code null} to start from the beginning
+     * @param itemsPerPage maximum number of keys to return
+     * @return keys of any objects of type {@link A}, sorted by key
+     */
+    List<String> findAllKeys(String lastKey, int itemsPerPage);
+
+    /**
+     * Find keys of any objects created or changed since the given date, sorted by key and starting after the
+     * provided key, as {@link #findAllKeys(java.lang.String, int)} does.
+     *
+     * @param since minimum last change date
+     * @param lastKey last key read from the previous page, or {@code null} to start from the beginning
+     * @param itemsPerPage maximum number of keys to return
+     * @return keys of any objects of type {@link A} changed since the given date, sorted by key
+     */
+    List<String> findChangedKeys(Date since, String lastKey, int itemsPerPage);
+
     <S extends Schema> AllowedSchemas<S> findAllowedSchemas(A any, Class<S> reference);
 
     A save(A any);
@@ -88,5 +136,21 @@ public interface AnyDAO<A extends Any<?>> extends DAO<A> {
 
     List<String> findDynRealms(String key);
 
+    /**
+     * Bulk version of {@link #findDynRealms(java.lang.String)}, for usage when processing many any objects.
+     *
+     * @param keys any object keys
+     * @return dynamic realm keys, for each of the provided any object keys
+     */
+    Map<String, List<String>> findDynRealms(Collection<String> keys);
+
     Collection<String> findAllResourceKeys(String key);
+
+    /**
+     * Bulk version of {@link #findAllResourceKeys(java.lang.String)}, for usage when processing many any objects.
+     *
+     * @param keys any object keys
+     * @return resource keys, for each of the provided any object keys
+     */
+    Map<String, List<String>> findAllResourceKeys(Collection<String> keys);
 }
@@ -47,10 +47,29 @@ public interface AnyObjectDAO extends AnyDAO<AnyObject> {
 
     List<ARelationship> findAllRelationships(AnyObject anyObject);
 
+    /**
+     * Bulk version of
+     * {@link #findAllRelationships(org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject)}, for usage
+     * when processing many any objects.
+     *
+     * @param keys any object keys
+     * @return relationships having any of the provided any objects as left or right end
+     */
+    List<ARelationship> findAllRelationships(Collection<String> keys);
+
     Collection<Group> findAllGroups(AnyObject anyObject);
 
     Collection<String> findAllGroupKeys(AnyObject anyObject);
 
+    /**
+     * Bulk version of {@link #findAllGroupKeys(org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject)},
+     * for usage when processing many any objects.
+     *
+     * @param keys any object keys
+     * @return keys of static and dynamic groups, for each of the provided any object keys
+     */
+    Map<String, List<String>> findAllGroupKeys(Collection<String> keys);
+
     Collection<ExternalResource> findAllResources(AnyObject anyObject);
 
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(AnyObject anyObject);
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.api.dao;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -66,6 +67,26 @@ public interface AnySearchDAO extends DAO<Any<?>> {
             Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
             List<OrderByClause> orderBy, AnyTypeKind kind);
 
+    /**
+     * Same as {@link #search(java.util.Set, SearchCond, int, int, java.util.List, AnyTypeKind)}, but only returning
+     * the requested fields for each match, rather than full any objects: implementations can take advantage of this
+     * for serving results without loading any entity.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param page position of the first result, start from 1
+     * @param itemsPerPage number of results per page
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param fields fields to return: key, realm, status, username (for users), name (for groups and any objects)
+     * or plain schema names; plain attribute values are returned as list of strings, formatted according to the
+     * schema type and conversion pattern
+     * @return for each any object matching the given search condition (in the given page), the requested field values
+     */
+    List<Map<String, Object>> searchFields(
+            Set<String> adminRealms, SearchCond searchCondition, int page, int itemsPerPage,
+            List<OrderByClause> orderBy, AnyTypeKind kind, Set<String> fields);
+
     /**
      * Verify if any matches the given search condition.
      *
@@ -18,7 +18,9 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Date;
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
@@ -34,6 +36,32 @@ public interface TaskDAO extends DAO<Task> {
 
     <T extends Task> List<T> findToExec(TaskType type);
 
+    /**
+     * Finds the queued propagation tasks not leased by any node, or whose lease has expired.
+     *
+     * @return keys of the queued tasks, each with the key of its resource, in queueing order
+     */
+    List<Pair<String, String>> findQueued();
+
+    /**
+     * Leases the given queued propagation task to the given owner, unless currently leased by another one.
+     *
+     * @param key propagation task key
+     * @param owner node requesting the lease
+     * @param leaseExpiry until when the lease is granted
+     * @return whether the lease was granted
+     */
+    boolean lease(String key, String owner, Date leaseExpiry);
+
+    /**
+     * Extends the leases held by the given owner on queued propagation tasks.
+     *
+     * @param owner node holding the leases
+     * @param leaseExpiry until when the leases are extended
+     * @return number of leases extended
+     */
+    int renewLeases(String owner, Date leaseExpiry);
+
     <T extends Task> List<T> findAll(TaskType type);
 
     <T extends Task> List<T> findAll(
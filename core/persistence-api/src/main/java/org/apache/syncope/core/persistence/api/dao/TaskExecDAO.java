@@ -45,6 +45,16 @@ public interface TaskExecDAO extends DAO<TaskExec> {
 
     void saveAndAdd(String taskKey, TaskExec execution);
 
+    /**
+     * Same as {@link #saveAndAdd(java.lang.String, TaskExec)}, but within a new transaction: the given execution is
+     * persisted even if the current transaction is later rolled back, which makes it suitable for checkpointing
+     * long-running jobs.
+     *
+     * @param taskKey task key
+     * @param execution task execution
+     */
+    void saveAndAddInNewTransaction(String taskKey, TaskExec execution);
+
     void delete(String key);
 
     void delete(TaskExec execution);
@@ -45,12 +45,29 @@ public interface UserDAO extends AnyDAO<User> {
 
     Collection<Role> findAllRoles(User user);
 
+    /**
+     * Bulk lookup of the keys of static and dynamic roles, for usage when processing many users.
+     *
+     * @param keys user keys
+     * @return role keys, for each of the provided user keys
+     */
+    Map<String, List<String>> findAllRoleKeys(Collection<String> keys);
+
     List<Group> findDynGroups(String key);
 
     Collection<Group> findAllGroups(User user);
 
     Collection<String> findAllGroupKeys(User user);
 
+    /**
+     * Bulk version of {@link #findAllGroupKeys(org.apache.syncope.core.persistence.api.entity.user.User)}, for
+     * usage when processing many users.
+     *
+     * @param keys user keys
+     * @return keys of static and dynamic groups, for each of the provided user keys
+     */
+    Map<String, List<String>> findAllGroupKeys(Collection<String> keys);
+
     Collection<String> findAllGroupNames(User user);
 
     Collection<ExternalResource> findAllResources(User user);
@@ -58,4 +75,14 @@ public interface UserDAO extends AnyDAO<User> {
     Pair<Boolean, Boolean> enforcePolicies(User user);
 
     Pair<Set<String>, Set<String>> saveAndGetDynGroupMembs(User user);
+
+    /**
+     * Persists the login state of the given user, e.g. last login date and failed logins count.
+     * Unlike {@link #save(org.apache.syncope.core.persistence.api.entity.Entity)}, policies are not enforced and
+     * neither dynamic memberships nor any index are refreshed, unless some dynamic membership condition refers to
+     * the login state.
+     *
+     * @param user user whose login state was updated
+     */
+    void saveLoginState(User user);
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.entity;
+
+/**
+ * Per-connector settings for the isolation of the requests sent to the connector; any value left {@code null}
+ * falls back to the global default.
+ */
+public interface ConnBulkheadConf {
+
+    Integer getMaxConcurrentRequests();
+
+    void setMaxConcurrentRequests(Integer maxConcurrentRequests);
+
+    Long getMaxRequestWait();
+
+    void setMaxRequestWait(Long maxRequestWait);
+
+    Integer getFailureThreshold();
+
+    void setFailureThreshold(Integer failureThreshold);
+
+    Long getOpenInterval();
+
+    void setOpenInterval(Long openInterval);
+}
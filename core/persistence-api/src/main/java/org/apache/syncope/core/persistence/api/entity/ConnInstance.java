@@ -47,6 +47,10 @@ public interface ConnInstance extends Entity {
 
     ConnPoolConf getPoolConf();
 
+    void setBulkheadConf(ConnBulkheadConf bulkheadConf);
+
+    ConnBulkheadConf getBulkheadConf();
+
     void setVersion(String version);
 
     String getVersion();
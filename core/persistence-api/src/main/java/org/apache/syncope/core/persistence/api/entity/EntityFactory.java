@@ -23,4 +23,6 @@ public interface EntityFactory {
     <E extends Entity> E newEntity(Class<E> reference);
 
     ConnPoolConf newConnPoolConf();
+
+    ConnBulkheadConf newConnBulkheadConf();
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.entity.task;
 
+import java.util.Date;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ResourceOperation;
@@ -52,6 +53,24 @@ public interface PropagationTask extends Task {
 
     void setEntityKey(String entityKey);
 
+    /**
+     * @return when this task was put in the propagation queue, or {@code null} if not waiting for execution
+     */
+    Date getQueued();
+
+    void setQueued(Date queued);
+
+    /**
+     * @return node in charge of executing this queued task, until lease expiry
+     */
+    String getQueueOwner();
+
+    void setQueueOwner(String queueOwner);
+
+    Date getLeaseExpiry();
+
+    void setLeaseExpiry(Date leaseExpiry);
+
     AnyTypeKind getAnyTypeKind();
 
     void setAnyTypeKind(AnyTypeKind anyTypeKind);
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.apache.syncope.core.persistence.api.DomainsHolder;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
+import org.apache.syncope.core.persistence.jpa.entity.JPAConfVersion;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory, versioned schema metadata cache implementation.
+ *
+ * Each domain has its own version, increased at each invalidation: values loaded while an invalidation occurs are
+ * not retained, as they might have been computed from outdated information.
+ * As changes become visible to other transactions only after commit, invalidation is repeated upon completion of the
+ * current transaction, if any.
+ * The version returned by {@link #getVersion()} is instead kept in the domain's database, and increased within the
+ * transaction performing the change, so that all the nodes of a cluster agree on it: each node compares it, at most
+ * every {@code schemaMetadataCache.syncInterval} seconds, with the last one seen, and discards its values when
+ * changed elsewhere. Values are anyway discarded {@code schemaMetadataCache.ttl} seconds after being loaded.
+ */
+@Component
+public class MemorySchemaMetadataCache implements SchemaMetadataCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SchemaMetadataCache.class);
+
+    private static final int MAX_ENTRIES = 10000;
+
+    private static class Entry {
+
+        private final Object value;
+
+        private final long expiresAt;
+
+        Entry(final Object value, final long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class DomainCache {
+
+        private final AtomicLong version = new AtomicLong();
+
+        private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+        private volatile long confVersion = -1;
+
+        private volatile long lastSync;
+    }
+
+    private final Map<String, DomainCache> domains = new ConcurrentHashMap<>();
+
+    @Autowired
+    private DomainsHolder domainsHolder;
+
+    @Value("${schemaMetadataCache.ttl:300}")
+    private long ttl;
+
+    @Value("${schemaMetadataCache.syncInterval:5}")
+    private long syncInterval;
+
+    private DomainCache domainCache(final String domain) {
+        return domains.computeIfAbsent(domain, k -> new DomainCache());
+    }
+
+    /**
+     * Plain JDBC on the domain's data source: the current transaction, if any, is joined, but without flushing
+     * pending changes, as this might be invoked while entities are still being built; neither data nor query cache
+     * are involved.
+     *
+     * @param domain domain
+     * @return JDBC template for the given domain
+     */
+    private JdbcTemplate jdbcTemplate(final String domain) {
+        return new JdbcTemplate(domainsHolder.getDomains().get(domain));
+    }
+
+    private long readConfVersion(final String domain) {
+        List<Long> result = jdbcTemplate(domain).queryForList(
+                "SELECT version FROM " + JPAConfVersion.TABLE + " WHERE id=?", Long.class, JPAConfVersion.KEY);
+        return result.isEmpty() || result.get(0) == null ? 0 : result.get(0);
+    }
+
+    private void increaseConfVersion(final String domain) {
+        // the row is seeded at domain initialization, see XMLContentLoader
+        int updated = jdbcTemplate(domain).update(
+                "UPDATE " + JPAConfVersion.TABLE + " SET version=version+1 WHERE id=?", JPAConfVersion.KEY);
+        if (updated == 0) {
+            LOG.warn("Configuration version not found for domain {}, was it initialized?", domain);
+        }
+    }
+
+    private void sync(final String domain, final DomainCache cache) {
+        long now = System.currentTimeMillis();
+        if (now - cache.lastSync < TimeUnit.SECONDS.toMillis(syncInterval)) {
+            return;
+        }
+        cache.lastSync = now;
+
+        long confVersion = readConfVersion(domain);
+        if (cache.confVersion != confVersion) {
+            if (cache.confVersion != -1) {
+                LOG.debug("Configuration version for domain {} changed from {} to {}",
+                        domain, cache.confVersion, confVersion);
+                invalidate(domain);
+            }
+            cache.confVersion = confVersion;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <V> V get(final String region, final String key, final Supplier<V> loader) {
+        String domain = AuthContextUtils.getDomain();
+        DomainCache cache = domainCache(domain);
+        sync(domain, cache);
+
+        String entryKey = region + '|' + key;
+        long now = System.currentTimeMillis();
+
+        Entry entry = cache.entries.get(entryKey);
+        if (entry != null && entry.expiresAt > now) {
+            return (V) entry.value;
+        }
+
+        long version = cache.version.get();
+        V value = loader.get();
+        if (cache.version.get() == version) {
+            if (cache.entries.size() >= MAX_ENTRIES) {
+                cache.entries.clear();
+            }
+            cache.entries.put(entryKey, new Entry(value, now + TimeUnit.SECONDS.toMillis(ttl)));
+        }
+        return value;
+    }
+
+    private void invalidate(final String domain) {
+        DomainCache cache = domainCache(domain);
+        cache.version.incrementAndGet();
+        cache.entries.clear();
+
+        LOG.debug("Schema metadata invalidated for domain {}", domain);
+    }
+
+    @Override
+    public long getVersion() {
+        return readConfVersion(AuthContextUtils.getDomain());
+    }
+
+    @Override
+    public void invalidate() {
+        String domain = AuthContextUtils.getDomain();
+        invalidate(domain);
+        increaseConfVersion(domain);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCompletion(final int status) {
+                    invalidate(domain);
+                }
+            });
+        }
+    }
+}
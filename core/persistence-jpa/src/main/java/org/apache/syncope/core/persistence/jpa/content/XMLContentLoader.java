@@ -20,7 +20,6 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Map;
 import java.util.Properties;
 import javax.annotation.Resource;
 import javax.sql.DataSource;
@@ -30,6 +29,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
+import org.apache.syncope.core.persistence.jpa.entity.JPAConfVersion;
 import org.apache.syncope.core.persistence.jpa.entity.conf.JPAConf;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
 import org.springframework.dao.DataAccessException;
@@ -55,40 +55,62 @@ public class XMLContentLoader extends AbstractContentDealer implements ContentLo
     }
 
     @Override
-    public void load() {
-        for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
-            // create EntityManager so OpenJPA will build the SQL schema
-            EntityManagerFactoryUtils.findEntityManagerFactory(
-                    ApplicationContextProvider.getBeanFactory(), entry.getKey()).createEntityManager();
-
-            JdbcTemplate jdbcTemplate = new JdbcTemplate(entry.getValue());
-            boolean existingData;
+    public void load(final String domain, final DataSource datasource) {
+        // create EntityManager so OpenJPA will build the SQL schema
+        EntityManagerFactoryUtils.findEntityManagerFactory(
+                ApplicationContextProvider.getBeanFactory(), domain).createEntityManager();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(datasource);
+        boolean existingData;
+        try {
+            existingData = jdbcTemplate.queryForObject("SELECT COUNT(0) FROM " + JPAConf.TABLE, Integer.class) > 0;
+        } catch (DataAccessException e) {
+            LOG.error("[{}] Could not access to table " + JPAConf.TABLE, domain, e);
+            existingData = true;
+        }
+
+        if (existingData) {
+            LOG.info("[{}] Data found in the database, leaving untouched", domain);
+        } else {
+            LOG.info("[{}] Empty database found, loading default content", domain);
+
             try {
-                existingData = jdbcTemplate.queryForObject("SELECT COUNT(0) FROM " + JPAConf.TABLE, Integer.class) > 0;
-            } catch (DataAccessException e) {
-                LOG.error("[{}] Could not access to table " + JPAConf.TABLE, entry.getKey(), e);
-                existingData = true;
+                ResourceWithFallbackLoader contentXML = ApplicationContextProvider.getBeanFactory().
+                        getBean(domain + "ContentXML", ResourceWithFallbackLoader.class);
+                loadDefaultContent(domain, contentXML, datasource);
+            } catch (Exception e) {
+                LOG.error("[{}] While loading default content", domain, e);
             }
+            try {
+                createViews(domain, datasource);
+                createIndexes(domain, datasource);
+            } catch (IOException e) {
+                LOG.error("[{}] While creating indexes and views", domain, e);
+            }
+        }
+
+        seedConfVersion(domain, jdbcTemplate);
+    }
+
+    /**
+     * Makes sure that the configuration version row exists, also for databases populated before its introduction,
+     * so that changes only need to increase it.
+     *
+     * @param domain domain
+     * @param jdbcTemplate JDBC template for the domain
+     */
+    private void seedConfVersion(final String domain, final JdbcTemplate jdbcTemplate) {
+        try {
+            if (jdbcTemplate.queryForObject("SELECT COUNT(0) FROM " + JPAConfVersion.TABLE + " WHERE id=?",
+                    Integer.class, JPAConfVersion.KEY) == 0) {
 
-            if (existingData) {
-                LOG.info("[{}] Data found in the database, leaving untouched", entry.getKey());
-            } else {
-                LOG.info("[{}] Empty database found, loading default content", entry.getKey());
-
-                try {
-                    ResourceWithFallbackLoader contentXML = ApplicationContextProvider.getBeanFactory().
-                            getBean(entry.getKey() + "ContentXML", ResourceWithFallbackLoader.class);
-                    loadDefaultContent(entry.getKey(), contentXML, entry.getValue());
-                } catch (Exception e) {
-                    LOG.error("[{}] While loading default content", entry.getKey(), e);
-                }
-                try {
-                    createViews(entry.getKey(), entry.getValue());
-                    createIndexes(entry.getKey(), entry.getValue());
-                } catch (IOException e) {
-                    LOG.error("[{}] While creating indexes and views", entry.getKey(), e);
-                }
+                jdbcTemplate.update("INSERT INTO " + JPAConfVersion.TABLE + "(id, version) VALUES(?, 0)",
+                        JPAConfVersion.KEY);
+                LOG.debug("[{}] Configuration version initialized", domain);
             }
+        } catch (DataAccessException e) {
+            // another node sharing the same database might have just seeded it
+            LOG.warn("[{}] While initializing configuration version", domain, e);
         }
     }
 
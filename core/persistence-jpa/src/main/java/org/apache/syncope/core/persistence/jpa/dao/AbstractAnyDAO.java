@@ -28,20 +28,29 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
 import javax.persistence.TemporalType;
+import javax.persistence.TypedQuery;
 import org.apache.commons.jexl3.parser.Parser;
 import org.apache.commons.jexl3.parser.ParserConstants;
 import org.apache.commons.jexl3.parser.Token;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AllowedSchemas;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
@@ -68,6 +77,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> implements AnyDAO<A> {
 
+    /**
+     * Maximum number of parameters in IN lists, as some DBMSes (notably Oracle) do not accept more.
+     */
+    protected static final int MAX_IN_PARAMETERS = 1000;
+
     @Autowired
     protected ApplicationEventPublisher publisher;
 
@@ -75,8 +89,12 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
 
     private DerSchemaDAO derSchemaDAO;
 
+    private VirSchemaDAO virSchemaDAO;
+
     private DynRealmDAO dynRealmDAO;
 
+    private SchemaMetadataCache schemaMetadataCache;
+
     private AnyUtils anyUtils;
 
     private PlainSchemaDAO plainSchemaDAO() {
@@ -97,6 +115,25 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return derSchemaDAO;
     }
 
+    private VirSchemaDAO virSchemaDAO() {
+        synchronized (this) {
+            if (virSchemaDAO == null) {
+                virSchemaDAO = ApplicationContextProvider.getApplicationContext().getBean(VirSchemaDAO.class);
+            }
+        }
+        return virSchemaDAO;
+    }
+
+    protected SchemaMetadataCache schemaMetadataCache() {
+        synchronized (this) {
+            if (schemaMetadataCache == null) {
+                schemaMetadataCache = ApplicationContextProvider.getApplicationContext().
+                        getBean(SchemaMetadataCache.class);
+            }
+        }
+        return schemaMetadataCache;
+    }
+
     protected DynRealmDAO dynRealmDAO() {
         synchronized (this) {
             if (dynRealmDAO == null) {
@@ -178,6 +215,20 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return (A) entityManager().find(anyUtils().anyClass(), key);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<A> findByKeys(final Collection<String> keys) {
+        List<A> result = new ArrayList<>();
+        partition(keys).forEach(chunk -> {
+            Query query = entityManager().createQuery(
+                    "SELECT e FROM " + anyUtils().anyClass().getSimpleName() + " e WHERE e.id IN :keys");
+            query.setParameter("keys", chunk);
+            result.addAll(query.getResultList());
+        });
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public A findByWorkflowId(final String workflowId) {
@@ -260,6 +311,182 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
                 : result.iterator().next();
     }
 
+    private static void toKeysByValue(final Map<String, List<String>> result, final List<Object[]> rows) {
+        rows.forEach(row -> {
+            List<String> keys = result.computeIfAbsent(row[0].toString(), value -> new ArrayList<>());
+            if (!keys.contains(row[1].toString())) {
+                keys.add(row[1].toString());
+            }
+        });
+    }
+
+    /**
+     * Splits the given items in chunks no longer than {@link #MAX_IN_PARAMETERS}.
+     *
+     * @param <T> item type
+     * @param items items to split
+     * @return chunks of items
+     */
+    protected static <T> List<List<T>> partition(final Collection<T> items) {
+        List<T> list = new ArrayList<>(items);
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < list.size(); i += MAX_IN_PARAMETERS) {
+            chunks.add(list.subList(i, Math.min(list.size(), i + MAX_IN_PARAMETERS)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Runs the given JPQL query, selecting pairs of keys and expecting the provided keys as {@code :keys} parameter,
+     * once for each chunk of keys.
+     *
+     * @param jpql JPQL query
+     * @param keys keys
+     * @return related keys, for each of the provided keys
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, List<String>> findRelatedKeys(final String jpql, final Collection<String> keys) {
+        Map<String, List<String>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, new ArrayList<>()));
+
+        partition(keys).forEach(chunk -> {
+            Query query = entityManager().createQuery(jpql);
+            query.setParameter("keys", chunk);
+            toKeysByValue(result, query.getResultList());
+        });
+        return result;
+    }
+
+    /**
+     * Reads the dynamic memberships of the provided any objects from the given table, once for each chunk of keys.
+     *
+     * @param table dynamic membership table
+     * @param column column holding the key of the dynamic realm, role or group
+     * @param keys any object keys
+     * @return dynamic realm, role or group keys, for each of the provided any object keys
+     */
+    @SuppressWarnings("unchecked")
+    protected Map<String, List<String>> findDynMembershipKeys(
+            final String table, final String column, final Collection<String> keys) {
+
+        Map<String, List<String>> result = new HashMap<>();
+        keys.forEach(key -> result.put(key, new ArrayList<>()));
+
+        partition(keys).forEach(chunk -> {
+            Query query = entityManager().createNativeQuery(
+                    "SELECT any_id, " + column + " FROM " + table + " WHERE any_id IN ("
+                    + chunk.stream().map(key -> "?").collect(Collectors.joining(",")) + ")");
+            for (int i = 0; i < chunk.size(); i++) {
+                query.setParameter(i + 1, chunk.get(i));
+            }
+            toKeysByValue(result, query.getResultList());
+        });
+        return result;
+    }
+
+    /**
+     * Resource keys of the any objects owning the given group memberships, as given by the groups.
+     *
+     * @param groupDAO group DAO
+     * @param groupKeys group keys, for each any object key
+     * @return resource keys, for each any object key
+     */
+    protected static Map<String, List<String>> findGroupResourceKeys(
+            final GroupDAO groupDAO, final Map<String, List<String>> groupKeys) {
+
+        Set<String> groups = new HashSet<>();
+        groupKeys.values().forEach(groups::addAll);
+        Map<String, List<String>> resourcesByGroup = groupDAO.findAllResourceKeys(groups);
+
+        Map<String, List<String>> result = new HashMap<>();
+        groupKeys.forEach((key, memberOf) -> memberOf.forEach(group -> merge(result,
+                Collections.singletonMap(key, resourcesByGroup.getOrDefault(group, Collections.emptyList())))));
+        return result;
+    }
+
+    /**
+     * Adds the related keys from the second map to the first.
+     *
+     * @param target related keys to add to
+     * @param source related keys to add
+     * @return the updated target map
+     */
+    protected static Map<String, List<String>> merge(
+            final Map<String, List<String>> target, final Map<String, List<String>> source) {
+
+        source.forEach((key, related) -> {
+            List<String> keys = target.computeIfAbsent(key, k -> new ArrayList<>());
+            related.stream().filter(k -> !keys.contains(k)).forEach(keys::add);
+        });
+        return target;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, List<String>> findKeysByField(final String field, final Collection<String> values) {
+        String attribute;
+        switch (field) {
+            case "key":
+                attribute = "id";
+                break;
+
+            case "username":
+                attribute = anyUtils().getAnyTypeKind() == AnyTypeKind.USER ? field : null;
+                break;
+
+            case "name":
+                attribute = anyUtils().getAnyTypeKind() == AnyTypeKind.USER ? null : field;
+                break;
+
+            default:
+                attribute = null;
+        }
+        if (attribute == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<String>> result = new HashMap<>();
+        for (List<String> chunk : partition(values)) {
+            Query query = entityManager().createQuery(
+                    "SELECT e." + attribute + ", e.id FROM " + anyUtils().anyClass().getSimpleName() + " e"
+                    + " WHERE e." + attribute + " IN :values");
+            query.setParameter("values", chunk);
+            toKeysByValue(result, query.getResultList());
+        }
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<String, List<String>> findKeysByPlainAttrStringValue(
+            final String schemaName, final Collection<String> values) {
+
+        PlainSchema schema = plainSchemaDAO().find(schemaName);
+        if (schema == null) {
+            LOG.error("Invalid schema name '{}'", schemaName);
+            return Collections.emptyMap();
+        }
+        if (values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        String entityName = schema.isUniqueConstraint()
+                ? anyUtils().plainAttrUniqueValueClass().getName()
+                : anyUtils().plainAttrValueClass().getName();
+        Map<String, List<String>> result = new HashMap<>();
+        for (List<String> chunk : partition(values)) {
+            Query query = entityManager().createQuery(
+                    "SELECT e.stringValue, e.attribute.owner.id FROM " + entityName + " e"
+                    + " WHERE e.attribute.schema.id = :schemaKey AND e.stringValue IN :values");
+            query.setParameter("schemaKey", schemaName);
+            query.setParameter("values", chunk);
+            toKeysByValue(result, query.getResultList());
+        }
+        return result;
+    }
+
     /**
      * Split an attribute value recurring on provided literals/tokens.
      *
@@ -464,28 +691,68 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return SearchCond.getLeafCond(idCond);
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Transactional(readOnly = true)
     @Override
-    @SuppressWarnings("unchecked")
-    public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final A any, final Class<S> reference) {
-        AllowedSchemas<S> result = new AllowedSchemas<>();
+    public List<String> findAllKeys(final String lastKey, final int itemsPerPage) {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + anyUtils().anyClass().getSimpleName() + " e"
+                + (lastKey == null ? "" : " WHERE e.id > :lastKey")
+                + " ORDER BY e.id", String.class);
+        if (lastKey != null) {
+            query.setParameter("lastKey", lastKey);
+        }
+        query.setMaxResults(itemsPerPage);
 
-        // schemas given by type and aux classes
-        Set<AnyTypeClass> typeOwnClasses = new HashSet<>();
-        typeOwnClasses.addAll(any.getType().getClasses());
-        typeOwnClasses.addAll(any.getAuxClasses());
-
-        typeOwnClasses.forEach(typeClass -> {
-            if (reference.equals(PlainSchema.class)) {
-                result.getForSelf().addAll((Collection<? extends S>) typeClass.getPlainSchemas());
-            } else if (reference.equals(DerSchema.class)) {
-                result.getForSelf().addAll((Collection<? extends S>) typeClass.getDerSchemas());
-            } else if (reference.equals(VirSchema.class)) {
-                result.getForSelf().addAll((Collection<? extends S>) typeClass.getVirSchemas());
-            }
-        });
+        return query.getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findChangedKeys(final Date since, final String lastKey, final int itemsPerPage) {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT e.id FROM " + anyUtils().anyClass().getSimpleName() + " e"
+                + " WHERE e.lastChangeDate >= :since"
+                + (lastKey == null ? "" : " AND e.id > :lastKey")
+                + " ORDER BY e.id", String.class);
+        query.setParameter("since", since, TemporalType.TIMESTAMP);
+        if (lastKey != null) {
+            query.setParameter("lastKey", lastKey);
+        }
+        query.setMaxResults(itemsPerPage);
+
+        return query.getResultList();
+    }
 
-        // schemas given by type extensions
+    private Set<String> findSchemaKeys(final AnyTypeClass typeClass, final Class<? extends Schema> reference) {
+        return schemaMetadataCache().get(
+                "anyTypeClassSchemas",
+                typeClass.getKey() + '|' + reference.getSimpleName(),
+                () -> {
+                    Collection<? extends Schema> schemas = reference.equals(PlainSchema.class)
+                    ? typeClass.getPlainSchemas()
+                    : reference.equals(DerSchema.class)
+                    ? typeClass.getDerSchemas()
+                    : reference.equals(VirSchema.class)
+                    ? typeClass.getVirSchemas()
+                    : Collections.<Schema>emptyList();
+                    return Collections.unmodifiableSet(
+                            schemas.stream().map(Schema::getKey).collect(Collectors.toSet()));
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <S extends Schema> S findSchema(final String key, final Class<S> reference) {
+        return reference.equals(PlainSchema.class)
+                ? (S) plainSchemaDAO().find(key)
+                : reference.equals(DerSchema.class)
+                ? (S) derSchemaDAO().find(key)
+                : (S) virSchemaDAO().find(key);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @Override
+    public <S extends Schema> AllowedSchemas<S> findAllowedSchemas(final A any, final Class<S> reference) {
+        // type extensions, by group
         Map<Group, List<? extends AnyTypeClass>> typeExtensionClasses = new HashMap<>();
         if (any instanceof User) {
             ((User) any).getMemberships().forEach(memb -> {
@@ -502,23 +769,51 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
                         });
             });
         }
+        Map<String, Group> groups = new TreeMap<>();
+        typeExtensionClasses.keySet().forEach(group -> groups.put(group.getKey(), group));
+
+        // schema keys are cached by any type, aux classes and groups providing type extensions
+        Set<String> auxClasses = new TreeSet<>();
+        any.getAuxClasses().forEach(auxClass -> auxClasses.add(auxClass.getKey()));
+        Pair<Set<String>, Map<String, Set<String>>> keys = schemaMetadataCache().get(
+                "allowedSchemas",
+                reference.getSimpleName() + '|' + any.getType().getKey() + '|' + auxClasses + '|' + groups.keySet(),
+                () -> {
+                    // schemas given by type and aux classes
+                    Set<AnyTypeClass> typeOwnClasses = new HashSet<>();
+                    typeOwnClasses.addAll(any.getType().getClasses());
+                    typeOwnClasses.addAll(any.getAuxClasses());
+
+                    Set<String> forSelf = new HashSet<>();
+                    typeOwnClasses.forEach(typeClass -> forSelf.addAll(findSchemaKeys(typeClass, reference)));
+
+                    // schemas given by type extensions
+                    Map<String, Set<String>> forMemberships = new HashMap<>();
+                    typeExtensionClasses.forEach((group, typeClasses) -> {
+                        Set<String> forMembership = new HashSet<>();
+                        typeClasses.forEach(typeClass -> forMembership.addAll(findSchemaKeys(typeClass, reference)));
+                        forMemberships.put(group.getKey(), forMembership);
+                    });
+
+                    return Pair.of(forSelf, forMemberships);
+                });
 
-        typeExtensionClasses.entrySet().stream().map(entry -> {
-            result.getForMemberships().put(entry.getKey(), new HashSet<>());
-            return entry;
-        }).forEachOrdered((entry) -> {
-            entry.getValue().forEach(typeClass -> {
-                if (reference.equals(PlainSchema.class)) {
-                    result.getForMemberships().get(entry.getKey()).
-                            addAll((Collection<? extends S>) typeClass.getPlainSchemas());
-                } else if (reference.equals(DerSchema.class)) {
-                    result.getForMemberships().get(entry.getKey()).
-                            addAll((Collection<? extends S>) typeClass.getDerSchemas());
-                } else if (reference.equals(VirSchema.class)) {
-                    result.getForMemberships().get(entry.getKey()).
-                            addAll((Collection<? extends S>) typeClass.getVirSchemas());
+        AllowedSchemas<S> result = new AllowedSchemas<>();
+        keys.getLeft().forEach(key -> {
+            S schema = findSchema(key, reference);
+            if (schema != null) {
+                result.getForSelf().add(schema);
+            }
+        });
+        keys.getRight().forEach((groupKey, schemaKeys) -> {
+            Set<S> schemas = new HashSet<>();
+            schemaKeys.forEach(key -> {
+                S schema = findSchema(key, reference);
+                if (schema != null) {
+                    schemas.add(schema);
                 }
             });
+            result.getForMemberships().put(groups.get(groupKey), schemas);
         });
 
         return result;
@@ -563,4 +858,10 @@ public abstract class AbstractAnyDAO<A extends Any<?>> extends AbstractDAO<A> im
         return result;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findDynRealms(final Collection<String> keys) {
+        return findDynMembershipKeys(JPADynRealmDAO.DYNMEMB_TABLE, "dynRealm_id", keys);
+    }
+
 }
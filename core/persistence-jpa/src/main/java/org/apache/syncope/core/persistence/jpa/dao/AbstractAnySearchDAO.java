@@ -23,7 +23,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.Entity;
@@ -61,6 +63,7 @@ import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.ReflectionUtils;
@@ -319,26 +322,22 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
         return result;
     }
 
-    @Override
-    public <T extends Any<?>> List<T> search(
-            final Set<String> adminRealms,
-            final SearchCond cond,
-            final int page,
-            final int itemsPerPage,
-            final List<OrderByClause> orderBy,
-            final AnyTypeKind kind) {
-
+    private boolean isValid(final Set<String> adminRealms, final SearchCond cond) {
         if (adminRealms == null || adminRealms.isEmpty()) {
             LOG.error("No realms provided");
-            return Collections.<T>emptyList();
+            return false;
         }
 
         LOG.debug("Search condition:\n{}", cond);
         if (cond == null || !cond.isValid()) {
             LOG.error("Invalid search condition:\n{}", cond);
-            return Collections.<T>emptyList();
+            return false;
         }
 
+        return true;
+    }
+
+    private List<OrderByClause> effectiveOrderBy(final List<OrderByClause> orderBy) {
         List<OrderByClause> effectiveOrderBy;
         if (orderBy.isEmpty()) {
             OrderByClause keyClause = new OrderByClause();
@@ -348,8 +347,102 @@ public abstract class AbstractAnySearchDAO extends AbstractDAO<Any<?>> implement
         } else {
             effectiveOrderBy = orderBy;
         }
+        return effectiveOrderBy;
+    }
+
+    @Override
+    public <T extends Any<?>> List<T> search(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int page,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind) {
+
+        if (!isValid(adminRealms, cond)) {
+            return Collections.<T>emptyList();
+        }
+
+        return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy(orderBy), kind);
+    }
+
+    protected Map<String, Object> project(final Any<?> any, final Set<String> fields) {
+        Map<String, Object> result = new LinkedHashMap<>(fields.size());
+        fields.forEach(field -> {
+            switch (field) {
+                case "key":
+                    result.put(field, any.getKey());
+                    break;
+
+                case "realm":
+                    result.put(field, any.getRealm().getFullPath());
+                    break;
+
+                case "status":
+                    result.put(field, any.getStatus());
+                    break;
+
+                case "username":
+                    if (any instanceof User) {
+                        result.put(field, ((User) any).getUsername());
+                    }
+                    break;
+
+                case "name":
+                    if (any instanceof Group) {
+                        result.put(field, ((Group) any).getName());
+                    } else if (any instanceof AnyObject) {
+                        result.put(field, ((AnyObject) any).getName());
+                    }
+                    break;
+
+                default:
+                    any.getPlainAttr(field).ifPresent(attr -> result.put(field, attr.getValuesAsStrings()));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Default implementation, loading the matching any objects and extracting the requested fields.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond the search condition
+     * @param page position of the first result, start from 1
+     * @param itemsPerPage number of results per page
+     * @param orderBy list of ordering clauses
+     * @param kind any object
+     * @param fields fields to return
+     * @return for each any object matching the given search condition (in the given page), the requested field values
+     */
+    protected List<Map<String, Object>> doSearchFields(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int page,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind,
+            final Set<String> fields) {
+
+        return this.<Any<?>>doSearch(adminRealms, cond, page, itemsPerPage, orderBy, kind).stream().
+                map(any -> project(any, fields)).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Map<String, Object>> searchFields(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int page,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind,
+            final Set<String> fields) {
+
+        if (!isValid(adminRealms, cond)) {
+            return Collections.emptyList();
+        }
 
-        return doSearch(adminRealms, cond, page, itemsPerPage, effectiveOrderBy, kind);
+        return doSearchFields(adminRealms, cond, page, itemsPerPage, effectiveOrderBy(orderBy), kind, fields);
     }
 
     @Override
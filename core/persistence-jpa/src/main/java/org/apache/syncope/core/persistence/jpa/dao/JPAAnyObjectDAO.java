@@ -25,6 +25,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -49,6 +50,7 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAMembership;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAARelationship;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAURelationship;
@@ -179,6 +181,21 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return query.getResultList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ARelationship> findAllRelationships(final Collection<String> keys) {
+        Set<ARelationship> result = new LinkedHashSet<>();
+        partition(keys).forEach(chunk -> {
+            Query query = entityManager().createQuery(
+                    "SELECT e FROM " + JPAARelationship.class.getSimpleName()
+                    + " e WHERE e.rightEnd.id IN :keys OR e.leftEnd.id IN :keys");
+            query.setParameter("keys", chunk);
+            result.addAll(query.getResultList());
+        });
+        return new ArrayList<>(result);
+    }
+
     @Override
     public int count() {
         Query query = entityManager().createQuery(
@@ -317,4 +334,21 @@ public class JPAAnyObjectDAO extends AbstractAnyDAO<AnyObject> implements AnyObj
         return findAllResources(authFind(key)).stream().map(resource -> resource.getKey()).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findAllGroupKeys(final Collection<String> keys) {
+        return merge(
+                findRelatedKeys("SELECT e.leftEnd.id, e.rightEnd.id FROM " + JPAAMembership.class.getSimpleName()
+                        + " e WHERE e.leftEnd.id IN :keys", keys),
+                findDynMembershipKeys(JPAGroupDAO.ADYNMEMB_TABLE, "group_id", keys));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findAllResourceKeys(final Collection<String> keys) {
+        return merge(
+                findRelatedKeys("SELECT e.id, r.id FROM " + JPAAnyObject.class.getSimpleName()
+                        + " e JOIN e.resources r WHERE e.id IN :keys", keys),
+                findGroupResourceKeys(groupDAO(), findAllGroupKeys(keys)));
+    }
 }
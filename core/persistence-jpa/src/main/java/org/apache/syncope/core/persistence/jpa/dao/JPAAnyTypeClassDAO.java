@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.Collections;
 import java.util.List;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -42,6 +43,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class JPAAnyTypeClassDAO extends AbstractDAO<AnyTypeClass> implements AnyTypeClassDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
@@ -74,6 +78,8 @@ public class JPAAnyTypeClassDAO extends AbstractDAO<AnyTypeClass> implements Any
 
     @Override
     public AnyTypeClass save(final AnyTypeClass anyTypeClass) {
+        schemaMetadataCache.invalidate();
+
         AnyTypeClass merge = entityManager().merge(anyTypeClass);
 
         for (PlainSchema schema : merge.getPlainSchemas()) {
@@ -91,6 +97,8 @@ public class JPAAnyTypeClassDAO extends AbstractDAO<AnyTypeClass> implements Any
 
     @Override
     public void delete(final String key) {
+        schemaMetadataCache.invalidate();
+
         AnyTypeClass anyTypeClass = find(key);
         if (anyTypeClass == null) {
             return;
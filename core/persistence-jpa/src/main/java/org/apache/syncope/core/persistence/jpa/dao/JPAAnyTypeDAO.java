@@ -21,16 +21,21 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.List;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyType;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPAAnyTypeDAO extends AbstractDAO<AnyType> implements AnyTypeDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Transactional(readOnly = true)
     @Override
     public AnyType find(final String key) {
@@ -68,11 +73,15 @@ public class JPAAnyTypeDAO extends AbstractDAO<AnyType> implements AnyTypeDAO {
 
     @Override
     public AnyType save(final AnyType anyType) {
+        schemaMetadataCache.invalidate();
+
         return entityManager().merge(anyType);
     }
 
     @Override
     public void delete(final String key) {
+        schemaMetadataCache.invalidate();
+
         AnyType anyType = find(key);
         if (anyType == null) {
             return;
@@ -24,6 +24,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceHistoryConfDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
@@ -40,6 +41,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class JPAConnInstanceDAO extends AbstractDAO<ConnInstance> implements ConnInstanceDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Autowired
     private ConnInstanceHistoryConfDAO connInstanceHistoryConfDAO;
 
@@ -92,6 +96,8 @@ public class JPAConnInstanceDAO extends AbstractDAO<ConnInstance> implements Con
 
     @Override
     public ConnInstance save(final ConnInstance connector) {
+        schemaMetadataCache.invalidate();
+
         final ConnInstance merged = entityManager().merge(connector);
 
         merged.getResources().forEach(resource -> {
@@ -112,6 +118,8 @@ public class JPAConnInstanceDAO extends AbstractDAO<ConnInstance> implements Con
             return;
         }
 
+        schemaMetadataCache.invalidate();
+
         connInstance.getResources().stream().
                 map(Entity::getKey).collect(Collectors.toList()).
                 forEach(resource -> resourceDAO.delete(resource));
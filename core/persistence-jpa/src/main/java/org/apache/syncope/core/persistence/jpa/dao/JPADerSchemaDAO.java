@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.Collection;
 import java.util.List;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
@@ -32,6 +33,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchemaDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
@@ -64,11 +68,15 @@ public class JPADerSchemaDAO extends AbstractDAO<DerSchema> implements DerSchema
 
     @Override
     public DerSchema save(final DerSchema derSchema) {
+        schemaMetadataCache.invalidate();
+
         return entityManager().merge(derSchema);
     }
 
     @Override
     public void delete(final String key) {
+        schemaMetadataCache.invalidate();
+
         final DerSchema schema = find(key);
         if (schema == null) {
             return;
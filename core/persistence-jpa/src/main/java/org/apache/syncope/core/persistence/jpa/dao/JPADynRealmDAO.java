@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Optional;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DynRealmDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
@@ -45,6 +46,9 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
     @Autowired
     private ApplicationEventPublisher publisher;
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     private AnySearchDAO searchDAO;
 
     private AnySearchDAO searchDAO() {
@@ -70,6 +74,11 @@ public class JPADynRealmDAO extends AbstractDAO<DynRealm> implements DynRealmDAO
 
     @Override
     public DynRealm save(final DynRealm dynRealm) {
+        if (dynRealm.getDynMemberships().stream().anyMatch(memb -> JPAUserDAO.isLoginState(memb.getFIQLCond()))) {
+            // see JPAUserDAO#saveLoginState
+            schemaMetadataCache.invalidate();
+        }
+
         DynRealm merged = entityManager().merge(dynRealm);
 
         // refresh dynamic memberships
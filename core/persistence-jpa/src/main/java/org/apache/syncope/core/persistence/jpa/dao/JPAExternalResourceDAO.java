@@ -27,6 +27,7 @@ import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
 import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceHistoryConfDAO;
@@ -63,6 +64,9 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
     @Autowired
     private ConnectorRegistry connRegistry;
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     private TaskDAO taskDAO;
 
     private AnyObjectDAO anyObjectDAO;
@@ -238,6 +242,8 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
     @Override
     @Transactional(rollbackFor = { Throwable.class })
     public ExternalResource save(final ExternalResource resource) {
+        schemaMetadataCache.invalidate();
+
         ExternalResource merged = entityManager().merge(resource);
         try {
             connRegistry.registerConnector(merged);
@@ -273,6 +279,8 @@ public class JPAExternalResourceDAO extends AbstractDAO<ExternalResource> implem
 
     @Override
     public void delete(final String name) {
+        schemaMetadataCache.invalidate();
+
         ExternalResource resource = find(name);
         if (resource == null) {
             return;
@@ -283,6 +283,13 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
 
     @Override
     public Group save(final Group group) {
+        if (!group.getTypeExtensions().isEmpty() || (group.getUDynMembership() != null
+                && JPAUserDAO.isLoginState(group.getUDynMembership().getFIQLCond()))) {
+
+            // type extensions contribute to the allowed schemas of members; see also JPAUserDAO#saveLoginState
+            schemaMetadataCache().invalidate();
+        }
+
         Group merged = super.save(group);
         publisher.publishEvent(new AnyCreatedUpdatedEvent<>(this, merged, AuthContextUtils.getDomain()));
 
@@ -562,4 +569,11 @@ public class JPAGroupDAO extends AbstractAnyDAO<Group> implements GroupDAO {
     public Collection<String> findAllResourceKeys(final String key) {
         return find(key).getResources().stream().map(Entity::getKey).collect(Collectors.toList());
     }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findAllResourceKeys(final Collection<String> keys) {
+        return findRelatedKeys("SELECT e.id, r.id FROM " + JPAGroup.class.getSimpleName() + " e JOIN e.resources r"
+                + " WHERE e.id IN :keys", keys);
+    }
 }
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.List;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainAttrDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -39,6 +40,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements PlainSchemaDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Autowired
     private PlainAttrDAO plainAttrDAO;
 
@@ -92,11 +96,15 @@ public class JPAPlainSchemaDAO extends AbstractDAO<PlainSchema> implements Plain
 
     @Override
     public PlainSchema save(final PlainSchema schema) {
+        schemaMetadataCache.invalidate();
+
         return entityManager().merge(schema);
     }
 
     @Override
     public void delete(final String key) {
+        schemaMetadataCache.invalidate();
+
         PlainSchema schema = find(key);
         if (schema == null) {
             return;
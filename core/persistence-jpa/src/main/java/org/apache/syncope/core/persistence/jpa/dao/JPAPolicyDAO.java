@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.List;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.PolicyDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.entity.policy.AccountPolicy;
@@ -40,6 +41,9 @@ import org.springframework.stereotype.Repository;
 @Repository
 public class JPAPolicyDAO extends AbstractDAO<Policy> implements PolicyDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Autowired
     private RealmDAO realmDAO;
 
@@ -88,11 +92,14 @@ public class JPAPolicyDAO extends AbstractDAO<Policy> implements PolicyDAO {
 
     @Override
     public <T extends Policy> T save(final T policy) {
+        schemaMetadataCache.invalidate();
         return entityManager().merge(policy);
     }
 
     @Override
     public <T extends Policy> void delete(final T policy) {
+        schemaMetadataCache.invalidate();
+
         for (Realm realm : realmDAO.findByPolicy(policy)) {
             if (policy instanceof AccountPolicy) {
                 realm.setAccountPolicy(null);
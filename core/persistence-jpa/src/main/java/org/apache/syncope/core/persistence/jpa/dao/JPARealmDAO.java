@@ -26,6 +26,7 @@ import javax.persistence.NoResultException;
 import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.MalformedPathException;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
@@ -43,6 +44,9 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Autowired
     private RoleDAO roleDAO;
 
@@ -200,11 +204,14 @@ public class JPARealmDAO extends AbstractDAO<Realm> implements RealmDAO {
 
     @Override
     public Realm save(final Realm realm) {
+        schemaMetadataCache.invalidate();
         return entityManager().merge(realm);
     }
 
     @Override
     public void delete(final Realm realm) {
+        schemaMetadataCache.invalidate();
+
         findDescendants(realm).stream().map(toBeDeleted -> {
             roleDAO.findByRealm(toBeDeleted).forEach(role -> role.getRealms().remove(toBeDeleted));
             return toBeDeleted;
@@ -24,6 +24,7 @@ import java.util.List;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -48,6 +49,9 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
     @Autowired
     private ApplicationEventPublisher publisher;
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     private AnySearchDAO searchDAO;
 
     private AnySearchDAO searchDAO() {
@@ -88,6 +92,11 @@ public class JPARoleDAO extends AbstractDAO<Role> implements RoleDAO {
 
     @Override
     public Role save(final Role role) {
+        if (role.getDynMembership() != null && JPAUserDAO.isLoginState(role.getDynMembership().getFIQLCond())) {
+            // see JPAUserDAO#saveLoginState
+            schemaMetadataCache.invalidate();
+        }
+
         Role merged = entityManager().merge(role);
 
         // refresh dynamic memberships
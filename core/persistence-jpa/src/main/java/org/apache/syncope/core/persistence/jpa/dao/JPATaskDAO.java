@@ -19,9 +19,13 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.persistence.Query;
+import javax.persistence.TypedQuery;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
@@ -114,6 +118,50 @@ public class JPATaskDAO extends AbstractDAO<Task> implements TaskDAO {
         return query.getResultList();
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<Pair<String, String>> findQueued() {
+        TypedQuery<Object[]> query = entityManager().createQuery(
+                "SELECT e.id, e.resource.id FROM " + JPAPropagationTask.class.getSimpleName() + " e "
+                + "WHERE e.queued IS NOT NULL AND (e.leaseExpiry IS NULL OR e.leaseExpiry < :now) "
+                + "ORDER BY e.queued ASC", Object[].class);
+        query.setParameter("now", new Date());
+
+        return query.getResultList().stream().
+                map(result -> Pair.of((String) result[0], (String) result[1])).
+                collect(Collectors.toList());
+    }
+
+    @Transactional(rollbackFor = { Throwable.class })
+    @Override
+    public boolean lease(final String key, final String owner, final Date leaseExpiry) {
+        Query query = entityManager().createQuery(
+                "UPDATE " + JPAPropagationTask.class.getSimpleName() + " e "
+                + "SET e.queueOwner = :owner, e.leaseExpiry = :leaseExpiry "
+                + "WHERE e.id = :key AND e.queued IS NOT NULL "
+                + "AND (e.queueOwner IS NULL OR e.queueOwner = :owner "
+                + "OR e.leaseExpiry IS NULL OR e.leaseExpiry < :now)");
+        query.setParameter("owner", owner);
+        query.setParameter("leaseExpiry", leaseExpiry);
+        query.setParameter("key", key);
+        query.setParameter("now", new Date());
+
+        return query.executeUpdate() > 0;
+    }
+
+    @Transactional(rollbackFor = { Throwable.class })
+    @Override
+    public int renewLeases(final String owner, final Date leaseExpiry) {
+        Query query = entityManager().createQuery(
+                "UPDATE " + JPAPropagationTask.class.getSimpleName() + " e "
+                + "SET e.leaseExpiry = :leaseExpiry "
+                + "WHERE e.queueOwner = :owner AND e.queued IS NOT NULL");
+        query.setParameter("owner", owner);
+        query.setParameter("leaseExpiry", leaseExpiry);
+
+        return query.executeUpdate();
+    }
+
     @Transactional(readOnly = true)
     @Override
     public <T extends Task> List<T> findAll(final TaskType type) {
@@ -30,6 +30,7 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.jpa.entity.task.JPATaskExec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ReflectionUtils;
 
@@ -177,6 +178,15 @@ public class JPATaskExecDAO extends AbstractDAO<TaskExec> implements TaskExecDAO
         taskDAO.save(task);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, rollbackFor = { Throwable.class })
+    public void saveAndAddInNewTransaction(final String taskKey, final TaskExec execution) {
+        Task task = taskDAO.find(taskKey);
+        execution.setTask(task);
+        task.add(execution);
+        taskDAO.save(task);
+    }
+
     @Override
     public void delete(final String key) {
         TaskExec execution = find(key);
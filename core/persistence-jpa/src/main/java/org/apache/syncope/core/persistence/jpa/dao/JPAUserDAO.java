@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -65,6 +66,10 @@ import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.user.SecurityQuestion;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyUtilsFactory;
+import org.apache.syncope.core.persistence.jpa.entity.JPADynRealmMembership;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPADynRoleMembership;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUDynGroupMembership;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUMembership;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
 import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
@@ -449,6 +454,51 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return doSave(user).getRight();
     }
 
+    /**
+     * @param fiql dynamic membership condition
+     * @return whether the given condition refers to the login state, e.g. last login date or failed logins
+     */
+    static boolean isLoginState(final String fiql) {
+        return fiql != null && (fiql.contains("lastLoginDate") || fiql.contains("failedLogins"));
+    }
+
+    /**
+     * Cached, as read at every login: saving a dynamic membership condition referring to the login state
+     * invalidates the cache, while conditions removed in the meantime only cost a few full saves until expiry.
+     *
+     * @return whether any dynamic membership condition refers to the login state
+     */
+    private boolean isLoginStateInDynMemberships() {
+        return schemaMetadataCache().get("dynMemberships", "loginState", () -> {
+            for (String entity : Arrays.asList(
+                    JPAUDynGroupMembership.class.getSimpleName(),
+                    JPADynRoleMembership.class.getSimpleName(),
+                    JPADynRealmMembership.class.getSimpleName())) {
+
+                TypedQuery<Long> query = entityManager().createQuery(
+                        "SELECT COUNT(e) FROM " + entity + " e "
+                        + "WHERE e.fiql LIKE :lastLoginDate OR e.fiql LIKE :failedLogins", Long.class);
+                query.setParameter("lastLoginDate", "%lastLoginDate%");
+                query.setParameter("failedLogins", "%failedLogins%");
+                if (query.getSingleResult() > 0) {
+                    return true;
+                }
+            }
+
+            return false;
+        });
+    }
+
+    @Override
+    public void saveLoginState(final User user) {
+        if (isLoginStateInDynMemberships()) {
+            doSave(user);
+        } else {
+            // only the modified columns are going to be written when the current transaction commits
+            entityManager().merge(user);
+        }
+    }
+
     @Override
     public void delete(final User user) {
         roleDAO.removeDynMemberships(user.getKey());
@@ -475,6 +525,15 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return result;
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findAllRoleKeys(final Collection<String> keys) {
+        return merge(
+                findRelatedKeys("SELECT e.id, r.id FROM " + JPAUser.class.getSimpleName() + " e JOIN e.roles r"
+                        + " WHERE e.id IN :keys", keys),
+                findDynMembershipKeys(JPARoleDAO.DYNMEMB_TABLE, "role_id", keys));
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     @SuppressWarnings("unchecked")
@@ -540,6 +599,15 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return findAllGroups(user).stream().map(Entity::getKey).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findAllGroupKeys(final Collection<String> keys) {
+        return merge(
+                findRelatedKeys("SELECT e.leftEnd.id, e.rightEnd.id FROM " + JPAUMembership.class.getSimpleName()
+                        + " e WHERE e.leftEnd.id IN :keys", keys),
+                findDynMembershipKeys(JPAGroupDAO.UDYNMEMB_TABLE, "group_id", keys));
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     @Override
     public Collection<String> findAllGroupNames(final User user) {
@@ -562,4 +630,12 @@ public class JPAUserDAO extends AbstractAnyDAO<User> implements UserDAO {
         return findAllResources(authFind(key)).stream().map(resource -> resource.getKey()).collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public Map<String, List<String>> findAllResourceKeys(final Collection<String> keys) {
+        return merge(
+                findRelatedKeys("SELECT e.id, r.id FROM " + JPAUser.class.getSimpleName() + " e JOIN e.resources r"
+                        + " WHERE e.id IN :keys", keys),
+                findGroupResourceKeys(groupDAO(), findAllGroupKeys(keys)));
+    }
 }
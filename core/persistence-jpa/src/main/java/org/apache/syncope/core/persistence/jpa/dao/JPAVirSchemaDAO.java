@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.List;
 import javax.persistence.Query;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
@@ -39,11 +40,15 @@ import org.apache.syncope.core.persistence.jpa.entity.resource.JPAExternalResour
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAMapping;
 import org.apache.syncope.core.persistence.jpa.entity.resource.JPAProvision;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public class JPAVirSchemaDAO extends AbstractDAO<VirSchema> implements VirSchemaDAO {
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     private ExternalResourceDAO resourceDAO;
 
     private ExternalResourceDAO resourceDAO() {
@@ -116,11 +121,15 @@ public class JPAVirSchemaDAO extends AbstractDAO<VirSchema> implements VirSchema
 
     @Override
     public VirSchema save(final VirSchema virSchema) {
+        schemaMetadataCache.invalidate();
+
         return entityManager().merge(virSchema);
     }
 
     @Override
     public void delete(final String key) {
+        schemaMetadataCache.invalidate();
+
         VirSchema schema = find(key);
         if (schema == null) {
             return;
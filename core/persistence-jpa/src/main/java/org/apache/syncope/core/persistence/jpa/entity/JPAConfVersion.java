@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Table;
+
+/**
+ * Configuration version of the domain, shared by all nodes accessing the same database.
+ */
+@Entity
+@Table(name = JPAConfVersion.TABLE)
+@Cacheable(false)
+public class JPAConfVersion extends AbstractProvidedKeyEntity {
+
+    private static final long serialVersionUID = -2869447373938428441L;
+
+    public static final String TABLE = "ConfVersion";
+
+    /**
+     * Key of the only row, seeded at domain initialization.
+     */
+    public static final String KEY = "conf";
+
+    private long version;
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import java.io.Serializable;
+import javax.persistence.Embeddable;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
+
+@Embeddable
+public class JPAConnBulkheadConf implements ConnBulkheadConf, Serializable {
+
+    private static final long serialVersionUID = 4620934725021416683L;
+
+    private Integer maxConcurrentRequests;
+
+    private Long maxRequestWait;
+
+    private Integer failureThreshold;
+
+    private Long openInterval;
+
+    @Override
+    public Integer getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    @Override
+    public void setMaxConcurrentRequests(final Integer maxConcurrentRequests) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    @Override
+    public Long getMaxRequestWait() {
+        return maxRequestWait;
+    }
+
+    @Override
+    public void setMaxRequestWait(final Long maxRequestWait) {
+        this.maxRequestWait = maxRequestWait;
+    }
+
+    @Override
+    public Integer getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    @Override
+    public void setFailureThreshold(final Integer failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    @Override
+    public Long getOpenInterval() {
+        return openInterval;
+    }
+
+    @Override
+    public void setOpenInterval(final Long openInterval) {
+        this.openInterval = openInterval;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return EqualsBuilder.reflectionEquals(this, obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+}
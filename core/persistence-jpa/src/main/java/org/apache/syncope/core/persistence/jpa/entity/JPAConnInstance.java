@@ -42,6 +42,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
 import org.apache.syncope.core.persistence.api.entity.ConnPoolConf;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
@@ -130,6 +131,8 @@ public class JPAConnInstance extends AbstractGeneratedKeyEntity implements ConnI
 
     private JPAConnPoolConf poolConf;
 
+    private JPAConnBulkheadConf bulkheadConf;
+
     @Override
     public Realm getAdminRealm() {
         return adminRealm;
@@ -247,4 +250,15 @@ public class JPAConnInstance extends AbstractGeneratedKeyEntity implements ConnI
         this.poolConf = (JPAConnPoolConf) poolConf;
     }
 
+    @Override
+    public ConnBulkheadConf getBulkheadConf() {
+        return bulkheadConf;
+    }
+
+    @Override
+    public void setBulkheadConf(final ConnBulkheadConf bulkheadConf) {
+        checkType(bulkheadConf, JPAConnBulkheadConf.class);
+        this.bulkheadConf = (JPAConnBulkheadConf) bulkheadConf;
+    }
+
 }
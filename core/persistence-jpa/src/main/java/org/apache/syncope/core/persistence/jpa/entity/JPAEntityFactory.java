@@ -32,6 +32,7 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.persistence.api.entity.ConnInstanceHistoryConf;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
 import org.apache.syncope.core.persistence.api.entity.ConnPoolConf;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
 import org.apache.syncope.core.persistence.api.entity.Domain;
@@ -284,4 +285,9 @@ public class JPAEntityFactory implements EntityFactory {
         return new JPAConnPoolConf();
     }
 
+    @Override
+    public ConnBulkheadConf newConnBulkheadConf() {
+        return new JPAConnBulkheadConf();
+    }
+
 }
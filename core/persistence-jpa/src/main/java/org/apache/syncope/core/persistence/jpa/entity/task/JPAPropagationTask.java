@@ -19,6 +19,7 @@
 package org.apache.syncope.core.persistence.jpa.entity.task;
 
 import java.util.Arrays;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.Set;
 import javax.persistence.DiscriminatorValue;
@@ -27,6 +28,8 @@ import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.Lob;
 import javax.persistence.ManyToOne;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ResourceOperation;
@@ -78,6 +81,20 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
 
     private String entityKey;
 
+    /**
+     * When not null, this task is waiting in the propagation queue.
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date queued;
+
+    /**
+     * Node in charge of executing this queued task, until lease expiry.
+     */
+    private String queueOwner;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date leaseExpiry;
+
     /**
      * ExternalResource to which the propagation happens.
      */
@@ -186,4 +203,42 @@ public class JPAPropagationTask extends AbstractTask implements PropagationTask
     public void setEntityKey(final String entityKey) {
         this.entityKey = entityKey;
     }
+
+    @Override
+    public Date getQueued() {
+        return queued == null
+                ? null
+                : new Date(queued.getTime());
+    }
+
+    @Override
+    public void setQueued(final Date queued) {
+        this.queued = queued == null
+                ? null
+                : new Date(queued.getTime());
+    }
+
+    @Override
+    public String getQueueOwner() {
+        return queueOwner;
+    }
+
+    @Override
+    public void setQueueOwner(final String queueOwner) {
+        this.queueOwner = queueOwner;
+    }
+
+    @Override
+    public Date getLeaseExpiry() {
+        return leaseExpiry == null
+                ? null
+                : new Date(leaseExpiry.getTime());
+    }
+
+    @Override
+    public void setLeaseExpiry(final Date leaseExpiry) {
+        this.leaseExpiry = leaseExpiry == null
+                ? null
+                : new Date(leaseExpiry.getTime());
+    }
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.jpa;
 
+import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.content.ContentLoader;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,12 +27,16 @@ import org.springframework.stereotype.Component;
 @Component
 public class TestInitializer implements InitializingBean {
 
+    @Autowired
+    private DomainsHolder domainsHolder;
+
     @Autowired
     private ContentLoader contentLoader;
 
     @Override
     public void afterPropertiesSet() throws Exception {
         contentLoader.load();
+        domainsHolder.getDomains().forEach((domain, datasource) -> contentLoader.load(domain, datasource));
     }
 
 }
@@ -18,10 +18,15 @@
  */
 package org.apache.syncope.core.persistence.jpa.inner;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -52,6 +57,28 @@ public class AnyObjectTest extends AbstractTest {
         assertFalse(anyObject.getType().getClasses().isEmpty());
     }
 
+    @Test
+    public void bulkLookups() {
+        List<AnyObject> anyObjects = anyObjectDAO.findAll(1, 100);
+        List<String> keys = anyObjects.stream().map(AnyObject::getKey).collect(Collectors.toList());
+
+        assertEquals(new HashSet<>(anyObjects), new HashSet<>(anyObjectDAO.findByKeys(keys)));
+
+        Map<String, List<String>> groups = anyObjectDAO.findAllGroupKeys(keys);
+        Map<String, List<String>> resources = anyObjectDAO.findAllResourceKeys(keys);
+        anyObjects.forEach(anyObject -> {
+            assertEquals(new HashSet<>(anyObjectDAO.findAllGroupKeys(anyObject)),
+                    new HashSet<>(groups.get(anyObject.getKey())));
+            assertEquals(anyObjectDAO.findAllResources(anyObject).stream().
+                    map(resource -> resource.getKey()).collect(Collectors.toSet()),
+                    new HashSet<>(resources.get(anyObject.getKey())));
+        });
+
+        assertEquals(anyObjects.stream().flatMap(anyObject -> anyObjectDAO.findAllRelationships(anyObject).stream()).
+                collect(Collectors.toSet()),
+                new HashSet<>(anyObjectDAO.findAllRelationships(keys)));
+    }
+
     @Test
     public void save() {
         AnyObject anyObject = entityFactory.newEntity(AnyObject.class);
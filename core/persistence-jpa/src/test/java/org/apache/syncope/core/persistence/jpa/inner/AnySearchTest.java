@@ -24,8 +24,11 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -275,6 +278,79 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchFields() {
+        MembershipCond groupCond = new MembershipCond();
+        groupCond.setGroup("root");
+
+        Set<String> fields = new HashSet<>(Arrays.asList("key", "username", "fullname"));
+        List<Map<String, Object>> result = searchDAO.searchFields(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getLeafCond(groupCond), 1, 10, Collections.<OrderByClause>emptyList(),
+                AnyTypeKind.USER, fields);
+        assertEquals(2, result.size());
+
+        List<User> users = searchDAO.search(SearchCond.getLeafCond(groupCond), AnyTypeKind.USER);
+        assertEquals(users.size(), result.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertEquals(users.get(i).getKey(), result.get(i).get("key"));
+            assertEquals(users.get(i).getUsername(), result.get(i).get("username"));
+            assertEquals(users.get(i).getPlainAttr("fullname").get().getValuesAsStrings(),
+                    result.get(i).get("fullname"));
+        }
+    }
+
+    @Test
+    public void searchFieldsAsStrings() {
+        AttributeCond loginDateCond = new AttributeCond(AttributeCond.Type.ISNOTNULL);
+        loginDateCond.setSchema("loginDate");
+
+        List<Map<String, Object>> result = searchDAO.searchFields(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getLeafCond(loginDateCond), 1, 10, Collections.<OrderByClause>emptyList(),
+                AnyTypeKind.USER, new HashSet<>(Arrays.asList("key", "loginDate")));
+        assertFalse(result.isEmpty());
+
+        result.forEach(fields -> {
+            // formatted according to the conversion pattern of the Date schema
+            List<?> values = (List<?>) fields.get("loginDate");
+            assertFalse(values.isEmpty());
+            values.forEach(value -> assertTrue(value.toString().matches("\\d{4}-\\d{2}-\\d{2}")));
+
+            User user = userDAO.find((String) fields.get("key"));
+            assertEquals(user.getPlainAttr("loginDate").get().getValuesAsStrings(), values);
+        });
+    }
+
+    @Test
+    public void searchFieldsByKeyset() {
+        MembershipCond groupCond = new MembershipCond();
+        groupCond.setGroup("root");
+
+        OrderByClause orderByKey = new OrderByClause();
+        orderByKey.setField("key");
+        orderByKey.setDirection(OrderByClause.Direction.ASC);
+
+        List<Map<String, Object>> first = searchDAO.searchFields(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getLeafCond(groupCond), 1, 1, Collections.singletonList(orderByKey),
+                AnyTypeKind.USER, Collections.singleton("key"));
+        assertEquals(1, first.size());
+
+        AnyCond keyCond = new AnyCond(AttributeCond.Type.GT);
+        keyCond.setSchema("key");
+        keyCond.setExpression((String) first.get(0).get("key"));
+
+        List<Map<String, Object>> next = searchDAO.searchFields(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getAndCond(SearchCond.getLeafCond(groupCond), SearchCond.getLeafCond(keyCond)),
+                1, 1, Collections.singletonList(orderByKey), AnyTypeKind.USER, Collections.singleton("key"));
+        assertEquals(1, next.size());
+        assertTrue(((String) next.get(0).get("key")).compareTo((String) first.get(0).get("key")) > 0);
+
+        keyCond.setExpression((String) next.get(0).get("key"));
+        assertTrue(searchDAO.searchFields(SyncopeConstants.FULL_ADMIN_REALMS,
+                SearchCond.getAndCond(SearchCond.getLeafCond(groupCond), SearchCond.getLeafCond(keyCond)),
+                1, 1, Collections.singletonList(orderByKey), AnyTypeKind.USER, Collections.singleton("key")).
+                isEmpty());
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
@@ -35,6 +35,7 @@ import org.apache.syncope.common.lib.types.ConnConfPropSchema;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.StandardEntitlement;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.apache.syncope.core.spring.security.DelegatedAdministrationException;
@@ -109,6 +110,11 @@ public class ConnInstanceTest extends AbstractTest {
 
         connInstance.setConnRequestTimeout(60);
 
+        ConnBulkheadConf bulkheadConf = entityFactory.newConnBulkheadConf();
+        bulkheadConf.setMaxConcurrentRequests(2);
+        bulkheadConf.setOpenInterval(1000L);
+        connInstance.setBulkheadConf(bulkheadConf);
+
         // set the connector configuration using PropertyTO
         Set<ConnConfProperty> conf = new HashSet<>();
 
@@ -151,6 +157,11 @@ public class ConnInstanceTest extends AbstractTest {
 
         assertEquals(60, actual.getConnRequestTimeout(), 0);
 
+        assertEquals(2, actual.getBulkheadConf().getMaxConcurrentRequests(), 0);
+        assertNull(actual.getBulkheadConf().getMaxRequestWait());
+        assertNull(actual.getBulkheadConf().getFailureThreshold());
+        assertEquals(1000L, actual.getBulkheadConf().getOpenInterval(), 0);
+
         conf = connInstance.getConf();
         assertFalse(conf.isEmpty());
 
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyType;
+import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.group.TypeExtension;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.entity.JPAConfVersion;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional("Master")
+public class SchemaMetadataCacheTest extends AbstractTest {
+
+    private static final String REGION = "test";
+
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
+    @Autowired
+    private AnyTypeClassDAO anyTypeClassDAO;
+
+    @Autowired
+    private AnyTypeDAO anyTypeDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private RealmDAO realmDAO;
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Integer get() {
+        return schemaMetadataCache.get(REGION, "key", loads::incrementAndGet);
+    }
+
+    private void assertInvalidatedBy(final Runnable change) {
+        int cached = get();
+        assertEquals(cached, get().intValue());
+
+        change.run();
+
+        assertEquals(cached + 1, get().intValue());
+    }
+
+    @Before
+    public void reset() {
+        schemaMetadataCache.invalidate();
+    }
+
+    @After
+    public void restore() {
+        ReflectionTestUtils.setField(schemaMetadataCache, "ttl", 300L);
+        ReflectionTestUtils.setField(schemaMetadataCache, "syncInterval", 5L);
+    }
+
+    @Test
+    public void cached() {
+        assertEquals(1, get().intValue());
+        assertEquals(1, get().intValue());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void plainSchema() {
+        assertInvalidatedBy(() -> {
+            PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+            schema.setKey("cachedSchema");
+            schema.setType(AttrSchemaType.String);
+            plainSchemaDAO.save(schema);
+        });
+        assertInvalidatedBy(() -> plainSchemaDAO.delete("cachedSchema"));
+    }
+
+    @Test
+    public void anyTypeClass() {
+        assertInvalidatedBy(() -> {
+            AnyTypeClass anyTypeClass = entityFactory.newEntity(AnyTypeClass.class);
+            anyTypeClass.setKey("cached class");
+            anyTypeClass.add(plainSchemaDAO.find("firstname"));
+            anyTypeClassDAO.save(anyTypeClass);
+        });
+        assertInvalidatedBy(() -> anyTypeClassDAO.delete("cached class"));
+    }
+
+    @Test
+    public void anyType() {
+        assertInvalidatedBy(() -> {
+            AnyType anyType = entityFactory.newEntity(AnyType.class);
+            anyType.setKey("CACHED");
+            anyType.setKind(AnyTypeKind.ANY_OBJECT);
+            anyType.add(anyTypeClassDAO.find("csv"));
+            anyTypeDAO.save(anyType);
+        });
+        assertInvalidatedBy(() -> anyTypeDAO.delete("CACHED"));
+    }
+
+    @Test
+    public void groupTypeExtension() {
+        assertInvalidatedBy(() -> {
+            Group group = entityFactory.newEntity(Group.class);
+            group.setRealm(realmDAO.getRoot());
+            group.setName("cached");
+
+            TypeExtension typeExt = entityFactory.newEntity(TypeExtension.class);
+            typeExt.setAnyType(anyTypeDAO.findUser());
+            typeExt.add(anyTypeClassDAO.find("csv"));
+            group.add(typeExt);
+            typeExt.setGroup(group);
+
+            groupDAO.save(group);
+        });
+    }
+
+    @Test
+    public void invalidatedWhileLoading() {
+        Integer loaded = schemaMetadataCache.get(REGION, "key", () -> {
+            schemaMetadataCache.invalidate();
+            return 0;
+        });
+        assertEquals(0, loaded.intValue());
+
+        // the value loaded while invalidating was not retained
+        assertEquals(1, get().intValue());
+        assertEquals(1, get().intValue());
+    }
+
+    @Test
+    public void version() {
+        long version = schemaMetadataCache.getVersion();
+
+        schemaMetadataCache.invalidate();
+        assertTrue(schemaMetadataCache.getVersion() > version);
+    }
+
+    @Test
+    public void changedByOtherNode() {
+        ReflectionTestUtils.setField(schemaMetadataCache, "syncInterval", 0L);
+
+        assertInvalidatedBy(() -> entityManager().createNativeQuery(
+                "UPDATE " + JPAConfVersion.TABLE + " SET version=version+1").executeUpdate());
+    }
+
+    @Test
+    public void expired() {
+        ReflectionTestUtils.setField(schemaMetadataCache, "ttl", 0L);
+
+        assertEquals(1, get().intValue());
+        assertEquals(2, get().intValue());
+    }
+}
@@ -24,10 +24,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.ResourceOperation;
 import org.apache.syncope.common.lib.types.TaskType;
@@ -129,6 +133,54 @@ public class TaskTest extends AbstractTest {
         assertEquals(task, actual);
     }
 
+    @Test
+    public void findQueued() {
+        assertTrue(taskDAO.findQueued().isEmpty());
+
+        ExternalResource resource = resourceDAO.find("ws-target-resource-1");
+        assertNotNull(resource);
+
+        Date now = new Date();
+        List<String> keys = new ArrayList<>();
+        for (int i = 3; i > 0; i--) {
+            PropagationTask task = entityFactory.newEntity(PropagationTask.class);
+            task.setResource(resource);
+            task.setAnyTypeKind(AnyTypeKind.USER);
+            task.setAnyType(AnyTypeKind.USER.name());
+            task.setOperation(ResourceOperation.UPDATE);
+            task.setConnObjectKey("queued" + i + "@two.com");
+            task.setAttributes(Collections.singleton(AttributeBuilder.build("testAttribute", "testValue" + i)));
+            task.setQueued(new Date(now.getTime() - i * 1000));
+            keys.add(taskDAO.save(task).getKey());
+        }
+
+        List<Pair<String, String>> queued = taskDAO.findQueued();
+        assertEquals(keys, queued.stream().map(Pair::getLeft).collect(Collectors.toList()));
+        assertTrue(queued.stream().allMatch(pair -> resource.getKey().equals(pair.getRight())));
+
+        // leased tasks are not found until the lease expires
+        assertTrue(taskDAO.lease(keys.get(0), "node1", new Date(now.getTime() + 60000)));
+        assertTrue(taskDAO.lease(keys.get(1), "node1", new Date(now.getTime() - 1000)));
+        assertEquals(keys.subList(1, 3), taskDAO.findQueued().stream().
+                map(Pair::getLeft).collect(Collectors.toList()));
+
+        // leases held by another node are granted only once expired; the owner can always renew
+        assertFalse(taskDAO.lease(keys.get(0), "node2", new Date(now.getTime() + 60000)));
+        assertTrue(taskDAO.lease(keys.get(1), "node2", new Date(now.getTime() + 60000)));
+        assertTrue(taskDAO.lease(keys.get(0), "node1", new Date(now.getTime() + 120000)));
+        assertEquals(1, taskDAO.renewLeases("node2", new Date(now.getTime() + 120000)));
+        assertEquals(keys.subList(2, 3), taskDAO.findQueued().stream().
+                map(Pair::getLeft).collect(Collectors.toList()));
+
+        // executed tasks leave the queue
+        PropagationTask task = taskDAO.find(keys.get(2));
+        task.setQueued(null);
+        taskDAO.save(task);
+        taskDAO.flush();
+        assertTrue(taskDAO.findQueued().isEmpty());
+        assertFalse(taskDAO.lease(keys.get(2), "node1", new Date(now.getTime() + 60000)));
+    }
+
     @Test
     public void delete() {
         PropagationTask task = taskDAO.find("1e697572-b896-484c-ae7f-0c8f63fcbc6c");
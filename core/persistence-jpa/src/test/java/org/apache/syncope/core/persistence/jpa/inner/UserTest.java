@@ -21,10 +21,19 @@ package org.apache.syncope.core.persistence.jpa.inner;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
@@ -86,6 +95,51 @@ public class UserTest extends AbstractTest {
         assertEquals("did not get expected number of users", 1, list.size());
     }
 
+    @Test
+    public void findAllKeys() {
+        List<String> keys = userDAO.findAllKeys(null, 2);
+        assertEquals(2, keys.size());
+
+        List<String> all = new ArrayList<>(keys);
+        while (!keys.isEmpty()) {
+            keys = userDAO.findAllKeys(keys.get(keys.size() - 1), 2);
+            all.addAll(keys);
+        }
+        assertEquals(5, all.size());
+        assertEquals(userDAO.findAll(1, 100).stream().map(User::getKey).collect(Collectors.toList()), all);
+    }
+
+    @Test
+    public void findChangedKeys() {
+        List<String> all = new ArrayList<>(userDAO.findChangedKeys(new Date(0), null, 100));
+        assertEquals(new ArrayList<>(userDAO.findAllKeys(null, 100)), all);
+
+        assertTrue(userDAO.findChangedKeys(new Date(System.currentTimeMillis() + 60000), null, 100).isEmpty());
+    }
+
+    @Test
+    public void bulkLookups() {
+        List<User> users = userDAO.findAll(1, 100);
+        List<String> keys = users.stream().map(User::getKey).collect(Collectors.toList());
+
+        // more keys than allowed by some DBMSes in IN lists
+        List<String> manyKeys = new ArrayList<>(keys);
+        IntStream.range(0, 1500).forEach(i -> manyKeys.add(UUID.randomUUID().toString()));
+        assertEquals(new HashSet<>(users), new HashSet<>(userDAO.findByKeys(manyKeys)));
+        assertEquals(manyKeys.size(), userDAO.findDynRealms(manyKeys).size());
+
+        Map<String, List<String>> roles = userDAO.findAllRoleKeys(keys);
+        Map<String, List<String>> groups = userDAO.findAllGroupKeys(keys);
+        Map<String, List<String>> resources = userDAO.findAllResourceKeys(keys);
+        users.forEach(user -> {
+            assertEquals(userDAO.findAllRoles(user).stream().map(role -> role.getKey()).collect(Collectors.toSet()),
+                    new HashSet<>(roles.get(user.getKey())));
+            assertEquals(new HashSet<>(userDAO.findAllGroupKeys(user)), new HashSet<>(groups.get(user.getKey())));
+            assertEquals(userDAO.findAllResources(user).stream().map(r -> r.getKey()).collect(Collectors.toSet()),
+                    new HashSet<>(resources.get(user.getKey())));
+        });
+    }
+
     @Test
     public void findByDerAttributeValue() {
         final List<User> list = userDAO.findByDerAttrValue("cn", "Vivaldi, Antonio");
@@ -120,6 +174,28 @@ public class UserTest extends AbstractTest {
         assertEquals("did not get expected number of users", 1, list.size());
     }
 
+    @Test
+    public void findKeysByField() {
+        Map<String, List<String>> found = userDAO.findKeysByField(
+                "username", Arrays.asList("rossini", "vivaldi", "notfound"));
+        assertEquals(2, found.size());
+        assertEquals(Collections.singletonList(userDAO.findKey("rossini")), found.get("rossini"));
+        assertEquals(Collections.singletonList(userDAO.findKey("vivaldi")), found.get("vivaldi"));
+
+        found = userDAO.findKeysByField("key", Collections.singletonList("1417acbe-cbf6-4277-9372-e75e04f97000"));
+        assertEquals(1, found.size());
+
+        assertTrue(userDAO.findKeysByField("name", Collections.singletonList("rossini")).isEmpty());
+    }
+
+    @Test
+    public void findKeysByPlainAttrStringValue() {
+        Map<String, List<String>> found = userDAO.findKeysByPlainAttrStringValue(
+                "fullname", Arrays.asList("Gioacchino Rossini", "notfound"));
+        assertEquals(1, found.size());
+        assertEquals(Collections.singletonList(userDAO.findKey("rossini")), found.get("Gioacchino Rossini"));
+    }
+
     @Test
     public void findByKey() {
         User user = userDAO.find("1417acbe-cbf6-4277-9372-e75e04f97000");
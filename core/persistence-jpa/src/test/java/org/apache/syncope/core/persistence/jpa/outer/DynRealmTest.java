@@ -18,12 +18,15 @@
  */
 package org.apache.syncope.core.persistence.jpa.outer;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
@@ -91,6 +94,11 @@ public class DynRealmTest extends AbstractTest {
         assertTrue(searchDAO.matches(user, SearchCond.getLeafCond(dynRealmCond)));
 
         assertTrue(userDAO.findDynRealms(user.getKey()).contains(actual.getKey()));
+
+        Map<String, List<String>> bulk = userDAO.findDynRealms(
+                matching.stream().map(User::getKey).collect(Collectors.toList()));
+        assertEquals(matching.size(), bulk.size());
+        matching.forEach(match -> assertEquals(userDAO.findDynRealms(match.getKey()), bulk.get(match.getKey())));
     }
 
 }
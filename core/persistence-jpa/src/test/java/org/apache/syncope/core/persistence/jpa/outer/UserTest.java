@@ -38,7 +38,10 @@ import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.UDynGroupMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrValue;
@@ -76,6 +79,9 @@ public class UserTest extends AbstractTest {
     @Autowired
     private DerSchemaDAO derSchemaDAO;
 
+    @Autowired
+    private RealmDAO realmDAO;
+
     @Test
     public void delete() {
         List<UMembership> memberships = groupDAO.findUMemberships(groupDAO.findByName("managingDirector"));
@@ -271,4 +277,43 @@ public class UserTest extends AbstractTest {
 
         assertTrue(afterwards.after(initial));
     }
+
+    @Test
+    public void saveLoginState() {
+        // 1. no dynamic membership refers to login state
+        User user = userDAO.findByUsername("rossini");
+        user.setLastLoginDate(new Date());
+        user.setFailedLogins(3);
+        userDAO.saveLoginState(user);
+
+        userDAO.flush();
+
+        user = userDAO.findByUsername("rossini");
+        assertNotNull(user.getLastLoginDate());
+        assertEquals(3, user.getFailedLogins(), 0);
+
+        // 2. create group with dynamic membership on failed logins
+        Group group = entityFactory.newEntity(Group.class);
+        group.setRealm(realmDAO.getRoot());
+        group.setName("failingLogins");
+
+        UDynGroupMembership dynMembership = entityFactory.newEntity(UDynGroupMembership.class);
+        dynMembership.setFIQLCond("failedLogins=gt=2");
+        dynMembership.setGroup(group);
+        group.setUDynMembership(dynMembership);
+
+        group = groupDAO.save(group);
+
+        groupDAO.flush();
+
+        assertTrue(groupDAO.findUDynMembers(group).contains(user.getKey()));
+
+        // 3. dynamic membership is now refreshed along with login state
+        user.setFailedLogins(0);
+        userDAO.saveLoginState(user);
+
+        userDAO.flush();
+
+        assertFalse(groupDAO.findUDynMembers(group).contains(user.getKey()));
+    }
 }
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.List;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.OperationOptions;
+
+/**
+ * Optional extension for connectors able to perform several create, update or delete operations with a single
+ * request to the external resource; propagation tasks for the same resource and operation, executed at the same time,
+ * are sent together to connectors implementing this interface, while other connectors receive one call per object.
+ *
+ * @see BatchConnectorFactory
+ */
+public interface BatchConnector extends Connector {
+
+    /**
+     * Performs the given operations, all of the same type and object class.
+     * The outcome of each operation must be reported individually, via {@link BatchOperation#setResult} or
+     * {@link BatchOperation#setFailure}; failure of some operations shall not prevent the others from being performed.
+     *
+     * @param operation operation type
+     * @param objectClass ConnId's object class
+     * @param operations operations to perform
+     * @param options ConnId's OperationOptions
+     */
+    void execute(
+            ResourceOperation operation,
+            ObjectClass objectClass,
+            List<BatchOperation> operations,
+            OperationOptions options);
+}
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+
+/**
+ * Extension point for connector bundles able to perform batch operations: Spring beans implementing this interface
+ * are consulted, in turn, whenever a {@link Connector} is built, and the first one supporting the given connector
+ * instance turns it into a {@link BatchConnector}.
+ */
+public interface BatchConnectorFactory {
+
+    /**
+     * @param connInstance connector instance
+     * @return whether this factory can build {@link BatchConnector} instances for the given connector instance
+     */
+    boolean supports(ConnInstance connInstance);
+
+    /**
+     * @param connector standard connector for the supported connector instance, to which single operations can be
+     * delegated
+     * @return batch connector
+     */
+    BatchConnector create(Connector connector);
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api;
+
+import java.util.Collections;
+import java.util.Set;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.Uid;
+
+/**
+ * Single create, update or delete operation within a batch sent to a {@link BatchConnector}, with its own outcome.
+ */
+public class BatchOperation {
+
+    private final Uid uid;
+
+    private final Set<Attribute> attrs;
+
+    private Uid result;
+
+    private RuntimeException failure;
+
+    /**
+     * @param uid object to be updated or deleted, null for creation
+     * @param attrs attributes for creation or update, empty for deletion
+     */
+    public BatchOperation(final Uid uid, final Set<Attribute> attrs) {
+        this.uid = uid;
+        this.attrs = attrs == null ? Collections.emptySet() : attrs;
+    }
+
+    public Uid getUid() {
+        return uid;
+    }
+
+    public Set<Attribute> getAttrs() {
+        return attrs;
+    }
+
+    public Uid getResult() {
+        return result;
+    }
+
+    public void setResult(final Uid result) {
+        this.result = result;
+    }
+
+    public RuntimeException getFailure() {
+        return failure;
+    }
+
+    public void setFailure(final RuntimeException failure) {
+        this.failure = failure;
+    }
+}
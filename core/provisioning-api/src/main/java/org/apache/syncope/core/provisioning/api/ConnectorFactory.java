@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.api;
 
 import java.util.Collection;
+import org.apache.syncope.common.lib.to.ConnectorHealthTO;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
@@ -61,12 +62,27 @@ public interface ConnectorFactory {
     Connector getConnector(ExternalResource resource);
 
     /**
-     * Load connectors for all existing resources.
+     * Get the current health of the connector for the given resource: circuit state, concurrent requests, rejections,
+     * timeouts and latency histogram.
      *
-     * @see ExternalResource
+     * @param resource the resource
+     * @return health of the connector for the given resource
+     */
+    ConnectorHealthTO getHealth(ExternalResource resource);
+
+    /**
+     * Load connector bundles.
      */
     void load();
 
+    /**
+     * Load connectors for all existing resources of the given domain.
+     *
+     * @param domain domain
+     * @see ExternalResource
+     */
+    void load(String domain);
+
     /**
      * Unload connectors for all existing resources.
      *
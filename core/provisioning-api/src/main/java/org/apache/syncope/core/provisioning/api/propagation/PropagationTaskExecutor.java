@@ -49,6 +49,14 @@ public interface PropagationTaskExecutor {
      */
     TaskExec execute(PropagationTask task);
 
+    /**
+     * Execute the PropagationTask with the given key, if still waiting in the propagation queue.
+     *
+     * @param key key of the queued PropagationTask
+     * @return the generated TaskExec, or {@code null} if no such task is queued any more
+     */
+    TaskExec executeQueued(String key);
+
     /**
      * Execute a collection of PropagationTask objects.
      * The process is interrupted as soon as the result of the communication with a resource with non-null priority is
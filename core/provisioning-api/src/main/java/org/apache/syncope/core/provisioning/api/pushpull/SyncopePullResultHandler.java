@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.provisioning.api.pushpull;
 
+import java.util.List;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
@@ -28,4 +29,15 @@ public interface SyncopePullResultHandler extends SyncopeResultHandler<PullTask,
 
     @Override
     boolean handle(SyncDelta delta);
+
+    /**
+     * Same as {@link #handle(SyncDelta)}, but with matching entities already found by the caller.
+     *
+     * @param delta delta to handle
+     * @param matchingKeys keys of the entities matching the given delta, or {@code null} if not known
+     * @return whether to continue handling deltas
+     */
+    default boolean handle(SyncDelta delta, List<String> matchingKeys) {
+        return handle(delta);
+    }
 }
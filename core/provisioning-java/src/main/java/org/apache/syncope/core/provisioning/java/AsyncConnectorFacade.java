@@ -20,7 +20,6 @@ package org.apache.syncope.core.provisioning.java;
 
 import java.util.Collections;
 import java.util.Set;
-import java.util.concurrent.Future;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -36,6 +35,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.stereotype.Component;
+import org.springframework.util.concurrent.ListenableFuture;
 
 /**
  * Intercept calls to ConnectorFacade's methods and check if the corresponding connector instance has been configured to
@@ -47,7 +47,7 @@ public class AsyncConnectorFacade {
     private static final Logger LOG = LoggerFactory.getLogger(AsyncConnectorFacade.class);
 
     @Async
-    public Future<Uid> authenticate(
+    public ListenableFuture<Uid> authenticate(
             final ConnectorFacade connector,
             final String username,
             final GuardedString password,
@@ -57,7 +57,7 @@ public class AsyncConnectorFacade {
     }
 
     @Async
-    public Future<Uid> create(
+    public ListenableFuture<Uid> create(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Set<Attribute> attrs,
@@ -67,7 +67,7 @@ public class AsyncConnectorFacade {
     }
 
     @Async
-    public Future<Uid> update(
+    public ListenableFuture<Uid> update(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
@@ -78,7 +78,7 @@ public class AsyncConnectorFacade {
     }
 
     @Async
-    public Future<Uid> delete(
+    public ListenableFuture<Uid> delete(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Uid uid,
@@ -89,14 +89,14 @@ public class AsyncConnectorFacade {
     }
 
     @Async
-    public Future<SyncToken> getLatestSyncToken(
+    public ListenableFuture<SyncToken> getLatestSyncToken(
             final ConnectorFacade connector, final ObjectClass objectClass) {
 
         return new AsyncResult<>(connector.getLatestSyncToken(objectClass));
     }
 
     @Async
-    public Future<ConnectorObject> getObject(
+    public ListenableFuture<ConnectorObject> getObject(
             final ConnectorFacade connector,
             final ObjectClass objectClass,
             final Attribute connObjectKey,
@@ -112,7 +112,7 @@ public class AsyncConnectorFacade {
     }
 
     @Async
-    public Future<Set<ObjectClassInfo>> getObjectClassInfo(final ConnectorFacade connector) {
+    public ListenableFuture<Set<ObjectClassInfo>> getObjectClassInfo(final ConnectorFacade connector) {
         Set<ObjectClassInfo> result = Collections.emptySet();
 
         try {
@@ -126,13 +126,13 @@ public class AsyncConnectorFacade {
     }
 
     @Async
-    public Future<String> validate(final ConnectorFacade connector) {
+    public ListenableFuture<String> validate(final ConnectorFacade connector) {
         connector.validate();
         return new AsyncResult<>("OK");
     }
 
     @Async
-    public Future<String> test(final ConnectorFacade connector) {
+    public ListenableFuture<String> test(final ConnectorFacade connector) {
         connector.test();
         return new AsyncResult<>("OK");
     }
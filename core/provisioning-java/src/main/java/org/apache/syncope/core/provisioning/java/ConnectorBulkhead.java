@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.syncope.common.lib.to.ConnectorHealthTO;
+import org.apache.syncope.common.lib.types.ConnectorCircuitState;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.concurrent.ListenableFuture;
+
+/**
+ * Isolates the requests sent to the connector of a given external resource, so that a slow or unreachable resource
+ * cannot take all the threads available for connector requests.
+ *
+ * The number of concurrent requests is bounded, as well as the time spent waiting for a free slot; after a number
+ * of consecutive timeouts or connection failures, requests are rejected for a while (circuit open), then a single
+ * probe request is let through to check whether the resource has recovered (circuit half-open).
+ *
+ * Requests run on threads owned by the bulkhead, so that the requests to other connectors are not left waiting for
+ * a thread held by a slow one.
+ */
+public class ConnectorBulkhead {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectorBulkhead.class);
+
+    /**
+     * Upper bounds, in milliseconds, of the latency histogram buckets; an additional bucket holds slower requests.
+     */
+    private static final long[] LATENCY_BOUNDS = { 10, 50, 100, 250, 500, 1000, 2500, 5000, 10000, 30000 };
+
+    private final String name;
+
+    private final int maxConcurrent;
+
+    private final long maxWait;
+
+    private final int failureThreshold;
+
+    private final long openInterval;
+
+    private final Semaphore permits;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private final AtomicBoolean probing = new AtomicBoolean();
+
+    private volatile ConnectorCircuitState state = ConnectorCircuitState.CLOSED;
+
+    private volatile long openedAt;
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder rejections = new LongAdder();
+
+    private final LongAdder timeouts = new LongAdder();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BOUNDS.length + 1);
+
+    /**
+     * @param name resource name, for logging and reporting
+     * @param maxConcurrent max number of concurrent requests
+     * @param maxWait max time (in milliseconds) to wait for a free slot
+     * @param failureThreshold number of consecutive timeouts or connection failures opening the circuit
+     * @param openInterval time (in milliseconds) the circuit is kept open before letting a probe request through
+     */
+    public ConnectorBulkhead(
+            final String name,
+            final int maxConcurrent,
+            final long maxWait,
+            final int failureThreshold,
+            final long openInterval) {
+
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWait = maxWait;
+        this.failureThreshold = failureThreshold;
+        this.openInterval = openInterval;
+        this.permits = new Semaphore(maxConcurrent, true);
+
+        // the permits already bound the number of running requests: the queue only holds a request submitted while
+        // the thread which ran the previous one has released its permit but is not yet back to the pool
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(maxConcurrent);
+        this.executor.setMaxPoolSize(maxConcurrent);
+        this.executor.setAllowCoreThreadTimeOut(true);
+        this.executor.setThreadNamePrefix("connector-" + name + "-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.initialize();
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public long getMaxWait() {
+        return maxWait;
+    }
+
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    public long getOpenInterval() {
+        return openInterval;
+    }
+
+    /**
+     * Runs the given request on the threads of this bulkhead; to be invoked after {@link #acquire()}.
+     *
+     * @param <T> result type
+     * @param request request to run
+     * @return future result
+     */
+    public <T> ListenableFuture<T> submit(final Callable<T> request) {
+        return executor.submitListenable(request);
+    }
+
+    /**
+     * Stops accepting new requests; the ones already submitted are let complete.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private TimeoutException reject(final String reason) {
+        rejections.increment();
+        LOG.debug("Request to {} rejected: {}", name, reason);
+        return new TimeoutException("Request to " + name + " rejected: " + reason);
+    }
+
+    /**
+     * Acquires a slot for a new request, waiting if needed.
+     *
+     * @return whether the request is the probe for an half-open circuit
+     * @throws TimeoutException if the circuit is open or no slot was freed in due time
+     */
+    public boolean acquire() {
+        boolean probe = false;
+        if (state == ConnectorCircuitState.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openInterval) {
+                throw reject("circuit open");
+            }
+            state = ConnectorCircuitState.HALF_OPEN;
+        }
+        if (state == ConnectorCircuitState.HALF_OPEN) {
+            if (!probing.compareAndSet(false, true)) {
+                throw reject("circuit half-open, waiting for probe request");
+            }
+            probe = true;
+        }
+
+        boolean acquired;
+        waiting.incrementAndGet();
+        try {
+            acquired = permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            waiting.decrementAndGet();
+        }
+        if (!acquired) {
+            if (probe) {
+                probing.set(false);
+            }
+            throw reject("too many concurrent requests");
+        }
+
+        calls.increment();
+        return probe;
+    }
+
+    /**
+     * Frees the slot taken by a request: to be invoked once the request is actually over, not when the caller
+     * stops waiting for it.
+     */
+    public void release() {
+        permits.release();
+    }
+
+    /**
+     * Records the outcome of a request, as seen by the caller.
+     *
+     * @param probe whether the request was the probe for an half-open circuit
+     * @param timeout whether the request timed out
+     * @param connectionFailure whether the request failed because the resource could not be reached
+     * @param failure whether the request failed for other reasons
+     * @param elapsed time spent (in nanoseconds)
+     */
+    public void completed(
+            final boolean probe,
+            final boolean timeout,
+            final boolean connectionFailure,
+            final boolean failure,
+            final long elapsed) {
+
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+        int bucket = 0;
+        while (bucket < LATENCY_BOUNDS.length && millis > LATENCY_BOUNDS[bucket]) {
+            bucket++;
+        }
+        latencies.incrementAndGet(bucket);
+
+        if (timeout) {
+            timeouts.increment();
+        } else if (connectionFailure || failure) {
+            failures.increment();
+        }
+
+        if (timeout || connectionFailure) {
+            if (consecutiveFailures.incrementAndGet() >= failureThreshold || probe) {
+                openedAt = System.currentTimeMillis();
+                state = ConnectorCircuitState.OPEN;
+                LOG.warn("Circuit open for {}: requests will be rejected for {} ms", name, openInterval);
+            }
+        } else {
+            consecutiveFailures.set(0);
+            if (probe) {
+                state = ConnectorCircuitState.CLOSED;
+                LOG.info("Circuit closed for {}", name);
+            }
+        }
+
+        if (probe) {
+            probing.set(false);
+        }
+    }
+
+    public ConnectorHealthTO getHealth() {
+        ConnectorHealthTO health = new ConnectorHealthTO();
+        health.setResource(name);
+        health.setCircuitState(state);
+        health.setMaxConcurrent(maxConcurrent);
+        health.setActive(maxConcurrent - permits.availablePermits());
+        health.setWaiting(waiting.get());
+        health.setCalls(calls.sum());
+        health.setRejections(rejections.sum());
+        health.setTimeouts(timeouts.sum());
+        health.setFailures(failures.sum());
+        for (long bound : LATENCY_BOUNDS) {
+            health.getLatencyBounds().add(bound);
+        }
+        for (int i = 0; i < latencies.length(); i++) {
+            health.getLatencyCounts().add(latencies.get(i));
+        }
+        return health;
+    }
+}
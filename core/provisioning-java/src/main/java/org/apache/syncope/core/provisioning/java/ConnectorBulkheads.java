@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+
+/**
+ * Holds the {@link ConnectorBulkhead} instances for the connectors used by external resources, one per connector
+ * instance; settings are read from each connector instance, falling back to the defaults configured here.
+ */
+public class ConnectorBulkheads {
+
+    private final Map<String, ConnectorBulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    private int maxConcurrent = 5;
+
+    private long maxWait = 5000;
+
+    private int failureThreshold = 5;
+
+    private long openInterval = 30000;
+
+    public void setMaxConcurrent(final int maxConcurrent) {
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    public void setMaxWait(final long maxWait) {
+        this.maxWait = maxWait;
+    }
+
+    public void setFailureThreshold(final int failureThreshold) {
+        this.failureThreshold = failureThreshold;
+    }
+
+    public void setOpenInterval(final long openInterval) {
+        this.openInterval = openInterval;
+    }
+
+    /**
+     * Returns the bulkhead for the given connector instance: the existing one is kept - together with its state and
+     * counters - unless its settings have changed meanwhile, in which case it is replaced.
+     *
+     * @param connInstance connector instance
+     * @return bulkhead for the given connector instance
+     */
+    public ConnectorBulkhead get(final ConnInstance connInstance) {
+        ConnBulkheadConf conf = connInstance.getBulkheadConf();
+        int connMaxConcurrent = conf == null || conf.getMaxConcurrentRequests() == null
+                ? maxConcurrent : conf.getMaxConcurrentRequests();
+        long connMaxWait = conf == null || conf.getMaxRequestWait() == null
+                ? maxWait : conf.getMaxRequestWait();
+        int connFailureThreshold = conf == null || conf.getFailureThreshold() == null
+                ? failureThreshold : conf.getFailureThreshold();
+        long connOpenInterval = conf == null || conf.getOpenInterval() == null
+                ? openInterval : conf.getOpenInterval();
+
+        ConnectorBulkhead[] replaced = new ConnectorBulkhead[1];
+        ConnectorBulkhead bulkhead = bulkheads.compute(connInstance.getKey(), (key, existing) -> {
+            if (existing != null
+                    && existing.getMaxConcurrent() == connMaxConcurrent
+                    && existing.getMaxWait() == connMaxWait
+                    && existing.getFailureThreshold() == connFailureThreshold
+                    && existing.getOpenInterval() == connOpenInterval) {
+
+                return existing;
+            }
+
+            replaced[0] = existing;
+            return new ConnectorBulkhead(
+                    connInstance.getDisplayName(),
+                    connMaxConcurrent, connMaxWait, connFailureThreshold, connOpenInterval);
+        });
+        if (replaced[0] != null) {
+            replaced[0].shutdown();
+        }
+
+        return bulkhead;
+    }
+
+    public Optional<ConnectorBulkhead> find(final String connInstanceKey) {
+        return Optional.ofNullable(bulkheads.get(connInstanceKey));
+    }
+
+    public void remove(final String connInstanceKey) {
+        Optional.ofNullable(bulkheads.remove(connInstanceKey)).ifPresent(ConnectorBulkhead::shutdown);
+    }
+}
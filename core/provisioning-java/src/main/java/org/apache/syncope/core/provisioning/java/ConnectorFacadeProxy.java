@@ -21,9 +21,10 @@ package org.apache.syncope.core.provisioning.java;
 import java.io.File;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
@@ -41,6 +42,8 @@ import org.identityconnectors.framework.api.ConfigurationProperties;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.identityconnectors.framework.api.ConnectorInfo;
+import org.identityconnectors.framework.common.exceptions.ConnectionFailedException;
+import org.identityconnectors.framework.common.exceptions.ConnectorIOException;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
 import org.identityconnectors.framework.common.objects.ObjectClass;
@@ -59,9 +62,11 @@ import org.identityconnectors.framework.common.objects.filter.Filter;
 import org.identityconnectors.framework.spi.SearchResultsHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
 
 public class ConnectorFacadeProxy implements Connector {
 
@@ -79,6 +84,11 @@ public class ConnectorFacadeProxy implements Connector {
      */
     private final ConnInstance connInstance;
 
+    /**
+     * Bulkhead isolating the requests to this connector, if registered for an external resource.
+     */
+    private ConnectorBulkhead bulkhead;
+
     @Autowired
     private AsyncConnectorFacade asyncFacade;
 
@@ -129,26 +139,61 @@ public class ConnectorFacadeProxy implements Connector {
         connector.validate();
     }
 
+    public void setBulkhead(final ConnectorBulkhead bulkhead) {
+        this.bulkhead = bulkhead;
+    }
+
+    private <T> T execute(final Function<AsyncConnectorFacade, ListenableFuture<T>> operation) {
+        boolean probe = bulkhead == null ? false : bulkhead.acquire();
+        long start = System.nanoTime();
+
+        ListenableFuture<T> future = null;
+        boolean timeout = false;
+        boolean connectionFailure = false;
+        boolean failure = false;
+        try {
+            if (bulkhead == null) {
+                future = operation.apply(asyncFacade);
+            } else {
+                // run on the bulkhead threads, invoking the facade directly rather than via its asynchronous proxy
+                AsyncConnectorFacade facade = Optional.ofNullable(AopProxyUtils.getSingletonTarget(asyncFacade)).
+                        map(AsyncConnectorFacade.class::cast).orElse(asyncFacade);
+                future = bulkhead.submit(() -> operation.apply(facade).get());
+                future.addCallback(result -> bulkhead.release(), e -> bulkhead.release());
+            }
+
+            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
+            timeout = true;
+            future.cancel(true);
+            throw new TimeoutException("Request timeout");
+        } catch (Exception e) {
+            LOG.error("Connector request execution failure", e);
+            connectionFailure = e.getCause() instanceof ConnectionFailedException
+                    || e.getCause() instanceof ConnectorIOException;
+            failure = true;
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else {
+                throw new IllegalArgumentException(e.getCause());
+            }
+        } finally {
+            if (bulkhead != null) {
+                if (future == null) {
+                    bulkhead.release();
+                }
+                bulkhead.completed(probe, timeout, connectionFailure, failure, System.nanoTime() - start);
+            }
+        }
+    }
+
     @Override
     public Uid authenticate(final String username, final String password, final OperationOptions options) {
         Uid result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.AUTHENTICATE)) {
-            Future<Uid> future = asyncFacade.authenticate(
-                    connector, username, new GuardedString(password.toCharArray()), options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new IllegalArgumentException(e.getCause());
-                }
-            }
+            result = execute(facade -> facade.authenticate(
+                    connector, username, new GuardedString(password.toCharArray()), options));
         } else {
             LOG.info("Authenticate was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -169,20 +214,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.CREATE)) {
             propagationAttempted[0] = true;
 
-            Future<Uid> future = asyncFacade.create(connector, objectClass, attrs, options);
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new IllegalArgumentException(e.getCause());
-                }
-            }
+            result = execute(facade -> facade.create(connector, objectClass, attrs, options));
         } else {
             LOG.info("Create was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
@@ -204,21 +236,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.UPDATE)) {
             propagationAttempted[0] = true;
 
-            Future<Uid> future = asyncFacade.update(connector, objectClass, uid, attrs, options);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new IllegalArgumentException(e.getCause());
-                }
-            }
+            result = execute(facade -> facade.update(connector, objectClass, uid, attrs, options));
         } else {
             LOG.info("Update for {} was attempted, although the "
                     + "connector only has these capabilities: {}. No action.",
@@ -238,21 +256,7 @@ public class ConnectorFacadeProxy implements Connector {
         if (connInstance.getCapabilities().contains(ConnectorCapability.DELETE)) {
             propagationAttempted[0] = true;
 
-            Future<Uid> future = asyncFacade.delete(connector, objectClass, uid, options);
-
-            try {
-                future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new IllegalArgumentException(e.getCause());
-                }
-            }
+            execute(facade -> facade.delete(connector, objectClass, uid, options));
         } else {
             LOG.info("Delete for {} was attempted, although the connector only has these capabilities: {}. No action.",
                     uid.getUidValue(), connInstance.getCapabilities());
@@ -277,21 +281,7 @@ public class ConnectorFacadeProxy implements Connector {
         SyncToken result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SYNC)) {
-            Future<SyncToken> future = asyncFacade.getLatestSyncToken(connector, objectClass);
-
-            try {
-                result = future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-            } catch (java.util.concurrent.TimeoutException e) {
-                future.cancel(true);
-                throw new TimeoutException("Request timeout");
-            } catch (Exception e) {
-                LOG.error("Connector request execution failure", e);
-                if (e.getCause() instanceof RuntimeException) {
-                    throw (RuntimeException) e.getCause();
-                } else {
-                    throw new IllegalArgumentException(e.getCause());
-                }
-            }
+            result = execute(facade -> facade.getLatestSyncToken(connector, objectClass));
         } else {
             LOG.info("getLatestSyncToken was attempted, although the "
                     + "connector only has these capabilities: {}. No action.", connInstance.getCapabilities());
@@ -329,56 +319,17 @@ public class ConnectorFacadeProxy implements Connector {
 
     @Override
     public Set<ObjectClassInfo> getObjectClassInfo() {
-        Future<Set<ObjectClassInfo>> future = asyncFacade.getObjectClassInfo(connector);
-        try {
-            return future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new IllegalArgumentException(e.getCause());
-            }
-        }
+        return execute(facade -> facade.getObjectClassInfo(connector));
     }
 
     @Override
     public void validate() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new IllegalArgumentException(e.getCause());
-            }
-        }
+        execute(facade -> facade.test(connector));
     }
 
     @Override
     public void test() {
-        Future<String> future = asyncFacade.test(connector);
-        try {
-            future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new IllegalArgumentException(e.getCause());
-            }
-        }
+        execute(facade -> facade.test(connector));
     }
 
     @Override
@@ -387,28 +338,16 @@ public class ConnectorFacadeProxy implements Connector {
             final Attribute connObjectKey,
             final OperationOptions options) {
 
-        Future<ConnectorObject> future = null;
+        ConnectorObject result = null;
 
         if (connInstance.getCapabilities().contains(ConnectorCapability.SEARCH)) {
-            future = asyncFacade.getObject(connector, objectClass, connObjectKey, options);
+            result = execute(facade -> facade.getObject(connector, objectClass, connObjectKey, options));
         } else {
             LOG.info("Search was attempted, although the connector only has these capabilities: {}. No action.",
                     connInstance.getCapabilities());
         }
 
-        try {
-            return future == null ? null : future.get(connInstance.getConnRequestTimeout(), TimeUnit.SECONDS);
-        } catch (java.util.concurrent.TimeoutException e) {
-            future.cancel(true);
-            throw new TimeoutException("Request timeout");
-        } catch (Exception e) {
-            LOG.error("Connector request execution failure", e);
-            if (e.getCause() instanceof RuntimeException) {
-                throw (RuntimeException) e.getCause();
-            } else {
-                throw new IllegalArgumentException(e.getCause());
-            }
-        }
+        return result;
     }
 
     @Override
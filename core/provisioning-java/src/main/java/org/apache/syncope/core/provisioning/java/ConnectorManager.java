@@ -21,17 +21,22 @@ package org.apache.syncope.core.provisioning.java;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import javax.sql.DataSource;
+import org.apache.syncope.common.lib.to.ConnectorHealthTO;
 import org.apache.syncope.common.lib.types.ConnConfProperty;
 import org.apache.syncope.common.lib.types.ConnectorCapability;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.provisioning.api.BatchConnectorFactory;
 import org.apache.syncope.core.provisioning.api.ConnIdBundleManager;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
@@ -56,6 +61,12 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
     @Autowired
     private ExternalResourceDAO resourceDAO;
 
+    @Autowired
+    private ConnectorBulkheads bulkheads;
+
+    @Autowired(required = false)
+    private List<BatchConnectorFactory> batchConnectorFactories;
+
     private EntityFactory entityFactory;
 
     @Override
@@ -134,22 +145,36 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
         return override;
     }
 
-    @Override
-    public Connector createConnector(final ConnInstance connInstance) {
-        Connector connector = new ConnectorFacadeProxy(connInstance);
+    private ConnectorFacadeProxy newConnectorFacadeProxy(final ConnInstance connInstance) {
+        ConnectorFacadeProxy connector = new ConnectorFacadeProxy(connInstance);
         ApplicationContextProvider.getBeanFactory().autowireBean(connector);
 
         return connector;
     }
 
+    private Connector decorate(final ConnectorFacadeProxy connector) {
+        if (batchConnectorFactories == null) {
+            return connector;
+        }
+
+        return batchConnectorFactories.stream().
+                filter(factory -> factory.supports(connector.getConnInstance())).findFirst().
+                <Connector>map(factory -> factory.create(connector)).
+                orElse(connector);
+    }
+
+    @Override
+    public Connector createConnector(final ConnInstance connInstance) {
+        return decorate(newConnectorFacadeProxy(connInstance));
+    }
+
     @Override
     public void registerConnector(final ExternalResource resource) {
         ConnInstance connInstance = buildConnInstanceOverride(
                 resource.getConnector(),
                 resource.getConfOverride(),
                 resource.isOverrideCapabilities() ? resource.getCapabilitiesOverride() : null);
-        Connector connector = createConnector(connInstance);
-        LOG.debug("Connector to be registered: {}", connector);
+        ConnectorFacadeProxy proxy = newConnectorFacadeProxy(connInstance);
 
         String beanName = getBeanName(resource);
 
@@ -157,6 +182,12 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
             unregisterConnector(beanName);
         }
 
+        // the bulkhead is shared by all resources using the same connector, and survives resource updates
+        proxy.setBulkhead(bulkheads.get(resource.getConnector()));
+
+        Connector connector = decorate(proxy);
+        LOG.debug("Connector to be registered: {}", connector);
+
         ApplicationContextProvider.getBeanFactory().registerSingleton(beanName, connector);
         LOG.debug("Successfully registered bean {}", beanName);
     }
@@ -164,18 +195,46 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
     @Override
     public void unregisterConnector(final String id) {
         ApplicationContextProvider.getBeanFactory().destroySingleton(id);
+        // only matches when invoked with the key of a connector instance being removed
+        bulkheads.remove(id);
+    }
+
+    @Override
+    public ConnectorHealthTO getHealth(final ExternalResource resource) {
+        // make sure that the connector is registered
+        getConnector(resource);
+
+        ConnectorHealthTO health = bulkheads.find(resource.getConnector().getKey()).map(ConnectorBulkhead::getHealth).
+                orElseThrow(() -> new NotFoundException("Connector for resource " + resource.getKey()));
+        health.setResource(resource.getKey());
+        return health;
     }
 
-    @Transactional(readOnly = true)
     @Override
     public void load() {
         // This is needed in order to avoid encoding problems when sending error messages via REST
         CurrentLocale.set(Locale.ENGLISH);
 
-        // Load all connector bundles
+        // Load all connector bundles, shared by all domains
         connIdBundleManager.getConnManagers();
+    }
 
-        // Load all resource-specific connectors
+    /**
+     * Each domain registers its own connectors, hence loading can run concurrently for different domains.
+     *
+     * @param domain domain to initialize
+     * @param datasource data source for the domain
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        load(domain);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void load(final String domain) {
+        // Load all resource-specific connectors of the given domain
         int connectors = 0;
         for (ExternalResource resource : resourceDAO.findAll()) {
             LOG.info("Registering resource-connector pair {}-{}", resource, resource.getConnector());
@@ -187,7 +246,7 @@ public class ConnectorManager implements ConnectorRegistry, ConnectorFactory, Sy
             }
         }
 
-        LOG.info("Done loading {} connectors", connectors);
+        LOG.info("Done loading {} connectors for domain {}", connectors, domain);
     }
 
     @Transactional(readOnly = true)
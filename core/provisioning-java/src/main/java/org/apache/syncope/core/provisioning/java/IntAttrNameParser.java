@@ -19,11 +19,13 @@
 package org.apache.syncope.core.provisioning.java;
 
 import org.apache.syncope.core.provisioning.api.IntAttrName;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
@@ -55,7 +57,14 @@ public class IntAttrNameParser {
     @Autowired
     private AnyUtilsFactory anyUtilsFactory;
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     private SchemaType find(final String key) {
+        return schemaMetadataCache.get("schemaType", key, () -> Optional.ofNullable(doFind(key))).orElse(null);
+    }
+
+    private SchemaType doFind(final String key) {
         Schema schema = plainSchemaDAO.find(key);
         if (schema == null) {
             schema = derSchemaDAO.find(key);
@@ -37,6 +37,7 @@ import org.apache.syncope.common.lib.to.RealmTO;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
@@ -139,6 +140,91 @@ public class MappingManagerImpl implements MappingManager {
     @Autowired
     private IntAttrNameParser intAttrNameParser;
 
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
+    /**
+     * What can be resolved once for a mapping item, regardless of the entity being propagated; no entity is held, as
+     * instances are shared across transactions until schemas or resources are changed.
+     * For the same reason, only the JEXL transformer is held: custom transformers are not required to be thread-safe,
+     * hence new instances are created for each use.
+     */
+    private static final class ItemPlan {
+
+        private final IntAttrName intAttrName;
+
+        private final AttrSchemaType schemaType;
+
+        private final boolean multivalue;
+
+        private final boolean readOnlyVirSchema;
+
+        private final Optional<ItemTransformer> jexlTransformer;
+
+        ItemPlan(
+                final IntAttrName intAttrName,
+                final AttrSchemaType schemaType,
+                final boolean multivalue,
+                final boolean readOnlyVirSchema,
+                final Optional<ItemTransformer> jexlTransformer) {
+
+            this.intAttrName = intAttrName;
+            this.schemaType = schemaType;
+            this.multivalue = multivalue;
+            this.readOnlyVirSchema = readOnlyVirSchema;
+            this.jexlTransformer = jexlTransformer;
+        }
+
+        List<ItemTransformer> getTransformers(final Item mapItem) {
+            List<ItemTransformer> transformers = new ArrayList<>();
+            jexlTransformer.ifPresent(transformers::add);
+            transformers.addAll(MappingUtils.getCustomItemTransformers(mapItem));
+            return transformers;
+        }
+    }
+
+    private ItemPlan compile(final Provision provision, final Item mapItem) {
+        IntAttrName intAttrName =
+                intAttrNameParser.parse(mapItem.getIntAttrName(), provision.getAnyType().getKind());
+
+        boolean readOnlyVirSchema = false;
+        Schema schema = null;
+        AttrSchemaType schemaType = AttrSchemaType.String;
+        if (intAttrName.getSchemaType() != null) {
+            switch (intAttrName.getSchemaType()) {
+                case PLAIN:
+                    schema = plainSchemaDAO.find(intAttrName.getSchemaName());
+                    if (schema != null) {
+                        schemaType = schema.getType();
+                    }
+                    break;
+
+                case VIRTUAL:
+                    schema = virSchemaDAO.find(intAttrName.getSchemaName());
+                    readOnlyVirSchema = (schema != null && schema.isReadonly());
+                    break;
+
+                default:
+            }
+        }
+
+        return new ItemPlan(
+                intAttrName,
+                schemaType,
+                schema != null && schema.isMultivalue(),
+                readOnlyVirSchema,
+                MappingUtils.getJEXLItemTransformer(mapItem));
+    }
+
+    private ItemPlan getItemPlan(final Provision provision, final Item mapItem) {
+        if (provision.getKey() == null || mapItem.getKey() == null) {
+            return compile(provision, mapItem);
+        }
+
+        return schemaMetadataCache.get(
+                "mappingPlan", provision.getKey() + '|' + mapItem.getKey(), () -> compile(provision, mapItem));
+    }
+
     @Transactional(readOnly = true)
     @Override
     public Pair<String, Set<Attribute>> prepareAttrs(
@@ -296,31 +382,11 @@ public class MappingManagerImpl implements MappingManager {
     private Pair<String, Attribute> prepareAttr(
             final Provision provision, final Item mapItem, final Any<?> any, final String password) {
 
-        IntAttrName intAttrName =
-                intAttrNameParser.parse(mapItem.getIntAttrName(), provision.getAnyType().getKind());
-
-        boolean readOnlyVirSchema = false;
-        Schema schema = null;
-        AttrSchemaType schemaType = AttrSchemaType.String;
-        if (intAttrName.getSchemaType() != null) {
-            switch (intAttrName.getSchemaType()) {
-                case PLAIN:
-                    schema = plainSchemaDAO.find(intAttrName.getSchemaName());
-                    if (schema != null) {
-                        schemaType = schema.getType();
-                    }
-                    break;
-
-                case VIRTUAL:
-                    schema = virSchemaDAO.find(intAttrName.getSchemaName());
-                    readOnlyVirSchema = (schema != null && schema.isReadonly());
-                    break;
+        ItemPlan plan = getItemPlan(provision, mapItem);
+        IntAttrName intAttrName = plan.intAttrName;
+        AttrSchemaType schemaType = plan.schemaType;
 
-                default:
-            }
-        }
-
-        List<PlainAttrValue> values = getIntValues(provision, mapItem, intAttrName, any);
+        List<PlainAttrValue> values = getIntValues(provision, mapItem, intAttrName, any, plan.getTransformers(mapItem));
 
         LOG.debug("Define mapping for: "
                 + "\n* ExtAttrName " + mapItem.getExtAttrName()
@@ -332,7 +398,7 @@ public class MappingManagerImpl implements MappingManager {
                 + "\n* Values " + values);
 
         Pair<String, Attribute> result;
-        if (readOnlyVirSchema) {
+        if (plan.readOnlyVirSchema) {
             result = null;
         } else {
             List<Object> objValues = new ArrayList<>();
@@ -371,7 +437,7 @@ public class MappingManagerImpl implements MappingManager {
                 } else {
                     result = Pair.of(null, AttributeBuilder.buildPassword(passwordAttrValue.toCharArray()));
                 }
-            } else if (schema != null && schema.isMultivalue()) {
+            } else if (plan.multivalue) {
                 result = Pair.of(null, AttributeBuilder.build(mapItem.getExtAttrName(), objValues));
             } else {
                 result = Pair.of(null, objValues.isEmpty()
@@ -391,6 +457,16 @@ public class MappingManagerImpl implements MappingManager {
             final IntAttrName intAttrName,
             final Any<?> any) {
 
+        return getIntValues(provision, mapItem, intAttrName, any, MappingUtils.getItemTransformers(mapItem));
+    }
+
+    private List<PlainAttrValue> getIntValues(
+            final Provision provision,
+            final Item mapItem,
+            final IntAttrName intAttrName,
+            final Any<?> any,
+            final List<ItemTransformer> transformers) {
+
         LOG.debug("Get internal values for {} as '{}' on {}", any, mapItem.getIntAttrName(), provision.getResource());
 
         Any<?> reference = null;
@@ -564,7 +640,7 @@ public class MappingManagerImpl implements MappingManager {
 
         List<PlainAttrValue> transformed = values;
         if (transform) {
-            for (ItemTransformer transformer : MappingUtils.getItemTransformers(mapItem)) {
+            for (ItemTransformer transformer : transformers) {
                 transformed = transformer.beforePropagation(mapItem, any, transformed);
             }
             LOG.debug("Transformed values: {}", values);
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.to.ConnBulkheadConfTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
 import org.apache.syncope.common.lib.to.ConnPoolConfTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
@@ -38,6 +39,7 @@ import org.apache.syncope.core.persistence.api.dao.ConnInstanceDAO;
 import org.apache.syncope.core.persistence.api.dao.ConnInstanceHistoryConfDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
 import org.apache.syncope.core.persistence.api.entity.ConnInstance;
 import org.apache.syncope.core.persistence.api.entity.ConnInstanceHistoryConf;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
@@ -56,7 +58,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
 
-    private static final String[] IGNORE_PROPERTIES = { "poolConf", "location", "adminRealm", "conf" };
+    private static final String[] IGNORE_PROPERTIES = {
+        "poolConf", "bulkheadConf", "location", "adminRealm", "conf" };
 
     @Autowired
     private ConnIdBundleManager connIdBundleManager;
@@ -76,6 +79,12 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
     @Autowired
     private EntityFactory entityFactory;
 
+    private ConnBulkheadConf getConnBulkheadConf(final ConnBulkheadConfTO bulkheadConfTO) {
+        ConnBulkheadConf bulkheadConf = entityFactory.newConnBulkheadConf();
+        BeanUtils.copyProperties(bulkheadConfTO, bulkheadConf);
+        return bulkheadConf;
+    }
+
     @Override
     public ConnInstance getConnInstance(final ConnInstanceTO connInstanceTO) {
         SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.RequiredValuesMissing);
@@ -117,6 +126,9 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
             connInstance.setPoolConf(
                     ConnPoolConfUtils.getConnPoolConf(connInstanceTO.getPoolConf(), entityFactory.newConnPoolConf()));
         }
+        if (connInstanceTO.getBulkheadConf() != null) {
+            connInstance.setBulkheadConf(getConnBulkheadConf(connInstanceTO.getBulkheadConf()));
+        }
 
         // Throw exception if there is at least one element set
         if (!sce.isEmpty()) {
@@ -203,6 +215,10 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
                     ConnPoolConfUtils.getConnPoolConf(connInstanceTO.getPoolConf(), entityFactory.newConnPoolConf()));
         }
 
+        connInstance.setBulkheadConf(connInstanceTO.getBulkheadConf() == null
+                ? null
+                : getConnBulkheadConf(connInstanceTO.getBulkheadConf()));
+
         try {
             connInstance = connInstanceDAO.save(connInstance);
         } catch (Exception e) {
@@ -275,6 +291,18 @@ public class ConnInstanceDataBinderImpl implements ConnInstanceDataBinder {
             connInstanceTO.setPoolConf(poolConf);
         }
 
+        // bulkhead configuration
+        if (connInstance.getBulkheadConf() != null
+                && (connInstance.getBulkheadConf().getMaxConcurrentRequests() != null
+                || connInstance.getBulkheadConf().getMaxRequestWait() != null
+                || connInstance.getBulkheadConf().getFailureThreshold() != null
+                || connInstance.getBulkheadConf().getOpenInterval() != null)) {
+
+            ConnBulkheadConfTO bulkheadConf = new ConnBulkheadConfTO();
+            BeanUtils.copyProperties(connInstance.getBulkheadConf(), bulkheadConf);
+            connInstanceTO.setBulkheadConf(bulkheadConf);
+        }
+
         return connInstanceTO;
     }
 }
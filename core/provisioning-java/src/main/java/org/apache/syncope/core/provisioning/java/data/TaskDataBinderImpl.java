@@ -318,6 +318,7 @@ public class TaskDataBinderImpl implements TaskDataBinder {
                 ((PropagationTaskTO) taskTO).setEntityKey(((PropagationTask) task).getEntityKey());
                 ((PropagationTaskTO) taskTO).setResource(((PropagationTask) task).getResource().getKey());
                 ((PropagationTaskTO) taskTO).setAttributes(((PropagationTask) task).getSerializedAttributes());
+                ((PropagationTaskTO) taskTO).setQueued(((PropagationTask) task).getQueued());
                 break;
 
             case SCHEDULED:
@@ -18,33 +18,61 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.PropagationStatus;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.BulkMembersActionType;
+import org.apache.syncope.common.lib.types.PropagationTaskExecStatus;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
-import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.AnyObjectProvisioningManager;
 import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
+import org.apache.syncope.core.provisioning.api.utils.ExceptionUtils2;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * (De)provisions all members of a group on the group's resources.
+ *
+ * Members are read in chunks via keyset paging and each chunk is processed with bounded parallelism; once a chunk is
+ * done, its per-member outcome is stored as a separate task execution, also acting as checkpoint: should the run be
+ * interrupted, the next one for the same task continues after the last completed chunk. The final execution only
+ * reports a summary.
+ */
 public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDelegate {
 
     public static final String ACTION_TYPE_JOBDETAIL_KEY = "actionType";
 
     public static final String GROUP_KEY_JOBDETAIL_KEY = "groupKey";
 
+    private static final String CHECKPOINT_PREFIX = "Checkpoint ";
+
+    private static final int CHUNK_SIZE = 100;
+
+    private static final int PARALLELISM = 5;
+
     @Autowired
     private GroupDAO groupDAO;
 
@@ -72,6 +100,136 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
         super.execute(taskKey, dryRun, context);
     }
 
+    /**
+     * Looks for the checkpoint left by an interrupted previous run: this is the case when the latest completed
+     * execution is a chunk execution rather than a summary.
+     *
+     * @return kind and key of the last member processed, or null if starting from scratch
+     */
+    private Pair<AnyTypeKind, String> findCheckpoint() {
+        TaskExec latest = taskExecDAO.findLatestEnded(task);
+        if (latest == null || latest.getMessage() == null || !latest.getMessage().startsWith(CHECKPOINT_PREFIX)) {
+            return null;
+        }
+
+        String[] checkpoint = StringUtils.substringBefore(
+                latest.getMessage().substring(CHECKPOINT_PREFIX.length()), "\n").split(" ");
+        return checkpoint.length == 2
+                ? Pair.of(AnyTypeKind.valueOf(checkpoint[0]), checkpoint[1])
+                : null;
+    }
+
+    private List<String> nextChunk(final AnyTypeKind kind, final String lastKey) {
+        MembershipCond membershipCond = new MembershipCond();
+        membershipCond.setGroup(groupKey);
+        SearchCond cond = SearchCond.getLeafCond(membershipCond);
+        if (lastKey != null) {
+            AnyCond keyCond = new AnyCond(AttributeCond.Type.GT);
+            keyCond.setSchema("key");
+            keyCond.setExpression(lastKey);
+            cond = SearchCond.getAndCond(cond, SearchCond.getLeafCond(keyCond));
+        }
+
+        OrderByClause orderByKey = new OrderByClause();
+        orderByKey.setField("key");
+        orderByKey.setDirection(OrderByClause.Direction.ASC);
+
+        List<String> keys = new ArrayList<>();
+        for (Map<String, Object> fields : searchDAO.searchFields(
+                SyncopeConstants.FULL_ADMIN_REALMS, cond, 1, CHUNK_SIZE, Collections.singletonList(orderByKey),
+                kind, Collections.singleton("key"))) {
+
+            keys.add((String) fields.get("key"));
+        }
+        return keys;
+    }
+
+    private List<PropagationStatus> provision(
+            final AnyTypeKind kind, final String key, final Collection<String> groupResourceKeys) {
+
+        if (kind == AnyTypeKind.USER) {
+            return actionType == BulkMembersActionType.DEPROVISION
+                    ? userProvisioningManager.deprovision(key, groupResourceKeys, false)
+                    : userProvisioningManager.provision(key, true, null, groupResourceKeys, false);
+        }
+
+        return actionType == BulkMembersActionType.DEPROVISION
+                ? anyObjectProvisioningManager.deprovision(key, groupResourceKeys, false)
+                : anyObjectProvisioningManager.provision(key, groupResourceKeys, false);
+    }
+
+    /**
+     * Processes all members of the given kind following the given key.
+     *
+     * @param kind member kind
+     * @param lastKey key of the last member already processed, if any
+     * @param groupResourceKeys resources to (de)provision
+     * @param executor executor for processing members in parallel
+     * @param counts processed and failed members, updated while processing
+     */
+    private void process(
+            final AnyTypeKind kind,
+            final String lastKey,
+            final Collection<String> groupResourceKeys,
+            final ExecutorService executor,
+            final int[] counts) {
+
+        String domain = AuthContextUtils.getDomain();
+
+        String from = lastKey;
+        for (List<String> chunk = nextChunk(kind, from); !chunk.isEmpty(); chunk = nextChunk(kind, from)) {
+            Date start = new Date();
+
+            List<Future<List<PropagationStatus>>> futures = new ArrayList<>(chunk.size());
+            chunk.forEach(key -> futures.add(executor.submit(() -> AuthContextUtils.execWithAuthContext(
+                    domain, () -> provision(kind, key, groupResourceKeys)))));
+
+            from = chunk.get(chunk.size() - 1);
+
+            StringBuilder detail = new StringBuilder(CHECKPOINT_PREFIX).
+                    append(kind.name()).append(' ').append(from).append("\n\n");
+            boolean chunkSuccess = true;
+            for (int i = 0; i < chunk.size(); i++) {
+                boolean success = true;
+                try {
+                    for (PropagationStatus status : futures.get(i).get()) {
+                        detail.append(kind.name()).append(' ').append(chunk.get(i)).append('\t').
+                                append("Resource ").append(status.getResource()).append('\t').
+                                append(status.getStatus());
+                        if (StringUtils.isNotBlank(status.getFailureReason())) {
+                            detail.append('\n').append(status.getFailureReason()).append('\n');
+                        }
+                        detail.append('\n');
+
+                        success &= status.getStatus() == PropagationTaskExecStatus.SUCCESS;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while processing " + kind + " " + chunk.get(i), e);
+                } catch (ExecutionException e) {
+                    LOG.error("While processing {} {}", kind, chunk.get(i), e);
+                    detail.append(kind.name()).append(' ').append(chunk.get(i)).append('\n').
+                            append(ExceptionUtils2.getFullStackTrace(e.getCause())).append('\n');
+                    success = false;
+                }
+                detail.append('\n');
+
+                counts[0]++;
+                if (!success) {
+                    counts[1]++;
+                    chunkSuccess = false;
+                }
+            }
+
+            TaskExec execution = entityFactory.newEntity(TaskExec.class);
+            execution.setStart(start);
+            execution.setEnd(new Date());
+            execution.setStatus(chunkSuccess ? TaskJob.Status.SUCCESS.name() : TaskJob.Status.FAILURE.name());
+            execution.setMessage(detail.toString());
+            taskExecDAO.saveAndAddInNewTransaction(task.getKey(), execution);
+        }
+    }
+
     @Override
     protected String doExecute(final boolean dryRun) throws JobExecutionException {
         Group group = groupDAO.authFind(groupKey);
@@ -82,46 +240,35 @@ public class GroupMemberProvisionTaskJobDelegate extends AbstractSchedTaskJobDel
         }
         result.append("provision\n\n");
 
-        MembershipCond membershipCond = new MembershipCond();
-        membershipCond.setGroup(groupKey);
-        List<User> users = searchDAO.search(SearchCond.getLeafCond(membershipCond), AnyTypeKind.USER);
-        Collection<String> groupResourceKeys = groupDAO.findAllResourceKeys(groupKey);
-        for (User user : users) {
-            List<PropagationStatus> statuses = actionType == BulkMembersActionType.DEPROVISION
-                    ? userProvisioningManager.deprovision(user.getKey(), groupResourceKeys, false)
-                    : userProvisioningManager.provision(user.getKey(), true, null, groupResourceKeys, false);
-            for (PropagationStatus status : statuses) {
-                result.append("User ").append(user.getKey()).append('\t').
-                        append("Resource ").append(status.getResource()).append('\t').
-                        append(status.getStatus());
-                if (StringUtils.isNotBlank(status.getFailureReason())) {
-                    result.append('\n').append(status.getFailureReason()).append('\n');
-                }
-                result.append("\n");
-            }
-            result.append("\n");
+        Pair<AnyTypeKind, String> checkpoint = findCheckpoint();
+        if (checkpoint != null) {
+            result.append("Resumed after ").append(checkpoint.getLeft()).append(' ').
+                    append(checkpoint.getRight()).append("\n\n");
         }
 
-        membershipCond = new MembershipCond();
-        membershipCond.setGroup(groupKey);
-        List<AnyObject> anyObjects = searchDAO.search(SearchCond.getLeafCond(membershipCond), AnyTypeKind.ANY_OBJECT);
-        for (AnyObject anyObject : anyObjects) {
-            List<PropagationStatus> statuses = actionType == BulkMembersActionType.DEPROVISION
-                    ? anyObjectProvisioningManager.deprovision(anyObject.getKey(), groupResourceKeys, false)
-                    : anyObjectProvisioningManager.provision(anyObject.getKey(), groupResourceKeys, false);
-
-            for (PropagationStatus status : statuses) {
-                result.append(anyObject.getType().getKey()).append(' ').append(anyObject.getKey()).append('\t').
-                        append("Resource ").append(status.getResource()).append('\t').
-                        append(status.getStatus());
-                if (StringUtils.isNotBlank(status.getFailureReason())) {
-                    result.append('\n').append(status.getFailureReason()).append('\n');
-                }
-                result.append("\n");
+        Collection<String> groupResourceKeys = groupDAO.findAllResourceKeys(groupKey);
+
+        int[] userCounts = new int[2];
+        int[] anyObjectCounts = new int[2];
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLELISM);
+        try {
+            if (checkpoint == null || checkpoint.getLeft() == AnyTypeKind.USER) {
+                process(AnyTypeKind.USER, checkpoint == null ? null : checkpoint.getRight(),
+                        groupResourceKeys, executor, userCounts);
             }
-            result.append("\n");
+            process(AnyTypeKind.ANY_OBJECT,
+                    checkpoint == null || checkpoint.getLeft() == AnyTypeKind.USER ? null : checkpoint.getRight(),
+                    groupResourceKeys, executor, anyObjectCounts);
+        } finally {
+            executor.shutdownNow();
         }
 
+        result.append("Users: ").append(userCounts[0]).append(" processed, ").
+                append(userCounts[1]).append(" with failures\n");
+        result.append("Any objects: ").append(anyObjectCounts[0]).append(" processed, ").
+                append(anyObjectCounts[1]).append(" with failures\n\n");
+        result.append("Per-member details are reported by the preceding executions of this task.");
+
         return result.toString();
     }
 
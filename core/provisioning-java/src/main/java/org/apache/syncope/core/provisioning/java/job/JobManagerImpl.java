@@ -28,6 +28,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -283,22 +284,8 @@ public class JobManagerImpl implements JobManager, SyncopeLoader {
         return 200;
     }
 
-    @Transactional
-    @Override
-    public void load() {
-        if (disableQuartzInstance) {
-            String instanceId = "AUTO";
-            try {
-                instanceId = scheduler.getScheduler().getSchedulerInstanceId();
-                scheduler.getScheduler().standby();
-
-                LOG.info("Successfully put Quartz instance {} in standby", instanceId);
-            } catch (SchedulerException e) {
-                LOG.error("Could not put Quartz instance {} in standby", instanceId, e);
-            }
-        }
-
-        final Pair<String, Long> conf = AuthContextUtils.execWithAuthContext(SyncopeConstants.MASTER_DOMAIN, () -> {
+    private Pair<String, Long> getConf() {
+        return AuthContextUtils.execWithAuthContext(SyncopeConstants.MASTER_DOMAIN, () -> {
             String notificationJobCronExpression = StringUtils.EMPTY;
 
             Optional<? extends CPlainAttr> notificationJobCronExp = confDAO.find("notificationjob.cronExpression");
@@ -312,34 +299,25 @@ public class JobManagerImpl implements JobManager, SyncopeLoader {
 
             return Pair.of(notificationJobCronExpression, interruptMaxRetries);
         });
+    }
 
-        for (String domain : domainsHolder.getDomains().keySet()) {
-            AuthContextUtils.execWithAuthContext(domain, () -> {
-                // 1. jobs for SchedTasks
-                Set<SchedTask> tasks = new HashSet<>(taskDAO.<SchedTask>findAll(TaskType.SCHEDULED));
-                tasks.addAll(taskDAO.<PullTask>findAll(TaskType.PULL));
-                tasks.addAll(taskDAO.<PushTask>findAll(TaskType.PUSH));
-                tasks.forEach(task -> {
-                    try {
-                        register(task, task.getStartAt(), conf.getRight());
-                    } catch (Exception e) {
-                        LOG.error("While loading job instance for task " + task.getKey(), e);
-                    }
-                });
-
-                // 2. jobs for Reports
-                reportDAO.findAll().forEach(report -> {
-                    try {
-                        register(report, null, conf.getRight());
-                    } catch (Exception e) {
-                        LOG.error("While loading job instance for report " + report.getName(), e);
-                    }
-                });
-
-                return null;
-            });
+    @Transactional
+    @Override
+    public void load() {
+        if (disableQuartzInstance) {
+            String instanceId = "AUTO";
+            try {
+                instanceId = scheduler.getScheduler().getSchedulerInstanceId();
+                scheduler.getScheduler().standby();
+
+                LOG.info("Successfully put Quartz instance {} in standby", instanceId);
+            } catch (SchedulerException e) {
+                LOG.error("Could not put Quartz instance {} in standby", instanceId, e);
+            }
         }
 
+        final Pair<String, Long> conf = getConf();
+
         Map<String, Object> jobMap = new HashMap<>();
         jobMap.put(JobManager.DOMAIN_KEY, AuthContextUtils.getDomain());
         jobMap.put(INTERRUPT_MAX_RETRIES_KEY, conf.getRight());
@@ -379,4 +357,35 @@ public class JobManagerImpl implements JobManager, SyncopeLoader {
             LOG.error("While loading {} instance", SystemLoadReporterJob.class.getSimpleName(), e);
         }
     }
+
+    @Transactional
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        final long interruptMaxRetries = getConf().getRight();
+
+        AuthContextUtils.execWithAuthContext(domain, () -> {
+            // 1. jobs for SchedTasks
+            Set<SchedTask> tasks = new HashSet<>(taskDAO.<SchedTask>findAll(TaskType.SCHEDULED));
+            tasks.addAll(taskDAO.<PullTask>findAll(TaskType.PULL));
+            tasks.addAll(taskDAO.<PushTask>findAll(TaskType.PUSH));
+            tasks.forEach(task -> {
+                try {
+                    register(task, task.getStartAt(), interruptMaxRetries);
+                } catch (Exception e) {
+                    LOG.error("While loading job instance for task " + task.getKey(), e);
+                }
+            });
+
+            // 2. jobs for Reports
+            reportDAO.findAll().forEach(report -> {
+                try {
+                    register(report, null, interruptMaxRetries);
+                } catch (Exception e) {
+                    LOG.error("While loading job instance for report " + report.getName(), e);
+                }
+            });
+
+            return null;
+        });
+    }
 }
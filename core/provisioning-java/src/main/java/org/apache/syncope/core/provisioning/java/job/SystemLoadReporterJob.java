@@ -20,6 +20,8 @@ package org.apache.syncope.core.provisioning.java.job;
 
 import java.lang.management.ManagementFactory;
 import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.core.provisioning.java.propagation.PropagationTaskQueue;
+import org.apache.syncope.core.spring.security.Encryptor;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,6 +39,9 @@ public class SystemLoadReporterJob extends AbstractInterruptableJob {
     @Autowired
     private ApplicationEventPublisher publisher;
 
+    @Autowired
+    private PropagationTaskQueue propagationTaskQueue;
+
     @Override
     public void execute(final JobExecutionContext context) throws JobExecutionException {
         super.execute(context);
@@ -52,6 +57,12 @@ public class SystemLoadReporterJob extends AbstractInterruptableJob {
         instant.setMaxMemory(runtime.maxMemory() / MB);
         instant.setFreeMemory(runtime.freeMemory() / MB);
 
+        instant.setHashingActiveCount(Encryptor.getHashingActiveCount());
+        instant.setHashingQueueSize(Encryptor.getHashingQueueSize());
+        instant.setHashingRejected(Encryptor.getHashingRejected());
+
+        instant.setPropagationQueueSize(propagationTaskQueue.size());
+
         publisher.publishEvent(instant);
     }
 }
@@ -18,8 +18,11 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -27,6 +30,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -35,6 +44,7 @@ import org.apache.syncope.common.lib.report.ReconciliationReportletConf.Feature;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -42,28 +52,34 @@ import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportletConfClass;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
+import org.apache.syncope.core.persistence.api.dao.search.AttributeCond;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
-import org.apache.syncope.core.persistence.api.entity.AnyUtils;
-import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.user.User;
-import org.apache.syncope.core.provisioning.api.Connector;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.identityconnectors.framework.common.objects.Attribute;
 import org.identityconnectors.framework.common.objects.AttributeBuilder;
 import org.identityconnectors.framework.common.objects.ConnectorObject;
+import org.identityconnectors.framework.common.objects.ObjectClass;
 import org.identityconnectors.framework.common.objects.OperationalAttributes;
 import org.identityconnectors.framework.common.objects.Uid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.Attributes;
 import org.xml.sax.ContentHandler;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
@@ -75,14 +91,33 @@ import org.xml.sax.helpers.AttributesImpl;
 @ReportletConfClass(ReconciliationReportletConf.class)
 public class ReconciliationReportlet extends AbstractReportlet {
 
+    /**
+     * Number of any objects reconciled together by a worker, within the same transaction.
+     */
     private static final int PAGE_SIZE = 10;
 
+    /**
+     * Number of workers across which the population is partitioned. Each worker has at most one connector request
+     * in flight, hence no more than this many requests are queued on the bulkhead of any given connector: keeping
+     * it below the default bulkhead size leaves room for propagation towards the same connector.
+     */
+    private static final int WORKERS = 4;
+
+    /**
+     * Number of keys read at once; as each page gives one partition per worker, keyset pagination stays ahead of the
+     * workers without keeping more than two pages of results in memory.
+     */
+    private static final int KEYS_PAGE_SIZE = PAGE_SIZE * WORKERS;
+
     @Autowired
     private UserDAO userDAO;
 
     @Autowired
     private GroupDAO groupDAO;
 
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
     @Autowired
     private AnyTypeDAO anyTypeDAO;
 
@@ -100,6 +135,10 @@ public class ReconciliationReportlet extends AbstractReportlet {
 
     private ReconciliationReportletConf conf;
 
+    private ExecutorService executor;
+
+    private TransactionTemplate transactionTemplate;
+
     private String getAnyElementName(final AnyTypeKind anyTypeKind) {
         String elementName;
 
@@ -120,13 +159,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
         return elementName;
     }
 
-    private void doExtract(
-            final ContentHandler handler,
-            final Any<?> any,
-            final Set<Missing> missing,
-            final Set<Misaligned> misaligned)
-            throws SAXException {
-
+    private Attributes getAttributes(final Any<?> any) {
         AttributesImpl atts = new AttributesImpl();
 
         for (Feature feature : conf.getFeatures()) {
@@ -209,9 +242,14 @@ public class ReconciliationReportlet extends AbstractReportlet {
             }
         }
 
-        handler.startElement("", "", getAnyElementName(any.getType().getKind()), atts);
+        return atts;
+    }
+
+    private void doExtract(final ContentHandler handler, final Reconciled reconciled) throws SAXException {
+        handler.startElement("", "", reconciled.getElementName(), reconciled.getAttributes());
 
-        for (Missing item : missing) {
+        AttributesImpl atts = new AttributesImpl();
+        for (Missing item : reconciled.getMissing()) {
             atts.clear();
             atts.addAttribute("", "", "resource", ReportXMLConst.XSD_STRING, item.getResource());
             atts.addAttribute("", "", "connObjectKeyValue", ReportXMLConst.XSD_STRING, item.getConnObjectKeyValue());
@@ -219,7 +257,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             handler.startElement("", "", "missing", atts);
             handler.endElement("", "", "missing");
         }
-        for (Misaligned item : misaligned) {
+        for (Misaligned item : reconciled.getMisaligned()) {
             atts.clear();
             atts.addAttribute("", "", "resource", ReportXMLConst.XSD_STRING, item.getResource());
             atts.addAttribute("", "", "connObjectKeyValue", ReportXMLConst.XSD_STRING, item.getConnObjectKeyValue());
@@ -254,7 +292,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             handler.endElement("", "", "misaligned");
         }
 
-        handler.endElement("", "", getAnyElementName(any.getType().getKind()));
+        handler.endElement("", "", reconciled.getElementName());
     }
 
     private Set<Object> getValues(final Attribute attr) {
@@ -273,116 +311,198 @@ public class ReconciliationReportlet extends AbstractReportlet {
         return values;
     }
 
-    private void doExtract(final ContentHandler handler, final List<? extends Any<?>> anys)
-            throws SAXException, ReportException {
-
-        final Set<Missing> missing = new HashSet<>();
-        final Set<Misaligned> misaligned = new HashSet<>();
-
-        for (Any<?> any : anys) {
-            missing.clear();
-            misaligned.clear();
-
-            AnyUtils anyUtils = anyUtilsFactory.getInstance(any);
-            anyUtils.getAllResources(any).forEach(resource -> {
-                Provision provision = resource.getProvision(any.getType()).orElse(null);
-                Optional<MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-                final String connObjectKeyValue = connObjectKeyItem.isPresent()
-                        ? mappingManager.getConnObjectKeyValue(any, provision).get()
-                        : StringUtils.EMPTY;
-                if (provision != null && connObjectKeyItem.isPresent() && StringUtils.isNotBlank(connObjectKeyValue)) {
-                    // 1. read from the underlying connector
-                    Connector connector = connFactory.getConnector(resource);
-                    ConnectorObject connectorObject = connector.getObject(
-                            provision.getObjectClass(),
-                            AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
-                            MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()));
-
-                    if (connectorObject == null) {
-                        // 2. not found on resource?
-                        LOG.error("Object {} with class {} not found on resource {}",
-                                connObjectKeyValue, provision.getObjectClass(), resource);
-
-                        missing.add(new Missing(resource.getKey(), connObjectKeyValue));
-                    } else {
-                        // 3. found but misaligned?
-                        Pair<String, Set<Attribute>> preparedAttrs =
-                                mappingManager.prepareAttrs(any, null, false, null, provision);
-                        preparedAttrs.getRight().add(AttributeBuilder.build(
-                                Uid.NAME, preparedAttrs.getLeft()));
-                        preparedAttrs.getRight().add(AttributeBuilder.build(
-                                connObjectKeyItem.get().getExtAttrName(), preparedAttrs.getLeft()));
-
-                        final Map<String, Set<Object>> syncopeAttrs = new HashMap<>();
-                        preparedAttrs.getRight().forEach(attr -> {
-                            syncopeAttrs.put(attr.getName(), getValues(attr));
-                        });
-
-                        final Map<String, Set<Object>> resourceAttrs = new HashMap<>();
-                        connectorObject.getAttributes().stream().
-                                filter(attr -> (!OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
-                                && !OperationalAttributes.ENABLE_NAME.equals(attr.getName()))).
-                                forEachOrdered(attr -> {
-                                    resourceAttrs.put(attr.getName(), getValues(attr));
-                                });
-
-                        syncopeAttrs.keySet().stream().
-                                filter(syncopeAttr -> !resourceAttrs.containsKey(syncopeAttr)).
-                                forEach(name -> {
-                                    misaligned.add(new Misaligned(
-                                            resource.getKey(),
-                                            connObjectKeyValue,
-                                            name,
-                                            syncopeAttrs.get(name),
-                                            Collections.emptySet()));
-                                });
-
-                        resourceAttrs.entrySet().forEach(entry -> {
-                            if (syncopeAttrs.containsKey(entry.getKey())) {
-                                if (!Objects.equals(syncopeAttrs.get(entry.getKey()), entry.getValue())) {
-                                    misaligned.add(new Misaligned(
-                                            resource.getKey(),
-                                            connObjectKeyValue,
-                                            entry.getKey(),
-                                            syncopeAttrs.get(entry.getKey()),
-                                            entry.getValue()));
-                                }
-                            } else {
-                                misaligned.add(new Misaligned(
-                                        resource.getKey(),
-                                        connObjectKeyValue,
-                                        entry.getKey(),
-                                        Collections.emptySet(),
-                                        entry.getValue()));
-                            }
-                        });
+    private void reconcile(
+            final Any<?> any,
+            final ExternalResource resource,
+            final Set<Missing> missing,
+            final Set<Misaligned> misaligned) {
+
+        Provision provision = resource.getProvision(any.getType()).orElse(null);
+        Optional<MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        String connObjectKeyValue = connObjectKeyItem.isPresent()
+                ? mappingManager.getConnObjectKeyValue(any, provision).get()
+                : StringUtils.EMPTY;
+        if (provision == null || !connObjectKeyItem.isPresent() || StringUtils.isBlank(connObjectKeyValue)) {
+            return;
+        }
+
+        // 1. read from the underlying connector
+        ObjectClass objectClass = provision.getObjectClass();
+        ConnectorObject connectorObject = connFactory.getConnector(resource).getObject(
+                objectClass,
+                AttributeBuilder.build(connObjectKeyItem.get().getExtAttrName(), connObjectKeyValue),
+                MappingUtils.buildOperationOptions(provision.getMapping().getItems().iterator()));
+
+        if (connectorObject == null) {
+            // 2. not found on resource?
+            LOG.error("Object {} with class {} not found on resource {}",
+                    connObjectKeyValue, objectClass, resource.getKey());
+
+            missing.add(new Missing(resource.getKey(), connObjectKeyValue));
+        } else {
+            // 3. found but misaligned?
+            Pair<String, Set<Attribute>> preparedAttrs =
+                    mappingManager.prepareAttrs(any, null, false, null, provision);
+            preparedAttrs.getRight().add(AttributeBuilder.build(Uid.NAME, preparedAttrs.getLeft()));
+            preparedAttrs.getRight().add(AttributeBuilder.build(
+                    connObjectKeyItem.get().getExtAttrName(), preparedAttrs.getLeft()));
+
+            Map<String, Set<Object>> syncopeAttrs = new HashMap<>();
+            preparedAttrs.getRight().forEach(attr -> {
+                syncopeAttrs.put(attr.getName(), getValues(attr));
+            });
+
+            Map<String, Set<Object>> resourceAttrs = new HashMap<>();
+            connectorObject.getAttributes().stream().
+                    filter(attr -> (!OperationalAttributes.PASSWORD_NAME.equals(attr.getName())
+                    && !OperationalAttributes.ENABLE_NAME.equals(attr.getName()))).
+                    forEachOrdered(attr -> {
+                        resourceAttrs.put(attr.getName(), getValues(attr));
+                    });
+
+            syncopeAttrs.keySet().stream().
+                    filter(syncopeAttr -> !resourceAttrs.containsKey(syncopeAttr)).
+                    forEach(name -> {
+                        misaligned.add(new Misaligned(
+                                resource.getKey(),
+                                connObjectKeyValue,
+                                name,
+                                syncopeAttrs.get(name),
+                                Collections.emptySet()));
+                    });
+
+            resourceAttrs.entrySet().forEach(entry -> {
+                if (syncopeAttrs.containsKey(entry.getKey())) {
+                    if (!Objects.equals(syncopeAttrs.get(entry.getKey()), entry.getValue())) {
+                        misaligned.add(new Misaligned(
+                                resource.getKey(),
+                                connObjectKeyValue,
+                                entry.getKey(),
+                                syncopeAttrs.get(entry.getKey()),
+                                entry.getValue()));
                     }
+                } else {
+                    misaligned.add(new Misaligned(
+                            resource.getKey(),
+                            connObjectKeyValue,
+                            entry.getKey(),
+                            Collections.emptySet(),
+                            entry.getValue()));
                 }
             });
+        }
+    }
+
+    /**
+     * Reconciles the given partition of the population; runs on a worker, within its own transaction, and only
+     * returns detached information, so that no entity is shared across threads.
+     *
+     * @param anyDAO DAO for the any objects in the partition
+     * @param keys partition of the population
+     * @return reconciliation information for the any objects being missing or misaligned on some resource
+     */
+    private List<Reconciled> reconcile(final AnyDAO<?> anyDAO, final List<String> keys) {
+        List<Reconciled> result = new ArrayList<>();
+        keys.stream().map(anyDAO::find).filter(Objects::nonNull).forEachOrdered(any -> {
+            Set<Missing> missing = new HashSet<>();
+            Set<Misaligned> misaligned = new HashSet<>();
+            anyUtilsFactory.getInstance(any).getAllResources(any).
+                    forEach(resource -> reconcile(any, resource, missing, misaligned));
 
             if (!missing.isEmpty() || !misaligned.isEmpty()) {
-                doExtract(handler, any, missing, misaligned);
+                result.add(new Reconciled(
+                        getAnyElementName(any.getType().getKind()), getAttributes(any), missing, misaligned));
             }
+        });
+        return result;
+    }
+
+    private void doExtract(final ContentHandler handler, final Future<List<Reconciled>> partition)
+            throws SAXException {
+
+        List<Reconciled> reconciled;
+        try {
+            reconciled = partition.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReportException(e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof ReportException
+                    ? (ReportException) e.getCause()
+                    : new ReportException(e.getCause());
+        }
+
+        for (Reconciled item : reconciled) {
+            doExtract(handler, item);
         }
     }
 
+    /**
+     * Reads the population via keyset pagination and partitions it across workers; results are then reported in
+     * the population order.
+     *
+     * @param handler SAX handler
+     * @param anyDAO DAO for the any objects in the population
+     * @param keys given the last key read (or {@code null} at first), returns the next page of keys, sorted
+     * @throws SAXException if anything goes wrong while reporting
+     */
     private void doExtract(
-            final ContentHandler handler, final int count, final SearchCond cond, final AnyTypeKind anyTypeKind)
+            final ContentHandler handler,
+            final AnyDAO<?> anyDAO,
+            final Function<String, List<String>> keys)
             throws SAXException {
 
-        for (int page = 1; page <= (count / PAGE_SIZE) + 1; page++) {
-            List<AnyObject> anys = searchDAO.search(
-                    SyncopeConstants.FULL_ADMIN_REALMS,
-                    cond,
-                    page,
-                    PAGE_SIZE,
-                    Collections.<OrderByClause>emptyList(),
-                    anyTypeKind);
+        String domain = AuthContextUtils.getDomain();
+
+        Deque<Future<List<Reconciled>>> partitions = new ArrayDeque<>();
+        List<String> page;
+        String lastKey = null;
+        do {
+            page = new ArrayList<>(keys.apply(lastKey));
+            for (int i = 0; i < page.size(); i += PAGE_SIZE) {
+                List<String> partition = page.subList(i, Math.min(i + PAGE_SIZE, page.size()));
+                partitions.add(executor.submit(() -> AuthContextUtils.execWithAuthContext(domain,
+                        () -> transactionTemplate.execute(status -> reconcile(anyDAO, partition)))));
+            }
+            if (!page.isEmpty()) {
+                lastKey = page.get(page.size() - 1);
+            }
 
-            doExtract(handler, anys);
+            while (partitions.size() > WORKERS) {
+                doExtract(handler, partitions.poll());
+            }
+        } while (page.size() == KEYS_PAGE_SIZE);
+
+        while (!partitions.isEmpty()) {
+            doExtract(handler, partitions.poll());
         }
     }
 
+    private List<String> searchKeys(final SearchCond cond, final AnyTypeKind anyTypeKind, final String lastKey) {
+        SearchCond effectiveCond = cond;
+        if (lastKey != null) {
+            AnyCond keyCond = new AnyCond(AttributeCond.Type.GT);
+            keyCond.setSchema("key");
+            keyCond.setExpression(lastKey);
+            effectiveCond = SearchCond.getAndCond(cond, SearchCond.getLeafCond(keyCond));
+        }
+
+        OrderByClause orderByKey = new OrderByClause();
+        orderByKey.setField("key");
+        orderByKey.setDirection(OrderByClause.Direction.ASC);
+
+        return searchDAO.searchFields(
+                SyncopeConstants.FULL_ADMIN_REALMS,
+                effectiveCond,
+                1,
+                KEYS_PAGE_SIZE,
+                Collections.singletonList(orderByKey),
+                anyTypeKind,
+                Collections.singleton("key")).stream().
+                map(fields -> (String) fields.get("key")).
+                collect(Collectors.toList());
+    }
+
     @Override
     protected void doExtract(final ReportletConf conf, final ContentHandler handler) throws SAXException {
         if (conf instanceof ReconciliationReportletConf) {
@@ -391,15 +511,26 @@ public class ReconciliationReportlet extends AbstractReportlet {
             throw new ReportException(new IllegalArgumentException("Invalid configuration provided"));
         }
 
+        transactionTemplate = new TransactionTemplate(ApplicationContextProvider.getApplicationContext().getBean(
+                AuthContextUtils.getDomain() + "TransactionManager", PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        executor = Executors.newFixedThreadPool(WORKERS);
+        try {
+            doExtract(handler);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void doExtract(final ContentHandler handler) throws SAXException {
         AttributesImpl atts = new AttributesImpl();
 
         if (StringUtils.isBlank(this.conf.getUserMatchingCond())) {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(userDAO.count()));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                doExtract(handler, userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            doExtract(handler, userDAO, lastKey -> userDAO.findAllKeys(lastKey, KEYS_PAGE_SIZE));
         } else {
             SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
@@ -407,7 +538,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.USER) + "s", atts);
 
-            doExtract(handler, count, cond, AnyTypeKind.USER);
+            doExtract(handler, userDAO, lastKey -> searchKeys(cond, AnyTypeKind.USER, lastKey));
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.USER) + "s");
 
@@ -416,9 +547,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(groupDAO.count()));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-            for (int page = 1; page <= (groupDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                doExtract(handler, groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE));
-            }
+            doExtract(handler, groupDAO, lastKey -> groupDAO.findAllKeys(lastKey, KEYS_PAGE_SIZE));
         } else {
             SearchCond cond = SearchCondConverter.convert(this.conf.getUserMatchingCond());
 
@@ -426,7 +555,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
             atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
             handler.startElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s", atts);
 
-            doExtract(handler, count, cond, AnyTypeKind.GROUP);
+            doExtract(handler, groupDAO, lastKey -> searchKeys(cond, AnyTypeKind.GROUP, lastKey));
         }
         handler.endElement("", "", getAnyElementName(AnyTypeKind.GROUP) + "s");
 
@@ -447,7 +576,7 @@ public class ReconciliationReportlet extends AbstractReportlet {
                 atts.addAttribute("", "", "total", ReportXMLConst.XSD_INT, String.valueOf(count));
                 handler.startElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s", atts);
 
-                doExtract(handler, count, cond, AnyTypeKind.ANY_OBJECT);
+                doExtract(handler, anyObjectDAO, lastKey -> searchKeys(cond, AnyTypeKind.ANY_OBJECT, lastKey));
 
                 handler.endElement("", "", getAnyElementName(AnyTypeKind.ANY_OBJECT) + "s");
             }
@@ -510,4 +639,43 @@ public class ReconciliationReportlet extends AbstractReportlet {
         }
 
     }
+
+    private static class Reconciled {
+
+        private final String elementName;
+
+        private final Attributes attributes;
+
+        private final Set<Missing> missing;
+
+        private final Set<Misaligned> misaligned;
+
+        Reconciled(
+                final String elementName,
+                final Attributes attributes,
+                final Set<Missing> missing,
+                final Set<Misaligned> misaligned) {
+
+            this.elementName = elementName;
+            this.attributes = attributes;
+            this.missing = missing;
+            this.misaligned = misaligned;
+        }
+
+        public String getElementName() {
+            return elementName;
+        }
+
+        public Attributes getAttributes() {
+            return attributes;
+        }
+
+        public Set<Missing> getMissing() {
+            return missing;
+        }
+
+        public Set<Misaligned> getMisaligned() {
+            return misaligned;
+        }
+    }
 }
@@ -18,18 +18,34 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.Deflater;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.sax.SAXTransformerFactory;
 import javax.xml.transform.sax.TransformerHandler;
 import javax.xml.transform.stream.StreamResult;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.syncope.common.lib.report.ReportletConf;
 import org.apache.syncope.common.lib.types.ReportExecStatus;
@@ -42,6 +58,7 @@ import org.apache.syncope.core.persistence.api.dao.Reportlet;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,13 +66,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
 import org.xml.sax.helpers.AttributesImpl;
+import org.xml.sax.helpers.DefaultHandler;
 
 @Component
 public class ReportJobDelegate {
 
     private static final Logger LOG = LoggerFactory.getLogger(ReportJobDelegate.class);
 
+    /**
+     * Maximum number of reportlets extracted at the same time; as reportlets mostly wait for database and connectors,
+     * at least two run together even on a single processor.
+     */
+    private static final int PARALLELISM = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     /**
      * Report DAO.
      */
@@ -74,6 +101,62 @@ public class ReportJobDelegate {
     @Autowired
     private ImplementationLookup implementationLookup;
 
+    private static TransformerHandler newTransformerHandler(final boolean indent) throws Exception {
+        SAXTransformerFactory tFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
+        tFactory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        TransformerHandler handler = tFactory.newTransformerHandler();
+        Transformer serializer = handler.getTransformer();
+        serializer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+        serializer.setOutputProperty(OutputKeys.INDENT, indent ? "yes" : "no");
+        return handler;
+    }
+
+    private Reportlet getReportlet(final Class<? extends Reportlet> reportletClass) {
+        // reportlets hold their configuration while extracting, hence each extraction needs its own instance
+        return (Reportlet) ApplicationContextProvider.getBeanFactory().
+                createBean(reportletClass, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
+    }
+
+    /**
+     * Extracts the given reportlet as standalone XML document into a temporary file.
+     *
+     * @param reportlet reportlet
+     * @param reportletConf reportlet configuration
+     * @return temporary file, to be deleted by the caller
+     * @throws Exception if anything goes wrong
+     */
+    private static File extract(final Reportlet reportlet, final ReportletConf reportletConf) throws Exception {
+        File fragment = File.createTempFile("reportlet", ".xml");
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(fragment))) {
+            TransformerHandler handler = newTransformerHandler(false);
+            handler.setResult(new StreamResult(out));
+
+            handler.startDocument();
+            reportlet.extract(reportletConf, handler);
+            handler.endDocument();
+        } catch (Exception e) {
+            FileUtils.deleteQuietly(fragment);
+            throw e;
+        }
+
+        return fragment;
+    }
+
+    /**
+     * Streams the content of the given reportlet extraction into the report being generated.
+     *
+     * @param fragment reportlet extraction, as returned by {@link #extract(Reportlet, ReportletConf)}
+     * @param handler report SAX handler
+     * @throws Exception if anything goes wrong
+     */
+    private static void splice(final File fragment, final ContentHandler handler) throws Exception {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        try (InputStream in = new BufferedInputStream(new FileInputStream(fragment))) {
+            factory.newSAXParser().parse(in, new SpliceHandler(handler));
+        }
+    }
+
     @Transactional
     public void execute(final String reportKey) throws JobExecutionException {
         Report report = reportDAO.find(reportKey);
@@ -103,12 +186,7 @@ public class ReportJobDelegate {
         ZipOutputStream zos = new ZipOutputStream(baos);
         zos.setLevel(Deflater.BEST_COMPRESSION);
         try {
-            SAXTransformerFactory tFactory = (SAXTransformerFactory) SAXTransformerFactory.newInstance();
-            tFactory.setFeature(javax.xml.XMLConstants.FEATURE_SECURE_PROCESSING, true);
-            handler = tFactory.newTransformerHandler();
-            Transformer serializer = handler.getTransformer();
-            serializer.setOutputProperty(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
-            serializer.setOutputProperty(OutputKeys.INDENT, "yes");
+            handler = newTransformerHandler(true);
 
             // a single ZipEntry in the ZipOutputStream
             zos.putNextEntry(new ZipEntry(report.getName()));
@@ -131,39 +209,64 @@ public class ReportJobDelegate {
             atts.addAttribute("", "", ReportXMLConst.ATTR_NAME, ReportXMLConst.XSD_STRING, report.getName());
             handler.startElement("", "", ReportXMLConst.ELEMENT_REPORT, atts);
 
-            // iterate over reportlet instances defined for this report
-            for (ReportletConf reportletConf : report.getReportletConfs()) {
-                Class<? extends Reportlet> reportletClass =
-                        implementationLookup.getReportletClass(reportletConf.getClass());
-                if (reportletClass == null) {
-                    LOG.warn("Could not find matching reportlet for {}", reportletConf.getClass());
-                } else {
-                    // fetch (or create) reportlet
-                    Reportlet reportlet;
-                    if (ApplicationContextProvider.getBeanFactory().containsSingleton(reportletClass.getName())) {
-                        reportlet = (Reportlet) ApplicationContextProvider.getBeanFactory().
-                                getSingleton(reportletClass.getName());
+            // extract reportlet instances defined for this report in parallel, each into its own buffer...
+            String domain = AuthContextUtils.getDomain();
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.max(1, Math.min(PARALLELISM, report.getReportletConfs().size())));
+            List<Future<File>> fragments = new ArrayList<>();
+            try {
+                for (ReportletConf reportletConf : report.getReportletConfs()) {
+                    Class<? extends Reportlet> reportletClass =
+                            implementationLookup.getReportletClass(reportletConf.getClass());
+                    if (reportletClass == null) {
+                        LOG.warn("Could not find matching reportlet for {}", reportletConf.getClass());
                     } else {
-                        reportlet = (Reportlet) ApplicationContextProvider.getBeanFactory().
-                                createBean(reportletClass, AbstractBeanDefinition.AUTOWIRE_BY_TYPE, false);
-                        ApplicationContextProvider.getBeanFactory().
-                                registerSingleton(reportletClass.getName(), reportlet);
+                        Reportlet reportlet = getReportlet(reportletClass);
+                        fragments.add(executor.submit(() -> AuthContextUtils.execWithAuthContext(domain, () -> {
+                            try {
+                                return extract(reportlet, reportletConf);
+                            } catch (ReportException e) {
+                                throw e;
+                            } catch (Exception e) {
+                                throw new ReportException(e);
+                            }
+                        })));
                     }
+                }
 
-                    // invoke reportlet
+                // ...then merge such buffers, in the configured order, into the report
+                for (Future<File> future : fragments) {
+                    File fragment = null;
                     try {
-                        reportlet.extract(reportletConf, handler);
-                    } catch (Throwable t) {
-                        LOG.error("While executing reportlet {} for report {}", reportlet, reportKey, t);
+                        fragment = future.get();
+                        splice(fragment, handler);
+                    } catch (ExecutionException e) {
+                        LOG.error("While executing reportlet for report {}", reportKey, e.getCause());
 
                         execution.setStatus(ReportExecStatus.FAILURE);
 
-                        Throwable effective = t instanceof ReportException
-                                ? t.getCause()
-                                : t;
+                        Throwable effective = e.getCause() instanceof ReportException
+                                && e.getCause().getCause() != null
+                                ? e.getCause().getCause()
+                                : e.getCause();
                         reportExecutionMessage.
                                 append(ExceptionUtils2.getFullStackTrace(effective)).
                                 append("\n==================\n");
+                    } finally {
+                        FileUtils.deleteQuietly(fragment);
+                    }
+                }
+            } finally {
+                executor.shutdownNow();
+
+                // clean up whatever was not merged, in case of failure
+                for (Future<File> future : fragments) {
+                    if (!future.cancel(true) && !future.isCancelled()) {
+                        try {
+                            FileUtils.deleteQuietly(future.get());
+                        } catch (InterruptedException | ExecutionException e) {
+                            LOG.debug("Nothing to clean up for report {}", reportKey, e);
+                        }
                     }
                 }
             }
@@ -195,4 +298,39 @@ public class ReportJobDelegate {
             reportExecDAO.save(execution);
         }
     }
+
+    /**
+     * Forwards the content of a reportlet extraction, without document events, to the report SAX handler.
+     */
+    private static class SpliceHandler extends DefaultHandler {
+
+        private final ContentHandler delegate;
+
+        SpliceHandler(final ContentHandler delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void startElement(
+                final String uri, final String localName, final String qName, final Attributes attributes)
+                throws SAXException {
+
+            delegate.startElement(uri, localName, qName, attributes);
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            delegate.endElement(uri, localName, qName);
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) throws SAXException {
+            delegate.characters(ch, start, length);
+        }
+
+        @Override
+        public void ignorableWhitespace(final char[] ch, final int start, final int length) throws SAXException {
+            delegate.ignorableWhitespace(ch, start, length);
+        }
+    }
 }
@@ -41,6 +41,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.api.BatchConnector;
 import org.apache.syncope.core.provisioning.api.Connector;
 import org.apache.syncope.core.provisioning.api.ConnectorFactory;
 import org.apache.syncope.core.provisioning.api.TimeoutException;
@@ -154,11 +155,25 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
     @Autowired
     protected VirAttrCache virAttrCache;
 
+    @Autowired
+    protected PropagationBatcher batcher;
+
     @Override
     public TaskExec execute(final PropagationTask task) {
         return execute(task, null);
     }
 
+    @Override
+    public TaskExec executeQueued(final String key) {
+        PropagationTask task = taskDAO.find(key);
+        if (task == null || task.getQueued() == null) {
+            LOG.debug("Task {} is not queued any more", key);
+            return null;
+        }
+
+        return execute(task, null);
+    }
+
     protected List<PropagationActions> getPropagationActions(final ExternalResource resource) {
         List<PropagationActions> result = new ArrayList<>();
 
@@ -210,8 +225,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
         Uid result;
         if (beforeObj == null) {
             LOG.debug("Create {} on {}", attributes, task.getResource().getKey());
-            result = connector.create(
-                    new ObjectClass(task.getObjectClassName()), attributes, null, propagationAttempted);
+            result = connector instanceof BatchConnector
+                    ? batcher.create((BatchConnector) connector,
+                            new ObjectClass(task.getObjectClassName()), attributes, propagationAttempted)
+                    : connector.create(
+                            new ObjectClass(task.getObjectClassName()), attributes, null, propagationAttempted);
         } else {
             // 1. check if rename is really required
             Name newName = (Name) AttributeUtil.find(Name.NAME, attributes);
@@ -256,8 +274,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 // 3. provision entry
                 LOG.debug("Update {} on {}", strictlyModified, task.getResource().getKey());
 
-                result = connector.update(
-                        beforeObj.getObjectClass(), beforeObj.getUid(), strictlyModified, null, propagationAttempted);
+                result = connector instanceof BatchConnector
+                        ? batcher.update((BatchConnector) connector,
+                                beforeObj.getObjectClass(), beforeObj.getUid(), strictlyModified, propagationAttempted)
+                        : connector.update(beforeObj.getObjectClass(), beforeObj.getUid(), strictlyModified, null,
+                                propagationAttempted);
             }
         }
 
@@ -322,7 +343,13 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
             if (task.getAnyTypeKind() == null || !resources.contains(task.getResource().getKey())) {
                 LOG.debug("Delete {} on {}", beforeObj.getUid(), task.getResource().getKey());
 
-                connector.delete(beforeObj.getObjectClass(), beforeObj.getUid(), null, propagationAttempted);
+                if (connector instanceof BatchConnector) {
+                    batcher.delete(
+                            (BatchConnector) connector, beforeObj.getObjectClass(), beforeObj.getUid(),
+                            propagationAttempted);
+                } else {
+                    connector.delete(beforeObj.getObjectClass(), beforeObj.getUid(), null, propagationAttempted);
+                }
                 result = beforeObj.getUid();
             } else {
                 result = createOrUpdate(task, beforeObj, connector, propagationAttempted);
@@ -454,6 +481,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
 
             LOG.debug("Execution finished: {}", execution);
 
+            boolean queued = task.getQueued() != null;
+            task.setQueued(null);
+            task.setQueueOwner(null);
+            task.setLeaseExpiry(null);
+
             if (hasToBeregistered(task, execution)) {
                 LOG.debug("Execution to be stored: {}", execution);
 
@@ -466,6 +498,11 @@ public abstract class AbstractPropagationTaskExecutor implements PropagationTask
                 taskDAO.save(task);
                 // needed to generate a value for the execution key
                 taskDAO.flush();
+            } else if (queued && task.getExecs().isEmpty()) {
+                // the task was stored only to survive in the propagation queue
+                taskDAO.delete(task.getKey());
+            } else if (queued) {
+                taskDAO.save(task);
             }
 
             if (reporter != null) {
@@ -40,13 +40,15 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskCallable;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 /**
  * Sorts the tasks to be executed according to related
  * {@link org.apache.syncope.core.persistence.api.entity.resource.ExternalResource}'s priority, then execute.
- * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
+ * Tasks related to resources with NULL priority are executed after other tasks, concurrently; when asynchronous
+ * execution is requested, such tasks are handed over to the {@link PropagationTaskQueue} instead.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
  */
@@ -55,6 +57,9 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
     @Resource(name = "propagationTaskExecutorAsyncExecutor")
     protected ThreadPoolTaskExecutor executor;
 
+    @Autowired
+    protected PropagationTaskQueue queue;
+
     /**
      * Creates new instances of {@link PropagationTaskCallable} for usage with
      * {@link java.util.concurrent.CompletionService}.
@@ -108,7 +113,21 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             }
         });
 
-        // then process non-priority resources concurrently...
+        if (concurrentTasks.isEmpty()) {
+            return;
+        }
+
+        // then, if async processing was required, queue non-priority resources...
+        if (nullPriorityAsync) {
+            queue.enqueue(concurrentTasks);
+            concurrentTasks.forEach(task -> {
+                reporter.onSuccessOrNonPriorityResourceFailures(
+                        task, PropagationTaskExecStatus.CREATED, null, null, null);
+            });
+            return;
+        }
+
+        // ...otherwise process them concurrently...
         final CompletionService<TaskExec> completionService = new ExecutorCompletionService<>(executor);
         Map<PropagationTask, Future<TaskExec>> nullPriority = new HashMap<>(concurrentTasks.size());
         concurrentTasks.forEach(task -> {
@@ -120,34 +139,27 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 LOG.error("Unexpected exception", e);
             }
         });
-        // ...waiting for all callables to complete, if async processing was not required
+        // ...waiting for all callables to complete
         if (!nullPriority.isEmpty()) {
-            if (nullPriorityAsync) {
-                nullPriority.entrySet().forEach(entry -> {
-                    reporter.onSuccessOrNonPriorityResourceFailures(
-                            entry.getKey(), PropagationTaskExecStatus.CREATED, null, null, null);
-                });
-            } else {
-                final Set<Future<TaskExec>> nullPriorityFutures = new HashSet<>(nullPriority.values());
-                try {
-                    executor.submit(() -> {
-                        while (!nullPriorityFutures.isEmpty()) {
-                            try {
-                                nullPriorityFutures.remove(completionService.take());
-                            } catch (Exception e) {
-                                LOG.error("Unexpected exception", e);
-                            }
+            final Set<Future<TaskExec>> nullPriorityFutures = new HashSet<>(nullPriority.values());
+            try {
+                executor.submit(() -> {
+                    while (!nullPriorityFutures.isEmpty()) {
+                        try {
+                            nullPriorityFutures.remove(completionService.take());
+                        } catch (Exception e) {
+                            LOG.error("Unexpected exception", e);
                         }
-                    }).get(60, TimeUnit.SECONDS);
-                } catch (Exception e) {
-                    LOG.error("Unexpected exception", e);
-                } finally {
-                    nullPriorityFutures.forEach(future -> {
-                        future.cancel(true);
-                    });
-                    nullPriorityFutures.clear();
-                    nullPriority.clear();
-                }
+                    }
+                }).get(60, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                LOG.error("Unexpected exception", e);
+            } finally {
+                nullPriorityFutures.forEach(future -> {
+                    future.cancel(true);
+                });
+                nullPriorityFutures.clear();
+                nullPriority.clear();
             }
         }
     }
@@ -0,0 +1,221 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.provisioning.api.BatchConnector;
+import org.apache.syncope.core.provisioning.api.BatchOperation;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Groups the create, update and delete operations requested to a {@link BatchConnector} for the same operation type
+ * and object class.
+ *
+ * Operations are gathered for at most {@code propagationBatcher.window} milliseconds from the request of the oldest
+ * among them, or until {@code propagationBatcher.maxSize} operations are pending, whatever comes first; operations
+ * requested while a batch is in progress are queued and sent together, as next batch, once the one in progress is over.
+ */
+@Component
+public class PropagationBatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropagationBatcher.class);
+
+    private static class Pending {
+
+        private final BatchOperation operation;
+
+        private final long requested = System.currentTimeMillis();
+
+        private boolean done;
+
+        Pending(final BatchOperation operation) {
+            this.operation = operation;
+        }
+    }
+
+    private static class Lane {
+
+        private final LinkedList<Pending> queue = new LinkedList<>();
+
+        private boolean running;
+    }
+
+    @Value("${propagationBatcher.window:100}")
+    private long window;
+
+    @Value("${propagationBatcher.maxSize:100}")
+    private int maxSize;
+
+    private final Map<BatchConnector, Map<String, Lane>> lanes = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private Lane getLane(final BatchConnector connector, final ResourceOperation type, final ObjectClass objectClass) {
+        synchronized (lanes) {
+            return lanes.computeIfAbsent(connector, k -> new HashMap<>()).
+                    computeIfAbsent(type.name() + '|' + objectClass.getObjectClassValue(), k -> new Lane());
+        }
+    }
+
+    private static ConnectorCapability capability(final ResourceOperation type) {
+        return type == ResourceOperation.CREATE
+                ? ConnectorCapability.CREATE
+                : type == ResourceOperation.UPDATE
+                        ? ConnectorCapability.UPDATE
+                        : ConnectorCapability.DELETE;
+    }
+
+    private Uid submit(
+            final BatchConnector connector,
+            final ResourceOperation type,
+            final ObjectClass objectClass,
+            final BatchOperation operation,
+            final Boolean[] propagationAttempted) {
+
+        if (!connector.getConnInstance().getCapabilities().contains(capability(type))) {
+            // let the connector log and report the lack of capability as for single operations
+            switch (type) {
+                case CREATE:
+                    return connector.create(objectClass, operation.getAttrs(), null, propagationAttempted);
+
+                case UPDATE:
+                    return connector.update(
+                            objectClass, operation.getUid(), operation.getAttrs(), null, propagationAttempted);
+
+                case DELETE:
+                default:
+                    connector.delete(objectClass, operation.getUid(), null, propagationAttempted);
+                    return null;
+            }
+        }
+
+        Lane lane = getLane(connector, type, objectClass);
+        Pending pending = new Pending(operation);
+        synchronized (lane) {
+            lane.queue.add(pending);
+            if (lane.queue.size() >= maxSize) {
+                lane.notifyAll();
+            }
+        }
+
+        while (true) {
+            List<Pending> batch = new ArrayList<>();
+            synchronized (lane) {
+                while (!pending.done && lane.running) {
+                    try {
+                        lane.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for batch completion", e);
+                    }
+                }
+                if (pending.done) {
+                    break;
+                }
+
+                lane.running = true;
+
+                // gather further operations until the window, opened by the oldest pending one, is over
+                long remaining = lane.queue.getFirst().requested + window - System.currentTimeMillis();
+                while (lane.queue.size() < maxSize && remaining > 0) {
+                    try {
+                        lane.wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                    remaining = lane.queue.getFirst().requested + window - System.currentTimeMillis();
+                }
+
+                while (!lane.queue.isEmpty() && batch.size() < maxSize) {
+                    batch.add(lane.queue.poll());
+                }
+            }
+
+            try {
+                List<BatchOperation> operations = new ArrayList<>(batch.size());
+                batch.forEach(item -> operations.add(item.operation));
+                LOG.debug("Sending {} {} operation(s) on {} to {}", operations.size(), type, objectClass, connector);
+
+                connector.execute(type, objectClass, operations, null);
+            } catch (RuntimeException e) {
+                LOG.error("While sending batch of {} {} operation(s) to {}", batch.size(), type, connector, e);
+                batch.stream().filter(item -> item.operation.getResult() == null
+                        && item.operation.getFailure() == null).
+                        forEach(item -> item.operation.setFailure(e));
+            } finally {
+                synchronized (lane) {
+                    batch.forEach(item -> item.done = true);
+                    lane.running = false;
+                    lane.notifyAll();
+                }
+            }
+        }
+
+        propagationAttempted[0] = true;
+        if (operation.getFailure() != null) {
+            throw operation.getFailure();
+        }
+        return operation.getResult();
+    }
+
+    public Uid create(
+            final BatchConnector connector,
+            final ObjectClass objectClass,
+            final Set<Attribute> attrs,
+            final Boolean[] propagationAttempted) {
+
+        return submit(connector, ResourceOperation.CREATE, objectClass,
+                new BatchOperation(null, attrs), propagationAttempted);
+    }
+
+    public Uid update(
+            final BatchConnector connector,
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Set<Attribute> attrs,
+            final Boolean[] propagationAttempted) {
+
+        return submit(connector, ResourceOperation.UPDATE, objectClass,
+                new BatchOperation(uid, attrs), propagationAttempted);
+    }
+
+    public void delete(
+            final BatchConnector connector,
+            final ObjectClass objectClass,
+            final Uid uid,
+            final Boolean[] propagationAttempted) {
+
+        submit(connector, ResourceOperation.DELETE, objectClass,
+                new BatchOperation(uid, null), propagationAttempted);
+    }
+}
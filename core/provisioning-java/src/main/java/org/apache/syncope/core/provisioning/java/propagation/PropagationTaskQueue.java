@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.Resource;
+import javax.sql.DataSource;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.SyncopeLoader;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.spring.ApplicationContextProvider;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Durable queue for propagation tasks towards resources with NULL priority, requested to be executed asynchronously.
+ *
+ * Queued tasks are stored with their queueing time, so that they survive node crashes; each queued task is leased to
+ * the node in charge of its execution, which periodically renews its leases. Nodes also periodically take over the
+ * queued tasks whose lease has expired, as their owner is gone, and at startup.
+ * Each resource is served by a single consumer at a time, which executes the tasks in the order they were queued;
+ * when execution fails unexpectedly or no consumer is available, the resource is served again after a backoff.
+ * A task leaves the queue only once executed, hence it might be executed again if its owner dies in the meanwhile.
+ */
+@Component
+public class PropagationTaskQueue implements SyncopeLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PropagationTaskQueue.class);
+
+    private static final int MAX_BACKOFF_EXPONENT = 8;
+
+    private static class Lane {
+
+        private final String domain;
+
+        private final Set<String> keys = new LinkedHashSet<>();
+
+        private boolean running;
+
+        private int failures;
+
+        Lane(final String domain) {
+            this.domain = domain;
+        }
+    }
+
+    @Resource(name = "propagationTaskExecutorAsyncExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    @Resource(name = "propagationTaskQueueScheduler")
+    private ThreadPoolTaskScheduler scheduler;
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Value("${propagationTaskQueue.leaseDuration:60}")
+    private long leaseDuration;
+
+    @Value("${propagationTaskQueue.retryDelay:1000}")
+    private long retryDelay;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName() + '/' + UUID.randomUUID();
+
+    private final Set<String> domains = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final Map<String, Lane> lanes = new HashMap<>();
+
+    @Override
+    public Integer getPriority() {
+        return 1000;
+    }
+
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        domains.add(domain);
+        sweep(domain);
+
+        if (sweeping.compareAndSet(false, true)) {
+            long period = TimeUnit.SECONDS.toMillis(leaseDuration) / 3;
+            scheduler.scheduleAtFixedRate(
+                    () -> domains.forEach(each -> AuthContextUtils.execWithAuthContext(each, () -> {
+                        sweep(each);
+                        return null;
+                    })),
+                    new Date(System.currentTimeMillis() + period),
+                    period);
+        }
+    }
+
+    protected PropagationTaskExecutor taskExecutor() {
+        return ApplicationContextProvider.getBeanFactory().getBean(PropagationTaskExecutor.class);
+    }
+
+    private Date leaseExpiry() {
+        return new Date(System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(leaseDuration));
+    }
+
+    /**
+     * Renews the leases held by this node, then takes over the queued tasks of the current domain which are not
+     * leased by any node.
+     *
+     * @param domain domain
+     */
+    protected void sweep(final String domain) {
+        try {
+            int renewed = taskDAO.renewLeases(owner, leaseExpiry());
+            LOG.debug("Renewed {} leases on queued propagation tasks for domain {}", renewed, domain);
+
+            List<Pair<String, String>> queued = taskDAO.findQueued();
+            if (!queued.isEmpty()) {
+                LOG.info("Taking over {} queued propagation tasks for domain {}", queued.size(), domain);
+            }
+            queued.stream().
+                    filter(pair -> taskDAO.lease(pair.getLeft(), owner, leaseExpiry())).
+                    forEach(pair -> dispatch(domain, pair.getRight(), pair.getLeft()));
+        } catch (Exception e) {
+            LOG.error("While sweeping queued propagation tasks for domain {}", domain, e);
+        }
+    }
+
+    /**
+     * Stores the given tasks in the queue, leased to this node; execution starts once the current transaction, if
+     * any, is committed.
+     *
+     * @param tasks propagation tasks to be queued
+     */
+    public void enqueue(final Collection<PropagationTask> tasks) {
+        String domain = AuthContextUtils.getDomain();
+        Date queued = new Date();
+        Date leaseExpiry = leaseExpiry();
+
+        List<Pair<String, String>> stored = tasks.stream().map(task -> {
+            task.setQueued(queued);
+            task.setQueueOwner(owner);
+            task.setLeaseExpiry(leaseExpiry);
+            return Pair.of(task.getResource().getKey(), taskDAO.save(task).getKey());
+        }).collect(Collectors.toList());
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+                @Override
+                public void afterCommit() {
+                    stored.forEach(pair -> dispatch(domain, pair.getLeft(), pair.getRight()));
+                }
+            });
+        } else {
+            stored.forEach(pair -> dispatch(domain, pair.getLeft(), pair.getRight()));
+        }
+    }
+
+    /**
+     * @return number of queued tasks waiting to be executed by this node
+     */
+    public int size() {
+        synchronized (lanes) {
+            return lanes.values().stream().mapToInt(lane -> lane.keys.size()).sum();
+        }
+    }
+
+    private void dispatch(final String domain, final String resource, final String key) {
+        Lane lane;
+        synchronized (lanes) {
+            lane = lanes.computeIfAbsent(domain + '|' + resource, k -> new Lane(domain));
+            lane.keys.add(key);
+            if (lane.running) {
+                return;
+            }
+            lane.running = true;
+        }
+
+        submit(lane);
+    }
+
+    private void submit(final Lane lane) {
+        try {
+            executor.execute(() -> drain(lane));
+        } catch (TaskRejectedException e) {
+            LOG.warn("No consumer available for queued propagation tasks", e);
+            retry(lane);
+        }
+    }
+
+    private void retry(final Lane lane) {
+        long delay;
+        synchronized (lanes) {
+            lane.failures++;
+            delay = retryDelay << Math.min(lane.failures - 1, MAX_BACKOFF_EXPONENT);
+        }
+
+        LOG.debug("Serving queued propagation tasks again in {} ms", delay);
+        scheduler.schedule(() -> submit(lane), new Date(System.currentTimeMillis() + delay));
+    }
+
+    private void drain(final Lane lane) {
+        PropagationTaskExecutor taskExecutor = taskExecutor();
+
+        while (true) {
+            String key;
+            synchronized (lanes) {
+                if (lane.keys.isEmpty()) {
+                    lane.running = false;
+                    return;
+                }
+                key = lane.keys.iterator().next();
+            }
+
+            try {
+                AuthContextUtils.execWithAuthContext(lane.domain, () -> {
+                    if (taskDAO.lease(key, owner, leaseExpiry())) {
+                        taskExecutor.executeQueued(key);
+                    } else {
+                        LOG.debug("Queued propagation task {} was taken over by another node", key);
+                    }
+                    return null;
+                });
+            } catch (Throwable t) {
+                // the task is still queued and at the head of its lane, preserving order
+                LOG.error("While executing queued propagation task {}", key, t);
+                retry(lane);
+                return;
+            }
+
+            synchronized (lanes) {
+                lane.keys.remove(key);
+                lane.failures = 0;
+            }
+        }
+    }
+}
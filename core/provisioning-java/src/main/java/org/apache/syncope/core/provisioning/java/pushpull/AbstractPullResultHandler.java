@@ -121,6 +121,11 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
 
     @Override
     public boolean handle(final SyncDelta delta) {
+        return handle(delta, null);
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta, final List<String> matchingKeys) {
         Provision provision = null;
         try {
             provision = profile.getTask().getResource().getProvision(delta.getObject().getObjectClass()).orElse(null);
@@ -129,7 +134,7 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
                         + delta.getObject().getObjectClass());
             }
 
-            doHandle(delta, provision);
+            doHandle(delta, matchingKeys, provision);
 
             LOG.debug("Successfully handled {}", delta);
 
@@ -700,6 +705,20 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
      * @throws JobExecutionException in case of pull failure.
      */
     protected void doHandle(final SyncDelta delta, final Provision provision) throws JobExecutionException {
+        doHandle(delta, null, provision);
+    }
+
+    /**
+     * Look into SyncDelta and take necessary profile.getActions() (create / update / delete) on any object(s).
+     *
+     * @param delta returned by the underlying profile.getConnector()
+     * @param matchingKeys keys of the any objects matching the given delta, or {@code null} if not known yet
+     * @param provision provisioning info
+     * @throws JobExecutionException in case of pull failure.
+     */
+    protected void doHandle(final SyncDelta delta, final List<String> matchingKeys, final Provision provision)
+            throws JobExecutionException {
+
         AnyUtils anyUtils = getAnyUtils();
 
         LOG.debug("Process {} for {} as {}",
@@ -710,7 +729,9 @@ public abstract class AbstractPullResultHandler extends AbstractSyncopeResultHan
                 : delta.getPreviousUid().getUidValue();
 
         try {
-            List<String> anyKeys = pullUtils.findExisting(uid, delta.getObject(), provision, anyUtils);
+            List<String> anyKeys = matchingKeys == null
+                    ? pullUtils.findExisting(uid, delta.getObject(), provision, anyUtils)
+                    : matchingKeys;
             LOG.debug("Match(es) found for {} as {}: {}",
                     delta.getUid().getUidValue(), delta.getObject().getObjectClass(), anyKeys);
 
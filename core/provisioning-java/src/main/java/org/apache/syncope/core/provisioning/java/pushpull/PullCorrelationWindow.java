@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+
+/**
+ * Buffers the deltas received from the connector, so that matching any objects can be found for a whole window
+ * of deltas at once, rather than one by one; each delta is then passed, in order, to the actual handler.
+ * Deltas whose uid was already affected, as uid or previous uid, by an earlier delta of the same window are passed
+ * without matches, so that the handler looks them up again.
+ */
+public class PullCorrelationWindow implements SyncResultsHandler {
+
+    private final SyncopePullResultHandler handler;
+
+    private final PullUtils pullUtils;
+
+    private final Provision provision;
+
+    private final AnyUtils anyUtils;
+
+    private final int size;
+
+    private final List<SyncDelta> deltas;
+
+    private boolean shouldContinue = true;
+
+    public PullCorrelationWindow(
+            final SyncopePullResultHandler handler,
+            final PullUtils pullUtils,
+            final Provision provision,
+            final AnyUtils anyUtils,
+            final int size) {
+
+        this.handler = handler;
+        this.pullUtils = pullUtils;
+        this.provision = provision;
+        this.anyUtils = anyUtils;
+        this.size = size;
+        this.deltas = new ArrayList<>(size);
+    }
+
+    private static String getUid(final SyncDelta delta) {
+        return delta.getPreviousUid() == null
+                ? delta.getUid().getUidValue()
+                : delta.getPreviousUid().getUidValue();
+    }
+
+    @Override
+    public boolean handle(final SyncDelta delta) {
+        if (shouldContinue) {
+            deltas.add(delta);
+            if (deltas.size() >= size) {
+                flush();
+            }
+        }
+        return shouldContinue;
+    }
+
+    /**
+     * Handles all buffered deltas; to be invoked once the connector has returned all deltas.
+     *
+     * @return whether all deltas were successfully handled
+     */
+    public boolean flush() {
+        if (deltas.isEmpty() || !shouldContinue) {
+            deltas.clear();
+            return shouldContinue;
+        }
+
+        Set<String> uids = new HashSet<>();
+        deltas.forEach(delta -> uids.add(getUid(delta)));
+        Map<String, List<String>> matches = pullUtils.findExisting(uids, provision, anyUtils);
+
+        // matches found in advance are stale for uids touched by deltas already handled: let the handler look up
+        Set<String> touched = new HashSet<>();
+        for (SyncDelta delta : deltas) {
+            List<String> matchingKeys = touched.contains(getUid(delta)) ? null : matches.get(getUid(delta));
+
+            touched.add(delta.getUid().getUidValue());
+            if (delta.getPreviousUid() != null) {
+                touched.add(delta.getPreviousUid().getUidValue());
+            }
+
+            if (!handler.handle(delta, matchingKeys)) {
+                shouldContinue = false;
+                break;
+            }
+        }
+        deltas.clear();
+
+        return shouldContinue;
+    }
+}
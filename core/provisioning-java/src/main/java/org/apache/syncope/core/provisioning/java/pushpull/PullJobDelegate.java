@@ -34,6 +34,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.VirSchemaDAO;
+import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
@@ -60,6 +61,11 @@ import org.identityconnectors.framework.common.objects.SyncToken;
 
 public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> implements SyncopePullExecutor {
 
+    /**
+     * Number of deltas for which matching any objects are looked up at once.
+     */
+    protected static final int CORRELATION_WINDOW_SIZE = 500;
+
     @Autowired
     protected UserDAO userDAO;
 
@@ -72,6 +78,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
     @Autowired
     protected PullUtils pullUtils;
 
+    @Autowired
+    protected AnyUtilsFactory anyUtilsFactory;
+
     protected final Map<ObjectClass, SyncToken> latestSyncTokens = new HashMap<>();
 
     protected ProvisioningProfile<PullTask, PullActions> profile;
@@ -267,6 +276,13 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                         handler = ahandler;
                 }
 
+                PullCorrelationWindow window = new PullCorrelationWindow(
+                        handler,
+                        pullUtils,
+                        provision,
+                        anyUtilsFactory.getInstance(provision.getAnyType().getKind()),
+                        CORRELATION_WINDOW_SIZE);
+
                 try {
                     Set<MappingItem> linkinMappingItems = new HashSet<>();
                     virSchemaDAO.findByProvision(provision).forEach(virSchema -> {
@@ -286,8 +302,9 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                             connector.sync(
                                     provision.getObjectClass(),
                                     provision.getSyncToken(),
-                                    handler,
+                                    window,
                                     options);
+                            window.flush();
 
                             if (!dryRun) {
                                 provision.setSyncToken(latestSyncTokens.get(provision.getObjectClass()));
@@ -303,15 +320,17 @@ public class PullJobDelegate extends AbstractProvisioningJobDelegate<PullTask> i
                                                     AbstractBeanDefinition.AUTOWIRE_BY_NAME, false);
                             connector.filteredReconciliation(provision.getObjectClass(),
                                     filterBuilder,
-                                    handler,
+                                    window,
                                     options);
+                            window.flush();
                             break;
 
                         case FULL_RECONCILIATION:
                         default:
                             connector.fullReconciliation(provision.getObjectClass(),
-                                    handler,
+                                    window,
                                     options);
+                            window.flush();
                             break;
                     }
                 } catch (Throwable t) {
@@ -19,12 +19,17 @@
 package org.apache.syncope.core.provisioning.java.pushpull;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.common.lib.policy.PullPolicySpec;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
@@ -45,6 +50,7 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.Item;
 import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnit;
 import org.apache.syncope.core.persistence.api.entity.resource.OrgUnitItem;
@@ -171,21 +177,26 @@ public class PullUtils {
                         : groupDAO;
     }
 
-    private List<String> findByConnObjectKeyItem(
-            final String uid, final Provision provision, final AnyUtils anyUtils) {
-
-        Optional<MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
-
+    private String transform(final String uid, final Item connObjectKeyItem) {
         String transfUid = uid;
-        for (ItemTransformer transformer : MappingUtils.getItemTransformers(connObjectKeyItem.get())) {
+        for (ItemTransformer transformer : MappingUtils.getItemTransformers(connObjectKeyItem)) {
             List<Object> output = transformer.beforePull(
-                    connObjectKeyItem.get(),
+                    connObjectKeyItem,
                     null,
                     Collections.<Object>singletonList(transfUid));
             if (output != null && !output.isEmpty()) {
                 transfUid = output.get(0).toString();
             }
         }
+        return transfUid;
+    }
+
+    private List<String> findByConnObjectKeyItem(
+            final String uid, final Provision provision, final AnyUtils anyUtils) {
+
+        Optional<MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+
+        String transfUid = transform(uid, connObjectKeyItem.get());
 
         List<String> result = new ArrayList<>();
 
@@ -326,6 +337,84 @@ public class PullUtils {
         }
     }
 
+    /**
+     * Bulk version of {@link #findExisting(java.lang.String, ConnectorObject, Provision, AnyUtils)}: when matching
+     * is based on the mapped connObjectKey item, all the provided uids are resolved with a single query.
+     * Uids which cannot be resolved this way (e.g. because of correlation rules or derived schemas) are not
+     * reported, and shall be looked up one by one.
+     *
+     * @param uids mapped uid values (or previous uid values, if updated)
+     * @param provision external resource
+     * @param anyUtils any util
+     * @return list of matching users / groups / any objects, for each resolved uid
+     */
+    public Map<String, List<String>> findExisting(
+            final Collection<String> uids,
+            final Provision provision,
+            final AnyUtils anyUtils) {
+
+        if (provision.getResource().getPullPolicy() != null
+                && getCorrelationRule(provision, provision.getResource().getPullPolicy().getSpecification()) != null) {
+
+            return Collections.emptyMap();
+        }
+
+        Optional<MappingItem> connObjectKeyItem = MappingUtils.getConnObjectKeyItem(provision);
+        if (!connObjectKeyItem.isPresent()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            Map<String, String> transfUids = new HashMap<>(uids.size());
+            uids.forEach(uid -> transfUids.put(uid, transform(uid, connObjectKeyItem.get())));
+
+            IntAttrName intAttrName = intAttrNameParser.parse(
+                    connObjectKeyItem.get().getIntAttrName(),
+                    provision.getAnyType().getKind());
+
+            Map<String, List<String>> found;
+            if (intAttrName.getField() != null) {
+                switch (intAttrName.getField()) {
+                    case "key":
+                    case "username":
+                        found = getAnyDAO(provision.getAnyType().getKind()).
+                                findKeysByField(intAttrName.getField(), transfUids.values());
+                        break;
+
+                    case "name":
+                        found = new HashMap<>(groupDAO.findKeysByField("name", transfUids.values()));
+                        anyObjectDAO.findKeysByField("name", transfUids.values()).forEach((value, keys)
+                                -> found.merge(value, keys, (g, a) -> {
+                                    List<String> merged = new ArrayList<>(g);
+                                    merged.addAll(a);
+                                    return merged;
+                                }));
+                        break;
+
+                    default:
+                        return Collections.emptyMap();
+                }
+            } else if (intAttrName.getSchemaType() == SchemaType.PLAIN) {
+                PlainSchema schema = plainSchemaDAO.find(intAttrName.getSchemaName());
+                if (schema != null && schema.getType() != AttrSchemaType.String) {
+                    return Collections.emptyMap();
+                }
+
+                found = getAnyDAO(provision.getAnyType().getKind()).
+                        findKeysByPlainAttrStringValue(intAttrName.getSchemaName(), transfUids.values());
+            } else {
+                return Collections.emptyMap();
+            }
+
+            Map<String, List<String>> result = new HashMap<>(uids.size());
+            transfUids.forEach((uid, transfUid) -> result.put(uid, found.getOrDefault(transfUid, new ArrayList<>())));
+            return result;
+        } catch (RuntimeException e) {
+            LOG.error("While resolving {} in bulk, falling back to one by one", uids, e);
+            return Collections.emptyMap();
+        }
+    }
+
     public List<String> findExisting(
             final String uid,
             final ConnectorObject connObj,
@@ -333,16 +422,7 @@ public class PullUtils {
 
         Optional<? extends OrgUnitItem> connObjectKeyItem = orgUnit.getConnObjectKeyItem();
 
-        String transfUid = uid;
-        for (ItemTransformer transformer : MappingUtils.getItemTransformers(connObjectKeyItem.get())) {
-            List<Object> output = transformer.beforePull(
-                    connObjectKeyItem.get(),
-                    null,
-                    Collections.<Object>singletonList(transfUid));
-            if (output != null && !output.isEmpty()) {
-                transfUid = output.get(0).toString();
-            }
-        }
+        String transfUid = transform(uid, connObjectKeyItem.get());
 
         List<String> result = new ArrayList<>();
 
@@ -160,26 +160,29 @@ public final class MappingUtils {
         return evaluateNAME(evalConnObjectLink, connObjectKey);
     }
 
-    private static List<ItemTransformer> getItemTransformers(
+    private static Optional<ItemTransformer> getJEXLItemTransformer(
             final String propagationJEXLTransformer,
-            final String pullJEXLTransformer,
+            final String pullJEXLTransformer) {
+
+        if (StringUtils.isBlank(propagationJEXLTransformer) && StringUtils.isBlank(pullJEXLTransformer)) {
+            return Optional.empty();
+        }
+
+        JEXLItemTransformer jexlTransformer =
+                (JEXLItemTransformer) ApplicationContextProvider.getBeanFactory().
+                        createBean(JEXLItemTransformerImpl.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME,
+                                false);
+
+        jexlTransformer.setPropagationJEXL(propagationJEXLTransformer);
+        jexlTransformer.setPullJEXL(pullJEXLTransformer);
+        return Optional.of(jexlTransformer);
+    }
+
+    private static List<ItemTransformer> getCustomItemTransformers(
             final List<String> mappingItemTransformerClassNames) {
 
         List<ItemTransformer> result = new ArrayList<>();
 
-        // First consider the JEXL transformation expressions
-        if (StringUtils.isNotBlank(propagationJEXLTransformer) || StringUtils.isNotBlank(pullJEXLTransformer)) {
-            JEXLItemTransformer jexlTransformer =
-                    (JEXLItemTransformer) ApplicationContextProvider.getBeanFactory().
-                            createBean(JEXLItemTransformerImpl.class, AbstractBeanDefinition.AUTOWIRE_BY_NAME,
-                                    false);
-
-            jexlTransformer.setPropagationJEXL(propagationJEXLTransformer);
-            jexlTransformer.setPullJEXL(pullJEXLTransformer);
-            result.add(jexlTransformer);
-        }
-
-        // Then other custom tranaformers
         mappingItemTransformerClassNames.forEach(className -> {
             try {
                 Class<?> transformerClass = ClassUtils.getClass(className);
@@ -194,6 +197,43 @@ public final class MappingUtils {
         return result;
     }
 
+    private static List<ItemTransformer> getItemTransformers(
+            final String propagationJEXLTransformer,
+            final String pullJEXLTransformer,
+            final List<String> mappingItemTransformerClassNames) {
+
+        List<ItemTransformer> result = new ArrayList<>();
+
+        // First consider the JEXL transformation expressions
+        getJEXLItemTransformer(propagationJEXLTransformer, pullJEXLTransformer).ifPresent(result::add);
+
+        // Then other custom tranaformers
+        result.addAll(getCustomItemTransformers(mappingItemTransformerClassNames));
+
+        return result;
+    }
+
+    /**
+     * Returns the transformer for the JEXL expressions of the given item, if any; unlike custom transformers, this
+     * holds no state but the expressions, hence it can be shared across threads.
+     *
+     * @param item mapping item
+     * @return transformer for the JEXL expressions of the given item, if any
+     */
+    public static Optional<ItemTransformer> getJEXLItemTransformer(final Item item) {
+        return getJEXLItemTransformer(item.getPropagationJEXLTransformer(), item.getPullJEXLTransformer());
+    }
+
+    /**
+     * Returns new instances of the custom transformers of the given item.
+     *
+     * @param item mapping item
+     * @return new instances of the custom transformers of the given item
+     */
+    public static List<ItemTransformer> getCustomItemTransformers(final Item item) {
+        return getCustomItemTransformers(item.getTransformerClassNames());
+    }
+
     public static List<ItemTransformer> getItemTransformers(final ItemTO item) {
         return getItemTransformers(
                 item.getPropagationJEXLTransformer(),
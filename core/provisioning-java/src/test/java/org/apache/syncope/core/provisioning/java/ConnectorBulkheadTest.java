@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.to.ConnectorHealthTO;
+import org.apache.syncope.common.lib.types.ConnectorCircuitState;
+import org.apache.syncope.core.persistence.api.entity.ConnBulkheadConf;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.persistence.jpa.entity.JPAConnBulkheadConf;
+import org.apache.syncope.core.provisioning.api.TimeoutException;
+import org.junit.Test;
+
+public class ConnectorBulkheadTest {
+
+    @Test
+    public void maxConcurrent() {
+        ConnectorBulkhead bulkhead = new ConnectorBulkhead("resource-test", 1, 10, 5, 30000);
+
+        assertFalse(bulkhead.acquire());
+        try {
+            bulkhead.acquire();
+            fail("Slot should not be available");
+        } catch (TimeoutException e) {
+            assertEquals(1, bulkhead.getHealth().getRejections());
+        }
+
+        bulkhead.release();
+        bulkhead.completed(false, false, false, false, 0);
+        bulkhead.acquire();
+
+        ConnectorHealthTO health = bulkhead.getHealth();
+        assertEquals(1, health.getActive());
+        assertEquals(2, health.getCalls());
+        assertEquals(health.getLatencyBounds().size() + 1, health.getLatencyCounts().size());
+        assertEquals(1, health.getLatencyCounts().get(0).longValue());
+    }
+
+    @Test
+    public void circuit() throws InterruptedException {
+        ConnectorBulkhead bulkhead = new ConnectorBulkhead("resource-test", 5, 10, 2, 100);
+
+        for (int i = 0; i < 2; i++) {
+            boolean probe = bulkhead.acquire();
+            bulkhead.release();
+            bulkhead.completed(probe, true, false, false, 0);
+        }
+        assertEquals(ConnectorCircuitState.OPEN, bulkhead.getHealth().getCircuitState());
+        assertEquals(2, bulkhead.getHealth().getTimeouts());
+
+        try {
+            bulkhead.acquire();
+            fail("Circuit should be open");
+        } catch (TimeoutException e) {
+            assertEquals(1, bulkhead.getHealth().getRejections());
+        }
+
+        Thread.sleep(150);
+
+        // only one probe request is let through
+        assertTrue(bulkhead.acquire());
+        assertEquals(ConnectorCircuitState.HALF_OPEN, bulkhead.getHealth().getCircuitState());
+        try {
+            bulkhead.acquire();
+            fail("Circuit should be half-open");
+        } catch (TimeoutException e) {
+            assertEquals(2, bulkhead.getHealth().getRejections());
+        }
+
+        bulkhead.release();
+        bulkhead.completed(true, false, false, false, 0);
+        assertEquals(ConnectorCircuitState.CLOSED, bulkhead.getHealth().getCircuitState());
+        assertFalse(bulkhead.acquire());
+    }
+
+    private static ConnInstance connInstance(final String key, final ConnBulkheadConf bulkheadConf) {
+        return (ConnInstance) Proxy.newProxyInstance(
+                ConnectorBulkheadTest.class.getClassLoader(),
+                new Class<?>[] { ConnInstance.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getKey":
+                            return key;
+
+                        case "getDisplayName":
+                            return "conn-" + key;
+
+                        case "getBulkheadConf":
+                            return bulkheadConf;
+
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    @Test
+    public void perConnector() throws Exception {
+        ConnectorBulkheads bulkheads = new ConnectorBulkheads();
+        bulkheads.setMaxConcurrent(3);
+
+        JPAConnBulkheadConf bulkheadConf = new JPAConnBulkheadConf();
+        ConnInstance conn1 = connInstance("1", bulkheadConf);
+        ConnInstance conn2 = connInstance("2", null);
+
+        // defaults apply to what is not set on the connector instance
+        ConnectorBulkhead bulkhead1 = bulkheads.get(conn1);
+        assertEquals(3, bulkhead1.getMaxConcurrent());
+        ConnectorBulkhead bulkhead2 = bulkheads.get(conn2);
+        assertNotSame(bulkhead1, bulkhead2);
+
+        // kept across registrations, as long as settings do not change
+        bulkhead1.acquire();
+        assertSame(bulkhead1, bulkheads.get(conn1));
+        assertEquals(1, bulkheads.get(conn1).getHealth().getCalls());
+
+        // requests run on threads owned by the bulkhead
+        String thread = bulkhead1.submit(() -> Thread.currentThread().getName()).get(5, TimeUnit.SECONDS);
+        assertTrue(thread, thread.startsWith("connector-conn-1-"));
+
+        bulkheadConf.setMaxConcurrentRequests(1);
+        ConnectorBulkhead replaced = bulkheads.get(conn1);
+        assertNotSame(bulkhead1, replaced);
+        assertEquals(1, replaced.getMaxConcurrent());
+        assertSame(replaced, bulkheads.find("1").get());
+        try {
+            bulkhead1.submit(() -> "rejected");
+            fail("Replaced bulkhead should not accept further requests");
+        } catch (Exception e) {
+            // expected
+        }
+
+        bulkheads.remove("1");
+        assertFalse(bulkheads.find("1").isPresent());
+        assertSame(bulkhead2, bulkheads.find("2").get());
+    }
+}
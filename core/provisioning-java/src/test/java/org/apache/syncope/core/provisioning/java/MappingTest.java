@@ -20,19 +20,28 @@ package org.apache.syncope.core.provisioning.java;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
 
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.lang3.tuple.Pair;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.resource.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.resource.MappingItem;
 import org.apache.syncope.core.persistence.api.entity.resource.Provision;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.java.jexl.JexlUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
 import org.identityconnectors.framework.common.objects.Name;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,6 +62,12 @@ public class MappingTest extends AbstractTest {
     @Autowired
     private UserDAO userDAO;
 
+    @Autowired
+    private MappingManager mappingManager;
+
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Test
     public void anyConnObjectLink() {
         ExternalResource ldap = resourceDAO.find("resource-ldap");
@@ -95,4 +110,37 @@ public class MappingTest extends AbstractTest {
 
         assertEquals("ou=even,o=isp", JexlUtils.evaluate(connObjectLink, jexlContext));
     }
+
+    private static String getSingleValue(final Pair<String, Set<Attribute>> prepared, final String name) {
+        return AttributeUtil.getStringValue(AttributeUtil.find(name, prepared.getRight()));
+    }
+
+    @Test
+    public void itemPlan() {
+        Provision provision = resourceDAO.find("resource-ldap").getProvision(anyTypeDAO.findUser()).get();
+        MappingItem surname = provision.getMapping().getItems().stream().
+                filter(item -> "sn".equals(item.getExtAttrName())).findFirst().get();
+
+        User user = userDAO.findByUsername("rossini");
+        String value = getSingleValue(mappingManager.prepareAttrs(user, null, false, null, provision), "sn");
+        assertNotNull(value);
+
+        // custom transformers are instantiated for each use, never shared through the cached plan
+        RecordingItemTransformer.INSTANCES.clear();
+        surname.getTransformerClassNames().add(RecordingItemTransformer.class.getName());
+        mappingManager.prepareAttrs(user, null, false, null, provision);
+        mappingManager.prepareAttrs(user, null, false, null, provision);
+        assertEquals(2, RecordingItemTransformer.INSTANCES.size());
+
+        // the cached plan is kept until invalidated...
+        surname.setPropagationJEXLTransformer("value.toUpperCase()");
+        assertEquals(value,
+                getSingleValue(mappingManager.prepareAttrs(user, null, false, null, provision), "sn"));
+
+        // ...then compiled again
+        schemaMetadataCache.invalidate();
+        assertEquals(value.toUpperCase(),
+                getSingleValue(mappingManager.prepareAttrs(user, null, false, null, provision), "sn"));
+        assertTrue(RecordingItemTransformer.INSTANCES.size() > 2);
+    }
 }
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.report;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipInputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.syncope.common.lib.report.AuditReportletConf;
+import org.apache.syncope.common.lib.report.ReportletConf;
+import org.apache.syncope.common.lib.report.StaticReportletConf;
+import org.apache.syncope.common.lib.report.UserReportletConf;
+import org.apache.syncope.common.lib.types.ReportExecStatus;
+import org.apache.syncope.core.persistence.api.ImplementationLookup;
+import org.apache.syncope.core.persistence.api.dao.ReportDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportTemplateDAO;
+import org.apache.syncope.core.persistence.api.dao.Reportlet;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.Report;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Transactional;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+
+@Transactional("Master")
+public class ReportJobDelegateTest extends AbstractTest {
+
+    private static CountDownLatch latch;
+
+    @Autowired
+    private ReportJobDelegate delegate;
+
+    @Autowired
+    private ReportDAO reportDAO;
+
+    @Autowired
+    private ReportTemplateDAO reportTemplateDAO;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private ImplementationLookup implementationLookup;
+
+    private static Set<String> getFragments() {
+        String[] fragments = new File(System.getProperty("java.io.tmpdir")).
+                list((dir, name) -> name.startsWith("reportlet") && name.endsWith(".xml"));
+        return fragments == null ? new HashSet<>() : new HashSet<>(Arrays.asList(fragments));
+    }
+
+    @Before
+    public void setUp() {
+        latch = new CountDownLatch(2);
+
+        // besides the actual StaticReportlet, map a couple of standard configurations to test reportlets
+        Map<Class<? extends ReportletConf>, Class<? extends Reportlet>> reportletClasses = new HashMap<>();
+        reportletClasses.put(StaticReportletConf.class, StaticReportlet.class);
+        reportletClasses.put(AuditReportletConf.class, FailingReportlet.class);
+        reportletClasses.put(UserReportletConf.class, LatchReportlet.class);
+
+        ImplementationLookup lookup = (ImplementationLookup) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { ImplementationLookup.class },
+                (proxy, method, args) -> "getReportletClass".equals(method.getName())
+                ? reportletClasses.get(args[0])
+                : method.invoke(implementationLookup, args));
+        ReportJobDelegate target = AopTestUtils.getTargetObject(delegate);
+        ReflectionTestUtils.setField(target, "implementationLookup", lookup);
+    }
+
+    @After
+    public void tearDown() {
+        ReportJobDelegate target = AopTestUtils.getTargetObject(delegate);
+        ReflectionTestUtils.setField(target, "implementationLookup", implementationLookup);
+    }
+
+    private ReportExec execute(final ReportletConf... reportletConfs) throws JobExecutionException {
+        Report report = entityFactory.newEntity(Report.class);
+        report.setName("ReportJobDelegateTest" + System.nanoTime());
+        report.setActive(true);
+        report.setTemplate(reportTemplateDAO.find("sample"));
+        for (ReportletConf reportletConf : reportletConfs) {
+            report.add(reportletConf);
+        }
+        report = reportDAO.save(report);
+
+        delegate.execute(report.getKey());
+
+        List<? extends ReportExec> execs = reportDAO.find(report.getKey()).getExecs();
+        assertEquals(1, execs.size());
+        return execs.get(0);
+    }
+
+    private static String getResult(final ReportExec exec) throws IOException {
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(exec.getExecResult()))) {
+            assertNotNull(zis.getNextEntry());
+            return IOUtils.toString(zis, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static StaticReportletConf staticReportletConf(final String name, final String stringField) {
+        StaticReportletConf conf = new StaticReportletConf(name);
+        conf.setStringField(stringField);
+        return conf;
+    }
+
+    @Test
+    public void splice() throws Exception {
+        Set<String> fragments = getFragments();
+
+        ReportExec exec = execute(
+                staticReportletConf("first", "a < b & c"),
+                staticReportletConf("second", "àèìòù"));
+        assertEquals(ReportExecStatus.SUCCESS.name(), exec.getStatus());
+
+        // reportlet outputs are merged, in the configured order, into the same XML document
+        String result = getResult(exec);
+        assertTrue(result, result.startsWith("<?xml"));
+        assertEquals(result.indexOf("<?xml"), result.lastIndexOf("<?xml"));
+        int first = result.indexOf("<string>a &lt; b &amp; c</string>");
+        int second = result.indexOf("<string>àèìòù</string>");
+        assertTrue(result, first > 0);
+        assertTrue(result, second > first);
+        assertTrue(result, result.trim().endsWith("</report>"));
+
+        // temporary files were removed
+        assertEquals(fragments, getFragments());
+    }
+
+    @Test
+    public void failure() throws Exception {
+        Set<String> fragments = getFragments();
+
+        ReportExec exec = execute(
+                staticReportletConf("first", "before"),
+                new AuditReportletConf("failing"),
+                staticReportletConf("third", "after"));
+        assertEquals(ReportExecStatus.FAILURE.name(), exec.getStatus());
+        assertTrue(exec.getMessage(), exec.getMessage().contains("failing on purpose"));
+
+        // the failing reportlet's partial output is left out, the others are still reported
+        String result = getResult(exec);
+        assertFalse(result, result.contains("partial"));
+        assertTrue(result, result.indexOf("<string>before</string>") < result.indexOf("<string>after</string>"));
+        assertTrue(result, result.trim().endsWith("</report>"));
+
+        // temporary files were removed, including the failing reportlet's
+        assertEquals(fragments, getFragments());
+    }
+
+    @Test
+    public void parallel() throws Exception {
+        // each reportlet waits for the other to start: this only succeeds if they are extracted in parallel
+        ReportExec exec = execute(new UserReportletConf("latch1"), new UserReportletConf("latch2"));
+        assertEquals(exec.getMessage(), ReportExecStatus.SUCCESS.name(), exec.getStatus());
+
+        String result = getResult(exec);
+        assertTrue(result, result.indexOf("latch1") < result.indexOf("latch2"));
+    }
+
+    public static class FailingReportlet extends AbstractReportlet {
+
+        @Override
+        protected void doExtract(final ReportletConf conf, final ContentHandler handler) throws SAXException {
+            handler.startElement("", "", "partial", null);
+            throw new ReportException(new IllegalStateException("failing on purpose"));
+        }
+    }
+
+    public static class LatchReportlet extends AbstractReportlet {
+
+        @Override
+        protected void doExtract(final ReportletConf conf, final ContentHandler handler) throws SAXException {
+            latch.countDown();
+            try {
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new ReportException(new IllegalStateException("Reportlets not extracted in parallel"));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReportException(e);
+            }
+
+            handler.startElement("", "", "latch", null);
+            handler.endElement("", "", "latch");
+        }
+    }
+}
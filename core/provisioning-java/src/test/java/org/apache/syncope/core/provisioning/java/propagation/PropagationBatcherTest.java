@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.syncope.common.lib.types.ConnectorCapability;
+import org.apache.syncope.core.persistence.api.entity.ConnInstance;
+import org.apache.syncope.core.provisioning.api.BatchConnector;
+import org.apache.syncope.core.provisioning.api.BatchOperation;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class PropagationBatcherTest {
+
+    private static BatchConnector connector(
+            final List<Integer> batchSizes, final CountDownLatch sending, final CountDownLatch firstBatch) {
+
+        ConnInstance connInstance = (ConnInstance) Proxy.newProxyInstance(
+                ConnInstance.class.getClassLoader(), new Class<?>[] { ConnInstance.class },
+                (proxy, method, args) -> "getCapabilities".equals(method.getName())
+                ? EnumSet.of(ConnectorCapability.CREATE)
+                : null);
+
+        return (BatchConnector) Proxy.newProxyInstance(
+                BatchConnector.class.getClassLoader(), new Class<?>[] { BatchConnector.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getConnInstance":
+                            return connInstance;
+
+                        case "execute":
+                            @SuppressWarnings("unchecked")
+                            List<BatchOperation> operations = (List<BatchOperation>) args[2];
+                            synchronized (batchSizes) {
+                                batchSizes.add(operations.size());
+                            }
+                            sending.countDown();
+                            firstBatch.await(5, TimeUnit.SECONDS);
+                            operations.forEach(operation -> {
+                                String name = operation.getAttrs().iterator().next().getValue().get(0).toString();
+                                if (name.startsWith("fail")) {
+                                    operation.setFailure(new IllegalArgumentException(name));
+                                } else {
+                                    operation.setResult(new Uid(name));
+                                }
+                            });
+                            return null;
+
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+
+                        case "equals":
+                            return proxy == args[0];
+
+                        default:
+                            return null;
+                    }
+                });
+    }
+
+    private static PropagationBatcher batcher(final long window, final int maxSize) {
+        PropagationBatcher batcher = new PropagationBatcher();
+        ReflectionTestUtils.setField(batcher, "window", window);
+        ReflectionTestUtils.setField(batcher, "maxSize", maxSize);
+        return batcher;
+    }
+
+    private static List<Future<Uid>> create(
+            final ExecutorService executor,
+            final PropagationBatcher batcher,
+            final BatchConnector connector,
+            final String... names) {
+
+        List<Future<Uid>> results = new ArrayList<>();
+        for (String name : names) {
+            results.add(executor.submit(() -> batcher.create(
+                    connector,
+                    ObjectClass.ACCOUNT,
+                    Collections.singleton(AttributeBuilder.build("name", name)),
+                    new Boolean[] { false })));
+        }
+        return results;
+    }
+
+    @Test
+    public void batch() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch firstBatch = new CountDownLatch(1);
+        BatchConnector connector = connector(batchSizes, sending, firstBatch);
+
+        // the window never expires: batches are sent only when full
+        PropagationBatcher batcher = batcher(TimeUnit.HOURS.toMillis(1), 3);
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Uid>> results = create(executor, batcher, connector, "first", "second", "third");
+            assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+            // queued while the first batch is in progress, then sent together
+            results.addAll(create(executor, batcher, connector, "fourth", "fail", "fifth"));
+            firstBatch.countDown();
+
+            assertEquals("first", results.get(0).get(5, TimeUnit.SECONDS).getUidValue());
+            assertEquals("second", results.get(1).get(5, TimeUnit.SECONDS).getUidValue());
+            assertEquals("third", results.get(2).get(5, TimeUnit.SECONDS).getUidValue());
+            assertEquals("fourth", results.get(3).get(5, TimeUnit.SECONDS).getUidValue());
+            try {
+                results.get(4).get(5, TimeUnit.SECONDS);
+                fail("Failure should be reported for its own operation");
+            } catch (Exception e) {
+                assertTrue(e.getCause() instanceof IllegalArgumentException);
+            }
+            assertEquals("fifth", results.get(5).get(5, TimeUnit.SECONDS).getUidValue());
+
+            assertEquals(2, batchSizes.size());
+            assertEquals(3, batchSizes.get(0).intValue());
+            assertEquals(3, batchSizes.get(1).intValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void window() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        CountDownLatch firstBatch = new CountDownLatch(0);
+        BatchConnector connector = connector(batchSizes, new CountDownLatch(1), firstBatch);
+
+        // the batch is not full, but it is sent anyway once the window is over
+        PropagationBatcher batcher = batcher(50, 100);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Future<Uid>> results = create(executor, batcher, connector, "lonely");
+            assertEquals("lonely", results.get(0).get(5, TimeUnit.SECONDS).getUidValue());
+
+            assertEquals(1, batchSizes.size());
+            assertEquals(1, batchSizes.get(0).intValue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Resource;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+public class PropagationTaskQueueTest extends AbstractTest {
+
+    private static final String RESOURCE1 = "ws-target-resource-1";
+
+    private static final String RESOURCE2 = "resource-testdb";
+
+    /**
+     * Records executions, failing the given number of times for each connector object key, then clears the queued
+     * flag.
+     */
+    private class RecordingTaskExecutor implements PropagationTaskExecutor {
+
+        private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+
+        private final Map<String, AtomicInteger> failures = new ConcurrentHashMap<>();
+
+        private final Map<String, AtomicInteger> running = new ConcurrentHashMap<>();
+
+        private final AtomicBoolean overlapping = new AtomicBoolean();
+
+        private final CountDownLatch done;
+
+        RecordingTaskExecutor(final int expected) {
+            this.done = new CountDownLatch(expected);
+        }
+
+        @Override
+        public TaskExec executeQueued(final String key) {
+            PropagationTask task = taskDAO.find(key);
+            AtomicInteger lane = running.computeIfAbsent(task.getResource().getKey(), k -> new AtomicInteger());
+            if (lane.incrementAndGet() > 1) {
+                overlapping.set(true);
+            }
+            try {
+                executed.add(key);
+
+                AtomicInteger toFail = failures.get(task.getConnObjectKey());
+                if (toFail != null && toFail.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Failing " + key);
+                }
+
+                task.setQueued(null);
+                taskDAO.save(task);
+                done.countDown();
+                return null;
+            } finally {
+                lane.decrementAndGet();
+            }
+        }
+
+        @Override
+        public TaskExec execute(final PropagationTask task) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PropagationReporter execute(final Collection<PropagationTask> tasks, final boolean nullPriorityAsync) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    @Autowired
+    private TaskDAO taskDAO;
+
+    @Autowired
+    private ExternalResourceDAO resourceDAO;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Resource(name = "MasterTransactionManager")
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolTaskExecutor executor;
+
+    private ThreadPoolTaskScheduler scheduler;
+
+    private final List<String> created = new ArrayList<>();
+
+    @Before
+    public void before() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.initialize();
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+    }
+
+    @After
+    public void after() {
+        scheduler.shutdown();
+        executor.shutdown();
+
+        inTransaction(() -> {
+            created.forEach(key -> taskDAO.delete(key));
+            return null;
+        });
+    }
+
+    private PropagationTaskQueue queue(final PropagationTaskExecutor taskExecutor) {
+        PropagationTaskQueue queue = new PropagationTaskQueue() {
+
+            @Override
+            protected PropagationTaskExecutor taskExecutor() {
+                return taskExecutor;
+            }
+        };
+        ReflectionTestUtils.setField(queue, "executor", executor);
+        ReflectionTestUtils.setField(queue, "scheduler", scheduler);
+        ReflectionTestUtils.setField(queue, "taskDAO", taskDAO);
+        ReflectionTestUtils.setField(queue, "leaseDuration", 60L);
+        ReflectionTestUtils.setField(queue, "retryDelay", 10L);
+        return queue;
+    }
+
+    private PropagationTask newTask(final String resource, final int index) {
+        PropagationTask task = entityFactory.newEntity(PropagationTask.class);
+        task.setResource(resourceDAO.find(resource));
+        task.setAnyTypeKind(AnyTypeKind.USER);
+        task.setAnyType(AnyTypeKind.USER.name());
+        task.setOperation(ResourceOperation.UPDATE);
+        task.setConnObjectKey("queued" + index + "@" + resource);
+        task.setAttributes(Collections.singleton(AttributeBuilder.build("testAttribute", "testValue" + index)));
+        return task;
+    }
+
+    private <T> T inTransaction(final Supplier<T> supplier) {
+        return new TransactionTemplate(transactionManager).execute(status -> supplier.get());
+    }
+
+    private List<String> enqueue(final PropagationTaskQueue queue, final List<PropagationTask> tasks) {
+        // as for provisioning, tasks are dispatched once the transaction is committed
+        inTransaction(() -> {
+            queue.enqueue(tasks);
+            return null;
+        });
+        return recordedKeys(tasks);
+    }
+
+    private List<String> enqueue(final PropagationTaskQueue queue, final String resource, final int count) {
+        return enqueue(queue, inTransaction(() -> IntStream.range(0, count).
+                mapToObj(i -> newTask(resource, i)).collect(Collectors.toList())));
+    }
+
+    private List<String> recordedKeys(final List<PropagationTask> tasks) {
+        Map<String, String> byConnObjectKey = new HashMap<>();
+        inTransaction(() -> {
+            taskDAO.<PropagationTask>findAll(TaskType.PROPAGATION).
+                    forEach(task -> byConnObjectKey.put(task.getConnObjectKey(), task.getKey()));
+            return null;
+        });
+
+        List<String> keys = tasks.stream().
+                map(task -> byConnObjectKey.get(task.getConnObjectKey())).collect(Collectors.toList());
+        created.addAll(keys);
+        return keys;
+    }
+
+    private static void awaitEmpty(final PropagationTaskQueue queue) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (queue.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private static List<String> executedOf(final RecordingTaskExecutor taskExecutor, final List<String> keys) {
+        return new ArrayList<>(taskExecutor.executed).stream().
+                filter(keys::contains).collect(Collectors.toList());
+    }
+
+    @Test
+    public void ordering() throws InterruptedException {
+        RecordingTaskExecutor taskExecutor = new RecordingTaskExecutor(20);
+        PropagationTaskQueue queue = queue(taskExecutor);
+
+        List<String> keys1 = enqueue(queue, RESOURCE1, 10);
+        List<String> keys2 = enqueue(queue, RESOURCE2, 10);
+
+        assertTrue(taskExecutor.done.await(10, TimeUnit.SECONDS));
+
+        // tasks for the same resource are executed one at a time, in queueing order
+        assertEquals(keys1, executedOf(taskExecutor, keys1));
+        assertEquals(keys2, executedOf(taskExecutor, keys2));
+        assertFalse(taskExecutor.overlapping.get());
+
+        // the executor reports completion slightly before the lane releases the last task
+        awaitEmpty(queue);
+        assertEquals(0, queue.size());
+    }
+
+    @Test
+    public void replay() throws InterruptedException {
+        long now = System.currentTimeMillis();
+
+        // a task not leased, one whose lease has expired and one still leased to another node
+        List<PropagationTask> tasks = inTransaction(() -> Arrays.asList(
+                newTask(RESOURCE1, 0), newTask(RESOURCE1, 1), newTask(RESOURCE1, 2)));
+        for (int i = 0; i < tasks.size(); i++) {
+            tasks.get(i).setQueued(new Date(now - (3 - i) * 1000));
+        }
+        tasks.get(1).setQueueOwner("dead node");
+        tasks.get(1).setLeaseExpiry(new Date(now - 1000));
+        tasks.get(2).setQueueOwner("live node");
+        tasks.get(2).setLeaseExpiry(new Date(now + 60000));
+        tasks.forEach(task -> taskDAO.save(task));
+        List<String> keys = recordedKeys(tasks);
+
+        RecordingTaskExecutor taskExecutor = new RecordingTaskExecutor(2);
+        PropagationTaskQueue queue = queue(taskExecutor);
+        AuthContextUtils.execWithAuthContext(SyncopeConstants.MASTER_DOMAIN, () -> {
+            queue.load(SyncopeConstants.MASTER_DOMAIN, null);
+            return null;
+        });
+
+        assertTrue(taskExecutor.done.await(10, TimeUnit.SECONDS));
+        assertEquals(keys.subList(0, 2), executedOf(taskExecutor, keys));
+
+        // the task leased to the other node is still queued
+        assertNotNull(taskDAO.<PropagationTask>find(keys.get(2)).getQueued());
+    }
+
+    @Test
+    public void failure() throws InterruptedException {
+        RecordingTaskExecutor taskExecutor = new RecordingTaskExecutor(2);
+        PropagationTaskQueue queue = queue(taskExecutor);
+
+        List<PropagationTask> tasks = inTransaction(() -> Arrays.asList(
+                newTask(RESOURCE1, 0), newTask(RESOURCE1, 1)));
+        taskExecutor.failures.put(tasks.get(0).getConnObjectKey(), new AtomicInteger(2));
+
+        List<String> keys = enqueue(queue, tasks);
+
+        assertTrue(taskExecutor.done.await(10, TimeUnit.SECONDS));
+
+        // the failing task is retried until successful, before the next one
+        assertEquals(Arrays.asList(keys.get(0), keys.get(0), keys.get(0), keys.get(1)),
+                executedOf(taskExecutor, keys));
+    }
+
+    @Test
+    public void rejected() throws InterruptedException {
+        AtomicInteger rejections = new AtomicInteger(2);
+        ThreadPoolTaskExecutor rejecting = new ThreadPoolTaskExecutor() {
+
+            private static final long serialVersionUID = 2924553497397372898L;
+
+            @Override
+            public void execute(final Runnable task) {
+                if (rejections.getAndDecrement() > 0) {
+                    throw new TaskRejectedException("Rejected");
+                }
+                super.execute(task);
+            }
+        };
+        rejecting.initialize();
+
+        RecordingTaskExecutor taskExecutor = new RecordingTaskExecutor(3);
+        PropagationTaskQueue queue = queue(taskExecutor);
+        ReflectionTestUtils.setField(queue, "executor", rejecting);
+        try {
+            List<String> keys = enqueue(queue, RESOURCE1, 3);
+
+            // the lane is served again after a backoff
+            assertTrue(taskExecutor.done.await(10, TimeUnit.SECONDS));
+            assertEquals(keys, executedOf(taskExecutor, keys));
+        } finally {
+            rejecting.shutdown();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.core.persistence.api.entity.AnyUtils;
+import org.apache.syncope.core.persistence.api.entity.resource.Provision;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.Test;
+
+public class PullCorrelationWindowTest {
+
+    private static class Handled {
+
+        private final SyncDelta delta;
+
+        private final List<String> matchingKeys;
+
+        Handled(final SyncDelta delta, final List<String> matchingKeys) {
+            this.delta = delta;
+            this.matchingKeys = matchingKeys;
+        }
+    }
+
+    /**
+     * Resolves each uid {@code x} to {@code kx}, recording the uids requested.
+     */
+    private static class RecordingPullUtils extends PullUtils {
+
+        private final List<Set<String>> requested = new ArrayList<>();
+
+        @Override
+        public Map<String, List<String>> findExisting(
+                final Collection<String> uids,
+                final Provision provision,
+                final AnyUtils anyUtils) {
+
+            requested.add(new HashSet<>(uids));
+
+            Map<String, List<String>> result = new HashMap<>();
+            uids.forEach(uid -> result.put(uid, Collections.singletonList("k" + uid)));
+            return result;
+        }
+    }
+
+    private static SyncopePullResultHandler handler(final List<Handled> handled, final String failOn) {
+        return (SyncopePullResultHandler) Proxy.newProxyInstance(
+                SyncopePullResultHandler.class.getClassLoader(), new Class<?>[] { SyncopePullResultHandler.class },
+                (proxy, method, args) -> {
+                    if ("handle".equals(method.getName()) && args.length == 2) {
+                        SyncDelta delta = (SyncDelta) args[0];
+                        @SuppressWarnings("unchecked")
+                        List<String> matchingKeys = (List<String>) args[1];
+                        handled.add(new Handled(delta, matchingKeys));
+                        return !delta.getUid().getUidValue().equals(failOn);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static SyncDelta delta(final String uid, final String previousUid) {
+        SyncDeltaBuilder builder = new SyncDeltaBuilder().
+                setToken(new SyncToken(uid)).
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setObject(new ConnectorObjectBuilder().setUid(uid).setName(uid).build());
+        if (previousUid != null) {
+            builder.setPreviousUid(new Uid(previousUid));
+        }
+        return builder.build();
+    }
+
+    @Test
+    public void window() {
+        List<Handled> handled = new ArrayList<>();
+        RecordingPullUtils pullUtils = new RecordingPullUtils();
+        PullCorrelationWindow window = new PullCorrelationWindow(handler(handled, null), pullUtils, null, null, 4);
+
+        window.handle(delta("a", null));
+        // renamed from a to b: looked up by previous uid, touched by the delta above
+        window.handle(delta("b", "a"));
+        // touched by the rename above
+        window.handle(delta("b", null));
+        assertEquals(0, handled.size());
+
+        // the window is full
+        window.handle(delta("c", null));
+        assertEquals(4, handled.size());
+
+        window.handle(delta("d", null));
+        assertEquals(4, handled.size());
+        window.flush();
+        assertEquals(5, handled.size());
+
+        assertEquals(2, pullUtils.requested.size());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), pullUtils.requested.get(0));
+        assertEquals(Collections.singleton("d"), pullUtils.requested.get(1));
+
+        assertEquals(Collections.singletonList("ka"), handled.get(0).matchingKeys);
+        assertNull(handled.get(1).matchingKeys);
+        assertNull(handled.get(2).matchingKeys);
+        assertEquals(Collections.singletonList("kc"), handled.get(3).matchingKeys);
+        assertEquals(Collections.singletonList("kd"), handled.get(4).matchingKeys);
+
+        assertEquals("a", handled.get(0).delta.getUid().getUidValue());
+        assertEquals("c", handled.get(3).delta.getUid().getUidValue());
+    }
+
+    @Test
+    public void stop() {
+        List<Handled> handled = new ArrayList<>();
+        PullCorrelationWindow window = new PullCorrelationWindow(
+                handler(handled, "b"), new RecordingPullUtils(), null, null, 10);
+
+        window.handle(delta("a", null));
+        window.handle(delta("b", null));
+        window.handle(delta("c", null));
+
+        assertFalse(window.flush());
+        assertEquals(2, handled.size());
+        assertFalse(window.handle(delta("d", null)));
+        assertFalse(window.flush());
+        assertEquals(2, handled.size());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Provider;
+import org.apache.syncope.common.rest.api.service.AnyTypeClassService;
+import org.apache.syncope.common.rest.api.service.AnyTypeService;
+import org.apache.syncope.common.rest.api.service.ConnectorService;
+import org.apache.syncope.common.rest.api.service.PolicyService;
+import org.apache.syncope.common.rest.api.service.RealmService;
+import org.apache.syncope.common.rest.api.service.ResourceService;
+import org.apache.syncope.common.rest.api.service.SchemaService;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Handles conditional requests for the list operations of schemas, any types, any type classes, resources,
+ * connectors, policies and realms, on the basis of the current domain's configuration version: if the
+ * <tt>If-None-Match</tt> header matches, <tt>304 Not Modified</tt> is returned without reading anything,
+ * otherwise the <tt>ETag</tt> header is added to the response.
+ * As some lists depend on the caller's entitlements, these are part of the ETag value as well.
+ */
+@Provider
+public class ConfETagFilter implements ContainerRequestFilter, ContainerResponseFilter {
+
+    private static final String ETAG_PROPERTY = ConfETagFilter.class.getName() + ".etag";
+
+    private static final List<Class<?>> CONF_SERVICES = Arrays.asList(
+            SchemaService.class,
+            AnyTypeService.class,
+            AnyTypeClassService.class,
+            ResourceService.class,
+            ConnectorService.class,
+            PolicyService.class,
+            RealmService.class);
+
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
+    @Context
+    private ResourceInfo resourceInfo;
+
+    private boolean isConfList(final ContainerRequestContext reqCtx) {
+        if (!HttpMethod.GET.equals(reqCtx.getMethod())) {
+            return false;
+        }
+
+        Method method = resourceInfo.getResourceMethod();
+        Class<?> resourceClass = resourceInfo.getResourceClass();
+        return method != null && resourceClass != null && "list".equals(method.getName())
+                && CONF_SERVICES.stream().anyMatch(service -> service.isAssignableFrom(resourceClass));
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext reqCtx) throws IOException {
+        if (isConfList(reqCtx)) {
+            EntityTag etag = new EntityTag(Long.toString(schemaMetadataCache.getVersion(), Character.MAX_RADIX)
+                    + '-' + Integer.toHexString(AuthContextUtils.getAuthorizations().hashCode()));
+            reqCtx.setProperty(ETAG_PROPERTY, etag);
+
+            Response.ResponseBuilder builder = reqCtx.getRequest().evaluatePreconditions(etag);
+            if (builder != null) {
+                Response response = builder.tag(etag).build();
+                if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                    reqCtx.abortWith(response);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext reqCtx, final ContainerResponseContext resCtx) throws IOException {
+        Object etag = reqCtx.getProperty(ETAG_PROPERTY);
+        if (etag != null && resCtx.getEntityTag() == null
+                && resCtx.getStatus() == Response.Status.OK.getStatusCode()) {
+
+            resCtx.getHeaders().add(HttpHeaders.ETAG, etag.toString());
+        }
+    }
+}
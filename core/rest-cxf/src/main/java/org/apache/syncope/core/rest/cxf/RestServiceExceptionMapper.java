@@ -24,10 +24,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
 import javax.persistence.EntityExistsException;
 import javax.persistence.PersistenceException;
 import javax.persistence.RollbackException;
 import javax.validation.ValidationException;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.ResponseBuilder;
@@ -70,6 +72,8 @@ public class RestServiceExceptionMapper implements ExceptionMapper<Exception> {
 
     private static final Logger LOG = LoggerFactory.getLogger(RestServiceExceptionMapper.class);
 
+    private static final int RETRY_AFTER_SECONDS = 5;
+
     private final ValidationExceptionMapper validationEM = new ValidationExceptionMapper();
 
     @Autowired
@@ -87,11 +91,26 @@ public class RestServiceExceptionMapper implements ExceptionMapper<Exception> {
 
     @Override
     public Response toResponse(final Exception ex) {
+        // not an error, e.g. 202 Accepted for asynchronous requests or 304 Not Modified for conditional requests
+        if (ex instanceof WebApplicationException
+                && (((WebApplicationException) ex).getResponse().getStatusInfo().getFamily()
+                == Response.Status.Family.SUCCESSFUL
+                || ((WebApplicationException) ex).getResponse().getStatusInfo().getFamily()
+                == Response.Status.Family.REDIRECTION)) {
+
+            return ((WebApplicationException) ex).getResponse();
+        }
+
         LOG.error("Exception thrown", ex);
 
         ResponseBuilder builder;
 
-        if (ex instanceof AccessDeniedException) {
+        if (ex instanceof RejectedExecutionException) {
+            builder = Response.status(Response.Status.SERVICE_UNAVAILABLE).
+                    header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).
+                    header(RESTHeaders.ERROR_INFO, ClientExceptionType.Unknown.getInfoHeaderValue(
+                            ExceptionUtils.getRootCauseMessage(ex)));
+        } else if (ex instanceof AccessDeniedException) {
             // leaves the default exception processing to Spring Security
             builder = null;
         } else if (ex instanceof SyncopeClientException) {
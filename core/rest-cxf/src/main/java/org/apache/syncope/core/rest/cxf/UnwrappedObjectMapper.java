@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.rest.cxf;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,7 +38,14 @@ public class UnwrappedObjectMapper extends ObjectMapper {
     private static final long serialVersionUID = -317191546835195103L;
 
     public UnwrappedObjectMapper() {
-        super();
+        this(null);
+    }
+
+    /**
+     * @param jsonFactory factory for the actual format, e.g. Smile; JSON if {@code null}
+     */
+    public UnwrappedObjectMapper(final JsonFactory jsonFactory) {
+        super(jsonFactory);
 
         registerModule(new JodaModule());
         configure(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
@@ -79,7 +79,7 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
 
     @Override
     public Set<AttrTO> read(final String key, final SchemaType schemaType) {
-        TO any = read(key);
+        TO any = getAnyLogic().read(getActualKey(key));
         Set<AttrTO> result;
         switch (schemaType) {
             case DERIVED:
@@ -100,7 +100,7 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
 
     @Override
     public AttrTO read(final String key, final SchemaType schemaType, final String schema) {
-        TO any = read(key);
+        TO any = getAnyLogic().read(getActualKey(key));
         Optional<AttrTO> result;
         switch (schemaType) {
             case DERIVED:
@@ -125,11 +125,18 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
 
     @Override
     public TO read(final String key) {
-        return getAnyLogic().read(getActualKey(key));
+        // single authorized read, so that the 304 short-circuit reveals nothing the caller could not read
+        TO any = getAnyLogic().read(getActualKey(key));
+        checkNotModified(any.getLastChangeDate() == null ? any.getCreationDate() : any.getLastChangeDate());
+
+        return any;
     }
 
-    @Override
-    public PagedResult<TO> search(final AnyQuery anyQuery) {
+    /**
+     * @param anyQuery query conditions
+     * @return realm to start searching from and search condition (if any) for the given query
+     */
+    private Pair<String, SearchCond> getRealmAndSearchCond(final AnyQuery anyQuery) {
         String realm = StringUtils.prependIfMissing(anyQuery.getRealm(), SyncopeConstants.ROOT_REALM);
 
         // if an assignable query is provided in the FIQL string, start anyway from root realm
@@ -141,20 +148,44 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
                 ? null
                 : getSearchCond(anyQuery.getFiql(), realm);
 
+        return Pair.of(isAssignableCond ? SyncopeConstants.ROOT_REALM : realm, searchCond);
+    }
+
+    @Override
+    public PagedResult<TO> search(final AnyQuery anyQuery) {
+        Pair<String, SearchCond> realmAndSearchCond = getRealmAndSearchCond(anyQuery);
+
         Pair<Integer, List<TO>> result = getAnyLogic().search(
-                searchCond,
+                realmAndSearchCond.getRight(),
                 anyQuery.getPage(),
                 anyQuery.getSize(),
                 getOrderByClauses(anyQuery.getOrderBy()),
-                isAssignableCond ? SyncopeConstants.ROOT_REALM : realm,
+                realmAndSearchCond.getLeft(),
                 anyQuery.getDetails());
 
         return buildPagedResult(result.getRight(), anyQuery.getPage(), anyQuery.getSize(), result.getLeft());
     }
 
+    @Override
+    public Response stream(final AnyQuery anyQuery) {
+        Pair<String, SearchCond> realmAndSearchCond = getRealmAndSearchCond(anyQuery);
+        boolean details = anyQuery.getDetails();
+
+        return Response.ok(ndjson(writer -> getAnyLogic().stream(
+                realmAndSearchCond.getRight(),
+                realmAndSearchCond.getLeft(),
+                details,
+                writer::accept))).build();
+    }
+
     @Override
     public Response create(final TO anyTO) {
-        ProvisioningResult<TO> created = getAnyLogic().create(anyTO, isNullPriorityAsync());
+        boolean nullPriorityAsync = isNullPriorityAsync();
+        if (isRespondAsync()) {
+            return respondAsync("Create " + anyTO.getType(), () -> getAnyLogic().create(anyTO, nullPriorityAsync));
+        }
+
+        ProvisioningResult<TO> created = getAnyLogic().create(anyTO, nullPriorityAsync);
         return createResponse(created);
     }
 
@@ -173,7 +204,12 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
         Date etagDate = findLastChange(anyPatch.getKey());
         checkETag(String.valueOf(etagDate.getTime()));
 
-        ProvisioningResult<TO> updated = getAnyLogic().update(anyPatch, isNullPriorityAsync());
+        boolean nullPriorityAsync = isNullPriorityAsync();
+        if (isRespondAsync()) {
+            return respondAsync("Update " + anyPatch.getKey(), () -> getAnyLogic().update(anyPatch, nullPriorityAsync));
+        }
+
+        ProvisioningResult<TO> updated = getAnyLogic().update(anyPatch, nullPriorityAsync);
         return modificationResponse(updated);
     }
 
@@ -216,8 +252,13 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
 
         checkETag(before.getETagValue());
 
-        ProvisioningResult<TO> updated = getAnyLogic().update(AnyOperations.<TO, P>diff(anyTO, before, false),
-                isNullPriorityAsync());
+        P anyPatch = AnyOperations.<TO, P>diff(anyTO, before, false);
+        boolean nullPriorityAsync = isNullPriorityAsync();
+        if (isRespondAsync()) {
+            return respondAsync("Update " + anyPatch.getKey(), () -> getAnyLogic().update(anyPatch, nullPriorityAsync));
+        }
+
+        ProvisioningResult<TO> updated = getAnyLogic().update(anyPatch, nullPriorityAsync);
         return modificationResponse(updated);
     }
 
@@ -235,7 +276,12 @@ public abstract class AbstractAnyService<TO extends AnyTO, P extends AnyPatch>
         Date etagDate = findLastChange(actualKey);
         checkETag(String.valueOf(etagDate.getTime()));
 
-        ProvisioningResult<TO> deleted = getAnyLogic().delete(actualKey, isNullPriorityAsync());
+        boolean nullPriorityAsync = isNullPriorityAsync();
+        if (isRespondAsync()) {
+            return respondAsync("Delete " + actualKey, () -> getAnyLogic().delete(actualKey, nullPriorityAsync));
+        }
+
+        ProvisioningResult<TO> deleted = getAnyLogic().delete(actualKey, nullPriorityAsync);
         return modificationResponse(deleted);
     }
 
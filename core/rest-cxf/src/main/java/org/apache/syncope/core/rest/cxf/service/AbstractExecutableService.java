@@ -19,6 +19,7 @@
 package org.apache.syncope.core.rest.cxf.service;
 
 import java.util.List;
+import javax.ws.rs.WebApplicationException;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.to.BulkActionResult;
 import org.apache.syncope.common.lib.to.ExecTO;
@@ -67,6 +68,12 @@ public abstract class AbstractExecutableService extends AbstractServiceImpl impl
 
     @Override
     public ExecTO execute(final ExecuteQuery query) {
+        if (isRespondAsync()) {
+            throw new WebApplicationException(respondAsync(
+                    "Execute " + query.getKey(),
+                    () -> getExecutableLogic().execute(query.getKey(), query.getStartAt(), query.getDryRun())));
+        }
+
         return getExecutableLogic().execute(query.getKey(), query.getStartAt(), query.getDryRun());
     }
 
@@ -18,14 +18,28 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriBuilder;
 import javax.ws.rs.core.UriInfo;
 import org.apache.commons.lang3.BooleanUtils;
@@ -36,17 +50,22 @@ import org.apache.cxf.jaxrs.ext.search.SearchCondition;
 import org.apache.cxf.jaxrs.ext.search.SearchContext;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.EntityTO;
+import org.apache.syncope.common.lib.to.OperationTO;
 import org.apache.syncope.common.lib.to.PagedResult;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.rest.api.service.JAXRSService;
+import org.apache.syncope.common.rest.api.service.OperationService;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
+import org.apache.syncope.core.logic.OperationLogic;
 import org.apache.syncope.core.persistence.api.search.SearchCondVisitor;
 import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.rest.cxf.UnwrappedObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 
 abstract class AbstractServiceImpl implements JAXRSService {
 
@@ -54,6 +73,12 @@ abstract class AbstractServiceImpl implements JAXRSService {
 
     protected static final String OPTIONS_ALLOW = "GET,POST,OPTIONS,HEAD";
 
+    private static final ObjectMapper NDJSON_MAPPER = new UnwrappedObjectMapper();
+
+    static {
+        NDJSON_MAPPER.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
     @Context
     protected UriInfo uriInfo;
 
@@ -63,6 +88,116 @@ abstract class AbstractServiceImpl implements JAXRSService {
     @Context
     protected SearchContext searchContext;
 
+    @Autowired
+    private OperationLogic operationLogic;
+
+    /**
+     * Result of asynchronous operations producing a file, e.g. exports; the file is deleted once the result is
+     * discarded.
+     */
+    protected static final class FileResult implements AutoCloseable {
+
+        private final Path path;
+
+        private final String mediaType;
+
+        private final String filename;
+
+        private FileResult(final Path path, final String mediaType, final String filename) {
+            this.path = path;
+            this.mediaType = mediaType;
+            this.filename = filename;
+        }
+
+        public Response toResponse() {
+            return Response.ok((StreamingOutput) os -> Files.copy(path, os)).
+                    type(mediaType).
+                    header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename).
+                    build();
+        }
+
+        @Override
+        public void close() throws IOException {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Builds a newline-delimited JSON entity: each item passed by the given producer to its argument is written
+     * as soon as available, one per line.
+     *
+     * @param producer feeds items to be written, invoked when the response entity is being written
+     * @return newline-delimited JSON entity
+     */
+    protected StreamingOutput ndjson(final Consumer<Consumer<Object>> producer) {
+        return (os) -> {
+            JsonGenerator generator = NDJSON_MAPPER.getFactory().createGenerator(os);
+            generator.setRootValueSeparator(null);
+            try {
+                producer.accept(item -> {
+                    try {
+                        NDJSON_MAPPER.writeValue(generator, item);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            generator.flush();
+        };
+    }
+
+    /**
+     * Wraps the given entity so that, when invoked, it is written to a temporary file.
+     *
+     * @param sout entity
+     * @param mediaType entity media type
+     * @param filename file name to report via {@code Content-Disposition} header
+     * @return operation writing the given entity to a temporary file
+     */
+    protected static Callable<FileResult> toFile(
+            final StreamingOutput sout, final String mediaType, final String filename) {
+
+        return () -> {
+            Path path = Files.createTempFile("syncope-operation-", null);
+            try (OutputStream os = Files.newOutputStream(path)) {
+                sout.write(os);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(path);
+                throw e;
+            }
+            return new FileResult(path, mediaType, filename);
+        };
+    }
+
+    /**
+     * Whether asynchronous execution was requested via {@code Prefer: respond-async}.
+     *
+     * @return whether asynchronous execution was requested
+     */
+    protected boolean isRespondAsync() {
+        return getPreference() == Preference.RESPOND_ASYNC;
+    }
+
+    /**
+     * Submits the given operation for asynchronous execution; the operation is invoked out of the current request,
+     * hence it must not access the request context.
+     *
+     * @param description operation description
+     * @param callable operation
+     * @return {@code 202 Accepted} response, with {@code Location} header pointing to the submitted operation
+     */
+    protected Response respondAsync(final String description, final Callable<?> callable) {
+        OperationTO operation = operationLogic.submit(description, callable);
+
+        return Response.accepted().
+                location(uriInfo.getBaseUriBuilder().path(OperationService.class).path(operation.getKey()).build()).
+                header(RESTHeaders.PREFERENCE_APPLIED, Preference.RESPOND_ASYNC.toString()).
+                build();
+    }
+
     protected boolean isNullPriorityAsync() {
         return BooleanUtils.toBoolean(messageContext.getHttpHeaders().getHeaderString(RESTHeaders.NULL_PRIORITY_ASYNC));
     }
@@ -148,6 +283,25 @@ abstract class AbstractServiceImpl implements JAXRSService {
         }
     }
 
+    /**
+     * Evaluates the {@code If-None-Match} and {@code If-Modified-Since} headers of the current request against the
+     * given last change date.
+     *
+     * @param lastChange last change date of the requested entity
+     * @throws WebApplicationException with {@code 304 Not Modified} response, if the requested entity was not
+     * modified
+     */
+    protected void checkNotModified(final Date lastChange) {
+        EntityTag etag = new EntityTag(String.valueOf(lastChange.getTime()));
+        Response.ResponseBuilder builder = messageContext.getRequest().evaluatePreconditions(lastChange, etag);
+        if (builder != null) {
+            Response response = builder.tag(etag).build();
+            if (response.getStatus() == Response.Status.NOT_MODIFIED.getStatusCode()) {
+                throw new WebApplicationException(response);
+            }
+        }
+    }
+
     protected SearchCond getSearchCond(final String fiql, final String realm) {
         try {
             SearchCondVisitor visitor = new SearchCondVisitor();
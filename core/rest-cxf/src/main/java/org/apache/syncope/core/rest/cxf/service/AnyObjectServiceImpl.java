@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.rest.cxf.service;
 
+import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.patch.AnyObjectPatch;
@@ -60,8 +61,7 @@ public class AnyObjectServiceImpl extends AbstractAnyService<AnyObjectTO, AnyObj
         return patch;
     }
 
-    @Override
-    public PagedResult<AnyObjectTO> search(final AnyQuery anyQuery) {
+    private void checkType(final AnyQuery anyQuery) {
         if (StringUtils.isBlank(anyQuery.getFiql())
                 || -1 == anyQuery.getFiql().indexOf(SpecialAttr.TYPE.toString())) {
 
@@ -69,8 +69,18 @@ public class AnyObjectServiceImpl extends AbstractAnyService<AnyObjectTO, AnyObj
             sce.getElements().add(SpecialAttr.TYPE.toString() + " is required in the FIQL string");
             throw sce;
         }
+    }
 
+    @Override
+    public PagedResult<AnyObjectTO> search(final AnyQuery anyQuery) {
+        checkType(anyQuery);
         return super.search(anyQuery);
     }
 
+    @Override
+    public Response stream(final AnyQuery anyQuery) {
+        checkType(anyQuery);
+        return super.stream(anyQuery);
+    }
+
 }
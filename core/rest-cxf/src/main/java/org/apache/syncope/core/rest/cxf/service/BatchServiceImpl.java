@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.Response;
+import org.apache.syncope.common.lib.to.BatchRequest;
+import org.apache.syncope.common.lib.to.BatchResponseItem;
+import org.apache.syncope.common.lib.to.BulkActionResult;
+import org.apache.syncope.common.rest.api.service.BatchService;
+import org.apache.syncope.core.logic.BatchLogic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class BatchServiceImpl extends AbstractServiceImpl implements BatchService {
+
+    @Autowired
+    private BatchLogic logic;
+
+    @Override
+    public Response batch(final BatchRequest batchRequest) {
+        boolean nullPriorityAsync = isNullPriorityAsync();
+
+        return Response.ok(ndjson(writer -> {
+            if (batchRequest.isAtomic()) {
+                List<BatchResponseItem> results = new ArrayList<>(batchRequest.getItems().size());
+                try {
+                    logic.atomicBatch(batchRequest.getItems(), nullPriorityAsync, results);
+                } catch (Exception e) {
+                    LOG.error("Batch rolled back", e);
+
+                    results.stream().filter(result -> result.getStatus() == BulkActionResult.Status.SUCCESS).
+                            forEach(result -> {
+                                result.setStatus(BulkActionResult.Status.FAILURE);
+                                result.setError("Rolled back");
+                            });
+                }
+                results.forEach(writer);
+            } else {
+                logic.batch(batchRequest.getItems(), batchRequest.getParallelism(), nullPriorityAsync, writer::accept);
+            }
+        })).build();
+    }
+}
@@ -41,11 +41,15 @@ public class ConfigurationServiceImpl extends AbstractServiceImpl implements Con
     @Override
     public Response export() {
         StreamingOutput sout = (os) -> logic.export(os);
+        String filename = AuthContextUtils.getDomain() + CONTENT_XML;
+
+        if (isRespondAsync()) {
+            return respondAsync("Export " + filename, toFile(sout, MediaType.TEXT_XML, filename));
+        }
 
         return Response.ok(sout).
                 type(MediaType.TEXT_XML).
-                header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=" + AuthContextUtils.getDomain() + CONTENT_XML).
+                header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename).
                 build();
     }
 
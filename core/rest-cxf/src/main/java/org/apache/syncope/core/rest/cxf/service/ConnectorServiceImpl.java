@@ -24,6 +24,7 @@ import javax.ws.rs.core.Response;
 import org.apache.syncope.common.lib.to.ConnBundleTO;
 import org.apache.syncope.common.lib.to.ConnIdObjectClassTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
+import org.apache.syncope.common.lib.to.ConnectorHealthTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.ConnectorService;
 import org.apache.syncope.core.logic.ConnectorLogic;
@@ -77,6 +78,11 @@ public class ConnectorServiceImpl extends AbstractServiceImpl implements Connect
         return logic.readByResource(resourceName, lang);
     }
 
+    @Override
+    public ConnectorHealthTO readHealthByResource(final String resourceName) {
+        return logic.readHealthByResource(resourceName);
+    }
+
     @Override
     public void update(final ConnInstanceTO connInstanceTO) {
         logic.update(connInstanceTO);
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.rest.cxf.service;
+
+import java.util.List;
+import javax.ws.rs.core.Response;
+import org.apache.syncope.common.lib.to.OperationTO;
+import org.apache.syncope.common.rest.api.service.OperationService;
+import org.apache.syncope.core.logic.OperationLogic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+@Service
+public class OperationServiceImpl extends AbstractServiceImpl implements OperationService {
+
+    @Autowired
+    private OperationLogic logic;
+
+    @Override
+    public List<OperationTO> list() {
+        return logic.list();
+    }
+
+    @Override
+    public OperationTO read(final String key) {
+        return logic.read(key);
+    }
+
+    @Override
+    public Response result(final String key) {
+        OperationTO operation = logic.read(key);
+        switch (operation.getStatus()) {
+            case PENDING:
+            case RUNNING:
+                return Response.accepted(operation).
+                        location(uriInfo.getBaseUriBuilder().path(OperationService.class).path(key).build()).
+                        build();
+
+            case SUCCESS:
+            case FAILURE:
+            default:
+                Object result = logic.result(key);
+                if (result instanceof FileResult) {
+                    return ((FileResult) result).toResponse();
+                }
+                return result == null
+                        ? Response.noContent().build()
+                        : Response.ok(result).build();
+        }
+    }
+
+    @Override
+    public void delete(final String key) {
+        logic.delete(key);
+    }
+}
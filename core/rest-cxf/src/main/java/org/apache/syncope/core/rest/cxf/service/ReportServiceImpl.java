@@ -21,6 +21,7 @@ package org.apache.syncope.core.rest.cxf.service;
 import java.net.URI;
 import java.util.List;
 import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import org.apache.syncope.common.lib.to.ReportTO;
@@ -73,10 +74,14 @@ public class ReportServiceImpl extends AbstractExecutableService implements Repo
         ReportExecExportFormat format = (fmt == null) ? ReportExecExportFormat.XML : fmt;
         ReportExec reportExec = logic.getReportExec(executionKey);
         StreamingOutput sout = (os) -> logic.exportExecutionResult(os, reportExec, format);
+        String filename = reportExec.getReport().getName() + "." + format.name().toLowerCase();
+
+        if (isRespondAsync()) {
+            return respondAsync("Export " + filename, toFile(sout, MediaType.APPLICATION_OCTET_STREAM, filename));
+        }
 
         return Response.ok(sout).
-                header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=" + reportExec.getReport().getName() + "." + format.name().toLowerCase()).
+                header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename).
                 build();
     }
 
@@ -23,6 +23,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriBuilder;
@@ -103,6 +104,12 @@ public class ResourceServiceImpl extends AbstractServiceImpl implements Resource
 
     @Override
     public ConnObjectTO readConnObject(final String key, final String anyTypeKey, final String anyKey) {
+        if (isRespondAsync()) {
+            throw new WebApplicationException(respondAsync(
+                    "Read " + anyKey + " from " + key,
+                    () -> logic.readConnObject(key, anyTypeKey, anyKey)));
+        }
+
         return logic.readConnObject(key, anyTypeKey, anyKey);
     }
 
@@ -110,6 +117,28 @@ public class ResourceServiceImpl extends AbstractServiceImpl implements Resource
     public PagedConnObjectTOResult listConnObjects(
             final String key, final String anyTypeKey, final ConnObjectTOListQuery listQuery) {
 
+        UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
+        for (Map.Entry<String, List<String>> queryParam : queryParams.entrySet()) {
+            builder = builder.queryParam(queryParam.getKey(), queryParam.getValue().toArray());
+        }
+
+        if (isRespondAsync()) {
+            UriBuilder next = builder;
+            throw new WebApplicationException(respondAsync(
+                    "List " + anyTypeKey + " from " + key,
+                    () -> listConnObjects(key, anyTypeKey, listQuery, next)));
+        }
+
+        return listConnObjects(key, anyTypeKey, listQuery, builder);
+    }
+
+    private PagedConnObjectTOResult listConnObjects(
+            final String key,
+            final String anyTypeKey,
+            final ConnObjectTOListQuery listQuery,
+            final UriBuilder builder) {
+
         Pair<SearchResult, List<ConnObjectTO>> list = logic.listConnObjects(key, anyTypeKey,
                 listQuery.getSize(), listQuery.getPagedResultsCookie(), getOrderByClauses(listQuery.getOrderBy()));
 
@@ -121,12 +150,6 @@ public class ResourceServiceImpl extends AbstractServiceImpl implements Resource
         }
         result.getResult().addAll(list.getRight());
 
-        UriBuilder builder = uriInfo.getAbsolutePathBuilder();
-        MultivaluedMap<String, String> queryParams = uriInfo.getQueryParameters();
-        for (Map.Entry<String, List<String>> queryParam : queryParams.entrySet()) {
-            builder = builder.queryParam(queryParam.getKey(), queryParam.getValue().toArray());
-        }
-
         if (StringUtils.isNotBlank(result.getPagedResultsCookie())) {
             result.setNext(builder.
                     replaceQueryParam(PARAM_CONNID_PAGED_RESULTS_COOKIE, result.getPagedResultsCookie()).
@@ -60,7 +60,14 @@ public class UserServiceImpl extends AbstractAnyService<UserTO, UserPatch> imple
 
     @Override
     public Response create(final UserTO userTO, final boolean storePassword) {
-        ProvisioningResult<UserTO> created = logic.create(userTO, storePassword, isNullPriorityAsync());
+        boolean nullPriorityAsync = isNullPriorityAsync();
+        if (isRespondAsync()) {
+            return respondAsync(
+                    "Create user " + userTO.getUsername(),
+                    () -> logic.create(userTO, storePassword, nullPriorityAsync));
+        }
+
+        ProvisioningResult<UserTO> created = logic.create(userTO, storePassword, nullPriorityAsync);
         return createResponse(created);
     }
 
@@ -216,6 +216,8 @@ public class AuthDataAccessor {
             }
 
             boolean userModified = false;
+            // RejectedExecutionException (password hashing saturated) is let through on purpose: it is not a
+            // failed login, so failedLogins must not be increased and the caller is rather asked to retry later
             authenticated = AuthDataAccessor.this.authenticate(user, authentication.getCredentials().toString());
             if (authenticated) {
                 if (confDAO.find("log.lastlogindate", true)) {
@@ -234,7 +236,7 @@ public class AuthDataAccessor {
             }
 
             if (userModified) {
-                userDAO.save(user);
+                userDAO.saveLoginState(user);
             }
         }
 
@@ -25,7 +25,15 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
@@ -36,7 +44,8 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.PropertyUtils;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.jasypt.commons.CommonUtils;
-import org.jasypt.digest.StandardStringDigester;
+import org.jasypt.digest.PooledStringDigester;
+import org.jasypt.digest.StringDigester;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.bcrypt.BCrypt;
@@ -50,30 +59,46 @@ public final class Encryptor {
     private static final String DEFAULT_SECRET_KEY = "1abcdefghilmnopqrstuvz2!";
 
     /**
-     * Default value for salted {@link StandardStringDigester#setIterations(int)}.
+     * Default value for salted {@link PooledStringDigester#setIterations(int)}.
      */
     private static final int DEFAULT_SALT_ITERATIONS = 1;
 
     /**
-     * Default value for {@link StandardStringDigester#setSaltSizeBytes(int)}.
+     * Default value for {@link PooledStringDigester#setSaltSizeBytes(int)}.
      */
     private static final int DEFAULT_SALT_SIZE_BYTES = 8;
 
     /**
-     * Default value for {@link StandardStringDigester#setInvertPositionOfPlainSaltInEncryptionResults(boolean)}.
+     * Default value for {@link PooledStringDigester#setInvertPositionOfPlainSaltInEncryptionResults(boolean)}.
      */
     private static final boolean DEFAULT_IPOPSIER = true;
 
     /**
-     * Default value for salted {@link StandardStringDigester#setInvertPositionOfSaltInMessageBeforeDigesting(boolean)}.
+     * Default value for salted {@link PooledStringDigester#setInvertPositionOfSaltInMessageBeforeDigesting(boolean)}.
      */
     private static final boolean DEFAULT_IPOSIMBD = true;
 
     /**
-     * Default value for salted {@link StandardStringDigester#setUseLenientSaltSizeCheck(boolean)}.
+     * Default value for salted {@link PooledStringDigester#setUseLenientSaltSizeCheck(boolean)}.
      */
     private static final boolean DEFAULT_ULSSC = true;
 
+    /**
+     * Default number of threads performing expensive hashing, e.g. BCRYPT.
+     */
+    private static final int DEFAULT_HASHING_POOL_SIZE = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Default number of expensive hashing operations allowed to wait for a free thread.
+     */
+    private static final int DEFAULT_HASHING_QUEUE_SIZE = 1000;
+
+    /**
+     * Digesters are thread-safe once configured, and only depend on static configuration: pooled instances are
+     * shared by all encryptors.
+     */
+    private static final Map<CipherAlgorithm, StringDigester> DIGESTERS = new ConcurrentHashMap<>();
+
     private static String SECRET_KEY;
 
     private static Integer SALT_ITERATIONS;
@@ -86,6 +111,10 @@ public final class Encryptor {
 
     private static Boolean ULSSC;
 
+    private static ThreadPoolExecutor HASHING_EXECUTOR;
+
+    private static final AtomicLong HASHING_REJECTED = new AtomicLong();
+
     static {
         try {
             Properties props = PropertyUtils.read(Encryptor.class, "security.properties", "conf.directory").getLeft();
@@ -124,6 +153,74 @@ public final class Encryptor {
             ULSSC = DEFAULT_ULSSC;
             LOG.debug("digester.useLenientSaltSizeCheck not found, reverting to default");
         }
+
+        int hashingPoolSize = DEFAULT_HASHING_POOL_SIZE;
+        int hashingQueueSize = DEFAULT_HASHING_QUEUE_SIZE;
+        try {
+            Properties props = PropertyUtils.read(Encryptor.class, "security.properties", "conf.directory").getLeft();
+
+            if (props.getProperty("hashing.poolSize") == null) {
+                LOG.debug("hashing.poolSize not found, reverting to default");
+            } else {
+                hashingPoolSize = Integer.valueOf(props.getProperty("hashing.poolSize"));
+            }
+            if (props.getProperty("hashing.queueSize") == null) {
+                LOG.debug("hashing.queueSize not found, reverting to default");
+            } else {
+                hashingQueueSize = Integer.valueOf(props.getProperty("hashing.queueSize"));
+            }
+        } catch (Exception e) {
+            LOG.error("Could not read hashing parameters", e);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        HASHING_EXECUTOR = new ThreadPoolExecutor(
+                hashingPoolSize, hashingPoolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(hashingQueueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "Encryptor-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // when saturated, reject instead of hashing on the calling thread
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * @return number of expensive hashing operations currently running
+     */
+    public static int getHashingActiveCount() {
+        return HASHING_EXECUTOR.getActiveCount();
+    }
+
+    /**
+     * @return number of expensive hashing operations waiting for a free thread
+     */
+    public static int getHashingQueueSize() {
+        return HASHING_EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * @return number of expensive hashing operations rejected so far, as no thread nor queue slot was available
+     */
+    public static long getHashingRejected() {
+        return HASHING_REJECTED.get();
+    }
+
+    private static <T> T hash(final Callable<T> hashing) {
+        try {
+            return HASHING_EXECUTOR.submit(hashing).get();
+        } catch (RejectedExecutionException e) {
+            HASHING_REJECTED.incrementAndGet();
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException
+                    ? (RuntimeException) e.getCause()
+                    : new IllegalStateException(e.getCause());
+        }
     }
 
     public static Encryptor getInstance() {
@@ -144,6 +241,13 @@ public final class Encryptor {
 
     private SecretKeySpec keySpec;
 
+    /**
+     * Ciphers are not thread-safe but can be reused once initialized: each thread gets its own instances.
+     */
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
+
     private Encryptor(final String secretKey) {
         String actualKey = secretKey;
         if (actualKey.length() < 16) {
@@ -167,6 +271,18 @@ public final class Encryptor {
         }
     }
 
+    private Cipher getCipher(final ThreadLocal<Cipher> ciphers, final int mode)
+            throws NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException {
+
+        Cipher cipher = ciphers.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
+            cipher.init(mode, keySpec);
+            ciphers.set(cipher);
+        }
+        return cipher;
+    }
+
     public String encode(final String value, final CipherAlgorithm cipherAlgorithm)
             throws UnsupportedEncodingException, NoSuchAlgorithmException, NoSuchPaddingException, InvalidKeyException,
             IllegalBlockSizeException, BadPaddingException {
@@ -177,12 +293,11 @@ public final class Encryptor {
             if (cipherAlgorithm == null || cipherAlgorithm == CipherAlgorithm.AES) {
                 final byte[] cleartext = value.getBytes(StandardCharsets.UTF_8);
 
-                final Cipher cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
-                cipher.init(Cipher.ENCRYPT_MODE, keySpec);
+                final Cipher cipher = getCipher(encryptCipher, Cipher.ENCRYPT_MODE);
 
                 encodedValue = new String(Base64.getEncoder().encode(cipher.doFinal(cleartext)));
             } else if (cipherAlgorithm == CipherAlgorithm.BCRYPT) {
-                encodedValue = BCrypt.hashpw(value, BCrypt.gensalt());
+                encodedValue = hash(() -> BCrypt.hashpw(value, BCrypt.gensalt()));
             } else {
                 encodedValue = getDigester(cipherAlgorithm).digest(value);
             }
@@ -191,6 +306,16 @@ public final class Encryptor {
         return encodedValue;
     }
 
+    /**
+     * Verifies the given value against the encoded one.
+     *
+     * @param value value to verify
+     * @param cipherAlgorithm algorithm used for encoding
+     * @param encodedValue encoded value
+     * @return whether the given value matches the encoded one
+     * @throws RejectedExecutionException if expensive hashing is required but its pool is saturated: this is not a
+     * mismatch, and callers shall not handle it as such
+     */
     public boolean verify(final String value, final CipherAlgorithm cipherAlgorithm, final String encodedValue) {
         boolean res = false;
 
@@ -199,11 +324,13 @@ public final class Encryptor {
                 if (cipherAlgorithm == null || cipherAlgorithm == CipherAlgorithm.AES) {
                     res = encode(value, cipherAlgorithm).equals(encodedValue);
                 } else if (cipherAlgorithm == CipherAlgorithm.BCRYPT) {
-                    res = BCrypt.checkpw(value, encodedValue);
+                    res = hash(() -> BCrypt.checkpw(value, encodedValue));
                 } else {
                     res = getDigester(cipherAlgorithm).matches(value, encodedValue);
                 }
             }
+        } catch (RejectedExecutionException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Could not verify encoded value", e);
         }
@@ -220,34 +347,42 @@ public final class Encryptor {
         if (encodedValue != null && cipherAlgorithm == CipherAlgorithm.AES) {
             final byte[] encoded = encodedValue.getBytes(StandardCharsets.UTF_8);
 
-            final Cipher cipher = Cipher.getInstance(CipherAlgorithm.AES.getAlgorithm());
-            cipher.init(Cipher.DECRYPT_MODE, keySpec);
+            final Cipher cipher = getCipher(decryptCipher, Cipher.DECRYPT_MODE);
 
-            value = new String(cipher.doFinal(Base64.getDecoder().decode(encoded)), StandardCharsets.UTF_8);
+            try {
+                value = new String(cipher.doFinal(Base64.getDecoder().decode(encoded)), StandardCharsets.UTF_8);
+            } catch (IllegalBlockSizeException | BadPaddingException e) {
+                // do not reuse a cipher which failed
+                decryptCipher.remove();
+                throw e;
+            }
         }
 
         return value;
     }
 
-    private StandardStringDigester getDigester(final CipherAlgorithm cipherAlgorithm) {
-        StandardStringDigester digester = new StandardStringDigester();
-
-        if (cipherAlgorithm.getAlgorithm().startsWith("S-")) {
-            // Salted ...
-            digester.setAlgorithm(cipherAlgorithm.getAlgorithm().replaceFirst("S\\-", ""));
-            digester.setIterations(SALT_ITERATIONS);
-            digester.setSaltSizeBytes(SALT_SIZE_BYTES);
-            digester.setInvertPositionOfPlainSaltInEncryptionResults(IPOPSIER);
-            digester.setInvertPositionOfSaltInMessageBeforeDigesting(IPOSIMBD);
-            digester.setUseLenientSaltSizeCheck(ULSSC);
-        } else {
-            // Not salted ...
-            digester.setAlgorithm(cipherAlgorithm.getAlgorithm());
-            digester.setIterations(1);
-            digester.setSaltSizeBytes(0);
-        }
-
-        digester.setStringOutputType(CommonUtils.STRING_OUTPUT_TYPE_HEXADECIMAL);
-        return digester;
+    private StringDigester getDigester(final CipherAlgorithm cipherAlgorithm) {
+        return DIGESTERS.computeIfAbsent(cipherAlgorithm, algorithm -> {
+            PooledStringDigester digester = new PooledStringDigester();
+            digester.setPoolSize(Runtime.getRuntime().availableProcessors());
+
+            if (algorithm.getAlgorithm().startsWith("S-")) {
+                // Salted ...
+                digester.setAlgorithm(algorithm.getAlgorithm().replaceFirst("S\\-", ""));
+                digester.setIterations(SALT_ITERATIONS);
+                digester.setSaltSizeBytes(SALT_SIZE_BYTES);
+                digester.setInvertPositionOfPlainSaltInEncryptionResults(IPOPSIER);
+                digester.setInvertPositionOfSaltInMessageBeforeDigesting(IPOSIMBD);
+                digester.setUseLenientSaltSizeCheck(ULSSC);
+            } else {
+                // Not salted ...
+                digester.setAlgorithm(algorithm.getAlgorithm());
+                digester.setIterations(1);
+                digester.setSaltSizeBytes(0);
+            }
+
+            digester.setStringOutputType(CommonUtils.STRING_OUTPUT_TYPE_HEXADECIMAL);
+            return digester;
+        });
     }
 }
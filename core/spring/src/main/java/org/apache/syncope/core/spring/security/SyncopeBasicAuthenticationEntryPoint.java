@@ -19,25 +19,35 @@
 package org.apache.syncope.core.spring.security;
 
 import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.core.HttpHeaders;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.authentication.www.BasicAuthenticationEntryPoint;
 
 /**
- * Render Spring's {@link AuthenticationException} as other Syncope errors.
+ * Render Spring's {@link AuthenticationException} as other Syncope errors; authentications rejected because password
+ * hashing is saturated are reported as {@code 503 Service Unavailable}, as for REST calls.
  */
 public class SyncopeBasicAuthenticationEntryPoint extends BasicAuthenticationEntryPoint {
 
+    private static final int RETRY_AFTER_SECONDS = 5;
+
     @Override
     public void commence(final HttpServletRequest request, final HttpServletResponse response,
             final AuthenticationException authException) throws IOException, ServletException {
 
         response.addHeader(RESTHeaders.ERROR_INFO, authException.getMessage());
 
-        super.commence(request, response, authException);
+        if (authException.getCause() instanceof RejectedExecutionException) {
+            response.addHeader(HttpHeaders.RETRY_AFTER, String.valueOf(RETRY_AFTER_SECONDS));
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, authException.getMessage());
+        } else {
+            super.commence(request, response, authException);
+        }
     }
 
 }
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.spring.security;
 
+import java.util.concurrent.RejectedExecutionException;
 import javax.annotation.Resource;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -33,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Configurable;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 
@@ -90,6 +92,15 @@ public class UsernamePasswordAuthenticationProvider implements AuthenticationPro
 
     @Override
     public Authentication authenticate(final Authentication authentication) {
+        try {
+            return doAuthenticate(authentication);
+        } catch (RejectedExecutionException e) {
+            // not a failed login: password hashing is saturated, the caller is expected to retry later
+            throw new InternalAuthenticationServiceException("Authentication temporarily unavailable", e);
+        }
+    }
+
+    private Authentication doAuthenticate(final Authentication authentication) {
         String domainKey = SyncopeAuthenticationDetails.class.cast(authentication.getDetails()).getDomain();
 
         final String[] username = new String[1];
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.types.CipherAlgorithm;
+import org.apache.syncope.core.persistence.api.dao.ConfDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class AuthDataAccessorTest {
+
+    private static final String USERNAME = "bellini";
+
+    private static final String PASSWORD = "password123";
+
+    private final AtomicInteger failedLogins = new AtomicInteger();
+
+    private final List<User> loginStateSaves = new ArrayList<>();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private Object hashingExecutor;
+
+    private String encodedPassword;
+
+    private AuthDataAccessor dataAccessor;
+
+    @Before
+    public void setUp() throws Exception {
+        encodedPassword = Encryptor.getInstance().encode(PASSWORD, CipherAlgorithm.BCRYPT);
+
+        User user = (User) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { User.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getUsername":
+                            return USERNAME;
+
+                        case "getCipherAlgorithm":
+                            return CipherAlgorithm.BCRYPT;
+
+                        case "getPassword":
+                            return encodedPassword;
+
+                        case "getFailedLogins":
+                            return failedLogins.get();
+
+                        case "setFailedLogins":
+                            failedLogins.set((Integer) args[0]);
+                            return null;
+
+                        default:
+                            return null;
+                    }
+                });
+        UserDAO userDAO = (UserDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { UserDAO.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findByUsername":
+                            return USERNAME.equals(args[0]) ? user : null;
+
+                        case "findAllResources":
+                            return Collections.emptyList();
+
+                        case "saveLoginState":
+                            loginStateSaves.add((User) args[0]);
+                            return null;
+
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+        ConfDAO confDAO = (ConfDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { ConfDAO.class }, (proxy, method, args) -> {
+                    if ("find".equals(method.getName()) && args.length == 1) {
+                        return Optional.empty();
+                    }
+                    if ("find".equals(method.getName()) && args.length == 2) {
+                        return args[1];
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        RealmDAO realmDAO = (RealmDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[] { RealmDAO.class }, (proxy, method, args) -> {
+                    if ("findAncestors".equals(method.getName())) {
+                        return Collections.emptyList();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        dataAccessor = new AuthDataAccessor();
+        ReflectionTestUtils.setField(dataAccessor, "userDAO", userDAO);
+        ReflectionTestUtils.setField(dataAccessor, "confDAO", confDAO);
+        ReflectionTestUtils.setField(dataAccessor, "realmDAO", realmDAO);
+
+        hashingExecutor = ReflectionTestUtils.getField(Encryptor.class, "HASHING_EXECUTOR");
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        ReflectionTestUtils.setField(Encryptor.class, "HASHING_EXECUTOR", hashingExecutor);
+    }
+
+    private void saturateHashing() {
+        ThreadPoolExecutor saturated = new ThreadPoolExecutor(
+                1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        // one blocked task running, one waiting in queue: any further submission is rejected
+        for (int i = 0; i < 2; i++) {
+            saturated.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        saturated.shutdown();
+        ReflectionTestUtils.setField(Encryptor.class, "HASHING_EXECUTOR", saturated);
+    }
+
+    @Test
+    public void authenticate() {
+        failedLogins.set(2);
+
+        assertTrue(dataAccessor.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, PASSWORD)).
+                getRight());
+        assertEquals(0, failedLogins.get());
+
+        assertFalse(dataAccessor.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, "wrong")).
+                getRight());
+        assertEquals(1, failedLogins.get());
+        assertEquals(2, loginStateSaves.size());
+    }
+
+    @Test
+    public void saturatedHashingIsNotFailedLogin() {
+        failedLogins.set(2);
+        saturateHashing();
+
+        for (int i = 0; i < 5; i++) {
+            try {
+                dataAccessor.authenticate(new UsernamePasswordAuthenticationToken(USERNAME, PASSWORD));
+                fail("Hashing pool is saturated, authentication was expected to be rejected");
+            } catch (RejectedExecutionException e) {
+                // expected
+            }
+        }
+
+        assertEquals(2, failedLogins.get());
+        assertTrue(loginStateSaves.isEmpty());
+    }
+}
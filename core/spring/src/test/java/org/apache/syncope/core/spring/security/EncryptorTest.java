@@ -25,6 +25,11 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.junit.Test;
 
@@ -81,4 +86,28 @@ public class EncryptorTest {
 
         assertTrue(encryptor.verify(password, CipherAlgorithm.SSHA256, encPassword));
     }
+
+    @Test
+    public void testConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                final String value = password + i;
+                final CipherAlgorithm cipherAlgorithm = i % 2 == 0 ? CipherAlgorithm.AES : CipherAlgorithm.SSHA256;
+                results.add(executor.submit(() -> {
+                    String encoded = encryptor.encode(value, cipherAlgorithm);
+                    return encryptor.verify(value, cipherAlgorithm, encoded)
+                            && (cipherAlgorithm != CipherAlgorithm.AES
+                            || value.equals(encryptor.decode(encoded, cipherAlgorithm)));
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
@@ -19,8 +19,10 @@
 package org.apache.syncope.core.workflow.api;
 
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.patch.AnyPatch;
 import org.apache.syncope.common.lib.to.WorkflowFormTO;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.provisioning.api.WorkflowResult;
 
 public interface WorkflowAdapter {
@@ -31,11 +33,16 @@ public interface WorkflowAdapter {
     String getPrefix();
 
     /**
-     * Get all defined forms for current workflow process instances.
+     * Get the defined forms for current workflow process instances, available to the authenticated user.
      *
-     * @return list of defined forms
+     * @param workflowId workflow id to restrict forms to, or null for all process instances
+     * @param page search page
+     * @param size search page size
+     * @param orderByClauses ordering clauses
+     * @return total number of matching forms and the requested page of forms
      */
-    List<WorkflowFormTO> getForms();
+    Pair<Integer, List<WorkflowFormTO>> getForms(
+            String workflowId, int page, int size, List<OrderByClause> orderByClauses);
 
     /**
      * Get form for given workflowId (if present).
@@ -22,8 +22,8 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
-import java.util.Map;
 import javax.annotation.Resource;
+import javax.sql.DataSource;
 import org.apache.commons.io.IOUtils;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
@@ -47,6 +47,8 @@ public class FlowableDefinitionLoader implements SyncopeLoader {
     @Autowired
     private DomainProcessEngine dpEngine;
 
+    private byte[] wfDef = new byte[0];
+
     @Override
     public Integer getPriority() {
         return Integer.MIN_VALUE;
@@ -54,8 +56,6 @@ public class FlowableDefinitionLoader implements SyncopeLoader {
 
     @Override
     public void load() {
-        byte[] wfDef = new byte[0];
-
         InputStream wfIn = null;
         try {
             wfIn = userWorkflowDef.getResource().getInputStream();
@@ -65,32 +65,39 @@ public class FlowableDefinitionLoader implements SyncopeLoader {
         } finally {
             IOUtils.closeQuietly(wfIn);
         }
+    }
 
-        for (Map.Entry<String, ProcessEngine> entry : dpEngine.getEngines().entrySet()) {
-            List<ProcessDefinition> processes = entry.getValue().getRepositoryService().
-                    createProcessDefinitionQuery().processDefinitionKey(FlowableUserWorkflowAdapter.WF_PROCESS_ID).
-                    list();
-            LOG.debug(FlowableUserWorkflowAdapter.WF_PROCESS_ID + " Flowable processes in repository: {}", processes);
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        ProcessEngine engine = dpEngine.getEngines().get(domain);
+        if (engine == null) {
+            LOG.debug("No Flowable engine available for domain {}", domain);
+            return;
+        }
+
+        List<ProcessDefinition> processes = engine.getRepositoryService().
+                createProcessDefinitionQuery().processDefinitionKey(FlowableUserWorkflowAdapter.WF_PROCESS_ID).
+                list();
+        LOG.debug(FlowableUserWorkflowAdapter.WF_PROCESS_ID + " Flowable processes in repository: {}", processes);
 
-            // Only loads process definition from file if not found in repository
-            if (processes.isEmpty()) {
-                entry.getValue().getRepositoryService().createDeployment().addInputStream(
-                        userWorkflowDef.getResource().getFilename(), new ByteArrayInputStream(wfDef)).deploy();
+        // Only loads process definition from file if not found in repository
+        if (processes.isEmpty()) {
+            engine.getRepositoryService().createDeployment().addInputStream(
+                    userWorkflowDef.getResource().getFilename(), new ByteArrayInputStream(wfDef)).deploy();
 
-                ProcessDefinition procDef = entry.getValue().getRepositoryService().createProcessDefinitionQuery().
-                        processDefinitionKey(FlowableUserWorkflowAdapter.WF_PROCESS_ID).latestVersion().
-                        singleResult();
+            ProcessDefinition procDef = engine.getRepositoryService().createProcessDefinitionQuery().
+                    processDefinitionKey(FlowableUserWorkflowAdapter.WF_PROCESS_ID).latestVersion().
+                    singleResult();
 
-                FlowableDeployUtils.deployModel(entry.getValue(), procDef);
+            FlowableDeployUtils.deployModel(engine, procDef);
 
-                LOG.debug("Flowable Workflow definition loaded for domain {}", entry.getKey());
-            }
+            LOG.debug("Flowable Workflow definition loaded for domain {}", domain);
+        }
 
-            // jump to the next ID block
-            for (int i = 0; i < entry.getValue().getProcessEngineConfiguration().getIdBlockSize(); i++) {
-                SpringProcessEngineConfiguration.class.cast(entry.getValue().getProcessEngineConfiguration()).
-                        getIdGenerator().getNextId();
-            }
+        // jump to the next ID block
+        for (int i = 0; i < engine.getProcessEngineConfiguration().getIdBlockSize(); i++) {
+            SpringProcessEngineConfiguration.class.cast(engine.getProcessEngineConfiguration()).
+                    getIdGenerator().getNextId();
         }
     }
 }
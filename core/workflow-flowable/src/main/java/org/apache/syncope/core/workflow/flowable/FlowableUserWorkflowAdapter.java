@@ -25,6 +25,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -35,6 +36,7 @@ import java.util.stream.Collectors;
 import javax.annotation.Resource;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.mutable.MutableBoolean;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.patch.PasswordPatch;
@@ -51,6 +53,7 @@ import org.apache.syncope.core.spring.BeanUtils;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.InvalidEntityException;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.search.OrderByClause;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.WorkflowResult;
 import org.apache.syncope.core.workflow.flowable.spring.DomainProcessEngine;
@@ -62,7 +65,6 @@ import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.editor.constants.ModelDataJsonConstants;
 import org.flowable.editor.language.json.converter.BpmnJsonConverter;
 import org.flowable.engine.common.api.FlowableException;
-import org.flowable.engine.common.api.query.Query;
 import org.flowable.engine.form.FormProperty;
 import org.flowable.engine.form.FormType;
 import org.flowable.engine.form.TaskFormData;
@@ -74,6 +76,7 @@ import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.task.Task;
+import org.flowable.engine.task.TaskQuery;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -486,12 +489,25 @@ public class FlowableUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
     }
 
     protected WorkflowFormTO getFormTO(final Task task) {
-        return getFormTO(task, engine.getFormService().getTaskFormData(task.getId()));
+        return getFormTO(task, engine.getFormService().getTaskFormData(task.getId()), null);
     }
 
-    protected WorkflowFormTO getFormTO(final Task task, final TaskFormData fd) {
-        WorkflowFormTO formTO =
-                getFormTO(task.getProcessInstanceId(), task.getId(), fd.getFormKey(), fd.getFormProperties());
+    /**
+     * Builds the form for the given task; when the process variables were already loaded, the user and patch are
+     * read from there rather than looked up one by one.
+     *
+     * @param task workflow task
+     * @param fd task form data, or {@code null} if the task has no form data available
+     * @param variables process variables of the task's process instance, or {@code null} if not loaded
+     * @return form
+     */
+    protected WorkflowFormTO getFormTO(final Task task, final TaskFormData fd, final Map<String, Object> variables) {
+        WorkflowFormTO formTO = getFormTO(
+                task.getProcessInstanceId(),
+                task.getId(),
+                variables,
+                fd == null ? task.getFormKey() : fd.getFormKey(),
+                fd == null ? Collections.<FormProperty>emptyList() : fd.getFormProperties());
         BeanUtils.copyProperties(task, formTO);
 
         return formTO;
@@ -555,10 +571,31 @@ public class FlowableUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
         return formTO;
     }
 
+    protected WorkflowFormTO getFormTO(
+            final String processInstanceId,
+            final String taskId,
+            final String formKey,
+            final List<FormProperty> properties) {
+
+        return getFormTO(processInstanceId, taskId, null, formKey, properties);
+    }
+
+    protected <T> T getVariable(
+            final String processInstanceId,
+            final Map<String, Object> variables,
+            final String variableName,
+            final Class<T> variableClass) {
+
+        return variables == null || variables.isEmpty()
+                ? engine.getRuntimeService().getVariable(processInstanceId, variableName, variableClass)
+                : variableClass.cast(variables.get(variableName));
+    }
+
     @SuppressWarnings("unchecked")
     protected WorkflowFormTO getFormTO(
             final String processInstanceId,
             final String taskId,
+            final Map<String, Object> variables,
             final String formKey,
             final List<FormProperty> properties) {
 
@@ -573,8 +610,8 @@ public class FlowableUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
         formTO.setTaskId(taskId);
         formTO.setKey(formKey);
 
-        formTO.setUserTO(engine.getRuntimeService().getVariable(processInstanceId, USER_TO, UserTO.class));
-        formTO.setUserPatch(engine.getRuntimeService().getVariable(processInstanceId, USER_PATCH, UserPatch.class));
+        formTO.setUserTO(getVariable(processInstanceId, variables, USER_TO, UserTO.class));
+        formTO.setUserPatch(getVariable(processInstanceId, variables, USER_PATCH, UserPatch.class));
 
         properties.stream().map(fProp -> {
             WorkflowFormPropertyTO propertyTO = new WorkflowFormPropertyTO();
@@ -594,58 +631,115 @@ public class FlowableUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
         return formTO;
     }
 
-    @Transactional(readOnly = true)
-    @Override
-    public List<WorkflowFormTO> getForms() {
-        List<WorkflowFormTO> forms = new ArrayList<>();
+    protected TaskQuery createFormTaskQuery(final String workflowId) {
+        TaskQuery query = engine.getTaskService().createTaskQuery().
+                taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE);
+        if (workflowId != null) {
+            query.processInstanceId(workflowId);
+        }
 
         String authUser = AuthContextUtils.getUsername();
-        if (adminUser.equals(authUser)) {
-            forms.addAll(getForms(engine.getTaskService().createTaskQuery().
-                    taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE)));
-        } else {
+        if (!adminUser.equals(authUser)) {
             User user = userDAO.findByUsername(authUser);
             if (user == null) {
                 throw new NotFoundException("Syncope User " + authUser);
             }
 
-            forms.addAll(getForms(engine.getTaskService().createTaskQuery().
-                    taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE).
-                    taskCandidateOrAssigned(user.getKey())));
-
-            List<String> candidateGroups = new ArrayList<>();
-            userDAO.findAllGroupNames(user).forEach(group -> {
-                candidateGroups.add(group);
-            });
-            if (!candidateGroups.isEmpty()) {
-                forms.addAll(getForms(engine.getTaskService().createTaskQuery().
-                        taskVariableValueEquals(TASK_IS_FORM, Boolean.TRUE).
-                        taskCandidateGroupIn(candidateGroups)));
+            List<String> candidateGroups = new ArrayList<>(userDAO.findAllGroupNames(user));
+            if (candidateGroups.isEmpty()) {
+                query.taskCandidateOrAssigned(user.getKey());
+            } else {
+                // single query, so that paging and counting can be delegated to the workflow engine
+                query.or().
+                        taskCandidateOrAssigned(user.getKey()).
+                        taskCandidateGroupIn(candidateGroups).
+                        endOr();
             }
         }
 
-        return forms;
+        return query;
     }
 
-    protected <T extends Query<?, ?>, U extends Object> List<WorkflowFormTO> getForms(final Query<T, U> query) {
-        List<WorkflowFormTO> forms = new ArrayList<>();
+    protected void setSort(final TaskQuery query, final List<OrderByClause> orderByClauses) {
+        if (orderByClauses.isEmpty()) {
+            query.orderByTaskCreateTime().asc();
+        }
 
-        query.list().forEach(obj -> {
-            try {
-                if (obj instanceof HistoricTaskInstance) {
-                    forms.add(getFormTO((HistoricTaskInstance) obj));
-                } else if (obj instanceof Task) {
-                    forms.add(getFormTO((Task) obj));
+        MutableBoolean byTaskId = new MutableBoolean(false);
+        orderByClauses.forEach(clause -> {
+            boolean sorted = true;
+            switch (clause.getField().trim()) {
+                case "taskId":
+                    query.orderByTaskId();
+                    byTaskId.setTrue();
+                    break;
+
+                case "createTime":
+                    query.orderByTaskCreateTime();
+                    break;
+
+                case "dueDate":
+                    query.orderByDueDate();
+                    break;
+
+                case "owner":
+                    query.orderByTaskOwner();
+                    break;
+
+                default:
+                    LOG.warn("Form sort request by {}: unsupported, ignoring", clause.getField().trim());
+                    sorted = false;
+            }
+            if (sorted) {
+                if (clause.getDirection() == OrderByClause.Direction.ASC) {
+                    query.asc();
                 } else {
-                    throw new FlowableException(
-                            "Failure retrieving form", new IllegalArgumentException("Invalid task type"));
+                    query.desc();
                 }
+            }
+        });
+
+        // tasks sharing the same values for the requested fields would otherwise move across pages
+        if (byTaskId.isFalse()) {
+            query.orderByTaskId().asc();
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Pair<Integer, List<WorkflowFormTO>> getForms(
+            final String workflowId, final int page, final int size, final List<OrderByClause> orderByClauses) {
+
+        TaskQuery query = createFormTaskQuery(workflowId);
+        int count = (int) query.count();
+
+        setSort(query, orderByClauses);
+
+        // the page is selected by the workflow engine's database: includeProcessVariables() would instead make it
+        // join all variables and page in memory, hence variables are loaded afterwards, for the page's tasks only
+        List<Task> tasks = query.listPage(size * (page <= 0 ? 0 : page - 1), size);
+
+        Map<String, Map<String, Object>> variables = new HashMap<>();
+        tasks.stream().map(Task::getProcessInstanceId).distinct().forEach(processInstanceId -> {
+            variables.put(
+                    processInstanceId,
+                    engine.getRuntimeService().getVariables(processInstanceId, Arrays.asList(USER_TO, USER_PATCH)));
+        });
+
+        List<WorkflowFormTO> forms = new ArrayList<>();
+        tasks.forEach(task -> {
+            TaskFormData formData;
+            try {
+                formData = engine.getFormService().getTaskFormData(task.getId());
             } catch (FlowableException e) {
-                LOG.debug("No form found for task {}", obj, e);
+                LOG.warn("No form data found for task {}, reporting it without properties", task.getId(), e);
+                formData = null;
             }
+            // the task is counted anyway: leaving it out would make the page shorter than what count reports
+            forms.add(getFormTO(task, formData, variables.get(task.getProcessInstanceId())));
         });
 
-        return forms;
+        return Pair.of(count, forms);
     }
 
     @Override
@@ -723,7 +817,7 @@ public class FlowableUserWorkflowAdapter extends AbstractUserWorkflowAdapter {
             throw new WorkflowException("While reading task " + taskId, e);
         }
 
-        return getFormTO(task, checked.getValue());
+        return getFormTO(task, checked.getValue(), null);
     }
 
     private Map<String, String> getPropertiesForSubmit(final WorkflowFormTO form) {
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.workflow.flowable;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import org.apache.syncope.common.lib.AbstractBaseBean;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.variable.SerializableType;
+import org.flowable.engine.impl.variable.ValueFields;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Flowable variable type for handling Syncope TOs (as {@code userTO} and {@code userPatch}) as Flowable variables.
+ * Values are stored as compact JSON rather than Java-serialized blobs, while still being made available as
+ * full objects to BPMN expressions; the actual class is recorded in the variable's {@code textValue2} field.
+ * Variables previously stored as {@code serializable} are still read as such, and are converted to this type
+ * the first time they are updated.
+ */
+public class SyncopeTOsVariableType extends SerializableType {
+
+    public static final String TYPE_NAME = "syncopeTOs";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyncopeTOsVariableType.class);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    static {
+        MAPPER.registerModule(new AfterburnerModule());
+    }
+
+    @Override
+    public String getTypeName() {
+        return TYPE_NAME;
+    }
+
+    @Override
+    public boolean isAbleToStore(final Object value) {
+        return value instanceof AbstractBaseBean;
+    }
+
+    @Override
+    public byte[] serialize(final Object value, final ValueFields valueFields) {
+        if (value == null) {
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            byte[] bytes = MAPPER.writeValueAsBytes(value);
+            valueFields.setTextValue2(value.getClass().getName());
+
+            LOG.debug("Variable '{}' ({}): {} bytes written in {} us",
+                    valueFields.getName(), value.getClass().getSimpleName(), bytes.length,
+                    (System.nanoTime() - start) / 1000);
+            return bytes;
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't serialize value '" + value + "' in variable '"
+                    + valueFields.getName() + "'", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(final byte[] bytes, final ValueFields valueFields) {
+        long start = System.nanoTime();
+        try {
+            Object value = MAPPER.readValue(bytes, Class.forName(valueFields.getTextValue2()));
+
+            LOG.debug("Variable '{}' ({}): {} bytes read in {} us",
+                    valueFields.getName(), valueFields.getTextValue2(), bytes.length,
+                    (System.nanoTime() - start) / 1000);
+            return value;
+        } catch (Exception e) {
+            throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.workflow.flowable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.syncope.common.lib.patch.AttrPatch;
+import org.apache.syncope.common.lib.patch.MembershipPatch;
+import org.apache.syncope.common.lib.patch.PasswordPatch;
+import org.apache.syncope.common.lib.patch.StringReplacePatchItem;
+import org.apache.syncope.common.lib.patch.UserPatch;
+import org.apache.syncope.common.lib.to.AttrTO;
+import org.apache.syncope.common.lib.to.MembershipTO;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.PatchOperation;
+import org.flowable.engine.impl.variable.ValueFields;
+import org.junit.Test;
+
+public class SyncopeTOsVariableTypeTest {
+
+    private static final SyncopeTOsVariableType TYPE = new SyncopeTOsVariableType();
+
+    /**
+     * @param values backing map, exposing each {@code getX} / {@code setX} pair as entry {@code X}
+     * @return value fields, as provided by Flowable's variable instances
+     */
+    private static ValueFields valueFields(final Map<String, Object> values) {
+        return (ValueFields) Proxy.newProxyInstance(
+                SyncopeTOsVariableTypeTest.class.getClassLoader(),
+                new Class<?>[] { ValueFields.class },
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set")) {
+                        values.put(method.getName().substring(3), args[0]);
+                        return null;
+                    }
+                    return values.get(method.getName().substring(3));
+                });
+    }
+
+    private static Object roundTrip(final Object value) {
+        assertTrue(TYPE.isAbleToStore(value));
+
+        Map<String, Object> stored = new HashMap<>();
+        stored.put("Name", "variable");
+        TYPE.setValue(value, valueFields(stored));
+        assertNotNull(stored.get("Bytes"));
+        assertEquals(value.getClass().getName(), stored.get("TextValue2"));
+
+        // read back as after loading the variable from database, e.g. without the cached value
+        Map<String, Object> loaded = new HashMap<>(stored);
+        loaded.remove("CachedValue");
+        Object read = TYPE.getValue(valueFields(loaded));
+
+        assertNotSame(value, read);
+        assertEquals(value, read);
+        return read;
+    }
+
+    @Test
+    public void userTO() {
+        UserTO userTO = new UserTO();
+        userTO.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        userTO.setUsername("rossini");
+        userTO.setPassword("password123");
+        userTO.setRealm("/");
+        userTO.getPlainAttrs().add(new AttrTO.Builder().schema("fullname").value("Gioacchino Rossini").build());
+        userTO.getPlainAttrs().add(new AttrTO.Builder().schema("loginDate").values("2009-05-26", "2010-05-26").build());
+        userTO.getMemberships().add(new MembershipTO.Builder().group("37d15e4c-cdc1-460b-a591-8505c8133806").build());
+        userTO.getResources().add("resource-testdb");
+
+        UserTO read = (UserTO) roundTrip(userTO);
+        assertEquals("password123", read.getPassword());
+        assertEquals(2, read.getPlainAttr("loginDate").get().getValues().size());
+    }
+
+    @Test
+    public void userPatch() {
+        UserPatch userPatch = new UserPatch();
+        userPatch.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        userPatch.setUsername(new StringReplacePatchItem.Builder().value("rossini2").build());
+        userPatch.setPassword(new PasswordPatch.Builder().value("newPassword123").resource("resource-testdb").build());
+        userPatch.getPlainAttrs().add(new AttrPatch.Builder().
+                operation(PatchOperation.DELETE).
+                attrTO(new AttrTO.Builder().schema("loginDate").build()).
+                build());
+        userPatch.getMemberships().add(new MembershipPatch.Builder().
+                operation(PatchOperation.ADD_REPLACE).
+                group("37d15e4c-cdc1-460b-a591-8505c8133806").
+                build());
+
+        UserPatch read = (UserPatch) roundTrip(userPatch);
+        assertEquals("newPassword123", read.getPassword().getValue());
+        assertEquals(PatchOperation.DELETE, read.getPlainAttrs().iterator().next().getOperation());
+    }
+
+    @Test
+    public void passwordPatch() {
+        PasswordPatch passwordPatch = new PasswordPatch.Builder().
+                value("newPassword123").onSyncope(false).resources("resource-testdb", "resource-ldap").build();
+
+        PasswordPatch read = (PasswordPatch) roundTrip(passwordPatch);
+        assertFalse(read.isOnSyncope());
+        assertEquals(2, read.getResources().size());
+    }
+}
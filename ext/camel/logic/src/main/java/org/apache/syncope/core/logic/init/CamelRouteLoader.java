@@ -19,7 +19,6 @@
 package org.apache.syncope.core.logic.init;
 
 import java.io.StringWriter;
-import java.util.Map;
 import javax.sql.DataSource;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -34,12 +33,10 @@ import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.CamelEntitlement;
 import org.apache.syncope.core.provisioning.api.EntitlementsHolder;
 import org.apache.syncope.core.spring.ResourceWithFallbackLoader;
-import org.apache.syncope.core.persistence.api.DomainsHolder;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
 import org.apache.syncope.core.persistence.api.entity.CamelRoute;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
@@ -85,9 +82,6 @@ public class CamelRouteLoader implements SyncopeLoader {
     @javax.annotation.Resource(name = "anyObjectRoutes")
     private ResourceWithFallbackLoader anyObjectRoutesLoader;
 
-    @Autowired
-    private DomainsHolder domainsHolder;
-
     @Override
     public Integer getPriority() {
         return 1000;
@@ -95,18 +89,16 @@ public class CamelRouteLoader implements SyncopeLoader {
 
     @Override
     public void load() {
-        for (Map.Entry<String, DataSource> entry : domainsHolder.getDomains().entrySet()) {
-            loadRoutes(entry.getKey(), entry.getValue(),
-                    userRoutesLoader.getResource(), AnyTypeKind.USER);
-            loadRoutes(entry.getKey(), entry.getValue(),
-                    groupRoutesLoader.getResource(), AnyTypeKind.GROUP);
-            loadRoutes(entry.getKey(), entry.getValue(),
-                    anyObjectRoutesLoader.getResource(), AnyTypeKind.ANY_OBJECT);
-        }
-
         EntitlementsHolder.getInstance().init(CamelEntitlement.values());
     }
 
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        loadRoutes(domain, datasource, userRoutesLoader.getResource(), AnyTypeKind.USER);
+        loadRoutes(domain, datasource, groupRoutesLoader.getResource(), AnyTypeKind.GROUP);
+        loadRoutes(domain, datasource, anyObjectRoutesLoader.getResource(), AnyTypeKind.ANY_OBJECT);
+    }
+
     private String nodeToString(final Node content, final DOMImplementationLS domImpl) {
         StringWriter writer = new StringWriter();
         try {
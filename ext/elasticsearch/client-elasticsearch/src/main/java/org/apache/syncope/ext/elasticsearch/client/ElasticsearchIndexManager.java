@@ -19,75 +19,272 @@
 package org.apache.syncope.ext.elasticsearch.client;
 
 import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.syncope.common.lib.info.SystemInfo;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
 import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
-import org.elasticsearch.action.delete.DeleteResponse;
-import org.elasticsearch.action.get.GetResponse;
-import org.elasticsearch.action.index.IndexResponse;
-import org.elasticsearch.action.update.UpdateResponse;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.bulk.BackoffPolicy;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkProcessor;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.delete.DeleteRequest;
+import org.elasticsearch.action.update.UpdateRequest;
 import org.elasticsearch.client.Client;
+import org.elasticsearch.common.unit.TimeValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * Listen to any create / update and delete in order to keep the Elasticsearch indexes consistent.
+ *
+ * Index operations are not sent to Elasticsearch from the listener thread: they are coalesced by
+ * (domain, kind, key) - so that only the latest operation for each any is actually sent - and flushed
+ * in bulk, either periodically or when the pending queue reaches its capacity.
+ * Bulk items still failing after retries are reported via the {@code ElasticsearchIndexManager.deadLetter}
+ * logger.
  */
-public class ElasticsearchIndexManager {
+public class ElasticsearchIndexManager implements InitializingBean, DisposableBean {
 
     private static final Logger LOG = LoggerFactory.getLogger(ElasticsearchIndexManager.class);
 
+    private static final Logger DEAD_LETTER = LoggerFactory.getLogger(
+            ElasticsearchIndexManager.class.getName() + ".deadLetter");
+
+    private static class Pending {
+
+        private final DocWriteRequest<?> request;
+
+        private final long enqueued;
+
+        Pending(final DocWriteRequest<?> request) {
+            this.request = request;
+            this.enqueued = System.currentTimeMillis();
+        }
+    }
+
     @Autowired
     private Client client;
 
     @Autowired
     private ElasticsearchUtils elasticsearchUtils;
 
+    private int queueCapacity = 10000;
+
+    private int bulkActions = 500;
+
+    private long flushInterval = 1000;
+
+    private int maxRetries = 3;
+
+    private boolean waitForIndex = false;
+
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+
+    private final AtomicLong indexed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private BulkProcessor bulkProcessor;
+
+    private ScheduledExecutorService flusher;
+
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public void setBulkActions(final int bulkActions) {
+        this.bulkActions = bulkActions;
+    }
+
+    /**
+     * @param flushInterval interval (in milliseconds) between periodic flushes of pending operations
+     */
+    public void setFlushInterval(final long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public void setMaxRetries(final int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * When set, each event is flushed to Elasticsearch before the listener returns: meant for testing.
+     *
+     * @param waitForIndex whether to flush synchronously
+     */
+    public void setWaitForIndex(final boolean waitForIndex) {
+        this.waitForIndex = waitForIndex;
+    }
+
+    /**
+     * @return number of operations waiting to be sent to Elasticsearch
+     */
+    public int getQueueDepth() {
+        return pending.size();
+    }
+
+    /**
+     * @return age (in milliseconds) of the oldest operation waiting to be sent to Elasticsearch
+     */
+    public long getLag() {
+        long now = System.currentTimeMillis();
+        return pending.values().stream().mapToLong(p -> now - p.enqueued).max().orElse(0L);
+    }
+
+    /**
+     * @return number of operations successfully sent to Elasticsearch
+     */
+    public long getIndexed() {
+        return indexed.get();
+    }
+
+    /**
+     * @return number of operations that could not be sent to Elasticsearch, even after retries
+     */
+    public long getFailed() {
+        return failed.get();
+    }
+
+    /**
+     * Reports the indexer status into the load instant published by {@code SystemLoadReporterJob}.
+     *
+     * @param event load instant event
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void report(final PayloadApplicationEvent<SystemInfo.LoadInstant> event) {
+        SystemInfo.LoadInstant instant = event.getPayload();
+        instant.setIndexQueueSize(getQueueDepth());
+        instant.setIndexLag(getLag());
+        instant.setIndexed(getIndexed());
+        instant.setIndexFailed(getFailed());
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        bulkProcessor = BulkProcessor.builder(client, new BulkProcessor.Listener() {
+
+            @Override
+            public void beforeBulk(final long executionId, final BulkRequest request) {
+                LOG.debug("About to send {} operations in bulk #{}", request.numberOfActions(), executionId);
+            }
+
+            @Override
+            public void afterBulk(final long executionId, final BulkRequest request, final BulkResponse response) {
+                for (BulkItemResponse item : response.getItems()) {
+                    if (item.isFailed()) {
+                        failed.incrementAndGet();
+                        DEAD_LETTER.error("{} {}/{}/{}: {}",
+                                item.getOpType(), item.getIndex(), item.getType(), item.getId(),
+                                item.getFailureMessage());
+                    } else {
+                        indexed.incrementAndGet();
+                    }
+                }
+                LOG.debug("Bulk #{} completed in {}", executionId, response.getTook());
+            }
+
+            @Override
+            public void afterBulk(final long executionId, final BulkRequest request, final Throwable failure) {
+                LOG.error("Bulk #{} failed", executionId, failure);
+                request.requests().forEach(item -> {
+                    failed.incrementAndGet();
+                    DEAD_LETTER.error("{} {}/{}/{}: {}",
+                            item.opType(), item.index(), item.type(), item.id(), failure.getMessage());
+                });
+            }
+        }).
+                setBulkActions(bulkActions).
+                setConcurrentRequests(0).
+                setBackoffPolicy(BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(100), maxRetries)).
+                build();
+
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ElasticsearchIndexManager");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception e) {
+                LOG.error("While flushing pending operations", e);
+            }
+        }, flushInterval, flushInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (flusher != null) {
+            flusher.shutdown();
+            flusher.awaitTermination(flushInterval * 2, TimeUnit.MILLISECONDS);
+        }
+        if (bulkProcessor != null) {
+            flush();
+            bulkProcessor.awaitClose(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Sends all pending operations to Elasticsearch, in bulk.
+     */
+    public synchronized void flush() {
+        for (Iterator<Map.Entry<String, Pending>> itor = pending.entrySet().iterator(); itor.hasNext();) {
+            Map.Entry<String, Pending> entry = itor.next();
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                bulkProcessor.add(entry.getValue().request);
+            }
+        }
+        bulkProcessor.flush();
+    }
+
+    private void enqueue(final AnyTypeKind kind, final String key, final DocWriteRequest<?> request) {
+        pending.put(AuthContextUtils.getDomain() + "/" + kind.name() + "/" + key, new Pending(request));
+
+        if (waitForIndex || pending.size() >= queueCapacity) {
+            flush();
+        }
+    }
+
     @TransactionalEventListener
     public void after(final AnyCreatedUpdatedEvent<Any<?>> event) throws IOException {
-        GetResponse getResponse = client.prepareGet(AuthContextUtils.getDomain().toLowerCase(),
+        LOG.debug("About to enqueue index upsert for {}", event.getAny());
+
+        enqueue(event.getAny().getType().getKind(), event.getAny().getKey(), new UpdateRequest(
+                AuthContextUtils.getDomain().toLowerCase(),
                 event.getAny().getType().getKind().name(),
                 event.getAny().getKey()).
-                get();
-        if (getResponse.isExists()) {
-            LOG.debug("About to update index for {}", event.getAny());
-
-            UpdateResponse response = client.prepareUpdate(
-                    AuthContextUtils.getDomain().toLowerCase(),
-                    event.getAny().getType().getKind().name(),
-                    event.getAny().getKey()).
-                    setRetryOnConflict(elasticsearchUtils.getRetryOnConflict()).
-                    setDoc(elasticsearchUtils.builder(event.getAny())).
-                    get();
-            LOG.debug("Index successfully updated for {}: {}", event.getAny(), response);
-        } else {
-            LOG.debug("About to create index for {}", event.getAny());
-
-            IndexResponse response = client.prepareIndex(
-                    AuthContextUtils.getDomain().toLowerCase(),
-                    event.getAny().getType().getKind().name(),
-                    event.getAny().getKey()).
-                    setSource(elasticsearchUtils.builder(event.getAny())).
-                    get();
-
-            LOG.debug("Index successfully created for {}: {}", event.getAny(), response);
-        }
+                retryOnConflict(elasticsearchUtils.getRetryOnConflict()).
+                doc(elasticsearchUtils.builder(event.getAny())).
+                docAsUpsert(true));
     }
 
     @TransactionalEventListener
     public void after(final AnyDeletedEvent event) {
-        LOG.debug("About to delete index for {}[{}]", event.getAnyTypeKind(), event.getAnyKey());
+        LOG.debug("About to enqueue index delete for {}[{}]", event.getAnyTypeKind(), event.getAnyKey());
 
-        DeleteResponse response = client.prepareDelete(
+        enqueue(event.getAnyTypeKind(), event.getAnyKey(), new DeleteRequest(
                 AuthContextUtils.getDomain().toLowerCase(),
                 event.getAnyTypeKind().name(),
-                event.getAnyKey()).
-                get();
-
-        LOG.debug("Index successfully deleted for {}[{}]: {}",
-                event.getAnyTypeKind(), event.getAnyKey(), response);
+                event.getAnyKey()));
     }
 }
@@ -20,15 +20,22 @@ package org.apache.syncope.ext.elasticsearch.client;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.anyobject.ARelationship;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
@@ -55,6 +62,10 @@ public class ElasticsearchUtils {
 
     private int retryOnConflict = 5;
 
+    private int reindexBatchSize = 1000;
+
+    private int reindexThreads = Runtime.getRuntime().availableProcessors();
+
     public void setIndexMaxResultWindow(final int indexMaxResultWindow) {
         this.indexMaxResultWindow = indexMaxResultWindow;
     }
@@ -71,6 +82,30 @@ public class ElasticsearchUtils {
         return retryOnConflict;
     }
 
+    public void setReindexBatchSize(final int reindexBatchSize) {
+        this.reindexBatchSize = reindexBatchSize;
+    }
+
+    public int getReindexBatchSize() {
+        return reindexBatchSize;
+    }
+
+    public void setReindexThreads(final int reindexThreads) {
+        this.reindexThreads = reindexThreads;
+    }
+
+    public int getReindexThreads() {
+        return reindexThreads;
+    }
+
+    private AnyDAO<?> anyDAO(final AnyTypeKind kind) {
+        return kind == AnyTypeKind.USER
+                ? userDAO
+                : kind == AnyTypeKind.GROUP
+                        ? groupDAO
+                        : anyObjectDAO;
+    }
+
     /**
      * Returns the builder specialized with content from the provided any.
      *
@@ -80,6 +115,73 @@ public class ElasticsearchUtils {
      */
     @Transactional
     public XContentBuilder builder(final Any<?> any) throws IOException {
+        return build(any.getType().getKind(), Collections.singletonList(any)).get(any.getKey());
+    }
+
+    /**
+     * Returns the builders specialized with content from the any objects matching the provided keys; any objects
+     * and related information are fetched at once for all the given keys, rather than one by one.
+     *
+     * @param kind any type kind
+     * @param keys keys of users, groups or any objects to index
+     * @return builders specialized with content from the matching any objects, by key
+     * @throws IOException in case of errors
+     */
+    @Transactional(readOnly = true)
+    public Map<String, XContentBuilder> builders(final AnyTypeKind kind, final List<String> keys)
+            throws IOException {
+
+        return build(kind, anyDAO(kind).findByKeys(keys));
+    }
+
+    private Map<String, XContentBuilder> build(final AnyTypeKind kind, final List<? extends Any<?>> anys)
+            throws IOException {
+
+        List<String> keys = anys.stream().map(Any::getKey).collect(Collectors.toList());
+
+        Map<String, List<String>> dynRealms = anyDAO(kind).findDynRealms(keys);
+        Map<String, List<String>> resources = anyDAO(kind).findAllResourceKeys(keys);
+        Map<String, List<String>> memberships = kind == AnyTypeKind.USER
+                ? userDAO.findAllGroupKeys(keys)
+                : kind == AnyTypeKind.ANY_OBJECT
+                        ? anyObjectDAO.findAllGroupKeys(keys)
+                        : Collections.emptyMap();
+        Map<String, List<String>> roles = kind == AnyTypeKind.USER
+                ? userDAO.findAllRoleKeys(keys)
+                : Collections.emptyMap();
+        Map<String, List<ARelationship>> relationships = new HashMap<>();
+        if (kind == AnyTypeKind.ANY_OBJECT) {
+            anyObjectDAO.findAllRelationships(keys).forEach(relationship -> {
+                relationships.computeIfAbsent(relationship.getLeftEnd().getKey(), k -> new ArrayList<>()).
+                        add(relationship);
+                if (!relationship.getLeftEnd().getKey().equals(relationship.getRightEnd().getKey())) {
+                    relationships.computeIfAbsent(relationship.getRightEnd().getKey(), k -> new ArrayList<>()).
+                            add(relationship);
+                }
+            });
+        }
+
+        Map<String, XContentBuilder> builders = new LinkedHashMap<>(anys.size());
+        for (Any<?> any : anys) {
+            builders.put(any.getKey(), builder(
+                    any,
+                    dynRealms.getOrDefault(any.getKey(), Collections.emptyList()),
+                    resources.getOrDefault(any.getKey(), Collections.emptyList()),
+                    memberships.getOrDefault(any.getKey(), Collections.emptyList()),
+                    roles.getOrDefault(any.getKey(), Collections.emptyList()),
+                    relationships.getOrDefault(any.getKey(), Collections.emptyList())));
+        }
+        return builders;
+    }
+
+    private XContentBuilder builder(
+            final Any<?> any,
+            final List<String> dynRealms,
+            final List<String> resources,
+            final List<String> memberships,
+            final List<String> roles,
+            final List<ARelationship> aRelationships) throws IOException {
+
         XContentBuilder builder = XContentFactory.jsonBuilder().
                 startObject().
                 field("id", any.getKey()).
@@ -90,33 +192,19 @@ public class ElasticsearchUtils {
                 field("lastChangeDate", any.getLastChangeDate()).
                 field("lastModified", any.getLastModifier()).
                 field("status", any.getStatus()).
-                field("resources",
-                        any instanceof User
-                                ? userDAO.findAllResourceKeys(any.getKey())
-                                : any instanceof AnyObject
-                                        ? anyObjectDAO.findAllResourceKeys(any.getKey())
-                                        : groupDAO.findAllResourceKeys(any.getKey())).
-                field("dynRealms",
-                        any instanceof User
-                                ? userDAO.findDynRealms(any.getKey())
-                                : any instanceof AnyObject
-                                        ? anyObjectDAO.findDynRealms(any.getKey())
-                                        : groupDAO.findDynRealms(any.getKey()));
+                field("resources", resources).
+                field("dynRealms", dynRealms);
 
         if (any instanceof AnyObject) {
             AnyObject anyObject = ((AnyObject) any);
             builder = builder.field("name", anyObject.getName());
 
-            List<Object> memberships = new ArrayList<>(anyObjectDAO.findAllGroupKeys(anyObject));
             builder = builder.field("memberships", memberships);
 
             List<Object> relationships = new ArrayList<>();
             List<Object> relationshipTypes = new ArrayList<>();
-            anyObjectDAO.findAllRelationships(anyObject).stream().
-                    map(relationship -> {
-                        relationships.add(relationship.getRightEnd().getKey());
-                        return relationship;
-                    }).forEachOrdered(relationship -> {
+            aRelationships.forEach(relationship -> {
+                relationships.add(relationship.getRightEnd().getKey());
                 relationshipTypes.add(relationship.getType().getKey());
             });
             builder = builder.field("relationships", relationships);
@@ -146,19 +234,14 @@ public class ElasticsearchUtils {
                     field("lastRecertification", user.getLastRecertification()).
                     field("lastRecertificator", user.getLastRecertificator());
 
-            List<Object> roles = userDAO.findAllRoles(user).stream().
-                    map(r -> r.getKey()).collect(Collectors.toList());
             builder = builder.field("roles", roles);
 
-            List<Object> memberships = new ArrayList<>(userDAO.findAllGroupKeys(user));
             builder = builder.field("memberships", memberships);
 
             List<Object> relationships = new ArrayList<>();
             Set<Object> relationshipTypes = new HashSet<>();
-            user.getRelationships().stream().map(relationship -> {
+            user.getRelationships().forEach(relationship -> {
                 relationships.add(relationship.getRightEnd().getKey());
-                return relationship;
-            }).forEachOrdered(relationship -> {
                 relationshipTypes.add(relationship.getType().getKey());
             });
             builder = builder.field("relationships", relationships);
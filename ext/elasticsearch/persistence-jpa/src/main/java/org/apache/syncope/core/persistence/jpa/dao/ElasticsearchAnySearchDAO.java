@@ -19,11 +19,20 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.apache.syncope.common.lib.SyncopeClientException;
@@ -50,16 +59,20 @@ import org.apache.syncope.core.persistence.api.entity.DynRealm;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.provisioning.api.utils.FormatUtils;
 import org.apache.syncope.core.provisioning.api.utils.RealmUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchUtils;
 import org.elasticsearch.action.search.SearchRequestBuilder;
+import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.search.SearchType;
 import org.elasticsearch.client.Client;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.DisMaxQueryBuilder;
 import org.elasticsearch.index.query.MatchNoneQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.sort.SortOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.ReflectionUtils;
@@ -71,12 +84,31 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
 
     private static final QueryBuilder EMPTY_QUERY_BUILDER = new MatchNoneQueryBuilder();
 
+    private static final Set<String> BUILTIN_FIELDS =
+            new HashSet<>(Arrays.asList("key", "realm", "status", "username", "name"));
+
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
     @Autowired
     private Client client;
 
     @Autowired
     private ElasticsearchUtils elasticsearchUtils;
 
+    /**
+     * Matches any object in the given realm or in any of its descendants, by realm path prefix.
+     *
+     * @param realmPath realm full path
+     * @return query builder
+     */
+    private QueryBuilder realmSubtreeQuery(final String realmPath) {
+        return SyncopeConstants.ROOT_REALM.equals(realmPath)
+                ? QueryBuilders.prefixQuery("realm", SyncopeConstants.ROOT_REALM)
+                : QueryBuilders.boolQuery().
+                        should(QueryBuilders.termQuery("realm", realmPath)).
+                        should(QueryBuilders.prefixQuery("realm", realmPath + "/"));
+    }
+
     private Pair<DisMaxQueryBuilder, Set<String>> adminRealmsFilter(final Set<String> adminRealms) {
         DisMaxQueryBuilder builder = QueryBuilders.disMaxQuery();
 
@@ -89,9 +121,7 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                     noRealm.getElements().add("Invalid realm specified: " + realmPath);
                     throw noRealm;
                 } else {
-                    realmDAO.findDescendants(realm).forEach(descendant -> {
-                        builder.add(QueryBuilders.termQuery("realm", descendant.getFullPath()));
-                    });
+                    builder.add(realmSubtreeQuery(realm.getFullPath()));
                 }
             } else {
                 DynRealm dynRealm = dynRealmDAO.find(realmPath);
@@ -99,14 +129,12 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
                     LOG.warn("Ignoring invalid dynamic realm {}", realmPath);
                 } else {
                     dynRealmKeys.add(dynRealm.getKey());
-                    builder.add(QueryBuilders.termQuery("dynRealm", dynRealm.getKey()));
+                    builder.add(QueryBuilders.termQuery("dynRealms", dynRealm.getKey()));
                 }
             }
         });
         if (!dynRealmKeys.isEmpty()) {
-            realmDAO.findAll().forEach(descendant -> {
-                builder.add(QueryBuilders.termQuery("realm", descendant.getFullPath()));
-            });
+            builder.add(realmSubtreeQuery(SyncopeConstants.ROOT_REALM));
         }
 
         return Pair.of(builder, dynRealmKeys);
@@ -168,6 +196,97 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
         });
     }
 
+    private void fetch(final SearchRequestBuilder builder, final String[] includes) {
+        if (includes == null) {
+            builder.setFetchSource(false);
+        } else {
+            builder.setFetchSource(includes, null);
+        }
+    }
+
+    /**
+     * Returns all hits via scroll, rather than being limited by the maximum result window.
+     */
+    private List<SearchHit> scroll(final SearchRequestBuilder builder) {
+        List<SearchHit> hits = new ArrayList<>();
+
+        SearchResponse response = builder.setScroll(SCROLL_KEEP_ALIVE).
+                setSize(elasticsearchUtils.getIndexMaxResultWindow()).get();
+        try {
+            while (response.getHits().getHits().length > 0) {
+                hits.addAll(Arrays.asList(response.getHits().getHits()));
+
+                response = client.prepareSearchScroll(response.getScrollId()).setScroll(SCROLL_KEEP_ALIVE).get();
+            }
+        } finally {
+            client.prepareClearScroll().addScrollId(response.getScrollId()).get();
+        }
+
+        return hits;
+    }
+
+    /**
+     * Returns the hits in the requested page; when going beyond the maximum result window, the preceding hits are
+     * walked through via {@code search_after}, by fetching only their sort values.
+     */
+    private List<SearchHit> page(
+            final SearchRequestBuilder builder,
+            final int from,
+            final int size,
+            final String[] includes) {
+
+        if (from + size <= elasticsearchUtils.getIndexMaxResultWindow()) {
+            fetch(builder, includes);
+            return Arrays.asList(builder.setFrom(from).setSize(size).get().getHits().getHits());
+        }
+
+        builder.setFetchSource(false);
+        Object[] searchAfter = null;
+        for (int skip = from; skip > 0;) {
+            if (searchAfter != null) {
+                builder.searchAfter(searchAfter);
+            }
+            SearchHit[] hits = builder.setSize(Math.min(skip, elasticsearchUtils.getIndexMaxResultWindow())).
+                    get().getHits().getHits();
+            if (hits.length == 0) {
+                return Collections.emptyList();
+            }
+
+            skip -= hits.length;
+            searchAfter = hits[hits.length - 1].getSortValues();
+        }
+
+        fetch(builder, includes);
+        if (searchAfter != null) {
+            builder.searchAfter(searchAfter);
+        }
+        return Arrays.asList(builder.setSize(size).get().getHits().getHits());
+    }
+
+    private List<SearchHit> doSearchHits(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int page,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind,
+            final String[] includes) {
+
+        SearchRequestBuilder builder = searchRequestBuilder(adminRealms, cond, kind);
+        addSort(builder, kind, orderBy);
+        if (orderBy.stream().noneMatch(clause -> "key".equals(clause.getField()) || "id".equals(clause.getField()))) {
+            // tiebreaker, required for stable scroll / search_after results
+            builder.addSort("id", SortOrder.ASC);
+        }
+
+        if (itemsPerPage < 0) {
+            fetch(builder, includes);
+            return scroll(builder);
+        }
+
+        return page(builder, (page <= 0 ? 0 : page - 1) * itemsPerPage, itemsPerPage, includes);
+    }
+
     @Override
     protected <T extends Any<?>> List<T> doSearch(
             final Set<String> adminRealms,
@@ -177,16 +296,111 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             final List<OrderByClause> orderBy,
             final AnyTypeKind kind) {
 
-        SearchRequestBuilder builder = searchRequestBuilder(adminRealms, cond, kind).
-                setFrom(page <= 0 ? 0 : page - 1).
-                setSize(itemsPerPage < 0 ? elasticsearchUtils.getIndexMaxResultWindow() : itemsPerPage);
-        addSort(builder, kind, orderBy);
-
-        return buildResult(Stream.of(builder.get().getHits().getHits()).
+        return buildResult(doSearchHits(adminRealms, cond, page, itemsPerPage, orderBy, kind, null).stream().
                 map(hit -> hit.getId()).collect(Collectors.toList()),
                 kind);
     }
 
+    private static String getValueAsString(final PlainSchema schema, final Object indexed) {
+        String result;
+        switch (schema.getType()) {
+            case Long:
+                long longValue = indexed instanceof Number
+                        ? ((Number) indexed).longValue() : Long.valueOf(indexed.toString());
+                result = schema.getConversionPattern() == null
+                        ? String.valueOf(longValue)
+                        : FormatUtils.format(longValue, schema.getConversionPattern());
+                break;
+
+            case Double:
+                double doubleValue = indexed instanceof Number
+                        ? ((Number) indexed).doubleValue() : Double.valueOf(indexed.toString());
+                result = schema.getConversionPattern() == null
+                        ? String.valueOf(doubleValue)
+                        : FormatUtils.format(doubleValue, schema.getConversionPattern());
+                break;
+
+            case Date:
+                // dates are indexed as ISO 8601 strings in UTC
+                Date dateValue = indexed instanceof Number
+                        ? new Date(((Number) indexed).longValue())
+                        : indexed instanceof Date ? (Date) indexed : Date.from(Instant.parse(indexed.toString()));
+                result = schema.getConversionPattern() == null
+                        ? FormatUtils.format(dateValue)
+                        : FormatUtils.format(dateValue, false, schema.getConversionPattern());
+                break;
+
+            // binary values are indexed as Base64 strings
+            case Binary:
+            case Boolean:
+            case String:
+            case Enum:
+            case Encrypted:
+            default:
+                result = indexed.toString();
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the values of a plain attribute, as found in the indexed document, into the same strings returned by
+     * {@link org.apache.syncope.core.persistence.api.entity.PlainAttr#getValuesAsStrings()}.
+     *
+     * @param schema plain schema
+     * @param indexed indexed value(s)
+     * @return values as strings
+     */
+    static List<String> getValuesAsStrings(final PlainSchema schema, final Object indexed) {
+        Collection<?> values = indexed instanceof Collection
+                ? (Collection<?>) indexed
+                : Collections.singletonList(indexed);
+        return values.stream().filter(Objects::nonNull).
+                map(value -> getValueAsString(schema, value)).collect(Collectors.toList());
+    }
+
+    /**
+     * Serves the requested fields straight from the indexed documents, without loading any entity; plain attribute
+     * values are converted as the JPA implementation does.
+     */
+    @Override
+    protected List<Map<String, Object>> doSearchFields(
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final int page,
+            final int itemsPerPage,
+            final List<OrderByClause> orderBy,
+            final AnyTypeKind kind,
+            final Set<String> fields) {
+
+        String[] includes = fields.stream().
+                map(field -> "key".equals(field) ? "id" : field).
+                toArray(String[]::new);
+
+        Map<String, PlainSchema> schemas = new HashMap<>();
+        fields.stream().filter(field -> !BUILTIN_FIELDS.contains(field)).forEach(field -> {
+            PlainSchema schema = schemaDAO.find(field);
+            if (schema != null) {
+                schemas.put(field, schema);
+            }
+        });
+
+        return doSearchHits(adminRealms, cond, page, itemsPerPage, orderBy, kind, includes).stream().
+                map(hit -> {
+                    Map<String, Object> source = hit.getSource();
+                    Map<String, Object> result = new LinkedHashMap<>(fields.size());
+                    fields.forEach(field -> {
+                        Object value = "key".equals(field) ? hit.getId() : source == null ? null : source.get(field);
+                        if (value != null) {
+                            result.put(field, schemas.containsKey(field)
+                                    ? getValuesAsStrings(schemas.get(field), value)
+                                    : value);
+                        }
+                    });
+                    return result;
+                }).collect(Collectors.toList());
+    }
+
     private QueryBuilder getQueryBuilder(final SearchCond cond, final AnyTypeKind kind) {
         QueryBuilder builder = EMPTY_QUERY_BUILDER;
 
@@ -287,17 +501,15 @@ public class ElasticsearchAnySearchDAO extends AbstractAnySearchDAO {
             return EMPTY_QUERY_BUILDER;
         }
 
-        DisMaxQueryBuilder builder = QueryBuilders.disMaxQuery();
         if (cond.isFromGroup()) {
-            realmDAO.findDescendants(realm).forEach(current -> {
-                builder.add(QueryBuilders.termQuery("realm", current.getFullPath()));
-            });
-        } else {
-            for (Realm current = realm; current.getParent() != null; current = current.getParent()) {
-                builder.add(QueryBuilders.termQuery("realm", current.getFullPath()));
-            }
-            builder.add(QueryBuilders.termQuery("realm", realmDAO.getRoot().getFullPath()));
+            return realmSubtreeQuery(realm.getFullPath());
+        }
+
+        DisMaxQueryBuilder builder = QueryBuilders.disMaxQuery();
+        for (Realm current = realm; current.getParent() != null; current = current.getParent()) {
+            builder.add(QueryBuilders.termQuery("realm", current.getFullPath()));
         }
+        builder.add(QueryBuilders.termQuery("realm", realmDAO.getRoot().getFullPath()));
 
         return builder;
     }
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.jpa.entity.JPAPlainSchema;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttr;
+import org.apache.syncope.core.persistence.jpa.entity.user.JPAUPlainAttrValue;
+import org.elasticsearch.common.xcontent.XContentBuilder;
+import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.common.xcontent.XContentHelper;
+import org.junit.Test;
+
+public class ElasticsearchAnySearchDAOTest {
+
+    private static JPAPlainSchema schema(final AttrSchemaType type, final String conversionPattern) {
+        JPAPlainSchema schema = new JPAPlainSchema();
+        schema.setType(type);
+        schema.setConversionPattern(conversionPattern);
+        return schema;
+    }
+
+    private static PlainAttrValue value(final JPAPlainSchema schema) {
+        JPAUPlainAttr attr = new JPAUPlainAttr();
+        attr.setSchema(schema);
+
+        JPAUPlainAttrValue value = new JPAUPlainAttrValue();
+        value.setAttr(attr);
+        return value;
+    }
+
+    /**
+     * Indexes the given values as ElasticsearchUtils does, then reads them back as found in the document source.
+     */
+    private static Object indexed(final List<PlainAttrValue> values) throws IOException {
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject().
+                field("attr", values.stream().map(PlainAttrValue::getValue).collect(Collectors.toList())).
+                endObject();
+        return XContentHelper.convertToMap(builder.bytes(), false).v2().get("attr");
+    }
+
+    private static void check(final List<PlainAttrValue> values) throws IOException {
+        JPAPlainSchema schema = (JPAPlainSchema) values.get(0).getAttr().getSchema();
+        assertEquals(
+                values.stream().map(PlainAttrValue::getValueAsString).collect(Collectors.toList()),
+                ElasticsearchAnySearchDAO.getValuesAsStrings(schema, indexed(values)));
+    }
+
+    @Test
+    public void getValuesAsStrings() throws IOException {
+        JPAPlainSchema schema = schema(AttrSchemaType.String, null);
+        PlainAttrValue string1 = value(schema);
+        string1.setStringValue("one");
+        PlainAttrValue string2 = value(schema);
+        string2.setStringValue("two");
+        check(Arrays.asList(string1, string2));
+
+        schema = schema(AttrSchemaType.Long, null);
+        PlainAttrValue longValue = value(schema);
+        longValue.setLongValue(42L);
+        check(Arrays.asList(longValue));
+
+        schema = schema(AttrSchemaType.Long, "000000");
+        longValue = value(schema);
+        longValue.setLongValue(42L);
+        check(Arrays.asList(longValue));
+
+        schema = schema(AttrSchemaType.Double, "##0.00");
+        PlainAttrValue doubleValue = value(schema);
+        doubleValue.setDoubleValue(3.0);
+        check(Arrays.asList(doubleValue));
+
+        schema = schema(AttrSchemaType.Boolean, null);
+        PlainAttrValue booleanValue = value(schema);
+        booleanValue.setBooleanValue(true);
+        check(Arrays.asList(booleanValue));
+
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2009, Calendar.MAY, 26, 15, 40, 4);
+
+        schema = schema(AttrSchemaType.Date, "yyyy-MM-dd");
+        PlainAttrValue dateValue = value(schema);
+        dateValue.setDateValue(calendar.getTime());
+        check(Arrays.asList(dateValue));
+
+        schema = schema(AttrSchemaType.Date, null);
+        dateValue = value(schema);
+        dateValue.setDateValue(calendar.getTime());
+        check(Arrays.asList(dateValue));
+
+        schema = schema(AttrSchemaType.Binary, null);
+        PlainAttrValue binaryValue = value(schema);
+        binaryValue.setBinaryValue(new byte[] { 0, 1, 2, 3, (byte) 254, (byte) 255 });
+        check(Arrays.asList(binaryValue));
+    }
+}
@@ -18,35 +18,74 @@
  */
 package org.apache.syncope.core.provisioning.java.job;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
-import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
-import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.ext.elasticsearch.client.ElasticsearchUtils;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
 import org.elasticsearch.action.admin.indices.create.CreateIndexRequest;
 import org.elasticsearch.action.admin.indices.create.CreateIndexResponse;
 import org.elasticsearch.action.admin.indices.delete.DeleteIndexRequest;
-import org.elasticsearch.action.admin.indices.delete.DeleteIndexResponse;
 import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsRequest;
-import org.elasticsearch.action.admin.indices.exists.indices.IndicesExistsResponse;
-import org.elasticsearch.action.index.IndexResponse;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequestBuilder;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.client.Client;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.common.xcontent.XContentBuilder;
 import org.elasticsearch.common.xcontent.XContentFactory;
+import org.elasticsearch.index.query.QueryBuilders;
+import org.elasticsearch.search.SearchHit;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
- * Remove and rebuild all Elasticsearch indexes with information from existing users, groups and any objects.
+ * Rebuild all Elasticsearch indexes with information from existing users, groups and any objects.
+ *
+ * A new index is built for the current domain, while searches keep being served by the existing one; at the end,
+ * the domain alias is atomically moved to the new index and the old one is removed.
+ * Keys are read page by page via keyset pagination, while pages are loaded and sent to Elasticsearch as bulk
+ * requests by a pool of concurrent writers.
+ * Changes made while the new index is built are sent to the old one: entities changed since the rebuild started are
+ * indexed again before moving the alias, and once more afterwards, for changes made meanwhile; finally, entities
+ * deleted during the rebuild are removed from the new index.
  */
 public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate {
 
+    /**
+     * Margin applied when looking for entities changed since a given instant, to cope with clock differences among
+     * the nodes of a cluster.
+     */
+    private static final long CLOCK_SKEW_MARGIN = 60000L;
+
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
     @Autowired
     private Client client;
 
@@ -62,107 +101,290 @@ public class ElasticsearchReindex extends AbstractSchedTaskJobDelegate {
     @Autowired
     private AnyObjectDAO anyObjectDAO;
 
-    @Override
-    protected String doExecute(final boolean dryRun) throws JobExecutionException {
-        if (!dryRun) {
+    private final AtomicLong indexed = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private void createIndex(final String index) throws IOException, InterruptedException, ExecutionException {
+        XContentBuilder settings = XContentFactory.jsonBuilder().
+                startObject().
+                field("refresh_interval", "-1").
+                startObject("analysis").
+                startObject("analyzer").
+                startObject("string_lowercase").
+                field("type", "custom").
+                field("tokenizer", "standard").
+                field("filter").
+                startArray().
+                value("lowercase").
+                endArray().
+                endObject().
+                endObject().
+                endObject().
+                endObject();
+        XContentBuilder mapping = XContentFactory.jsonBuilder().
+                startObject().
+                startArray("dynamic_templates").
+                startObject().
+                startObject("strings").
+                field("match_mapping_type", "string").
+                startObject("mapping").
+                field("type", "keyword").
+                field("analyzer", "string_lowercase").
+                endObject().
+                endObject().
+                endObject().
+                endArray().
+                endObject();
+        CreateIndexResponse createIndexResponse = client.admin().indices().
+                create(new CreateIndexRequest(index).
+                        settings(settings).
+                        mapping(AnyTypeKind.USER.name(), mapping).
+                        mapping(AnyTypeKind.GROUP.name(), mapping).
+                        mapping(AnyTypeKind.ANY_OBJECT.name(), mapping)).
+                get();
+        LOG.debug("Successfully created {}: {}", index, createIndexResponse);
+    }
+
+    private void index(
+            final String domain,
+            final String index,
+            final AnyTypeKind kind,
+            final List<String> keys) {
+
+        AuthContextUtils.execWithAuthContext(domain, () -> {
+            Map<String, XContentBuilder> builders;
             try {
-                LOG.debug("Start rebuild index {}", AuthContextUtils.getDomain().toLowerCase());
-
-                IndicesExistsResponse existsIndexResponse = client.admin().indices().
-                        exists(new IndicesExistsRequest(AuthContextUtils.getDomain().toLowerCase())).
-                        get();
-                if (existsIndexResponse.isExists()) {
-                    DeleteIndexResponse deleteIndexResponse = client.admin().indices().
-                            delete(new DeleteIndexRequest(AuthContextUtils.getDomain().toLowerCase())).
-                            get();
-                    LOG.debug("Successfully removed {}: {}",
-                            AuthContextUtils.getDomain().toLowerCase(), deleteIndexResponse);
-                }
+                builders = elasticsearchUtils.builders(kind, keys);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (builders.isEmpty()) {
+                return null;
+            }
 
-                XContentBuilder settings = XContentFactory.jsonBuilder().
-                        startObject().
-                        startObject("analysis").
-                        startObject("analyzer").
-                        startObject("string_lowercase").
-                        field("type", "custom").
-                        field("tokenizer", "standard").
-                        field("filter").
-                        startArray().
-                        value("lowercase").
-                        endArray().
-                        endObject().
-                        endObject().
-                        endObject().
-                        endObject();
-                XContentBuilder mapping = XContentFactory.jsonBuilder().
-                        startObject().
-                        startArray("dynamic_templates").
-                        startObject().
-                        startObject("strings").
-                        field("match_mapping_type", "string").
-                        startObject("mapping").
-                        field("type", "keyword").
-                        field("analyzer", "string_lowercase").
-                        endObject().
-                        endObject().
-                        endObject().
-                        endArray().
-                        endObject();
-                CreateIndexResponse createIndexResponse = client.admin().indices().
-                        create(new CreateIndexRequest(AuthContextUtils.getDomain().toLowerCase()).
-                                settings(settings).
-                                mapping(AnyTypeKind.USER.name(), mapping).
-                                mapping(AnyTypeKind.GROUP.name(), mapping).
-                                mapping(AnyTypeKind.ANY_OBJECT.name(), mapping)).
-                        get();
-                LOG.debug("Successfully created {}: {}",
-                        AuthContextUtils.getDomain().toLowerCase(), createIndexResponse);
-
-                LOG.debug("Indexing users...");
-                for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (User user : userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexResponse response = client.prepareIndex(
-                                AuthContextUtils.getDomain().toLowerCase(),
-                                AnyTypeKind.USER.name(),
-                                user.getKey()).
-                                setSource(elasticsearchUtils.builder(user)).
-                                get();
-                        LOG.debug("Index successfully created for {}: {}", user, response);
-                    }
+            BulkRequestBuilder bulk = client.prepareBulk();
+            builders.forEach((key, builder) -> bulk.add(
+                    client.prepareIndex(index, kind.name(), key).setSource(builder)));
+            BulkResponse response = bulk.get();
+
+            for (BulkItemResponse item : response.getItems()) {
+                if (item.isFailed()) {
+                    failed.incrementAndGet();
+                    LOG.error("Could not index {} {}: {}", kind, item.getId(), item.getFailureMessage());
+                } else {
+                    indexed.incrementAndGet();
                 }
-                LOG.debug("Indexing groups...");
-                for (int page = 1; page <= (groupDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (Group group : groupDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexResponse response = client.prepareIndex(
-                                AuthContextUtils.getDomain().toLowerCase(),
-                                AnyTypeKind.GROUP.name(),
-                                group.getKey()).
-                                setSource(elasticsearchUtils.builder(group)).
-                                get();
-                        LOG.debug("Index successfully created for {}: {}", group, response);
-                    }
+            }
+            LOG.debug("Indexed {} {} in {}", builders.size(), kind, response.getTook());
+            return null;
+        });
+    }
+
+    private long index(
+            final String domain,
+            final String index,
+            final AnyTypeKind kind,
+            final Function<String, List<String>> nextKeys,
+            final ExecutorService writers,
+            final Semaphore inFlight) throws InterruptedException, ExecutionException {
+
+        LOG.debug("Indexing {}...", kind);
+        long before = indexed.get();
+
+        List<Future<?>> futures = new ArrayList<>();
+        List<String> keys = nextKeys.apply(null);
+        while (!keys.isEmpty()) {
+            List<String> page = keys;
+
+            inFlight.acquire();
+            futures.add(writers.submit(() -> {
+                try {
+                    index(domain, index, kind, page);
+                } finally {
+                    inFlight.release();
                 }
-                LOG.debug("Indexing any objects...");
-                for (int page = 1; page <= (anyObjectDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
-                    for (AnyObject anyObject : anyObjectDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
-                        IndexResponse response = client.prepareIndex(
-                                AuthContextUtils.getDomain().toLowerCase(),
-                                AnyTypeKind.ANY_OBJECT.name(),
-                                anyObject.getKey()).
-                                setSource(elasticsearchUtils.builder(anyObject)).
-                                get();
-                        LOG.debug("Index successfully created for {}: {}", anyObject, response);
-                    }
+            }));
+
+            keys = nextKeys.apply(page.get(page.size() - 1));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        return indexed.get() - before;
+    }
+
+    private long index(
+            final String domain,
+            final String index,
+            final AnyTypeKind kind,
+            final AnyDAO<?> anyDAO,
+            final ExecutorService writers,
+            final Semaphore inFlight) throws InterruptedException, ExecutionException {
+
+        return index(domain, index, kind,
+                lastKey -> anyDAO.findAllKeys(lastKey, elasticsearchUtils.getReindexBatchSize()),
+                writers, inFlight);
+    }
+
+    private long catchUp(
+            final String domain,
+            final String index,
+            final Date since,
+            final ExecutorService writers,
+            final Semaphore inFlight) throws InterruptedException, ExecutionException {
+
+        long changed = 0;
+        for (Pair<AnyTypeKind, AnyDAO<?>> pair : Arrays.<Pair<AnyTypeKind, AnyDAO<?>>>asList(
+                Pair.of(AnyTypeKind.USER, userDAO),
+                Pair.of(AnyTypeKind.GROUP, groupDAO),
+                Pair.of(AnyTypeKind.ANY_OBJECT, anyObjectDAO))) {
+
+            changed += index(domain, index, pair.getLeft(),
+                    lastKey -> pair.getRight().findChangedKeys(
+                            since, lastKey, elasticsearchUtils.getReindexBatchSize()),
+                    writers, inFlight);
+        }
+        LOG.debug("Indexed {} entities changed since {}", changed, since);
+        return changed;
+    }
+
+    /**
+     * Removes from the given index the entities deleted while it was being built; this is needed only when the index
+     * holds more entities than the database, which is cheap to find out.
+     */
+    private long purge(final String index, final AnyTypeKind kind, final AnyDAO<?> anyDAO) {
+        long inIndex = client.prepareSearch(index).setTypes(kind.name()).setSize(0).get().getHits().getTotalHits();
+        if (inIndex <= anyDAO.count()) {
+            return 0;
+        }
+
+        long purged = 0;
+        SearchResponse response = client.prepareSearch(index).setTypes(kind.name()).
+                setQuery(QueryBuilders.matchAllQuery()).setFetchSource(false).
+                setScroll(SCROLL_KEEP_ALIVE).setSize(elasticsearchUtils.getReindexBatchSize()).get();
+        try {
+            while (response.getHits().getHits().length > 0) {
+                List<String> keys = Arrays.stream(response.getHits().getHits()).
+                        map(SearchHit::getId).collect(Collectors.toList());
+                Set<String> missing = new HashSet<>(keys);
+                missing.removeAll(anyDAO.findKeysByField("key", keys).keySet());
+                if (!missing.isEmpty()) {
+                    BulkRequestBuilder bulk = client.prepareBulk();
+                    missing.forEach(key -> bulk.add(client.prepareDelete(index, kind.name(), key)));
+                    bulk.get();
+                    purged += missing.size();
                 }
 
-                LOG.debug("Rebuild index {} successfully completed", AuthContextUtils.getDomain().toLowerCase());
-            } catch (Exception e) {
-                throw new JobExecutionException(
-                        "While rebuilding index " + AuthContextUtils.getDomain().toLowerCase(), e);
+                response = client.prepareSearchScroll(response.getScrollId()).setScroll(SCROLL_KEEP_ALIVE).get();
             }
+        } finally {
+            client.prepareClearScroll().addScrollId(response.getScrollId()).get();
         }
 
-        return "SUCCESS";
+        LOG.debug("Removed {} {} deleted during rebuild from {}", purged, kind, index);
+        return purged;
+    }
+
+    private void swapAlias(final String alias, final String index)
+            throws InterruptedException, ExecutionException {
+
+        IndicesAliasesRequest request = new IndicesAliasesRequest();
+        List<String> previous = new ArrayList<>();
+
+        client.admin().indices().getAliases(new GetAliasesRequest(alias)).get().getAliases().
+                keysIt().forEachRemaining(previous::add);
+        if (previous.isEmpty()) {
+            if (client.admin().indices().exists(new IndicesExistsRequest(alias)).get().isExists()) {
+                // index built before aliases were introduced: replace it by the alias, atomically
+                request.addAliasAction(AliasActions.removeIndex().index(alias));
+            }
+        } else {
+            previous.forEach(old -> request.addAliasAction(AliasActions.remove().index(old).alias(alias)));
+        }
+        request.addAliasAction(AliasActions.add().index(index).alias(alias));
+
+        client.admin().indices().aliases(request).get();
+        LOG.debug("Alias {} now pointing to {}", alias, index);
+
+        if (!previous.isEmpty()) {
+            client.admin().indices().delete(new DeleteIndexRequest(previous.toArray(new String[previous.size()]))).
+                    get();
+            LOG.debug("Successfully removed {}", previous);
+        }
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun) throws JobExecutionException {
+        if (dryRun) {
+            return "SUCCESS";
+        }
+
+        String domain = AuthContextUtils.getDomain();
+        String alias = domain.toLowerCase();
+        String index = alias + "_" + System.currentTimeMillis();
+
+        ExecutorService writers = Executors.newFixedThreadPool(elasticsearchUtils.getReindexThreads());
+        boolean swapped = false;
+        try {
+            LOG.debug("Start rebuild index {} as {}", alias, index);
+            long start = System.currentTimeMillis();
+            Date rebuildStart = new Date(start - CLOCK_SKEW_MARGIN);
+
+            createIndex(index);
+
+            Semaphore inFlight = new Semaphore(elasticsearchUtils.getReindexThreads() * 2);
+            long users = index(domain, index, AnyTypeKind.USER, userDAO, writers, inFlight);
+            long groups = index(domain, index, AnyTypeKind.GROUP, groupDAO, writers, inFlight);
+            long anyObjects = index(domain, index, AnyTypeKind.ANY_OBJECT, anyObjectDAO, writers, inFlight);
+
+            // changes made meanwhile went to the old index
+            Date catchUpStart = new Date(System.currentTimeMillis() - CLOCK_SKEW_MARGIN);
+            long changed = catchUp(domain, index, rebuildStart, writers, inFlight);
+
+            if (failed.get() > 0) {
+                throw new JobExecutionException(
+                        "Could not index " + failed.get() + " entities, keeping " + alias + " unchanged");
+            }
+
+            client.admin().indices().prepareUpdateSettings(index).
+                    setSettings(Settings.builder().put("refresh_interval", "1s")).get();
+            client.admin().indices().prepareRefresh(index).get();
+
+            swapAlias(alias, index);
+            swapped = true;
+
+            // changes made during the first catch up went to the old index as well
+            changed += catchUp(domain, index, catchUpStart, writers, inFlight);
+            client.admin().indices().prepareRefresh(index).get();
+            long purged = purge(index, AnyTypeKind.USER, userDAO)
+                    + purge(index, AnyTypeKind.GROUP, groupDAO)
+                    + purge(index, AnyTypeKind.ANY_OBJECT, anyObjectDAO);
+
+            long elapsed = Math.max(1, System.currentTimeMillis() - start);
+            String result = String.format(
+                    "Rebuilt index %s as %s: %d users, %d groups, %d any objects in %d ms (%d entities/s); "
+                    + "%d changed and %d deleted meanwhile",
+                    alias, index, users, groups, anyObjects, elapsed, indexed.get() * 1000 / elapsed,
+                    changed, purged);
+            LOG.debug(result);
+            return result;
+        } catch (JobExecutionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new JobExecutionException("While rebuilding index " + alias, e);
+        } finally {
+            writers.shutdownNow();
+
+            if (!swapped) {
+                try {
+                    client.admin().indices().delete(new DeleteIndexRequest(index)).get();
+                } catch (Exception e) {
+                    LOG.error("While removing incomplete index {}", index, e);
+                }
+            }
+        }
     }
 
     @Override
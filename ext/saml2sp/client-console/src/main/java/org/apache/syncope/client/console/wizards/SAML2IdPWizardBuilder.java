@@ -121,6 +121,10 @@ public class SAML2IdPWizardBuilder extends AjaxWizardBuilder<SAML2IdPTO> {
                     "field", "supportUnsolicited", new PropertyModel<>(idpTO, "supportUnsolicited"), false);
             fields.add(supportUnsolicited);
 
+            AjaxCheckBoxPanel indexConnObjectKey = new AjaxCheckBoxPanel(
+                    "field", "indexConnObjectKey", new PropertyModel<>(idpTO, "indexConnObjectKey"), false);
+            fields.add(indexConnObjectKey);
+
             AjaxDropDownChoicePanel<SAML2BindingType> bindingType =
                     new AjaxDropDownChoicePanel<>("field", "bindingType",
                             new PropertyModel<>(idpTO, "bindingType"), false);
@@ -53,6 +53,8 @@ public class SAML2IdPTO extends AbstractBaseBean implements EntityTO, ItemContai
 
     private boolean supportUnsolicited;
 
+    private boolean indexConnObjectKey;
+
     private SAML2BindingType bindingType;
 
     private boolean logoutSupported;
@@ -197,4 +199,12 @@ public class SAML2IdPTO extends AbstractBaseBean implements EntityTO, ItemContai
         this.supportUnsolicited = supportUnsolicited;
     }
 
+    public boolean isIndexConnObjectKey() {
+        return indexConnObjectKey;
+    }
+
+    public void setIndexConnObjectKey(final boolean indexConnObjectKey) {
+        this.indexConnObjectKey = indexConnObjectKey;
+    }
+
 }
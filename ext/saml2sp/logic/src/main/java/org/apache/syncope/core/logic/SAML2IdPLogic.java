@@ -26,6 +26,7 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
@@ -42,7 +43,9 @@ import org.apache.syncope.core.logic.saml2.SAML2IdPEntity;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.SAML2IdPDAO;
 import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdPItem;
 import org.apache.syncope.core.provisioning.api.data.SAML2IdPDataBinder;
+import org.apache.syncope.core.provisioning.java.SAML2UserIndexManager;
 import org.apache.wss4j.common.saml.OpenSAMLUtil;
 import org.opensaml.saml.common.xml.SAMLConstants;
 import org.opensaml.saml.saml2.metadata.EntitiesDescriptor;
@@ -74,6 +77,9 @@ public class SAML2IdPLogic extends AbstractSAML2Logic<SAML2IdPTO> {
     @Autowired
     private SAML2ReaderWriter saml2rw;
 
+    @Autowired
+    private SAML2UserIndexManager userIndexManager;
+
     @PreAuthorize("isAuthenticated()")
     public Set<String> getActionsClasses() {
         return implLookup.getActionsClasses();
@@ -186,6 +192,9 @@ public class SAML2IdPLogic extends AbstractSAML2Logic<SAML2IdPTO> {
         try {
             for (SAML2IdPTO idpTO : importIdPs(input)) {
                 SAML2IdP idp = idpDAO.save(binder.create(idpTO));
+                if (idp.isIndexConnObjectKey()) {
+                    userIndexManager.rebuild(idp);
+                }
                 imported.add(idp.getKey());
             }
         } catch (SyncopeClientException e) {
@@ -200,6 +209,15 @@ public class SAML2IdPLogic extends AbstractSAML2Logic<SAML2IdPTO> {
         return imported;
     }
 
+    private static boolean sameConnObjectKeyItem(final SAML2IdP idp, final SAML2IdPTO idpTO) {
+        Optional<? extends SAML2IdPItem> item = idp.getConnObjectKeyItem();
+        ItemTO itemTO = idpTO.getConnObjectKeyItem();
+
+        return item.isPresent() && itemTO != null
+                && item.get().getIntAttrName().equals(itemTO.getIntAttrName())
+                && item.get().getTransformerClassNames().equals(itemTO.getTransformerClassNames());
+    }
+
     @PreAuthorize("hasRole('" + SAML2SPEntitlement.IDP_UPDATE + "')")
     public void update(final SAML2IdPTO saml2IdpTO) {
         check();
@@ -226,8 +244,16 @@ public class SAML2IdPLogic extends AbstractSAML2Logic<SAML2IdPTO> {
             throw sce;
         }
 
+        boolean reindex = saml2Idp.isIndexConnObjectKey()
+                ? !saml2IdpTO.isIndexConnObjectKey() || !sameConnObjectKeyItem(saml2Idp, saml2IdpTO)
+                : saml2IdpTO.isIndexConnObjectKey();
+
         saml2Idp = idpDAO.save(binder.update(saml2Idp, saml2IdpTO));
 
+        if (reindex) {
+            userIndexManager.rebuild(saml2Idp);
+        }
+
         idpEntity.setIdpTO(binder.getIdPTO(saml2Idp));
     }
 
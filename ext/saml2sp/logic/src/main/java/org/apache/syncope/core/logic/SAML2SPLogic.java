@@ -481,7 +481,7 @@ public class SAML2SPLogic extends AbstractSAML2Logic<AbstractBaseBean> {
 
         final List<String> matchingUsers = keyValue == null
                 ? Collections.<String>emptyList()
-                : userManager.findMatchingUser(keyValue, idp.getConnObjectKeyItem());
+                : userManager.findMatchingUser(keyValue, idp);
         LOG.debug("Found {} matching users for {}", matchingUsers.size(), keyValue);
 
         String username;
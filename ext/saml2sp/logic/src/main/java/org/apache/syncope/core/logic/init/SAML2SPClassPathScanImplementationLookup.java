@@ -26,9 +26,6 @@ import org.apache.syncope.core.persistence.api.ImplementationLookup;
 import org.apache.syncope.core.persistence.api.SyncopeLoader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.config.BeanDefinition;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ClassUtils;
 import org.apache.syncope.core.provisioning.api.SAML2IdPActions;
@@ -51,20 +48,18 @@ public class SAML2SPClassPathScanImplementationLookup implements SyncopeLoader {
     public void load() {
         actionsClasses = new HashSet<>();
 
-        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
-        scanner.addIncludeFilter(new AssignableTypeFilter(SAML2IdPActions.class));
+        Set<String> candidates = ImplementationCandidates.find(DEFAULT_BASE_PACKAGE, SAML2IdPActions.class);
 
-        for (BeanDefinition bd : scanner.findCandidateComponents(DEFAULT_BASE_PACKAGE)) {
+        for (String className : candidates) {
             try {
-                Class<?> clazz = ClassUtils.resolveClassName(
-                        bd.getBeanClassName(), ClassUtils.getDefaultClassLoader());
+                Class<?> clazz = ClassUtils.resolveClassName(className, ClassUtils.getDefaultClassLoader());
                 boolean isAbstractClazz = Modifier.isAbstract(clazz.getModifiers());
 
                 if (SAML2IdPActions.class.isAssignableFrom(clazz) && !isAbstractClazz) {
                     actionsClasses.add(clazz.getName());
                 }
             } catch (Throwable t) {
-                LOG.warn("Could not inspect class {}", bd.getBeanClassName(), t);
+                LOG.warn("Could not inspect class {}", className, t);
             }
         }
 
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.init;
+
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.SyncopeLoader;
+import org.apache.syncope.core.persistence.api.dao.SAML2UserIndexDAO;
+import org.apache.syncope.core.provisioning.java.SAML2UserIndexManager;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds, for each domain, the user indexes of SAML 2.0 IdPs which have indexing enabled but no entries yet.
+ */
+@Component
+public class SAML2UserIndexLoader implements SyncopeLoader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SAML2UserIndexLoader.class);
+
+    @Autowired
+    private SAML2UserIndexManager userIndexManager;
+
+    @Autowired
+    private SAML2UserIndexDAO userIndexDAO;
+
+    @Override
+    public Integer getPriority() {
+        return 1100;
+    }
+
+    @Override
+    public void load(final String domain, final DataSource datasource) {
+        AuthContextUtils.execWithAuthContext(domain, () -> {
+            userIndexManager.getIndexedIdPs().stream().
+                    filter(idp -> userIndexDAO.count(idp) == 0).
+                    forEach(idp -> {
+                        try {
+                            userIndexManager.rebuild(idp);
+                        } catch (Exception e) {
+                            LOG.error("While building user index for {}", idp.getEntityID(), e);
+                        }
+                    });
+            return null;
+        });
+    }
+}
@@ -141,6 +141,10 @@ public class SAML2IdPEntity {
         return idpTO.isSupportUnsolicited();
     }
 
+    public boolean isIndexConnObjectKey() {
+        return idpTO.isIndexConnObjectKey();
+    }
+
     public SAML2BindingType getBindingType() {
         return idpTO.getBindingType();
     }
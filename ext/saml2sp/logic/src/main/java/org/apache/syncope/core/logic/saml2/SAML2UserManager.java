@@ -36,10 +36,12 @@ import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.SAML2IdPDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
 import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
@@ -48,6 +50,7 @@ import org.apache.syncope.core.provisioning.api.UserProvisioningManager;
 import org.apache.syncope.core.provisioning.api.data.ItemTransformer;
 import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
 import org.apache.syncope.core.provisioning.java.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.java.SAML2UserIndexManager;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.apache.syncope.core.provisioning.java.utils.TemplateUtils;
 import org.apache.syncope.core.spring.ApplicationContextProvider;
@@ -70,6 +73,12 @@ public class SAML2UserManager {
     @Autowired
     private PlainSchemaDAO plainSchemaDAO;
 
+    @Autowired
+    private SAML2IdPDAO idpDAO;
+
+    @Autowired
+    private SAML2UserIndexManager userIndexManager;
+
     @Autowired
     private IntAttrNameParser intAttrNameParser;
 
@@ -86,9 +95,11 @@ public class SAML2UserManager {
     private UserDataBinder binder;
 
     @Transactional(readOnly = true)
-    public List<String> findMatchingUser(final String keyValue, final ItemTO connObjectKeyItem) {
+    public List<String> findMatchingUser(final String keyValue, final SAML2IdPEntity idp) {
         List<String> result = new ArrayList<>();
 
+        ItemTO connObjectKeyItem = idp.getConnObjectKeyItem();
+
         String transformed = keyValue;
         for (ItemTransformer transformer : MappingUtils.getItemTransformers(connObjectKeyItem)) {
             List<Object> output = transformer.beforePull(
@@ -100,6 +111,17 @@ public class SAML2UserManager {
             }
         }
 
+        if (idp.isIndexConnObjectKey()) {
+            SAML2IdP saml2IdP = idpDAO.findByEntityID(idp.getId());
+            if (saml2IdP != null) {
+                userIndexManager.findUserKeys(saml2IdP, transformed).stream().
+                        map(userKey -> userDAO.find(userKey)).
+                        filter(user -> user != null).
+                        forEach(user -> result.add(user.getUsername()));
+                return result;
+            }
+        }
+
         IntAttrName intAttrName = intAttrNameParser.parse(connObjectKeyItem.getIntAttrName(), AnyTypeKind.USER);
 
         if (intAttrName.getField() != null) {
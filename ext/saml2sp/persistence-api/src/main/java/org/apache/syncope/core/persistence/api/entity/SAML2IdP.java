@@ -53,6 +53,10 @@ public interface SAML2IdP extends Entity {
 
     void setSupportUnsolicited(boolean supportUnsolicited);
 
+    boolean isIndexConnObjectKey();
+
+    void setIndexConnObjectKey(boolean indexConnObjectKey);
+
     SAML2BindingType getBindingType();
 
     void setBindingType(SAML2BindingType bindingType);
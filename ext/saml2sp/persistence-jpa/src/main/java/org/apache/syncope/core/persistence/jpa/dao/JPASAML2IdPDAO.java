@@ -21,15 +21,24 @@ package org.apache.syncope.core.persistence.jpa.dao;
 import java.util.List;
 import javax.persistence.NoResultException;
 import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
 import org.apache.syncope.core.persistence.api.dao.SAML2IdPDAO;
+import org.apache.syncope.core.persistence.api.dao.SAML2UserIndexDAO;
 import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
 import org.apache.syncope.core.persistence.jpa.entity.JPASAML2IdP;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public class JPASAML2IdPDAO extends AbstractDAO<SAML2IdP> implements SAML2IdPDAO {
 
+    @Autowired
+    private SAML2UserIndexDAO userIndexDAO;
+
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
     @Transactional(readOnly = true)
     @Override
     public SAML2IdP find(final String key) {
@@ -63,6 +72,8 @@ public class JPASAML2IdPDAO extends AbstractDAO<SAML2IdP> implements SAML2IdPDAO
 
     @Override
     public SAML2IdP save(final SAML2IdP idp) {
+        // IdPs with user index enabled are cached by SAML2UserIndexManager
+        schemaMetadataCache.invalidate();
         return entityManager().merge(idp);
     }
 
@@ -70,6 +81,8 @@ public class JPASAML2IdPDAO extends AbstractDAO<SAML2IdP> implements SAML2IdPDAO
     public void delete(final String key) {
         SAML2IdP idp = find(key);
         if (idp != null) {
+            schemaMetadataCache.invalidate();
+            userIndexDAO.deleteByIdP(idp);
             entityManager().remove(idp);
         }
     }
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.List;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import org.apache.syncope.core.persistence.api.dao.SAML2UserIndexDAO;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
+import org.apache.syncope.core.persistence.api.entity.SAML2UserIndexEntry;
+import org.apache.syncope.core.persistence.jpa.entity.JPASAML2UserIndexEntry;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public class JPASAML2UserIndexDAO extends AbstractDAO<SAML2UserIndexEntry> implements SAML2UserIndexDAO {
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findUserKeys(final SAML2IdP idp, final String keyValue) {
+        TypedQuery<String> query = entityManager().createQuery(
+                "SELECT DISTINCT e.userKey FROM " + JPASAML2UserIndexEntry.class.getSimpleName()
+                + " e WHERE e.idp=:idp AND e.keyValue=:keyValue", String.class);
+        query.setParameter("idp", idp);
+        query.setParameter("keyValue", keyValue);
+        return query.getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<SAML2UserIndexEntry> findByUser(final SAML2IdP idp, final String userKey) {
+        TypedQuery<SAML2UserIndexEntry> query = entityManager().createQuery(
+                "SELECT e FROM " + JPASAML2UserIndexEntry.class.getSimpleName()
+                + " e WHERE e.idp=:idp AND e.userKey=:userKey", SAML2UserIndexEntry.class);
+        query.setParameter("idp", idp);
+        query.setParameter("userKey", userKey);
+        return query.getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public int count(final SAML2IdP idp) {
+        Query query = entityManager().createQuery(
+                "SELECT COUNT(e) FROM " + JPASAML2UserIndexEntry.class.getSimpleName() + " e WHERE e.idp=:idp");
+        query.setParameter("idp", idp);
+        return ((Number) query.getSingleResult()).intValue();
+    }
+
+    @Override
+    public SAML2UserIndexEntry save(final SAML2UserIndexEntry entry) {
+        return entityManager().merge(entry);
+    }
+
+    @Override
+    public void delete(final SAML2UserIndexEntry entry) {
+        entityManager().remove(entry);
+    }
+
+    @Override
+    public void deleteByUser(final String userKey) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPASAML2UserIndexEntry.class.getSimpleName() + " e WHERE e.userKey=:userKey");
+        query.setParameter("userKey", userKey);
+        query.executeUpdate();
+    }
+
+    @Override
+    public void deleteByIdP(final SAML2IdP idp) {
+        Query query = entityManager().createQuery(
+                "DELETE FROM " + JPASAML2UserIndexEntry.class.getSimpleName() + " e WHERE e.idp=:idp");
+        query.setParameter("idp", idp);
+        query.executeUpdate();
+    }
+
+}
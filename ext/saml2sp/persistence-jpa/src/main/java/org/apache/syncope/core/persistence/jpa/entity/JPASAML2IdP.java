@@ -88,6 +88,13 @@ public class JPASAML2IdP extends AbstractGeneratedKeyEntity implements SAML2IdP
     @Column(nullable = false)
     private Integer supportUnsolicited;
 
+    /**
+     * Nullable, so that IdPs defined before this column was introduced read as not indexed.
+     */
+    @Min(0)
+    @Max(1)
+    private Integer indexConnObjectKey;
+
     @Column(nullable = false)
     private SAML2BindingType bindingType;
 
@@ -171,6 +178,16 @@ public class JPASAML2IdP extends AbstractGeneratedKeyEntity implements SAML2IdP
         this.supportUnsolicited = getBooleanAsInteger(supportUnsolicited);
     }
 
+    @Override
+    public boolean isIndexConnObjectKey() {
+        return isBooleanAsInteger(indexConnObjectKey);
+    }
+
+    @Override
+    public void setIndexConnObjectKey(final boolean indexConnObjectKey) {
+        this.indexConnObjectKey = getBooleanAsInteger(indexConnObjectKey);
+    }
+
     @Override
     public SAML2BindingType getBindingType() {
         return bindingType;
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
+import org.apache.syncope.core.persistence.api.entity.SAML2UserIndexEntry;
+
+@Entity
+@Table(name = JPASAML2UserIndexEntry.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "idp_id", "keyValue", "userKey" }))
+public class JPASAML2UserIndexEntry extends AbstractGeneratedKeyEntity implements SAML2UserIndexEntry {
+
+    private static final long serialVersionUID = 4125386409567285211L;
+
+    public static final String TABLE = "SAML2UserIndexEntry";
+
+    @ManyToOne(optional = false)
+    private JPASAML2IdP idp;
+
+    @Column(nullable = false)
+    private String keyValue;
+
+    @Column(nullable = false)
+    private String userKey;
+
+    @Override
+    public SAML2IdP getIdP() {
+        return idp;
+    }
+
+    @Override
+    public void setIdP(final SAML2IdP idp) {
+        checkType(idp, JPASAML2IdP.class);
+        this.idp = (JPASAML2IdP) idp;
+    }
+
+    @Override
+    public String getKeyValue() {
+        return keyValue;
+    }
+
+    @Override
+    public void setKeyValue(final String keyValue) {
+        this.keyValue = keyValue;
+    }
+
+    @Override
+    public String getUserKey() {
+        return userKey;
+    }
+
+    @Override
+    public void setUserKey(final String userKey) {
+        this.userKey = userKey;
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.SchemaType;
+import org.apache.syncope.core.persistence.api.attrvalue.validation.ParsingValidationException;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.SAML2IdPDAO;
+import org.apache.syncope.core.persistence.api.dao.SAML2UserIndexDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.Any;
+import org.apache.syncope.core.persistence.api.entity.DerSchema;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.SAML2EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdPItem;
+import org.apache.syncope.core.persistence.api.entity.SAML2UserIndexEntry;
+import org.apache.syncope.core.persistence.api.entity.user.UPlainAttr;
+import org.apache.syncope.core.persistence.api.entity.user.UPlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.apache.syncope.core.provisioning.api.event.AnyCreatedUpdatedEvent;
+import org.apache.syncope.core.provisioning.api.event.AnyDeletedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Maintains, for SAML 2.0 IdPs requiring it, the index from connObjectKey values to user keys, so that matching users
+ * upon login does not require to evaluate derived attributes or to query attribute values.
+ * The index is kept aligned within the same transaction saving or deleting the users.
+ */
+@Component
+public class SAML2UserIndexManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SAML2UserIndexManager.class);
+
+    /**
+     * Number of users read at once while rebuilding an index.
+     */
+    private static final int REBUILD_PAGE_SIZE = 100;
+
+    @Autowired
+    private SAML2IdPDAO idpDAO;
+
+    @Autowired
+    private SAML2UserIndexDAO userIndexDAO;
+
+    @Autowired
+    private SAML2EntityFactory saml2EntityFactory;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    @Autowired
+    private PlainSchemaDAO plainSchemaDAO;
+
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private IntAttrNameParser intAttrNameParser;
+
+    @Autowired
+    private DerAttrHandler derAttrHandler;
+
+    @Autowired
+    private SchemaMetadataCache schemaMetadataCache;
+
+    private Optional<IntAttrName> getIntAttrName(final SAML2IdP idp) {
+        Optional<? extends SAML2IdPItem> connObjectKeyItem = idp.getConnObjectKeyItem();
+        return connObjectKeyItem.isPresent()
+                ? Optional.of(intAttrNameParser.parse(connObjectKeyItem.get().getIntAttrName(), AnyTypeKind.USER))
+                : Optional.empty();
+    }
+
+    /**
+     * Returns the values to be indexed for the given user, according to the connObjectKey item of the given IdP.
+     *
+     * @param idp SAML 2.0 IdP
+     * @param user user
+     * @return values to be indexed
+     */
+    @Transactional(readOnly = true)
+    public Set<String> getKeyValues(final SAML2IdP idp, final User user) {
+        return getKeyValues(getIntAttrName(idp), user);
+    }
+
+    private Set<String> getKeyValues(final Optional<IntAttrName> intAttrName, final User user) {
+        if (!intAttrName.isPresent()) {
+            return Collections.emptySet();
+        }
+
+        Set<String> result = new HashSet<>();
+        if (intAttrName.get().getField() != null) {
+            switch (intAttrName.get().getField()) {
+                case "key":
+                    result.add(user.getKey());
+                    break;
+
+                case "username":
+                    result.add(user.getUsername());
+                    break;
+
+                default:
+                    LOG.warn("Unsupported: {}", intAttrName.get().getField());
+            }
+        } else if (intAttrName.get().getSchemaType() != null) {
+            switch (intAttrName.get().getSchemaType()) {
+                case PLAIN:
+                    Optional<? extends UPlainAttr> attr = user.getPlainAttr(intAttrName.get().getSchemaName());
+                    if (attr.isPresent()) {
+                        result.addAll(attr.get().getValuesAsStrings());
+                    }
+                    break;
+
+                case DERIVED:
+                    DerSchema derSchema = derSchemaDAO.find(intAttrName.get().getSchemaName());
+                    if (derSchema != null) {
+                        String value = derAttrHandler.getValue(user, derSchema);
+                        if (value != null) {
+                            result.add(value);
+                        }
+                    }
+                    break;
+
+                default:
+                    LOG.warn("Unsupported: {} {}",
+                            intAttrName.get().getSchemaType(), intAttrName.get().getSchemaName());
+            }
+        }
+
+        return result;
+    }
+
+    private String normalize(final IntAttrName intAttrName, final String keyValue) {
+        String normalized = keyValue;
+
+        if (intAttrName.getSchemaType() == SchemaType.PLAIN) {
+            PlainSchema schema = plainSchemaDAO.find(intAttrName.getSchemaName());
+            if (schema != null) {
+                PlainAttrValue value = entityFactory.newEntity(UPlainAttrValue.class);
+                try {
+                    value.parseValue(schema, keyValue);
+                    normalized = value.getValueAsString(schema.getType());
+                } catch (ParsingValidationException e) {
+                    LOG.error("While parsing provided key value {}", keyValue, e);
+                }
+            }
+        }
+
+        return normalized;
+    }
+
+    /**
+     * Finds the keys of users matching the given value, according to the connObjectKey item of the given IdP.
+     *
+     * @param idp SAML 2.0 IdP
+     * @param keyValue value received from the IdP, after transformation
+     * @return keys of matching users
+     */
+    @Transactional(readOnly = true)
+    public List<String> findUserKeys(final SAML2IdP idp, final String keyValue) {
+        Optional<IntAttrName> intAttrName = getIntAttrName(idp);
+        return intAttrName.isPresent()
+                ? userIndexDAO.findUserKeys(idp, normalize(intAttrName.get(), keyValue))
+                : Collections.emptyList();
+    }
+
+    /**
+     * Aligns the index entries for the given user.
+     *
+     * @param idp SAML 2.0 IdP
+     * @param user user
+     * @return whether any index entry was added or removed
+     */
+    @Transactional
+    public boolean index(final SAML2IdP idp, final User user) {
+        Set<String> keyValues = getKeyValues(idp, user);
+
+        boolean changed = false;
+        for (SAML2UserIndexEntry entry : userIndexDAO.findByUser(idp, user.getKey())) {
+            if (!keyValues.remove(entry.getKeyValue())) {
+                userIndexDAO.delete(entry);
+                changed = true;
+            }
+        }
+        if (!keyValues.isEmpty()) {
+            add(idp, user.getKey(), keyValues);
+            changed = true;
+        }
+
+        return changed;
+    }
+
+    private List<SAML2UserIndexEntry> add(final SAML2IdP idp, final String userKey, final Set<String> keyValues) {
+        return keyValues.stream().map(keyValue -> {
+            SAML2UserIndexEntry entry = saml2EntityFactory.newEntity(SAML2UserIndexEntry.class);
+            entry.setIdP(idp);
+            entry.setKeyValue(keyValue);
+            entry.setUserKey(userKey);
+            return userIndexDAO.save(entry);
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Removes all index entries for the given IdP and builds them again from existing users.
+     *
+     * @param idp SAML 2.0 IdP
+     * @return number of users indexed
+     */
+    @Transactional
+    public int rebuild(final SAML2IdP idp) {
+        LOG.debug("Rebuilding user index for {}", idp.getEntityID());
+
+        userIndexDAO.deleteByIdP(idp);
+
+        int indexed = 0;
+        if (idp.isIndexConnObjectKey()) {
+            Optional<IntAttrName> intAttrName = getIntAttrName(idp);
+
+            // all entries were just removed, hence there is nothing to compare with: users are read via keyset
+            // pagination and their entries are simply added
+            List<String> keys;
+            String lastKey = null;
+            do {
+                keys = userDAO.findAllKeys(lastKey, REBUILD_PAGE_SIZE);
+                if (!keys.isEmpty()) {
+                    List<User> users = userDAO.findByKeys(keys);
+                    List<SAML2UserIndexEntry> entries = new ArrayList<>();
+                    for (User user : users) {
+                        entries.addAll(add(idp, user.getKey(), getKeyValues(intAttrName, user)));
+                        indexed++;
+                    }
+
+                    // the whole rebuild is a single transaction, so that logins never see a partial index:
+                    // once written, entries and users of this page are detached, to keep the persistence context
+                    // small; the IdP and any other entity of the caller are left untouched
+                    userIndexDAO.flush();
+                    entries.forEach(userIndexDAO::detach);
+                    users.forEach(userDAO::detach);
+
+                    lastKey = keys.get(keys.size() - 1);
+                }
+            } while (keys.size() == REBUILD_PAGE_SIZE);
+        }
+
+        LOG.debug("User index for {} rebuilt: {} users indexed", idp.getEntityID(), indexed);
+        return indexed;
+    }
+
+    /**
+     * Read at every user save: the keys of the IdPs for which the user index is enabled are cached, and discarded
+     * whenever any IdP is saved or deleted.
+     *
+     * @return IdPs for which the user index is enabled
+     */
+    @Transactional(readOnly = true)
+    public List<SAML2IdP> getIndexedIdPs() {
+        List<String> keys = schemaMetadataCache.get("saml2IdPs", "indexed", () -> Collections.unmodifiableList(
+                idpDAO.findAll().stream().
+                        filter(idp -> idp.isIndexConnObjectKey() && idp.getConnObjectKeyItem().isPresent()).
+                        map(SAML2IdP::getKey).
+                        collect(Collectors.toList())));
+
+        return keys.stream().map(idpDAO::find).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void after(final AnyCreatedUpdatedEvent<Any<?>> event) {
+        if (event.getAny() instanceof User) {
+            getIndexedIdPs().forEach(idp -> index(idp, (User) event.getAny()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void after(final AnyDeletedEvent event) {
+        if (event.getAnyTypeKind() == AnyTypeKind.USER) {
+            userIndexDAO.deleteByUser(event.getAnyKey());
+        }
+    }
+}
@@ -169,6 +169,7 @@ public class SAML2IdPDataBinderImpl implements SAML2IdPDataBinder {
         idp.setUpdateMatching(idpTO.isUpdateMatching());
         idp.setUseDeflateEncoding(idpTO.isUseDeflateEncoding());
         idp.setSupportUnsolicited(idpTO.isSupportUnsolicited());
+        idp.setIndexConnObjectKey(idpTO.isIndexConnObjectKey());
         idp.setBindingType(idpTO.getBindingType());
 
         if (idpTO.getUserTemplate() == null) {
@@ -226,6 +227,7 @@ public class SAML2IdPDataBinderImpl implements SAML2IdPDataBinder {
         idpTO.setName(idp.getName());
         idpTO.setUseDeflateEncoding(idp.isUseDeflateEncoding());
         idpTO.setSupportUnsolicited(idp.isSupportUnsolicited());
+        idpTO.setIndexConnObjectKey(idp.isIndexConnObjectKey());
         idpTO.setBindingType(idp.getBindingType());
         idpTO.setCreateUnmatching(idp.isCreateUnmatching());
         idpTO.setUpdateMatching(idp.isUpdateMatching());
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
+import org.apache.syncope.core.persistence.api.dao.SAML2UserIndexDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.java.SAML2UserIndexManager;
+import org.quartz.JobExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Check the SAML 2.0 user indexes against existing users: in dry run mode, only report missing, stale and orphan
+ * entries; otherwise, rebuild all indexes.
+ */
+public class SAML2UserReindex extends AbstractSchedTaskJobDelegate {
+
+    @Autowired
+    private SAML2UserIndexManager userIndexManager;
+
+    @Autowired
+    private SAML2UserIndexDAO userIndexDAO;
+
+    @Autowired
+    private UserDAO userDAO;
+
+    private String check(final SAML2IdP idp) {
+        int expected = 0;
+        int missing = 0;
+        int stale = 0;
+        for (int page = 1; page <= (userDAO.count() / AnyDAO.DEFAULT_PAGE_SIZE) + 1; page++) {
+            for (User user : userDAO.findAll(page, AnyDAO.DEFAULT_PAGE_SIZE)) {
+                Set<String> keyValues = userIndexManager.getKeyValues(idp, user);
+                expected += keyValues.size();
+
+                Set<String> indexed = userIndexDAO.findByUser(idp, user.getKey()).stream().
+                        map(entry -> entry.getKeyValue()).collect(Collectors.toSet());
+                missing += keyValues.stream().filter(keyValue -> !indexed.contains(keyValue)).count();
+                stale += indexed.stream().filter(keyValue -> !keyValues.contains(keyValue)).count();
+            }
+        }
+        int orphan = userIndexDAO.count(idp) - (expected - missing) - stale;
+
+        return idp.getEntityID() + ": " + missing + " missing, " + stale + " stale, " + orphan + " orphan";
+    }
+
+    @Override
+    protected String doExecute(final boolean dryRun) throws JobExecutionException {
+        StringBuilder result = new StringBuilder();
+
+        for (SAML2IdP idp : userIndexManager.getIndexedIdPs()) {
+            try {
+                if (dryRun) {
+                    result.append(check(idp)).append('\n');
+                } else {
+                    result.append(idp.getEntityID()).append(": ").
+                            append(userIndexManager.rebuild(idp)).append(" users indexed\n");
+                }
+            } catch (Exception e) {
+                throw new JobExecutionException("While processing user index for " + idp.getEntityID(), e);
+            }
+        }
+
+        return result.length() == 0 ? "SUCCESS" : result.toString();
+    }
+
+    @Override
+    protected boolean hasToBeRegistered(final TaskExec execution) {
+        return true;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.cache.SchemaMetadataCache;
+import org.apache.syncope.core.persistence.api.dao.SAML2IdPDAO;
+import org.apache.syncope.core.persistence.api.dao.SAML2UserIndexDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.SAML2EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdP;
+import org.apache.syncope.core.persistence.api.entity.SAML2IdPItem;
+import org.apache.syncope.core.persistence.api.entity.SAML2UserIndexEntry;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.IntAttrName;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class SAML2UserIndexManagerTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> reference, final Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(
+                SAML2UserIndexManagerTest.class.getClassLoader(),
+                new Class<?>[] { reference },
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("set") && args != null && args.length == 1) {
+                        values.put(method.getName().substring(3), args[0]);
+                        return null;
+                    }
+                    if (method.getName().startsWith("get") || method.getName().startsWith("is")) {
+                        return values.get(method.getName().substring(method.getName().startsWith("is") ? 2 : 3));
+                    }
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == args[0];
+                    }
+                    return null;
+                });
+    }
+
+    private final Map<String, String> usernames = new TreeMap<>();
+
+    private final List<String> lastKeys = new ArrayList<>();
+
+    private final List<SAML2UserIndexEntry> entries = new ArrayList<>();
+
+    private int findByUserCalls;
+
+    private int detachedUsers;
+
+    private int flushes;
+
+    private int findAllIdPCalls;
+
+    private final Map<String, Object> cached = new HashMap<>();
+
+    private SAML2IdP idp;
+
+    private SAML2UserIndexManager manager;
+
+    private User user(final String key) {
+        Map<String, Object> values = new HashMap<>();
+        values.put("Key", key);
+        values.put("Username", usernames.get(key));
+        return stub(User.class, values);
+    }
+
+    @Before
+    public void setUp() {
+        Map<String, Object> itemValues = new HashMap<>();
+        itemValues.put("IntAttrName", "username");
+        SAML2IdPItem item = stub(SAML2IdPItem.class, itemValues);
+
+        Map<String, Object> idpValues = new HashMap<>();
+        idpValues.put("Key", "idp");
+        idpValues.put("EntityID", "https://idp.example.org");
+        idpValues.put("IndexConnObjectKey", true);
+        idpValues.put("ConnObjectKeyItem", Optional.of(item));
+        idp = stub(SAML2IdP.class, idpValues);
+
+        UserDAO userDAO = (UserDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { UserDAO.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAllKeys":
+                            String lastKey = (String) args[0];
+                            lastKeys.add(lastKey);
+                            return usernames.keySet().stream().
+                                    filter(key -> lastKey == null || key.compareTo(lastKey) > 0).
+                                    limit((Integer) args[1]).
+                                    collect(Collectors.toList());
+
+                        case "findByKeys":
+                            return ((Collection<?>) args[0]).stream().
+                                    map(key -> user((String) key)).
+                                    collect(Collectors.toList());
+
+                        case "detach":
+                            detachedUsers++;
+                            return null;
+
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        SAML2UserIndexDAO userIndexDAO = (SAML2UserIndexDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { SAML2UserIndexDAO.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findByUser":
+                            findByUserCalls++;
+                            return entries.stream().
+                                    filter(entry -> entry.getUserKey().equals(args[1])).
+                                    collect(Collectors.toList());
+
+                        case "save":
+                            entries.add((SAML2UserIndexEntry) args[0]);
+                            return args[0];
+
+                        case "delete":
+                            entries.remove((SAML2UserIndexEntry) args[0]);
+                            return null;
+
+                        case "deleteByIdP":
+                            entries.clear();
+                            return null;
+
+                        case "flush":
+                            flushes++;
+                            return null;
+
+                        case "detach":
+                            return null;
+
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        SAML2EntityFactory entityFactory = (SAML2EntityFactory) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { SAML2EntityFactory.class },
+                (proxy, method, args) -> stub((Class<?>) args[0], new HashMap<>()));
+
+        SAML2IdPDAO idpDAO = (SAML2IdPDAO) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class<?>[] { SAML2IdPDAO.class },
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findAll":
+                            findAllIdPCalls++;
+                            return Collections.singletonList(idp);
+
+                        case "find":
+                            return args[0].equals(idp.getKey()) ? idp : null;
+
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+
+        SchemaMetadataCache schemaMetadataCache = new SchemaMetadataCache() {
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public <V> V get(final String region, final String key, final Supplier<V> loader) {
+                return (V) cached.computeIfAbsent(region + '|' + key, k -> loader.get());
+            }
+
+            @Override
+            public void invalidate() {
+                cached.clear();
+            }
+
+            @Override
+            public long getVersion() {
+                return 0;
+            }
+        };
+
+        manager = new SAML2UserIndexManager();
+        ReflectionTestUtils.setField(manager, "idpDAO", idpDAO);
+        ReflectionTestUtils.setField(manager, "schemaMetadataCache", schemaMetadataCache);
+        ReflectionTestUtils.setField(manager, "userDAO", userDAO);
+        ReflectionTestUtils.setField(manager, "userIndexDAO", userIndexDAO);
+        ReflectionTestUtils.setField(manager, "saml2EntityFactory", entityFactory);
+        ReflectionTestUtils.setField(manager, "intAttrNameParser", new IntAttrNameParser() {
+
+            @Override
+            public IntAttrName parse(final String intAttrName, final AnyTypeKind provisionAnyTypeKind) {
+                IntAttrName result = new IntAttrName();
+                result.setAnyTypeKind(provisionAnyTypeKind);
+                result.setField(intAttrName);
+                return result;
+            }
+        });
+    }
+
+    private Map<String, String> getIndex() {
+        return entries.stream().collect(Collectors.toMap(
+                SAML2UserIndexEntry::getUserKey, SAML2UserIndexEntry::getKeyValue));
+    }
+
+    @Test
+    public void rebuild() {
+        for (int i = 0; i < 250; i++) {
+            usernames.put(String.format("key%03d", i), "user" + i);
+        }
+        entries.add(stub(SAML2UserIndexEntry.class, new HashMap<>()));
+
+        assertEquals(250, manager.rebuild(idp));
+
+        // keyset pagination: each page starts after the last key of the previous one
+        assertEquals(Arrays.asList(null, "key099", "key199"), lastKeys);
+        // entries are added without looking for existing ones, since all were removed first
+        assertEquals(0, findByUserCalls);
+        // each page is written and then detached
+        assertEquals(3, flushes);
+        assertEquals(250, detachedUsers);
+
+        Map<String, String> index = getIndex();
+        assertEquals(250, index.size());
+        assertEquals("user0", index.get("key000"));
+        assertEquals("user249", index.get("key249"));
+    }
+
+    @Test
+    public void rebuildDisabled() {
+        usernames.put("key000", "user0");
+        manager.rebuild(idp);
+        assertEquals(1, entries.size());
+
+        idp.setIndexConnObjectKey(false);
+
+        assertEquals(0, manager.rebuild(idp));
+        assertTrue(entries.isEmpty());
+    }
+
+    @Test
+    public void index() {
+        usernames.put("key000", "user0");
+        usernames.put("key001", "user1");
+        manager.rebuild(idp);
+
+        // username changed: the old entry is replaced, other users are not affected
+        usernames.put("key000", "renamed");
+        assertTrue(manager.index(idp, user("key000")));
+
+        Map<String, String> index = getIndex();
+        assertEquals(2, index.size());
+        assertEquals("renamed", index.get("key000"));
+        assertEquals("user1", index.get("key001"));
+
+        // nothing changed
+        assertFalse(manager.index(idp, user("key000")));
+        assertEquals(2, entries.size());
+
+        Set<String> keyValues = manager.getKeyValues(idp, user("key001"));
+        assertEquals(1, keyValues.size());
+        assertTrue(keyValues.contains("user1"));
+    }
+
+    @Test
+    public void indexedIdPsCached() {
+        assertEquals(Collections.singletonList(idp), manager.getIndexedIdPs());
+        assertEquals(Collections.singletonList(idp), manager.getIndexedIdPs());
+        assertEquals(1, findAllIdPCalls);
+
+        // IdP saved, hence the cache is invalidated
+        idp.setIndexConnObjectKey(false);
+        cached.clear();
+
+        assertTrue(manager.getIndexedIdPs().isEmpty());
+        assertEquals(2, findAllIdPCalls);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.fit.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.common.lib.SyncopeClientException;
+import org.apache.syncope.common.lib.to.BatchRequest;
+import org.apache.syncope.common.lib.to.BatchRequestItem;
+import org.apache.syncope.common.lib.to.BatchResponseItem;
+import org.apache.syncope.common.lib.to.BulkActionResult;
+import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.fit.AbstractITCase;
+import org.junit.Test;
+
+public class BatchITCase extends AbstractITCase {
+
+    private static final int BENCHMARK_SIZE = 100;
+
+    private static List<BatchResponseItem> batch(final BatchRequest batchRequest) {
+        List<BatchResponseItem> results = new ArrayList<>();
+        adminClient.batch(batchRequest).forEachRemaining(results::add);
+        return results;
+    }
+
+    @Test
+    public void mixed() {
+        UserTO toBeUpdated = createUser(UserITCase.getUniqueSampleTO("batch@syncope.apache.org")).getEntity();
+        toBeUpdated.getPlainAttrs().removeIf(attr -> "surname".equals(attr.getSchema()));
+        toBeUpdated.getPlainAttrs().add(attrTO("surname", "batch"));
+
+        UserTO toBeDeleted = createUser(UserITCase.getUniqueSampleTO("batch@syncope.apache.org")).getEntity();
+
+        BatchRequest batchRequest = new BatchRequest();
+        batchRequest.setParallelism(4);
+        batchRequest.getItems().add(new BatchRequestItem.Builder().
+                create(UserITCase.getUniqueSampleTO("batch@syncope.apache.org")).build());
+        batchRequest.getItems().add(new BatchRequestItem.Builder().
+                create(GroupITCase.getBasicSampleTO("batch")).build());
+        batchRequest.getItems().add(new BatchRequestItem.Builder().update(toBeUpdated).build());
+        batchRequest.getItems().add(new BatchRequestItem.Builder().
+                delete(AnyTypeKind.USER, toBeDeleted.getKey()).build());
+        batchRequest.getItems().add(new BatchRequestItem.Builder().
+                delete(AnyTypeKind.USER, "notfound").build());
+
+        List<BatchResponseItem> results = batch(batchRequest);
+        assertEquals(5, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getIndex());
+        }
+        assertEquals(BulkActionResult.Status.SUCCESS, results.get(0).getStatus());
+        assertNotNull(userService.read(results.get(0).getKey()));
+        assertEquals(BulkActionResult.Status.SUCCESS, results.get(1).getStatus());
+        assertNotNull(groupService.read(results.get(1).getKey()));
+        assertEquals(BulkActionResult.Status.SUCCESS, results.get(2).getStatus());
+        assertEquals("batch", userService.read(toBeUpdated.getKey()).getPlainAttr("surname").get().getValues().get(0));
+        assertEquals(BulkActionResult.Status.SUCCESS, results.get(3).getStatus());
+        try {
+            userService.read(toBeDeleted.getKey());
+            fail("This should not happen");
+        } catch (SyncopeClientException e) {
+            assertNotNull(e);
+        }
+        assertEquals(BulkActionResult.Status.FAILURE, results.get(4).getStatus());
+        assertNotNull(results.get(4).getError());
+    }
+
+    @Test
+    public void atomic() {
+        GroupTO groupTO = GroupITCase.getBasicSampleTO("batch");
+
+        BatchRequest batchRequest = new BatchRequest();
+        batchRequest.setAtomic(true);
+        batchRequest.getItems().add(new BatchRequestItem.Builder().create(groupTO).build());
+        batchRequest.getItems().add(new BatchRequestItem.Builder().delete(AnyTypeKind.GROUP, "notfound").build());
+        batchRequest.getItems().add(new BatchRequestItem.Builder().
+                create(GroupITCase.getBasicSampleTO("batch")).build());
+
+        List<BatchResponseItem> results = batch(batchRequest);
+        assertEquals(3, results.size());
+        assertEquals(BulkActionResult.Status.FAILURE, results.get(0).getStatus());
+        assertEquals(BulkActionResult.Status.FAILURE, results.get(1).getStatus());
+        assertEquals(BulkActionResult.Status.NOT_ATTEMPTED, results.get(2).getStatus());
+
+        try {
+            groupService.read(groupTO.getName());
+            fail("This should not happen");
+        } catch (SyncopeClientException e) {
+            assertNotNull(e);
+        }
+    }
+
+    @Test
+    public void benchmark() {
+        long start = System.currentTimeMillis();
+        for (int i = 0; i < BENCHMARK_SIZE; i++) {
+            createUser(UserITCase.getUniqueSampleTO("single@syncope.apache.org"));
+        }
+        long single = System.currentTimeMillis() - start;
+
+        BatchRequest batchRequest = new BatchRequest();
+        batchRequest.setParallelism(4);
+        for (int i = 0; i < BENCHMARK_SIZE; i++) {
+            batchRequest.getItems().add(new BatchRequestItem.Builder().
+                    create(UserITCase.getUniqueSampleTO("batch@syncope.apache.org")).build());
+        }
+        start = System.currentTimeMillis();
+        List<BatchResponseItem> results = batch(batchRequest);
+        long batch = System.currentTimeMillis() - start;
+
+        assertEquals(BENCHMARK_SIZE, results.stream().
+                filter(result -> result.getStatus() == BulkActionResult.Status.SUCCESS).count());
+        LOG.info("Created {} users: {} ms with single calls, {} ms with batch", BENCHMARK_SIZE, single, batch);
+    }
+}
@@ -30,6 +30,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.AccessControlException;
 import java.util.List;
 import javax.ws.rs.ForbiddenException;
+import javax.ws.rs.RedirectionException;
 import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.GenericType;
 import javax.ws.rs.core.HttpHeaders;
@@ -46,16 +47,21 @@ import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.patch.GroupPatch;
 import org.apache.syncope.common.lib.patch.StringReplacePatchItem;
 import org.apache.syncope.common.lib.patch.UserPatch;
+import org.apache.syncope.common.lib.to.AnyTypeTO;
 import org.apache.syncope.common.lib.to.ConnInstanceTO;
 import org.apache.syncope.common.lib.to.GroupTO;
+import org.apache.syncope.common.lib.to.OperationTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.common.lib.types.OperationStatus;
 import org.apache.syncope.common.rest.api.Preference;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.AnyTypeClassService;
+import org.apache.syncope.common.rest.api.service.AnyTypeService;
 import org.apache.syncope.common.rest.api.service.ConnectorService;
 import org.apache.syncope.common.rest.api.service.GroupService;
+import org.apache.syncope.common.rest.api.service.OperationService;
 import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.fit.AbstractITCase;
 import org.junit.Test;
@@ -158,6 +164,71 @@ public class RESTITCase extends AbstractITCase {
         assertTrue(userTO.getUsername().endsWith("XX"));
     }
 
+    @Test
+    public void ifNoneMatch() {
+        UserTO userTO = userService.read("1417acbe-cbf6-4277-9372-e75e04f97000");
+        EntityTag etag = adminClient.getLatestEntityTag(userService);
+        assertNotNull(etag);
+
+        UserService ifNoneMatchService = adminClient.ifNoneMatch(adminClient.getService(UserService.class), etag);
+        try {
+            ifNoneMatchService.read(userTO.getKey());
+            fail();
+        } catch (RedirectionException e) {
+            assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), e.getResponse().getStatus());
+        }
+
+        List<AnyTypeTO> anyTypes = anyTypeService.list();
+        assertFalse(anyTypes.isEmpty());
+        etag = adminClient.getLatestEntityTag(anyTypeService);
+        assertNotNull(etag);
+
+        AnyTypeService ifNoneMatchAnyTypeService =
+                adminClient.ifNoneMatch(adminClient.getService(AnyTypeService.class), etag);
+        try {
+            ifNoneMatchAnyTypeService.list();
+            fail();
+        } catch (RedirectionException e) {
+            assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), e.getResponse().getStatus());
+        }
+    }
+
+    @Test
+    public void respondAsync() throws InterruptedException {
+        UserService asyncService =
+                adminClient.prefer(adminClient.getService(UserService.class), Preference.RESPOND_ASYNC);
+        Response response = asyncService.create(UserITCase.getUniqueSampleTO("async@syncope.apache.org"), true);
+        assertEquals(Response.Status.ACCEPTED.getStatusCode(), response.getStatus());
+        assertEquals(
+                Preference.RESPOND_ASYNC.toString(),
+                response.getHeaderString(RESTHeaders.PREFERENCE_APPLIED));
+
+        OperationTO operation = adminClient.getLatestOperation(asyncService);
+        assertNotNull(operation);
+
+        OperationService operationService = adminClient.getService(OperationService.class);
+        for (int i = 0; i < 50 && (operation.getStatus() == OperationStatus.PENDING
+                || operation.getStatus() == OperationStatus.RUNNING); i++) {
+
+            Thread.sleep(200);
+            operation = operationService.read(operation.getKey());
+        }
+        assertEquals(OperationStatus.SUCCESS, operation.getStatus());
+
+        ProvisioningResult<UserTO> result = operationService.result(operation.getKey()).
+                readEntity(new GenericType<ProvisioningResult<UserTO>>() {
+                });
+        assertNotNull(result.getEntity().getKey());
+
+        operationService.delete(operation.getKey());
+        try {
+            operationService.read(operation.getKey());
+            fail();
+        } catch (SyncopeClientException e) {
+            assertEquals(ClientExceptionType.NotFound, e.getType());
+        }
+    }
+
     @Test
     public void defaultContentType() {
         // manualy instantiate SyncopeClient so that media type can be set to */*
@@ -24,6 +24,10 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import org.apache.syncope.client.lib.SyncopeClient;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -39,6 +43,7 @@ import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.rest.api.beans.AnyQuery;
 import org.apache.syncope.common.rest.api.service.RoleService;
+import org.apache.syncope.common.rest.api.service.UserService;
 import org.apache.syncope.fit.AbstractITCase;
 import org.apache.syncope.fit.ElasticsearchDetector;
 import org.junit.Test;
@@ -71,6 +76,34 @@ public class SearchITCase extends AbstractITCase {
         }).count());
     }
 
+    @Test
+    public void stream() {
+        AnyQuery query = new AnyQuery.Builder().realm(SyncopeConstants.ROOT_REALM).
+                fiql(SyncopeClient.getUserSearchConditionBuilder().is("fullname").equalTo("*o*").query()).
+                page(1).size(1000).build();
+
+        PagedResult<UserTO> matchingUsers = userService.search(query);
+        assertFalse(matchingUsers.getResult().isEmpty());
+
+        List<String> streamed = new ArrayList<>();
+        adminClient.stream(UserService.class, UserTO.class, query).forEachRemaining(user -> {
+            assertNotNull(user.getUsername());
+            streamed.add(user.getKey());
+        });
+
+        // streamed users are sorted by key
+        List<String> sorted = new ArrayList<>(streamed);
+        Collections.sort(sorted);
+        assertEquals(sorted, streamed);
+
+        assertEquals(
+                matchingUsers.getResult().stream().map(UserTO::getKey).sorted().collect(Collectors.toList()),
+                streamed);
+
+        // the shared service instance is still usable afterwards
+        assertEquals(matchingUsers.getTotalCount(), userService.search(query).getTotalCount());
+    }
+
     @Test
     public void searchUserIgnoreCase() {
         PagedResult<UserTO> matchingUsers = userService.search(
@@ -45,6 +45,7 @@ import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.to.WorkflowFormTO;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
 import org.apache.syncope.common.lib.types.PatchOperation;
+import org.apache.syncope.common.rest.api.beans.WorkflowFormQuery;
 import org.apache.syncope.common.rest.api.service.UserSelfService;
 import org.apache.syncope.common.rest.api.service.UserWorkflowService;
 import org.apache.syncope.fit.AbstractITCase;
@@ -143,7 +144,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         Assume.assumeTrue(FlowableDetector.isFlowableEnabledForUsers(syncopeService));
 
         // read forms *before* any operation
-        List<WorkflowFormTO> forms = userWorkflowService.getForms();
+        List<WorkflowFormTO> forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertNotNull(forms);
         int preForms = forms.size();
 
@@ -177,7 +179,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         assertNotNull(exception);
 
         // 2. request if there is any pending form for user just created
-        forms = userWorkflowService.getForms();
+        forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertNotNull(forms);
         assertEquals(preForms + 1, forms.size());
 
@@ -229,7 +232,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         Assume.assumeTrue(FlowableDetector.isFlowableEnabledForUsers(syncopeService));
 
         // read forms *before* any operation
-        List<WorkflowFormTO> forms = userWorkflowService.getForms();
+        List<WorkflowFormTO> forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertNotNull(forms);
         int preForms = forms.size();
 
@@ -247,7 +251,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
         assertEquals("updateApproval", userService.read(created.getKey()).getStatus());
 
-        forms = userWorkflowService.getForms();
+        forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertNotNull(forms);
         assertEquals(preForms + 1, forms.size());
 
@@ -287,7 +292,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         Assume.assumeTrue(FlowableDetector.isFlowableEnabledForUsers(syncopeService));
 
         // read forms *before* any operation
-        List<WorkflowFormTO> forms = userWorkflowService.getForms();
+        List<WorkflowFormTO> forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertNotNull(forms);
         int preForms = forms.size();
 
@@ -312,7 +318,8 @@ public class UserWorkflowITCase extends AbstractITCase {
         assertEquals(userTO.getCreationDate(), userTO.getLastChangeDate());
 
         // 2. request if there is any pending form for user just created
-        forms = userWorkflowService.getForms();
+        forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertEquals(preForms + 1, forms.size());
 
         WorkflowFormTO form = userWorkflowService.getFormForUser(userTO.getKey());
@@ -336,11 +343,13 @@ public class UserWorkflowITCase extends AbstractITCase {
         // 6. submit approve
         userTO = userWorkflowService.submitForm(form);
         assertNotNull(userTO);
-        assertEquals(preForms, userWorkflowService.getForms().size());
+        assertEquals(preForms, userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult().size());
         assertNull(userWorkflowService.getFormForUser(userTO.getKey()));
 
         // 7.check that no more forms are still to be processed
-        forms = userWorkflowService.getForms();
+        forms = userWorkflowService.getForms(
+                new WorkflowFormQuery.Builder().page(1).size(1000).build()).getResult();
         assertEquals(preForms, forms.size());
     }
 